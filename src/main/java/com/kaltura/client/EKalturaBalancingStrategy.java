@@ -0,0 +1,18 @@
+package com.kaltura.client;
+
+/**
+ * How the requests are spread across the endpoints (see {@link KalturaEndpointBalancer})
+ */
+public enum EKalturaBalancingStrategy {
+
+	/**
+	 * The endpoint with the fewest outstanding requests for its weight
+	 */
+	LEAST_OUTSTANDING,
+	/**
+	 * The less loaded of two endpoints picked at random by weight (cheaper with many endpoints
+	 * and does not send every request to the same endpoint when the counts are stale)
+	 */
+	POWER_OF_TWO_CHOICES;
+	
+}
@@ -0,0 +1,21 @@
+package com.kaltura.client;
+
+/**
+ * The state of a {@link KalturaCircuitBreaker}
+ */
+public enum EKalturaCircuitState {
+
+	/**
+	 * Calls are made as usual
+	 */
+	CLOSED,
+	/**
+	 * Calls fail fast without contacting the endpoint
+	 */
+	OPEN,
+	/**
+	 * A single trial call is allowed to find out if the endpoint has recovered
+	 */
+	HALF_OPEN;
+	
+}
@@ -0,0 +1,17 @@
+package com.kaltura.client;
+
+/**
+ * The engine used to decode the XML responses into the kaltura objects
+ */
+public enum EKalturaParserEngine {
+
+	/**
+	 * Build a full W3C DOM and decode the objects from it (the original engine)
+	 */
+	DOM,
+	/**
+	 * Bind the objects directly from a StAX pull parser in a single forward pass
+	 */
+	STAX;
+	
+}
@@ -0,0 +1,23 @@
+package com.kaltura.client;
+
+/**
+ * How safe it is to repeat a call, this decides which failures are retried
+ * (see {@link KalturaConfiguration#getRetryClass(String, String)})
+ */
+public enum EKalturaRetryClass {
+
+	/**
+	 * Calls which do not change anything (get, list, count, search, ping)
+	 */
+	READ,
+	/**
+	 * Calls which can be repeated with the same result (update, delete, upload)
+	 */
+	IDEMPOTENT_WRITE,
+	/**
+	 * Calls which would be applied twice if repeated (add, clone, convert), these are only retried
+	 * when the request never reached the server
+	 */
+	NON_IDEMPOTENT_WRITE;
+	
+}
@@ -0,0 +1,21 @@
+package com.kaltura.client;
+
+/**
+ * How the string values of the decoded objects are deduplicated (see {@link KalturaStringPool})
+ */
+public enum EKalturaStringPoolScope {
+
+	/**
+	 * Every value is a separate string (the original behavior)
+	 */
+	NONE,
+	/**
+	 * Values repeated within a single response share one string
+	 */
+	RESPONSE,
+	/**
+	 * Values repeated across the responses of a client share one string
+	 */
+	CLIENT;
+	
+}
@@ -0,0 +1,22 @@
+package com.kaltura.client;
+
+/**
+ * The timeout class of a request, each class has its own socket timeout (see {@link KalturaConfiguration#getTimeout(EKalturaTimeoutClass)})
+ * and its own latency history for the adaptive timeouts
+ */
+public enum EKalturaTimeoutClass {
+
+	/**
+	 * Cheap single object calls (get, count, ping)
+	 */
+	FAST,
+	/**
+	 * All other calls (lists, updates, multirequests)
+	 */
+	NORMAL,
+	/**
+	 * Calls which upload files
+	 */
+	UPLOAD;
+	
+}
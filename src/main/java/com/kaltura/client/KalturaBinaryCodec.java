@@ -0,0 +1,306 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.kaltura.client.KalturaObjectBinding.FieldBinding;
+import com.kaltura.client.utils.BinaryInput;
+import com.kaltura.client.utils.BinaryOutput;
+
+/**
+ * Compact, versioned binary form of the kaltura objects (e.g. to cache entries on disk or share them
+ * between cluster nodes), this works for any of the types in com.kaltura.client.types.
+ *
+ * An object is written as its objectType, a fingerprint of the fields of its type, a bit set of the fields
+ * which differ from the defaults of the type (so the many unset Integer.MIN_VALUE and null fields take no space)
+ * and then the values of those fields: numbers as variable length values, strings as UTF-8 and enums as 
+ * the values kaltura uses for them, enum values this client does not know are kept.
+ * Objects encoded with a different version of a type (the fields changed) fail to decode 
+ * (treat that as a cache miss).
+ *
+ * Decoding reads directly from a ByteBuffer (so it works on slices of a larger buffer or a memory mapped file)
+ * without copying it first.
+ */
+public class KalturaBinaryCodec {
+
+    /**
+     * The version of the binary format, written as the first byte
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final Map<Class<?>, Schema> schemas = new ConcurrentHashMap<Class<?>, Schema>();
+
+    /**
+     * @param object the object to encode
+     * @return the binary form of the object
+     * @throws KalturaApiException if the object cannot be read
+     */
+    public static byte[] encode(KalturaObjectBase object) throws KalturaApiException {
+        BinaryOutput out = new BinaryOutput(512);
+        encode(object, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * @param object the object to encode (can be null)
+     * @param out the output to write the binary form to
+     * @throws KalturaApiException if the object cannot be read
+     */
+    public static void encode(KalturaObjectBase object, BinaryOutput out) throws KalturaApiException {
+        out.writeByte(FORMAT_VERSION);
+        writeObject(object, out);
+    }
+
+    /**
+     * @param bytes the binary form of an object
+     * @return the object OR null if a null object was encoded
+     * @throws KalturaApiException if the bytes are not a valid (or compatible) encoded object
+     */
+    public static KalturaObjectBase decode(byte[] bytes) throws KalturaApiException {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes an object starting at the current position of the buffer, the position
+     * is left after the object (so several objects can be read from one buffer)
+     *
+     * @param buffer the buffer holding the binary form of an object
+     * @return the object OR null if a null object was encoded
+     * @throws KalturaApiException if the buffer does not hold a valid (or compatible) encoded object
+     */
+    public static KalturaObjectBase decode(ByteBuffer buffer) throws KalturaApiException {
+        BinaryInput in = new BinaryInput(buffer);
+        try {
+            int version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new KalturaApiException("Invalid binary object: unsupported format version " + version);
+            }
+            return (KalturaObjectBase) readObject(in);
+        } catch (BufferUnderflowException e) {
+            throw new KalturaApiException("Invalid binary object: data is truncated");
+        } catch (IllegalStateException e) {
+            throw new KalturaApiException("Invalid binary object: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @param buffer the buffer holding the binary form of an object
+     * @param type the expected type of the object
+     * @return the object OR null if a null object was encoded
+     * @throws KalturaApiException if the buffer does not hold a valid (or compatible) encoded object of the type
+     */
+    public static <T extends KalturaObjectBase> T decode(ByteBuffer buffer, Class<T> type) throws KalturaApiException {
+        KalturaObjectBase object = decode(buffer);
+        if (object != null && ! type.isInstance(object)) {
+            throw new KalturaApiException("Invalid binary object: expected " + type.getSimpleName() 
+                    + " but found " + object.getClass().getSimpleName());
+        }
+        return type.cast(object);
+    }
+
+    private static void writeObject(Object object, BinaryOutput out) throws KalturaApiException {
+        if (object == null) {
+            out.writeString("");
+            return;
+        }
+        Schema schema = getSchema(object.getClass());
+        out.writeString(object.getClass().getSimpleName());
+        out.writeVarInt(schema.fingerprint);
+        // reserve the bit set, it is filled in as the values are written
+        int bitsStart = out.size();
+        for (int i = 0; i < schema.bitsLength; i++) {
+            out.writeByte(0);
+        }
+        byte[] bits = new byte[schema.bitsLength];
+        for (int i = 0; i < schema.fields.length; i++) {
+            if (writeField(schema.fields[i], object, schema.prototype, out)) {
+                bits[i >> 3] |= 1 << (i & 7);
+            }
+        }
+        for (int i = 0; i < bits.length; i++) {
+            out.setByte(bitsStart + i, bits[i]);
+        }
+        Map<String, String> unknownValues = ((KalturaObjectBase) object).getUnknownValues();
+        out.writeVarInt(unknownValues.size());
+        for (Map.Entry<String, String> entry : unknownValues.entrySet()) {
+            out.writeString(entry.getKey());
+            out.writeString(entry.getValue());
+        }
+    }
+
+    /**
+     * @return true if the field was written, false if it has the default value
+     */
+    private static boolean writeField(FieldBinding field, Object object, Object prototype, BinaryOutput out) throws KalturaApiException {
+        switch (field.getKind()) {
+        case KalturaObjectBinding.KIND_INT:
+            int intValue = field.getInt(object);
+            if (intValue == field.getInt(prototype)) {
+                return false;
+            }
+            out.writeSignedVarInt(intValue);
+            return true;
+        case KalturaObjectBinding.KIND_FLOAT:
+            float floatValue = field.getFloat(object);
+            if (Float.floatToIntBits(floatValue) == Float.floatToIntBits(field.getFloat(prototype))) {
+                return false;
+            }
+            out.writeFloat(floatValue);
+            return true;
+        case KalturaObjectBinding.KIND_BOOLEAN:
+            // the bit alone says the value is the opposite of the default
+            return field.getBoolean(object) != field.getBoolean(prototype);
+        case KalturaObjectBinding.KIND_INT_ENUM:
+        case KalturaObjectBinding.KIND_STRING_ENUM:
+            Object code = field.getEnumCode(object);
+            if (code == null) {
+                return false;
+            }
+            if (code instanceof Integer) {
+                out.writeSignedVarInt(((Integer) code).intValue());
+            } else {
+                out.writeString(code.toString());
+            }
+            return true;
+        default:
+            Object value = field.get(object);
+            if (value == null) {
+                return false;
+            }
+            if (field.getKind() == KalturaObjectBinding.KIND_STRING) {
+                out.writeString((String) value);
+            } else if (field.getKind() == KalturaObjectBinding.KIND_OBJECT) {
+                writeObject(value, out);
+            } else {
+                Collection<?> list = (Collection<?>) value;
+                out.writeVarInt(list.size());
+                for (Object item : list) {
+                    writeObject(item, out);
+                }
+            }
+            return true;
+        }
+    }
+
+    private static Object readObject(BinaryInput in) throws KalturaApiException {
+        String objectType = in.readString();
+        if (objectType.length() == 0) {
+            return null;
+        }
+        Schema schema = getSchema(KalturaObjectBinding.getObjectClass(objectType));
+        int fingerprint = in.readVarInt();
+        if (fingerprint != schema.fingerprint) {
+            throw new KalturaApiException("Incompatible binary object: the fields of " + objectType 
+                    + " differ from the version it was encoded with");
+        }
+        byte[] bits = new byte[schema.bitsLength];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = (byte) in.readByte();
+        }
+        KalturaObjectBase object = (KalturaObjectBase) schema.binding.newInstance();
+        for (int i = 0; i < schema.fields.length; i++) {
+            if ((bits[i >> 3] & (1 << (i & 7))) != 0) {
+                readField(schema.fields[i], object, in);
+            }
+        }
+        int unknownCount = in.readVarInt();
+        for (int i = 0; i < unknownCount; i++) {
+            object.setUnknownValue(in.readString(), in.readString());
+        }
+        return object;
+    }
+
+    private static void readField(FieldBinding field, Object object, BinaryInput in) throws KalturaApiException {
+        switch (field.getKind()) {
+        case KalturaObjectBinding.KIND_STRING:
+            field.set(object, in.readString());
+            break;
+        case KalturaObjectBinding.KIND_INT:
+            field.setInt(object, in.readSignedVarInt());
+            break;
+        case KalturaObjectBinding.KIND_FLOAT:
+            field.setFloat(object, in.readFloat());
+            break;
+        case KalturaObjectBinding.KIND_BOOLEAN:
+            field.setBoolean(object, ! field.getBoolean(object));
+            break;
+        case KalturaObjectBinding.KIND_INT_ENUM:
+            field.setText(object, Integer.toString(in.readSignedVarInt()));
+            break;
+        case KalturaObjectBinding.KIND_STRING_ENUM:
+            field.setText(object, in.readString());
+            break;
+        case KalturaObjectBinding.KIND_OBJECT:
+            field.set(object, readObject(in));
+            break;
+        default:
+            int size = in.readVarInt();
+            ArrayList<Object> list = new ArrayList<Object>(Math.min(size, 1024));
+            for (int i = 0; i < size; i++) {
+                list.add(readObject(in));
+            }
+            field.set(object, list);
+        }
+    }
+
+    private static Schema getSchema(Class<?> type) throws KalturaApiException {
+        Schema schema = schemas.get(type);
+        if (schema == null) {
+            schema = new Schema(KalturaObjectBinding.get(type));
+            schemas.put(type, schema);
+        }
+        return schema;
+    }
+
+    /**
+     * The fields of a type in a fixed (name) order with their defaults
+     */
+    private static class Schema {
+        final KalturaObjectBinding binding;
+        final FieldBinding[] fields;
+        final Object prototype;
+        final int bitsLength;
+        final int fingerprint;
+
+        Schema(KalturaObjectBinding binding) throws KalturaApiException {
+            this.binding = binding;
+            Collection<FieldBinding> all = binding.getFields();
+            this.fields = all.toArray(new FieldBinding[all.size()]);
+            Arrays.sort(this.fields, new Comparator<FieldBinding>() {
+                public int compare(FieldBinding f1, FieldBinding f2) {
+                    return f1.getName().compareTo(f2.getName());
+                }
+            });
+            this.prototype = binding.newInstance();
+            this.bitsLength = (fields.length + 7) / 8;
+            int hash = 17;
+            for (FieldBinding field : fields) {
+                hash = 31 * hash + field.getName().hashCode();
+                hash = 31 * hash + field.getKind();
+                hash = 31 * hash + field.getValueType().getName().hashCode();
+            }
+            this.fingerprint = hash;
+        }
+    }
+
+}
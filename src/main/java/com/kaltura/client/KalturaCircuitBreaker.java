@@ -0,0 +1,318 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A circuit breaker for a single endpoint, it opens when too many of the recent calls failed 
+ * or were too slow, fails calls fast while it is open and lets a single trial call through
+ * once the open duration has passed (closing again if that call succeeds).
+ * This is threadsafe.
+ */
+public class KalturaCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(KalturaCircuitBreaker.class);
+
+    /**
+     * Notified about the state transitions of a breaker (e.g. to export them as metrics)
+     */
+    public interface Listener {
+        void stateChanged(KalturaCircuitBreaker breaker, EKalturaCircuitState from, EKalturaCircuitState to);
+    }
+
+    private final String endpoint;
+    private final int windowSize;
+    private final int minCalls;
+    private final int failureRatePercent;
+    private final int slowCallRatePercent;
+    private final long slowCallMs;
+    private final long openDurationMs;
+
+    // rolling window of outcomes, guarded by this
+    private final byte[] window;
+    private int windowCount = 0;
+    private int windowIndex = 0;
+    private int failures = 0;
+    private int slowCalls = 0;
+
+    private EKalturaCircuitState state = EKalturaCircuitState.CLOSED;
+    private long openedAt = 0;
+    private boolean trialInFlight = false;
+
+    private long openedCount = 0;
+    private long halfOpenedCount = 0;
+    private long closedCount = 0;
+    private long rejectedCount = 0;
+
+    private final CopyOnWriteArrayList<Listener> listeners = new CopyOnWriteArrayList<Listener>();
+
+    private static final byte OK = 0;
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    /**
+     * @param endpoint the endpoint this breaker protects (only used in logs and metrics)
+     * @param windowSize the number of recent calls the rates are computed on
+     * @param minCalls the min number of calls in the window before the breaker can open
+     * @param failureRatePercent the percentage of failed calls which opens the breaker
+     * @param slowCallRatePercent the percentage of slow calls which opens the breaker, 0 or less to ignore latency
+     * @param slowCallMs calls which take longer than this (milliseconds) are slow
+     * @param openDurationMs how long the breaker stays open before a trial call is allowed (milliseconds)
+     */
+    public KalturaCircuitBreaker(String endpoint, int windowSize, int minCalls, int failureRatePercent,
+            int slowCallRatePercent, long slowCallMs, long openDurationMs) {
+        this.endpoint = endpoint;
+        this.windowSize = Math.max(1, windowSize);
+        this.minCalls = Math.max(1, Math.min(minCalls, this.windowSize));
+        this.failureRatePercent = failureRatePercent;
+        this.slowCallRatePercent = slowCallRatePercent;
+        this.slowCallMs = slowCallMs;
+        this.openDurationMs = openDurationMs;
+        this.window = new byte[this.windowSize];
+    }
+
+    /**
+     * Builds a breaker using the thresholds of the configuration
+     */
+    public KalturaCircuitBreaker(String endpoint, KalturaConfiguration config) {
+        this(endpoint, config.getCircuitBreakerWindow(), config.getCircuitBreakerMinCalls(), 
+                config.getCircuitBreakerFailureRate(), config.getCircuitBreakerSlowCallRate(), 
+                config.getCircuitBreakerSlowCallTime(), config.getCircuitBreakerOpenDuration());
+    }
+
+    /**
+     * Must be called before each call, a call which is allowed must then be reported 
+     * with {@link #recordSuccess(long)}, {@link #recordFailure(long)} or {@link #recordCancel()}
+     * 
+     * @return true if the call can be made, false if it should fail fast
+     */
+    public boolean allowRequest() {
+        EKalturaCircuitState from;
+        synchronized (this) {
+            if (state == EKalturaCircuitState.CLOSED) {
+                return true;
+            }
+            if (state == EKalturaCircuitState.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                    rejectedCount++;
+                    return false;
+                }
+                from = transition(EKalturaCircuitState.HALF_OPEN);
+                halfOpenedCount++;
+            } else if (trialInFlight) {
+                rejectedCount++;
+                return false;
+            } else {
+                from = null;
+            }
+            trialInFlight = true;
+        }
+        if (from != null) {
+            fireStateChanged(from, EKalturaCircuitState.HALF_OPEN);
+        }
+        return true;
+    }
+
+    /**
+     * @param latencyMs the time the call took (milliseconds)
+     */
+    public void recordSuccess(long latencyMs) {
+        record(latencyMs > slowCallMs && slowCallRatePercent > 0 ? SLOW : OK);
+    }
+
+    /**
+     * @param latencyMs the time the call took until it failed (milliseconds)
+     */
+    public void recordFailure(long latencyMs) {
+        record(FAILED);
+    }
+
+    /**
+     * The call was aborted by the client (e.g. the other request of a hedged call won) so it is not counted,
+     * if it was the trial call another one is allowed
+     */
+    public synchronized void recordCancel() {
+        if (state == EKalturaCircuitState.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    private void record(byte outcome) {
+        EKalturaCircuitState from = null;
+        EKalturaCircuitState to = null;
+        synchronized (this) {
+            if (state == EKalturaCircuitState.HALF_OPEN) {
+                trialInFlight = false;
+                to = outcome == OK ? EKalturaCircuitState.CLOSED : EKalturaCircuitState.OPEN;
+            } else if (state == EKalturaCircuitState.CLOSED) {
+                add(outcome);
+                if (windowCount >= minCalls 
+                        && (failures * 100 >= failureRatePercent * windowCount 
+                        || (slowCallRatePercent > 0 && slowCalls * 100 >= slowCallRatePercent * windowCount))) {
+                    to = EKalturaCircuitState.OPEN;
+                }
+            }
+            // calls which complete while OPEN were allowed before it opened, they are ignored
+            if (to != null) {
+                from = transition(to);
+                if (to == EKalturaCircuitState.OPEN) {
+                    openedAt = System.currentTimeMillis();
+                    openedCount++;
+                } else {
+                    closedCount++;
+                }
+                resetWindow();
+            }
+        }
+        if (to != null) {
+            if (to == EKalturaCircuitState.OPEN) {
+                log.warn("Kaltura circuit breaker for " + endpoint + " is now OPEN (was " + from 
+                        + "), calls will fail fast for " + openDurationMs + " ms");
+            }
+            fireStateChanged(from, to);
+        }
+    }
+
+    private void add(byte outcome) {
+        if (windowCount == windowSize) {
+            byte oldest = window[windowIndex];
+            if (oldest == FAILED) {
+                failures--;
+            } else if (oldest == SLOW) {
+                slowCalls--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % windowSize;
+        if (outcome == FAILED) {
+            failures++;
+        } else if (outcome == SLOW) {
+            slowCalls++;
+        }
+    }
+
+    private void resetWindow() {
+        windowCount = 0;
+        windowIndex = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+    private EKalturaCircuitState transition(EKalturaCircuitState to) {
+        EKalturaCircuitState from = state;
+        state = to;
+        return from;
+    }
+
+    private void fireStateChanged(EKalturaCircuitState from, EKalturaCircuitState to) {
+        if (log.isInfoEnabled() && to != EKalturaCircuitState.OPEN) {
+            log.info("Kaltura circuit breaker for " + endpoint + " changed from " + from + " to " + to);
+        }
+        for (Listener listener : listeners) {
+            try {
+                listener.stateChanged(this, from, to);
+            } catch (RuntimeException e) {
+                log.warn("Kaltura circuit breaker listener failed: " + e, e);
+            }
+        }
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Closes the breaker and forgets the recent calls
+     */
+    public void reset() {
+        EKalturaCircuitState from;
+        synchronized (this) {
+            from = transition(EKalturaCircuitState.CLOSED);
+            trialInFlight = false;
+            resetWindow();
+        }
+        if (from != EKalturaCircuitState.CLOSED) {
+            fireStateChanged(from, EKalturaCircuitState.CLOSED);
+        }
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public synchronized EKalturaCircuitState getState() {
+        return state;
+    }
+
+    /**
+     * @return the percentage of failed calls in the window
+     */
+    public synchronized int getFailureRate() {
+        return windowCount == 0 ? 0 : failures * 100 / windowCount;
+    }
+
+    /**
+     * @return the percentage of slow calls in the window
+     */
+    public synchronized int getSlowCallRate() {
+        return windowCount == 0 ? 0 : slowCalls * 100 / windowCount;
+    }
+
+    /**
+     * @return the number of times the breaker opened
+     */
+    public synchronized long getOpenedCount() {
+        return openedCount;
+    }
+
+    /**
+     * @return the number of trial calls allowed
+     */
+    public synchronized long getHalfOpenedCount() {
+        return halfOpenedCount;
+    }
+
+    /**
+     * @return the number of times the breaker closed after a successful trial call
+     */
+    public synchronized long getClosedCount() {
+        return closedCount;
+    }
+
+    /**
+     * @return the number of calls which failed fast
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "KalturaCircuitBreaker[" + endpoint + ": state=" + state + ", failureRate=" + getFailureRate() 
+            + "%, slowCallRate=" + getSlowCallRate() + "%, opened=" + openedCount + ", halfOpened=" + halfOpenedCount 
+            + ", closed=" + closedCount + ", rejected=" + rejectedCount + "]";
+    }
+
+}
@@ -71,6 +71,10 @@ public class KalturaClient extends KalturaClientBase {
 		super(config);
 	}
 	
+	public KalturaClient(KalturaConfiguration config, String sessionId) {
+		super(config, sessionId);
+	}
+	
 	@Override
 	public String getApiVersion(){
 		return apiVersion;
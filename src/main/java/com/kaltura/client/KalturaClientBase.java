@@ -1,16 +1,28 @@
 package com.kaltura.client;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.math.BigInteger;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
-
-import javax.xml.xpath.XPathExpressionException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.httpclient.DefaultHttpMethodRetryHandler;
@@ -18,46 +30,51 @@ import org.apache.commons.httpclient.Header;
 import org.apache.commons.httpclient.HttpClient;
 import org.apache.commons.httpclient.HttpException;
 import org.apache.commons.httpclient.HttpStatus;
-import org.apache.commons.httpclient.ProxyHost;
+import org.apache.commons.httpclient.methods.ByteArrayRequestEntity;
 import org.apache.commons.httpclient.methods.PostMethod;
 import org.apache.commons.httpclient.methods.multipart.FilePart;
 import org.apache.commons.httpclient.methods.multipart.MultipartRequestEntity;
 import org.apache.commons.httpclient.methods.multipart.Part;
 import org.apache.commons.httpclient.methods.multipart.PartSource;
 import org.apache.commons.httpclient.methods.multipart.StringPart;
-import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
 import org.apache.commons.httpclient.params.HttpMethodParams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 
 import com.kaltura.client.enums.KalturaSessionType;
+import com.kaltura.client.utils.BoundedInputStream;
 import com.kaltura.client.utils.XmlUtils;
 
 /**
  * Contains non-generated client logic. Includes the doQueue method which is responsible for
  * making HTTP calls to the Kaltura server.
+ * The calls are queued in a {@link KalturaRequestBuilder} which is passed back to doQueue/doMultiRequest,
+ * the client itself keeps no per call state so it (and its session) can be shared by many threads.
  * 
  * @author jpotts
  * @author azeckoski
  */
 abstract public class KalturaClientBase {
 
-    protected KalturaConfiguration kalturaConfiguration;
-    protected String sessionId;
-    protected List<KalturaServiceActionCall> callsQueue;
-    protected boolean isMultiRequest;
-    protected KalturaParams multiRequestParamsMap;
+    protected final KalturaConfiguration kalturaConfiguration;
+    protected final String sessionId;
+    private KalturaStringPool clientStringPool;
 
     private static Logger logger = LoggerFactory.getLogger(KalturaClientBase.class);
 
-    public KalturaClientBase() {
+    public KalturaClientBase(KalturaConfiguration config) {
+        this(config, null);
     }
 
-    public KalturaClientBase(KalturaConfiguration config) {
+    /**
+     * @param config the configuration
+     * @param sessionId the session (KS) used for all the calls made with this client
+     */
+    public KalturaClientBase(KalturaConfiguration config, String sessionId) {
         this.kalturaConfiguration = config;
-        this.callsQueue = new ArrayList<KalturaServiceActionCall>();
-        this.multiRequestParamsMap = new KalturaParams();
+        this.sessionId = sessionId;
     }
 
     abstract String getApiVersion();
@@ -66,27 +83,27 @@ abstract public class KalturaClientBase {
         return this.sessionId;
     }
 
-    public void setSessionId(String sessionId) {
-        this.sessionId = sessionId;
-    }
-
-    public boolean isMultiRequest() {
-        return isMultiRequest;
-    }
-
-    public void setMultiRequest(boolean isMultiRequest) {
-        this.isMultiRequest = isMultiRequest;
+    /**
+     * Queues a call as a new single call request
+     * @return the request holding the call, pass it to {@link #doQueue(KalturaRequestBuilder)}
+     */
+    public KalturaRequestBuilder queueServiceCall(String service, String action, KalturaParams kparams) {
+        return this.queueServiceCall(null, service, action, kparams, new KalturaFiles());
     }
 
-    public void setKalturaConfiguration(KalturaConfiguration kalturaConfiguration) {
-        this.kalturaConfiguration = kalturaConfiguration;
+    public KalturaRequestBuilder queueServiceCall(String service, String action, KalturaParams kparams, KalturaFiles kfiles) {
+        return this.queueServiceCall(null, service, action, kparams, kfiles);
     }
 
-    public void queueServiceCall(String service, String action, KalturaParams kparams) {
-        this.queueServiceCall(service, action, kparams, new KalturaFiles());
+    /**
+     * @param request the request to add the call to (e.g. from {@link #startMultiRequest()}), null for a new single call request
+     * @return the request holding the call
+     */
+    public KalturaRequestBuilder queueServiceCall(KalturaRequestBuilder request, String service, String action, KalturaParams kparams) {
+        return this.queueServiceCall(request, service, action, kparams, new KalturaFiles());
     }
 
-    public void queueServiceCall(String service, String action, KalturaParams kparams, KalturaFiles kfiles) {
+    public KalturaRequestBuilder queueServiceCall(KalturaRequestBuilder request, String service, String action, KalturaParams kparams, KalturaFiles kfiles) {
         // in start session partner id is optional (default -1). if partner id was not set, use the one in the config
         if (!kparams.containsKey("partnerId"))
             kparams.addIntIfNotNull("partnerId", this.kalturaConfiguration.getPartnerId());
@@ -96,93 +113,523 @@ abstract public class KalturaClientBase {
 
         kparams.addStringIfNotNull("ks", this.sessionId);
 
-        KalturaServiceActionCall call = new KalturaServiceActionCall(service, action, kparams, kfiles);
-        this.callsQueue.add(call);
+        if (request == null) {
+            request = new KalturaRequestBuilder();
+        }
+        request.add(new KalturaServiceActionCall(service, action, kparams, kfiles));
+        return request;
+    }
+
+    /**
+     * Executes the queued calls and clears them from the request
+     * @param request the queued calls
+     * @return the result element OR null if there are no queued calls
+     */
+    public Element doQueue(KalturaRequestBuilder request) throws KalturaApiException {
+        if (request == null || request.isEmpty()) return null;
+
+        return this.execute(this.prepareRequest(request));
+    }
+
+    /**
+     * Executes the queued list call and passes the objects of the list response to the visitor
+     * while the response is being read (they are not collected so memory use does not depend on the page size),
+     * the response is always decoded with a streaming parser (StAX for XML).
+     * With the JSON format each object is still held until its objectType (usually its last field) is read,
+     * so memory use depends on the size of the largest object rather than the page (see {@link KalturaJsonParser})
+     * 
+     * @param request the queued list call
+     * @param visitor the visitor for the objects of the list, null to collect them as usual
+     * @return the result element, the objects of the list response are left unset
+     * @throws KalturaApiException if the call fails or the visitor throws
+     */
+    @SuppressWarnings("unchecked")
+    public Element doQueue(KalturaRequestBuilder request, KalturaObjectVisitor<?> visitor) throws KalturaApiException {
+        if (visitor == null) return this.doQueue(request);
+        if (request == null || request.isEmpty()) return null;
+        if (request.isMultiRequest()) {
+            throw new KalturaApiException("List objects cannot be visited in a multirequest");
+        }
+
+        return this.execute(this.prepareRequest(request), (KalturaObjectVisitor<Object>) visitor);
+    }
+
+    /**
+     * Turns the queued calls into a request and executes it in the background using the
+     * {@link KalturaConfiguration#getExecutorService() executor} from the config.
+     * The calls are cleared from the request before this returns so it can be used again right away.
+     * 
+     * @param request the queued calls
+     * @return the future result element OR null if there are no queued calls
+     */
+    public Future<Element> doQueueAsync(KalturaRequestBuilder request) {
+        if (request == null || request.isEmpty()) return null;
+
+        final KalturaRequest prepared = this.prepareRequest(request);
+        return this.kalturaConfiguration.getExecutorService().submit(new Callable<Element>() {
+            public Element call() throws KalturaApiException {
+                return execute(prepared);
+            }
+        });
     }
 
-    public Element doQueue() throws KalturaApiException {
-        if (this.callsQueue.isEmpty()) return null;
+    /**
+     * Executes the queued call in the background (see {@link #doQueueAsync(KalturaRequestBuilder)})
+     * and parses its result with the parser on the executing thread
+     * 
+     * @param request the queued call
+     * @param parser turns the result element into the typed result
+     * @return the future typed result OR null if there are no queued calls
+     */
+    public <T> Future<T> doQueueAsync(KalturaRequestBuilder request, final KalturaResultParser<T> parser) {
+        if (request == null || request.isEmpty()) return null;
+
+        final KalturaRequest prepared = this.prepareRequest(request);
+        return this.kalturaConfiguration.getExecutorService().submit(new Callable<T>() {
+            public T call() throws KalturaApiException {
+                return parser.parse(execute(prepared));
+            }
+        });
+    }
 
+    /**
+     * Executes the queued call in the background (see {@link #doQueueAsync(KalturaRequestBuilder)})
+     * and creates the object of its result, e.g. a Future&lt;KalturaBaseEntry&gt; for baseentry.get
+     * 
+     * @param request the queued call
+     * @param type the type of object the call returns
+     * @return the future object OR null if there are no queued calls
+     */
+    public <T extends KalturaObjectBase> Future<T> doQueueAsync(KalturaRequestBuilder request, final Class<T> type) {
+        return this.doQueueAsync(request, new KalturaResultParser<T>() {
+            public T parse(Element result) throws KalturaApiException {
+                Object object = KalturaObjectFactory.create(result);
+                if (object != null && !type.isInstance(object)) {
+                    throw new KalturaApiException("Kaltura call returned a " + object.getClass().getSimpleName() 
+                            + " instead of a " + type.getSimpleName());
+                }
+                return type.cast(object);
+            }
+        });
+    }
+
+    /**
+     * Turns the queued calls into a signed request and clears them from the request
+     * (the projection is kept so the request can be reused for more calls)
+     * 
+     * @param request the queued calls
+     * @return the signed request to execute
+     */
+    protected KalturaRequest prepareRequest(KalturaRequestBuilder request) {
         if (logger.isDebugEnabled()) {
             logger.debug("service url: [" + this.kalturaConfiguration.getEndpoint() + "]");
         }
 
-        KalturaParams kparams = new KalturaParams();
+        List<KalturaServiceActionCall> calls = request.getCalls();
+        Map<String, String> multiRequestParamsMap = request.getMultiRequestParamsMap();
+        int size = 4;
+        for (KalturaServiceActionCall call : calls) {
+            size += call.getParams().size() + 2;
+        }
+        KalturaParamsEncoder kparams = new KalturaParamsEncoder(size);
         KalturaFiles kfiles = new KalturaFiles();
 
         // append the basic params
-        kparams.put("apiVersion", this.getApiVersion());
-        kparams.put("clientTag", this.kalturaConfiguration.getClientTag());
-        kparams.addIntIfNotNull("format", this.kalturaConfiguration.getServiceFormat().getHashCode());
+        kparams.add("apiVersion", this.getApiVersion());
+        kparams.add("clientTag", this.kalturaConfiguration.getClientTag());
+        EKalturaServiceFormat format = this.kalturaConfiguration.getServiceFormat();
+        if (format.getHashCode() != Integer.MIN_VALUE) {
+            kparams.add("format", Integer.toString(format.getHashCode()));
+        }
 
-        String url = this.kalturaConfiguration.getEndpoint() + "/api_v3/index.php?service=";
+        String endpoint = this.kalturaConfiguration.getEndpoint();
+        String url = "/api_v3/index.php?service=";
+
+        // a request is as slow as its slowest call and as safe to repeat as its least safe call
+        EKalturaTimeoutClass timeoutClass = EKalturaTimeoutClass.FAST;
+        EKalturaRetryClass retryClass = EKalturaRetryClass.READ;
+        boolean hedgeable = !calls.isEmpty();
+        for (KalturaServiceActionCall call : calls) {
+            EKalturaTimeoutClass callClass = call.getFiles().isEmpty() 
+                    ? this.kalturaConfiguration.getTimeoutClass(call.getService(), call.getAction()) : EKalturaTimeoutClass.UPLOAD;
+            if (callClass.compareTo(timeoutClass) > 0) {
+                timeoutClass = callClass;
+            }
+            EKalturaRetryClass callRetryClass = this.kalturaConfiguration.getRetryClass(call.getService(), call.getAction());
+            if (callRetryClass.compareTo(retryClass) > 0) {
+                retryClass = callRetryClass;
+            }
+            hedgeable &= call.getFiles().isEmpty() && this.kalturaConfiguration.isHedgedAction(call.getService(), call.getAction());
+        }
 
-        if (isMultiRequest) {
+        if (request.isMultiRequest()) {
             url += "multirequest";
             int i = 1;
-            for (KalturaServiceActionCall call : this.callsQueue) {
-                KalturaParams callParams = call.getParamsForMultiRequest(i++);
-                kparams.add(callParams);
+            for (KalturaServiceActionCall call : calls) {
+                String prefix = (i++) + ":";
+                kparams.add(prefix, "service", call.getService());
+                kparams.add(prefix, "action", call.getAction());
+                if (multiRequestParamsMap.isEmpty()) {
+                    call.getParams().writeTo(kparams, prefix);
+                } else {
+                    // map params (the fields of the objects are written out first so they can be mapped too)
+                    KalturaParamsEncoder callParams = new KalturaParamsEncoder(call.getParams().size());
+                    call.getParams().writeTo(callParams, null);
+                    for (int p = 0; p < callParams.size(); p++) {
+                        String resultParam = multiRequestParamsMap.get(prefix + callParams.getKey(p));
+                        kparams.add(prefix, callParams.getKey(p), resultParam != null ? resultParam : callParams.getValue(p));
+                    }
+                }
                 kfiles.add(call.getFiles());
             }
+        } else {
+            KalturaServiceActionCall call = calls.get(0);
+            url += call.getService() + "&action=" + call.getAction();
+            call.getParams().writeTo(kparams, null);
+            kfiles.add(call.getFiles());
+        }
+
+        kparams.sign();
+
+        request.clear();
 
-            // map params
-            for (String key : this.multiRequestParamsMap.keySet()) {
-                String requestParam = key;
-                String resultParam = this.multiRequestParamsMap.get(key);
+        return new KalturaRequest(endpoint, url, kparams, kfiles, request.isMultiRequest(), format, request.getProjection(), 
+                timeoutClass, retryClass, hedgeable);
+    }
+
+    /**
+     * Executes a prepared request against the kaltura server,
+     * this does not use any of the client call queue state so it is safe to call from any thread
+     * 
+     * @param request the prepared request
+     * @return the result element
+     * @throws KalturaApiException if the call fails or kaltura returns an error
+     */
+    protected Element execute(KalturaRequest request) throws KalturaApiException {
+        return this.execute(request, null);
+    }
 
-                if (kparams.containsKey(requestParam)) {
-                    kparams.put(requestParam, resultParam);
+    /**
+     * @param visitor if not null the objects of a list response are passed to it as they are read
+     */
+    protected Element execute(KalturaRequest request, KalturaObjectVisitor<Object> visitor) throws KalturaApiException {
+        // counted so the configuration is not shut down under the call (see KalturaConfiguration.shutdown(long))
+        this.kalturaConfiguration.callStarted();
+        try {
+            if (visitor == null && request.isHedgeable() && this.kalturaConfiguration.isHedging()) {
+                // only hedge once the recent latencies are known
+                KalturaLatencyTracker latencyTracker = this.kalturaConfiguration.getLatencyTracker();
+                if (latencyTracker.getCount(request.getTimeoutClass()) >= KalturaLatencyTracker.MIN_SAMPLES) {
+                    long hedgeDelay = Math.max(this.kalturaConfiguration.getHedgeMinDelay(), 
+                            latencyTracker.getPercentile(request.getTimeoutClass(), this.kalturaConfiguration.getHedgePercentile()));
+                    return this.executeHedged(request, hedgeDelay);
                 }
             }
-        } else {
-            KalturaServiceActionCall call = this.callsQueue.get(0);
-            url += call.getService() + "&action=" + call.getAction();
-            kparams.add(call.getParams());
-            kfiles.add(call.getFiles());
+            return this.executeWithRetries(request, visitor, null);
+        } finally {
+            this.kalturaConfiguration.callFinished();
         }
+    }
 
-        // cleanup
-        this.callsQueue.clear();
-        this.isMultiRequest = false;
-        this.multiRequestParamsMap.clear();
+    /**
+     * Sends the request on the current thread and sends a duplicate on the hedge executor (if the hedge budget 
+     * allows it and the executor has a free thread) when there is no response after the delay, the first successful 
+     * response is used and the other request is aborted.
+     * The delay is waited out on the hedge timer so the executor is only used by the requests which are hedged.
+     * 
+     * @param hedgeDelay the time (milliseconds) to wait for the first response before sending the duplicate
+     */
+    private Element executeHedged(final KalturaRequest request, final long hedgeDelay) throws KalturaApiException {
+        final KalturaHedgeBudget hedgeBudget = this.kalturaConfiguration.getHedgeBudget();
+        hedgeBudget.onRequest();
+        final HedgeRace race = new HedgeRace();
+        final FutureTask<Element> hedgeTask = new FutureTask<Element>(new Callable<Element>() {
+            public Element call() throws Exception {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("No response after " + hedgeDelay + " ms, hedging request: " + request.getUrl());
+                }
+                Element result = executeWithRetries(request, null, race.hedge);
+                if (race.win(race.hedge)) {
+                    hedgeBudget.onHedgeWon();
+                }
+                return result;
+            }
+        });
+        final ExecutorService hedgeExecutor = this.kalturaConfiguration.getHedgeExecutorService();
+        ScheduledFuture<?> hedgeTimer;
+        try {
+            hedgeTimer = this.kalturaConfiguration.getHedgeTimer().schedule(new Runnable() {
+                public void run() {
+                    if (!race.startHedge(hedgeBudget)) {
+                        return;
+                    }
+                    try {
+                        hedgeExecutor.execute(hedgeTask);
+                    } catch (RejectedExecutionException e) {
+                        // no thread for the duplicate
+                        race.hedgeRejected();
+                        hedgeTask.cancel(false);
+                    }
+                }
+            }, hedgeDelay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return this.executeWithRetries(request, null, null);
+        }
+        try {
+            Element result = this.executeWithRetries(request, null, race.primary);
+            race.win(race.primary);
+            hedgeTimer.cancel(false);
+            return result;
+        } catch (KalturaApiException e) {
+            if (!race.primaryFailed()) {
+                hedgeTimer.cancel(false);
+                throw e;
+            }
+            // the duplicate was sent so it decides the call (it aborted this request if it already won)
+            try {
+                return hedgeTask.get();
+            } catch (ExecutionException ee) {
+                throw e;
+            } catch (CancellationException ce) {
+                // the duplicate could not be sent after all
+                throw e;
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                race.cancel();
+                throw new KalturaApiException("Interrupted while waiting for the kaltura call: " + request.getUrl());
+            }
+        } catch (RuntimeException e) {
+            race.cancel();
+            throw e;
+        }
+    }
 
-        kparams.put("sig", this.signature(kparams));
+    /**
+     * One of the two requests of a hedged call, holds the method while it is being sent 
+     * so the request can be aborted once the other one wins
+     */
+    private static final class HedgedAttempt {
+        private PostMethod method;
+        private boolean aborted = false;
+
+        /**
+         * @return false if this was aborted before the method could be sent
+         */
+        synchronized boolean start(PostMethod method) {
+            this.method = method;
+            return !aborted;
+        }
 
-        if (logger.isDebugEnabled()) {
-            logger.debug("full reqeust url: [" + url + "?" + kparams.toQueryString() + "]");
+        synchronized void finish() {
+            this.method = null;
+        }
+
+        synchronized boolean isAborted() {
+            return aborted;
+        }
+
+        synchronized void abort() {
+            aborted = true;
+            if (method != null) {
+                method.abort();
+            }
+        }
+    }
+
+    /**
+     * The state shared by the two requests of a hedged call
+     */
+    private static final class HedgeRace {
+        final HedgedAttempt primary = new HedgedAttempt();
+        final HedgedAttempt hedge = new HedgedAttempt();
+        private boolean hedged = false;
+        private boolean decided = false;
+
+        /**
+         * Called once the hedge delay is over
+         * @return true if the duplicate should be sent (the primary request is still running and the budget allows it)
+         */
+        synchronized boolean startHedge(KalturaHedgeBudget hedgeBudget) {
+            hedged = !decided && hedgeBudget.tryAcquire();
+            return hedged;
+        }
+
+        /**
+         * The duplicate could not be sent, the primary request decides the call
+         */
+        synchronized void hedgeRejected() {
+            hedged = false;
+        }
+
+        /**
+         * @param winner the request which succeeded
+         * @return true if it was the first to succeed (the other request is aborted)
+         */
+        boolean win(HedgedAttempt winner) {
+            synchronized (this) {
+                if (decided) {
+                    return false;
+                }
+                decided = true;
+            }
+            (winner == primary ? hedge : primary).abort();
+            return true;
+        }
+
+        /**
+         * @return true if the duplicate was sent (its result decides the call), 
+         * otherwise it will not be sent anymore
+         */
+        synchronized boolean primaryFailed() {
+            if (!hedged) {
+                decided = true;
+            }
+            return hedged;
         }
 
-        // build request
-        HttpClient client = new HttpClient();
-        // added by Unicon to handle proxy hosts
-        String proxyHost = System.getProperty( "http.proxyHost" );
-        if ( proxyHost != null ) {
-            int proxyPort = -1;
-            String proxyPortStr = System.getProperty( "http.proxyPort" );
-            if (proxyPortStr != null) {
+        void cancel() {
+            synchronized (this) {
+                decided = true;
+            }
+            hedge.abort();
+        }
+    }
+
+    /**
+     * Executes the request on the current thread and retries it if it fails and is safe to repeat
+     * @param hedgedAttempt the request of a hedged call (it is not retried once aborted), null if not hedged
+     */
+    private Element executeWithRetries(KalturaRequest request, KalturaObjectVisitor<Object> visitor, 
+            HedgedAttempt hedgedAttempt) throws KalturaApiException {
+        EKalturaServiceFormat format = request.getFormat();
+        if (format != EKalturaServiceFormat.RESPONSE_TYPE_XML && format != EKalturaServiceFormat.RESPONSE_TYPE_JSON) {
+            throw new KalturaApiException("Unsupported response format: " + format + " (only XML and JSON can be decoded)");
+        }
+
+        int maxRetries = this.kalturaConfiguration.getMaxRetries();
+        EKalturaRetryClass retryClass = request.getRetryClass();
+        KalturaFiles kfiles = request.getFiles();
+        KalturaUploadSpool spool = null;
+        try {
+            if (maxRetries > 0 && retryClass != EKalturaRetryClass.NON_IDEMPOTENT_WRITE && !isReplayable(kfiles)) {
+                // copy the upload streams so the request can be sent again
+                spool = new KalturaUploadSpool(this.kalturaConfiguration.getRetrySpoolMemoryThreshold(), 
+                        this.kalturaConfiguration.getRetrySpoolMaxSize(), this.kalturaConfiguration.getRetrySpoolDirectory());
+                try {
+                    KalturaFiles spooled = spool.spool(kfiles);
+                    if (spooled != null) {
+                        kfiles = spooled;
+                    }
+                } catch (IOException e) {
+                    throw new KalturaApiException("Upload could not be read: " + e.getMessage());
+                }
+            }
+            boolean replayable = isReplayable(kfiles);
+
+            KalturaEndpointBalancer balancer = request.getPath() == null ? null : this.kalturaConfiguration.getEndpointBalancer();
+            KalturaEndpoint endpoint = null;
+            for (int attempt = 0; ; attempt++) {
+                // a retry goes to another endpoint if there is one
+                endpoint = balancer == null ? null : balancer.choose(endpoint);
                 try {
-                    proxyPort = Integer.parseInt( proxyPortStr );
-                } catch (NumberFormatException e) {
-                    logger.warn("Invalid number for system property http.proxyPort ("+proxyPortStr+"), using default port instead");
+                    return this.executeAttempt(request, endpoint, kfiles, visitor, hedgedAttempt);
+                } catch (KalturaApiException e) {
+                    if ((hedgedAttempt != null && hedgedAttempt.isAborted()) || attempt >= maxRetries || !isRetryable(e, retryClass, replayable, visitor != null)) {
+                        throw e;
+                    }
+                    // exponential backoff with jitter
+                    long backoff = Math.min(this.kalturaConfiguration.getRetryMaxDelay(), 
+                            this.kalturaConfiguration.getRetryBaseDelay() << Math.min(attempt, 20));
+                    long delay = backoff / 2 + (long) (Math.random() * (backoff / 2));
+                    logger.warn("Kaltura call failed (" + e.getMessage() + "), retry " + (attempt + 1) + " of " 
+                            + maxRetries + " in " + delay + " ms");
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        throw e;
+                    }
                 }
             }
-            ProxyHost proxy = new ProxyHost( proxyHost, proxyPort );
-            client.getHostConfiguration().setProxyHost( proxy );
+        } finally {
+            if (spool != null) {
+                spool.release();
+            }
+        }
+    }
+
+    private boolean isReplayable(KalturaFiles kfiles) {
+        for (KalturaFile kfile : kfiles.values()) {
+            if (!kfile.isReplayable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param replayable true if the files of the request can be sent again
+     * @param visiting true if the objects of the response are passed to a visitor as they are read
+     * @return true if the failed request can be sent again
+     */
+    private boolean isRetryable(KalturaApiException e, EKalturaRetryClass retryClass, boolean replayable, boolean visiting) {
+        if (e instanceof KalturaInvalidResponseException) {
+            // the same request would most likely get the same response
+            return false;
+        }
+        if (e instanceof KalturaTransportException) {
+            KalturaTransportException transportException = (KalturaTransportException) e;
+            if (!transportException.isRequestSent()) {
+                // nothing reached the server (and no upload stream was read)
+                return true;
+            }
+            return retryClass != EKalturaRetryClass.NON_IDEMPOTENT_WRITE && replayable 
+                    && !(visiting && transportException.isResponseReceived());
+        }
+        return retryClass != EKalturaRetryClass.NON_IDEMPOTENT_WRITE && e.code != null 
+                && this.kalturaConfiguration.getRetryableErrorCodes().contains(e.code);
+    }
+
+    /**
+     * Sends the request once
+     * @param endpoint the endpoint to send the request to, null to send it to its url
+     * @param kfiles the files to upload with the request
+     * @param hedgedAttempt the request of a hedged call, null if not hedged
+     */
+    private Element executeAttempt(KalturaRequest request, KalturaEndpoint endpoint, KalturaFiles kfiles, 
+            KalturaObjectVisitor<Object> visitor, HedgedAttempt hedgedAttempt) throws KalturaApiException {
+        String url = endpoint == null ? request.getUrl() : endpoint.getUrl() + request.getPath();
+        KalturaParamsEncoder kparams = request.getEncodedParams();
+        EKalturaServiceFormat format = request.getFormat();
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("full reqeust url: [" + url + "?" + kparams.toQueryString() + "]");
         }
-        // added by Unicon to force encoding to UTF-8
-        String utf8CharSet = "UTF-8";
-        client.getParams().setParameter(HttpMethodParams.HTTP_CONTENT_CHARSET, utf8CharSet);
-        client.getParams().setParameter(HttpMethodParams.HTTP_ELEMENT_CHARSET, utf8CharSet);
-        client.getParams().setParameter(HttpMethodParams.HTTP_URI_CHARSET, utf8CharSet);
 
-        HttpConnectionManagerParams connParams = client.getHttpConnectionManager().getParams();
-        connParams.setSoTimeout(this.kalturaConfiguration.getTimeout());
-        client.getHttpConnectionManager().setParams(connParams);
+        // build request using the pooled connections shared by all clients with this config
+        KalturaConnectionPool connectionPool;
+        try {
+            connectionPool = this.kalturaConfiguration.getConnectionPool();
+        } catch (IllegalStateException e) {
+            throw new KalturaApiException(e.getMessage());
+        }
+        HttpClient client = connectionPool.getHttpClient();
+        String utf8CharSet = "UTF-8";
 
         PostMethod method = new PostMethod(url);
-        method.setRequestHeader("Accept","text/xml,application/xml,*/*");
+        if (format == EKalturaServiceFormat.RESPONSE_TYPE_JSON) {
+            method.setRequestHeader("Accept","application/json,text/javascript,*/*");
+        } else {
+            method.setRequestHeader("Accept","text/xml,application/xml,*/*");
+        }
         method.setRequestHeader("Accept-Charset","utf-8,ISO-8859-1;q=0.7,*;q=0.5");
+        EKalturaTimeoutClass timeoutClass = request.getTimeoutClass();
+        KalturaLatencyTracker latencyTracker = this.kalturaConfiguration.getLatencyTracker();
+        int timeout = this.kalturaConfiguration.getTimeout(timeoutClass);
+        if (this.kalturaConfiguration.isAdaptiveTimeouts()) {
+            timeout = latencyTracker.getAdaptiveTimeout(timeoutClass, timeout);
+        }
+        method.getParams().setSoTimeout(timeout);
 
         if (!kfiles.isEmpty()) {
             method = this.getPostMultiPartWithFiles(method, kparams, kfiles);           
@@ -190,84 +637,252 @@ abstract public class KalturaClientBase {
             method = this.addParams(method, kparams);            
         }
 
-        // Provide custom retry handler is necessary
+        // retries are made by execute (which knows which calls are safe to repeat)
         method.getParams().setParameter(HttpMethodParams.RETRY_HANDLER,
-                new DefaultHttpMethodRetryHandler (3, false));
+                new DefaultHttpMethodRetryHandler (0, false));
+
+        if (hedgedAttempt != null && !hedgedAttempt.start(method)) {
+            throw new KalturaApiException("Hedged kaltura call aborted: " + url);
+        }
+
+        // fail fast while the endpoint is failing
+        KalturaCircuitBreaker circuitBreaker = null;
+        if (this.kalturaConfiguration.isCircuitBreakerEnabled()) {
+            circuitBreaker = this.kalturaConfiguration.getCircuitBreaker(
+                    endpoint == null ? this.kalturaConfiguration.getEndpoint() : endpoint.getUrl());
+            if (!circuitBreaker.allowRequest()) {
+                throw new KalturaApiException("Kaltura endpoint " + circuitBreaker.getEndpoint() 
+                        + " is failing, call rejected by the circuit breaker (" + circuitBreaker.getState() + ")");
+            }
+        }
 
-        String responseString = "";
+        Element responseXml = null;
+        KalturaStringPool stringPool = this.getStringPool();
+        if (endpoint != null) {
+            endpoint.onStart();
+        }
+        long startTime = System.currentTimeMillis();
+        boolean failed = true;
+        boolean timedOut = false;
+        boolean responseReceived = false;
         try {
             // Execute the method.
             int statusCode = client.executeMethod(method);
+            responseReceived = true;
+            // kaltura api errors come back with a 200, only server errors count against the endpoint
+            failed = statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR;
 
             Header[] headers = method.getRequestHeaders();
             if (logger.isDebugEnabled()) {
+                logger.debug("Connections: " + connectionPool);
                 for (Header header : headers) {
                     logger.debug("Header [" + header.getName() + " value [" + header.getValue() + "]");
                 }
             }
 
             if (statusCode != HttpStatus.SC_OK) {
-                System.err.println ( "Method failed: " + method.getStatusLine ( ) );
+                logger.warn("Method failed: " + method.getStatusLine());
+            }
+
+            long maxResponseSize = this.kalturaConfiguration.getMaxResponseSize();
+            if (maxResponseSize > 0 && method.getResponseContentLength() > maxResponseSize) {
+                failed = true;
+                throw new KalturaInvalidResponseException("Response size (" + method.getResponseContentLength() 
+                        + ") exceeds the max allowed size of " + maxResponseSize + " bytes");
             }
 
-            // Read the response body.
-            byte[] responseBody = method.getResponseBody ( );
+            if (failed) {
+                throw new KalturaTransportException("Server error: " + method.getStatusLine(), true, true);
+            }
 
-            // Deal with the response.
-            // Use caution: ensure correct character encoding and is not binary data
-            responseString = new String(responseBody, utf8CharSet); // Unicon: this MUST be set to UTF-8 charset -AZ
+            // Decode the response body straight from the socket
+            InputStream responseStream = method.getResponseBodyAsStream();
+            if (responseStream == null) {
+                failed = true;
+                throw new KalturaInvalidResponseException("Empty response (status " + statusCode + ")");
+            }
+            responseStream = new BoundedInputStream(responseStream, maxResponseSize);
             if (logger.isDebugEnabled()) {
-                logger.debug(responseString);
+                // only buffer the response when it is going to be logged
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                byte[] chunk = new byte[8192];
+                int n;
+                while ((n = responseStream.read(chunk)) != -1) {
+                    buffer.write(chunk, 0, n);
+                }
+                byte[] responseBody = buffer.toByteArray();
+                logger.debug(new String(responseBody, utf8CharSet)); // Unicon: this MUST be set to UTF-8 charset -AZ
+                responseStream = new ByteArrayInputStream(responseBody);
+            }
+            if (format == EKalturaServiceFormat.RESPONSE_TYPE_JSON) {
+                responseXml = KalturaJsonParser.parse(responseStream, request.getProjection(), visitor, stringPool);
+            } else if (visitor != null || this.kalturaConfiguration.getParserEngine() == EKalturaParserEngine.STAX) {
+                responseXml = KalturaStaxParser.parse(responseStream, request.getProjection(), visitor, stringPool);
+            } else {
+                responseXml = XmlUtils.parseXml(responseStream);
             }
 
+        } catch ( KalturaTransportException e ) {
+            failed = true;
+            throw e;
+        } catch ( KalturaInvalidResponseException e ) {
+            failed = true;
+            throw e;
+        } catch ( XmlUtils.XmlParseException e ) {
+            failed = true;
+            throw new KalturaInvalidResponseException("Invalid result: response could not be parsed (" + e.getMessage() + ")");
+        } catch ( BoundedInputStream.ResponseTooLargeException e ) {
+            failed = true;
+            throw new KalturaInvalidResponseException(e.getMessage());
         } catch ( HttpException e ) {
-            System.err.println ( "Fatal protocol violation: " + e.getMessage ( ) );
-            e.printStackTrace ( );
+            failed = true;
+            logger.error("Fatal protocol violation: " + e.getMessage(), e);
+            throw new KalturaTransportException("Fatal protocol violation: " + e.getMessage(), true, responseReceived);
         } catch ( IOException e ) {
-            System.err.println ( "Fatal transport error: " + e.getMessage ( ) );
-            e.printStackTrace ( );
+            failed = true;
+            if (hedgedAttempt != null && hedgedAttempt.isAborted()) {
+                throw new KalturaApiException("Hedged kaltura call aborted: " + url);
+            }
+            timedOut = e instanceof SocketTimeoutException;
+            // a refused connection never sent anything
+            boolean requestSent = responseReceived || !(e instanceof ConnectException);
+            logger.error("Fatal transport error: " + e.getMessage(), e);
+            throw new KalturaTransportException("Fatal transport error: " + e.getMessage(), requestSent, responseReceived);
+        } catch ( IllegalStateException e ) {
+            // the method was aborted before it was sent
+            if (hedgedAttempt != null && hedgedAttempt.isAborted()) {
+                throw new KalturaApiException("Hedged kaltura call aborted: " + url);
+            }
+            throw e;
         } finally {
-            // Release the connection.
+            // Release the connection (back into the pool)
             method.releaseConnection ( );
+            long latency = System.currentTimeMillis() - startTime;
+            boolean aborted = false;
+            if (hedgedAttempt != null) {
+                hedgedAttempt.finish();
+                aborted = hedgedAttempt.isAborted();
+            }
+            if (endpoint != null) {
+                if (aborted) {
+                    endpoint.onCancel();
+                } else {
+                    this.kalturaConfiguration.getEndpointBalancer().onComplete(endpoint, failed);
+                }
+            }
+            if (aborted) {
+                // the other request of the hedged call won, this one says nothing about the endpoint
+                if (circuitBreaker != null) {
+                    circuitBreaker.recordCancel();
+                }
+            } else if (failed) {
+                if (timedOut) {
+                    // the call took at least the timeout, without this the adaptive timeout could only shrink
+                    latencyTracker.record(timeoutClass, Math.max(latency, timeout));
+                }
+                if (circuitBreaker != null) {
+                    circuitBreaker.recordFailure(latency);
+                }
+            } else {
+                latencyTracker.record(timeoutClass, latency);
+                if (circuitBreaker != null) {
+                    circuitBreaker.recordSuccess(latency);
+                }
+            }
         }
 
-        Element responseXml = XmlUtils.parseXml(responseString);
+        Element resultXml = this.getResultElement(responseXml);
 
-        this.validateXmlResult(responseXml);
+        this.throwExceptionOnAPIError(resultXml);
 
-        Element resultXml = null;
-        try {
-            resultXml = XmlUtils.getElementByXPath(responseXml, "/xml/result");
-        } catch (XPathExpressionException xee) {
-            throw new KalturaApiException("XPath expression exception evaluating result");
+        boolean lazy = this.kalturaConfiguration.isLazyListResponses();
+        int parallelThreshold = this.kalturaConfiguration.getParallelDecodeThreshold();
+        if ((lazy || request.getProjection() != null || parallelThreshold > 0 || stringPool != null) 
+                && KalturaObjectBinding.getBoundObject(resultXml) == null
+                && format == EKalturaServiceFormat.RESPONSE_TYPE_XML 
+                && this.kalturaConfiguration.getParserEngine() == EKalturaParserEngine.DOM) {
+            // decode the objects here (instead of in the generated types) so the lists can be lazy, projected, 
+            // decoded in parallel or share their strings
+            new KalturaDomBinder(lazy, request.getProjection(), 
+                    parallelThreshold > 0 ? this.kalturaConfiguration.getDecodeExecutorService() : null, parallelThreshold,
+                    stringPool).bindResult(resultXml);
         }
 
-        this.throwExceptionOnAPIError(resultXml);
-
         return resultXml;
     }
 
-    public void startMultiRequest() {
-        isMultiRequest = true;
+    /**
+     * Starts a multirequest, queue the calls in it (the services return null for them) then send it with
+     * {@link #doMultiRequest(KalturaRequestBuilder)}
+     * e.g. new KalturaBaseEntryService(client, multiRequest).get(entryId)
+     * 
+     * @return the new multirequest
+     */
+    public KalturaRequestBuilder startMultiRequest() {
+        return new KalturaRequestBuilder(true);
     }
 
-
-    public KalturaMultiResponse doMultiRequest() throws KalturaApiException 
+    public KalturaMultiResponse doMultiRequest(KalturaRequestBuilder multiRequest) throws KalturaApiException 
     {
-        Element multiRequestResult = doQueue();
+        Element multiRequestResult = doQueue(multiRequest);
+        return this.parseMultiResponse(multiRequestResult);
+    }
+
+    /**
+     * Executes the queued multirequest in the background (see {@link #doQueueAsync(KalturaRequestBuilder)})
+     * and parses each of the results into objects
+     * 
+     * @return the future multirequest response (in the same order as the queued calls) OR null if there are no queued calls
+     */
+    public Future<KalturaMultiResponse> doMultiRequestAsync(KalturaRequestBuilder multiRequest) {
+        if (multiRequest == null || multiRequest.isEmpty()) return null;
+
+        final KalturaRequest prepared = this.prepareRequest(multiRequest);
+        return this.kalturaConfiguration.getExecutorService().submit(new Callable<KalturaMultiResponse>() {
+            public KalturaMultiResponse call() throws KalturaApiException {
+                return parseMultiResponse(execute(prepared));
+            }
+        });
+    }
 
+    /**
+     * @return the string pool to decode the next response with (depends on the configured scope) OR null if none
+     */
+    private KalturaStringPool getStringPool() {
+        switch (this.kalturaConfiguration.getStringPoolScope()) {
+        case RESPONSE:
+            return new KalturaStringPool(this.kalturaConfiguration.getStringPoolSize(), KalturaStringPool.DEFAULT_MAX_LENGTH);
+        case CLIENT:
+            synchronized (this) {
+                if (clientStringPool == null) {
+                    clientStringPool = new KalturaStringPool(this.kalturaConfiguration.getStringPoolSize(), KalturaStringPool.DEFAULT_MAX_LENGTH);
+                }
+                return clientStringPool;
+            }
+        default:
+            return null;
+        }
+    }
+
+    protected KalturaMultiResponse parseMultiResponse(Element multiRequestResult) throws KalturaApiException
+    {
         KalturaMultiResponse multiResponse = new KalturaMultiResponse();
 
-        for(int i = 0; i < multiRequestResult.getChildNodes().getLength(); i++) 
+        // single pass over the items (no xpath or subtree searches)
+        for (Node node = multiRequestResult.getFirstChild(); node != null; node = node.getNextSibling()) 
         {
-            Element arrayNode = (Element)multiRequestResult.getChildNodes().item(i);
+            if (node.getNodeType() != Node.ELEMENT_NODE)
+            {
+                continue;
+            }
+            Element arrayNode = (Element)node;
             
             KalturaApiException exception = getExceptionOnAPIError(arrayNode);
             if (exception != null)
             {
             	multiResponse.add(exception);
             }
-            else if (arrayNode.getElementsByTagName("objectType").getLength() == 0)
+            else if (XmlUtils.getChildElement(arrayNode, "objectType") == null)
             {
                 multiResponse.add(arrayNode.getTextContent());
             }
@@ -280,97 +895,54 @@ abstract public class KalturaClientBase {
     }
 
 
-    public void mapMultiRequestParam(int resultNumber, int requestNumber, String requestParamName) {
-        this.mapMultiRequestParam(resultNumber, null, requestNumber, requestParamName);
-    }
-
-    public void mapMultiRequestParam(int resultNumber, String resultParamName, int requestNumber, String requestParamName) {
-        String resultParam = "{" + resultNumber + ":result";
-        if (resultParamName != null && resultParamName != "") resultParam += resultParamName;
-        resultParam += "}";
-
-        String requestParam = requestNumber + ":" + requestParamName;
-
-        this.multiRequestParamsMap.put(requestParam, resultParam);
-    }
-
-    private String signature(KalturaParams kparams) {
-        String str = "";
-        for (String key : kparams.keySet()) {
-            str += (key + kparams.get(key));
+    /**
+     * Finds the result in the response envelope (/xml/result) without using xpath
+     * @param responseXml the root element of the response
+     * @return the result element
+     * @throws KalturaApiException if the response has no result
+     */
+    private Element getResultElement(Element responseXml) throws KalturaApiException {
+        Element resultElement = null;
+        if ("xml".equals(responseXml.getNodeName())) {
+            resultElement = XmlUtils.getChildElement(responseXml, "result");
         }
-
-        MessageDigest mdEnc = null;
-        try {
-            mdEnc = MessageDigest.getInstance("MD5");
-        } catch (NoSuchAlgorithmException e) {
-            e.printStackTrace();
+        if (resultElement == null) {
+            throw new KalturaApiException("Invalid result");
         }
-        mdEnc.update(str.getBytes(), 0, str.length());
-        String md5 = new BigInteger(1, mdEnc.digest()).toString(16); // Encrypted string
-
-        return md5;
+        return resultElement;
     }
 
-    private void validateXmlResult(Element resultXml) throws KalturaApiException {
-
-        Element resultElement = null;
-        try {
-            resultElement = XmlUtils.getElementByXPath(resultXml, "/xml/result");
-        } catch (XPathExpressionException xee) {
-            throw new KalturaApiException("XPath expression exception evaluating result");
+    private KalturaApiException getExceptionOnAPIError(Element result) {
+        Element errorElement = XmlUtils.getChildElement(result, "error");
+        if (errorElement == null) {
+            return null;
         }
 
-        if (resultElement != null) {
-            return;            
-        } else {
-            throw new KalturaApiException("Invalid result");
+        Element messageElement = XmlUtils.getChildElement(errorElement, "message");
+        Element codeElement = XmlUtils.getChildElement(errorElement, "code");
+        if (messageElement == null || codeElement == null) {
+            return null;
         }
-    }
 
-    private KalturaApiException getExceptionOnAPIError(Element result) throws KalturaApiException {
-    	try {
-	    	Element errorElement = XmlUtils.getElementByXPath(result, "error");
-	    	if (errorElement == null)
-	    	{
-	    		return null;
-	    	}
-	    	
-	    	Element messageElement = XmlUtils.getElementByXPath(errorElement, "message");
-	    	Element codeElement = XmlUtils.getElementByXPath(errorElement, "code");
-	    	if (messageElement == null || codeElement == null)
-	    	{
-	    		return null;
-	    	}
-	    	
-	    	return new KalturaApiException(messageElement.getTextContent(), codeElement.getTextContent());
-    	} catch (XPathExpressionException xee) {
-    		throw new KalturaApiException("XPath expression exception evaluating result");
-    	}
+        return new KalturaApiException(messageElement.getTextContent(), codeElement.getTextContent());
     }
 
     private void throwExceptionOnAPIError(Element result) throws KalturaApiException {
-
-        Element resultElement = null;
-        try {
-            resultElement = XmlUtils.getElementByXPath(result, "error");
-        } catch (XPathExpressionException xee) {
-            throw new KalturaApiException("XPath expression exception evaluating result");
-        }
-
-        if (resultElement != null) {
-            throw new KalturaApiException(resultElement.getTextContent());
+        Element errorElement = XmlUtils.getChildElement(result, "error");
+        if (errorElement != null) {
+            Element codeElement = XmlUtils.getChildElement(errorElement, "code");
+            throw new KalturaApiException(errorElement.getTextContent(), codeElement == null ? null : codeElement.getTextContent());
         }
     }
 
-    private PostMethod getPostMultiPartWithFiles(PostMethod postMethod, KalturaParams kparams, KalturaFiles kfiles) {
+    private PostMethod getPostMultiPartWithFiles(PostMethod postMethod, KalturaParamsEncoder kparams, KalturaFiles kfiles) {
 
         String boundary = "---------------------------" + System.currentTimeMillis();
         List <Part> parts = new ArrayList<Part>();
         parts.add(new StringPart (HttpMethodParams.MULTIPART_BOUNDARY, boundary));
 
-        for (String key : kparams.keySet()) {
-            parts.add(new StringPart (key,kparams.get(key)));       
+        for (int i = 0; i < kparams.size(); i++) {
+            parts.add(new StringPart (kparams.getKey(i), kparams.getValue(i), "UTF-8"));
         }
 
         for (String key : kfiles.keySet()) {
@@ -380,7 +952,7 @@ abstract public class KalturaClientBase {
                 // use the file
                 File file = kFile.getFile();
                 try {
-                    parts.add(new FilePart(key, file));
+                    parts.add(new FilePart(key, kFile.getName(), file));
                 } catch (FileNotFoundException e) {
                     // TODO this sort of leaves the submission in a weird state... -AZ
                     logger.error("Exception while iterating over kfiles", e);          
@@ -402,23 +974,16 @@ abstract public class KalturaClientBase {
             }
         }
 
-        Part allParts[] = new Part[parts.size()];
-        int i=0;
-        for (Part p : parts) {
-            allParts[i] = p;
-            ++i;
-        }
+        Part allParts[] = parts.toArray(new Part[parts.size()]);
 
         postMethod.setRequestEntity(new MultipartRequestEntity(allParts, postMethod.getParams()));
 
         return postMethod;
     }
 
-    private PostMethod addParams(PostMethod method, KalturaParams kparams) {
+    private PostMethod addParams(PostMethod method, KalturaParamsEncoder kparams) {
 
-        for (String key : kparams.keySet()) {
-            method.addParameter(key, kparams.get(key));
-        }
+        method.setRequestEntity(new ByteArrayRequestEntity(kparams.toFormUrlEncoded(), PostMethod.FORM_URL_ENCODED_CONTENT_TYPE));
 
         return method;
 
@@ -464,29 +1029,43 @@ abstract public class KalturaClientBase {
         return this.generateSession(adminSecretForSigning, userId, type, partnerId, expiry, "");
     }
 
+    /**
+     * Signs a session (KS) locally with the secret, no call is made to the server
+     * 
+     * @param adminSecretForSigning the secret to sign with (the admin secret for ADMIN sessions)
+     * @param userId the user the session is for
+     * @param type the session type
+     * @param partnerId the partner, 0 or less for the configured partner
+     * @param expiry the number of seconds the session is valid for
+     * @param privileges the session privileges (e.g. edit:*), may be empty
+     * @return the session key (KS)
+     */
     public String generateSession(String adminSecretForSigning, String userId, KalturaSessionType type, int partnerId, int expiry, String privileges) throws Exception
     {
         try
         {
             // initialize required values
             int rand = (int)(Math.random() * 32000);
-            expiry = (int)(System.currentTimeMillis() / 1000) + 86400;
+            if (partnerId <= 0) {
+                partnerId = this.kalturaConfiguration.partnerId;
+            }
+            expiry = (int)(System.currentTimeMillis() / 1000) + expiry;
             
             // build info string
             StringBuilder sbInfo = new StringBuilder();
-            sbInfo.append(this.kalturaConfiguration.partnerId).append(";"); // index 0 - partner ID
-            sbInfo.append(this.kalturaConfiguration.partnerId).append(";"); // index 1 - partner pattern - using partner ID
+            sbInfo.append(partnerId).append(";"); // index 0 - partner ID
+            sbInfo.append(partnerId).append(";"); // index 1 - partner pattern - using partner ID
             sbInfo.append(expiry).append(";"); // index 2 - expiration timestamp
             sbInfo.append(type.getHashCode()).append(";"); // index 3 - session type
             sbInfo.append(rand).append(";"); // index 4 - random number
             sbInfo.append(userId).append(";"); // index 5 - user ID
-            sbInfo.append(privileges); // index 6 - privileges
+            sbInfo.append(privileges == null ? "" : privileges); // index 6 - privileges
             
             // sign info with SHA1 algorithm
             MessageDigest algorithm = MessageDigest.getInstance("SHA1");
             algorithm.reset();
-            algorithm.update(adminSecretForSigning.getBytes());
-            algorithm.update(sbInfo.toString().getBytes());
+            algorithm.update(adminSecretForSigning.getBytes("UTF-8"));
+            algorithm.update(sbInfo.toString().getBytes("UTF-8"));
             byte infoSignature[] = algorithm.digest();
             
             // convert signature to hex:
@@ -499,11 +1078,8 @@ abstract public class KalturaClientBase {
             //BASE64Encoder encoder = new BASE64Encoder();
             //String hashedString = encoder.encode(sbToEncode.toString().getBytes());
 
-            // encode the signature and info with base64
-            String hashedString = Base64.encodeBase64String(sbToEncode.toString().getBytes());
-
-            // remove line breaks in the session string
-            String ks = hashedString.replace("\n", "");
+            // encode the signature and info with base64 (not chunked so there are no line breaks in the session string)
+            String ks = new String(Base64.encodeBase64(sbToEncode.toString().getBytes("UTF-8")), "US-ASCII");
             // return the generated session key (KS)
             return ks;
         } catch (NoSuchAlgorithmException ex)
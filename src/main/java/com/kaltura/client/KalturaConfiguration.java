@@ -1,7 +1,26 @@
 package com.kaltura.client;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class holds information needed by the Kaltura client to establish a session.
@@ -17,8 +36,63 @@ public class KalturaConfiguration {
 	protected int timeout = 100000;
 	protected String clientTag = "java";
     protected EKalturaServiceFormat serviceFormat = EKalturaServiceFormat.RESPONSE_TYPE_XML;
+	protected int maxConnectionsPerHost = 20;
+	protected int maxTotalConnections = 50;
+	protected int idleConnectionTimeout = 60000;
+	protected long maxResponseSize = 64L * 1024 * 1024;
+	protected EKalturaParserEngine parserEngine = EKalturaParserEngine.DOM;
+	protected boolean lazyListResponses = false;
+	protected int parallelDecodeThreshold = 0;
+	protected EKalturaStringPoolScope stringPoolScope = EKalturaStringPoolScope.NONE;
+	protected int stringPoolSize = KalturaStringPool.DEFAULT_MAX_ENTRIES;
+	protected boolean adaptiveTimeouts = false;
+	protected boolean circuitBreakerEnabled = false;
+	protected int circuitBreakerWindow = 50;
+	protected int circuitBreakerMinCalls = 20;
+	protected int circuitBreakerFailureRate = 50;
+	protected int circuitBreakerSlowCallRate = 80;
+	protected long circuitBreakerSlowCallTime = 30000;
+	protected long circuitBreakerOpenDuration = 30000;
+	protected int maxRetries = 3;
+	protected long retryBaseDelay = 100;
+	protected long retryMaxDelay = 5000;
+	protected long retrySpoolMemoryThreshold = 1024L * 1024;
+	protected long retrySpoolMaxSize = 2048L * 1024 * 1024;
+	protected File retrySpoolDirectory;
+	protected boolean hedging = false;
+	protected int hedgePercentile = 95;
+	protected int hedgeBudgetPercent = 5;
+	protected long hedgeMinDelay = 20;
+	protected EKalturaBalancingStrategy balancingStrategy = EKalturaBalancingStrategy.POWER_OF_TWO_CHOICES;
+	protected int endpointEjectFailures = 5;
+	protected long endpointEjectTime = 30000;
+	protected long endpointMaxEjectTime = 300000;
+	protected long endpointRampTime = 60000;
 	
+	private final Map<EKalturaTimeoutClass, Integer> classTimeouts = 
+		new EnumMap<EKalturaTimeoutClass, Integer>(EKalturaTimeoutClass.class);
+	private final Map<String, EKalturaTimeoutClass> actionTimeoutClasses = new ConcurrentHashMap<String, EKalturaTimeoutClass>();
+	private final Map<String, EKalturaRetryClass> actionRetryClasses = new ConcurrentHashMap<String, EKalturaRetryClass>();
+	private final Set<String> hedgedActions = new CopyOnWriteArraySet<String>(Arrays.asList(
+		"baseentry.get", "baseentry.list", "flavorasset.getWebPlayableByEntryId"));
+	private KalturaHedgeBudget hedgeBudget;
+	private final List<KalturaEndpoint> endpoints = new ArrayList<KalturaEndpoint>();
+	private KalturaEndpointBalancer endpointBalancer;
+	private final Set<String> retryableErrorCodes = new CopyOnWriteArraySet<String>(Arrays.asList("INTERNAL_SERVERL_ERROR"));
+	private final KalturaLatencyTracker latencyTracker = new KalturaLatencyTracker();
+	private final Map<String, KalturaCircuitBreaker> circuitBreakers = new LinkedHashMap<String, KalturaCircuitBreaker>();
+	private final List<KalturaCircuitBreaker.Listener> circuitBreakerListeners = new ArrayList<KalturaCircuitBreaker.Listener>();
 	private Map<String, String> params;
+	private KalturaConnectionPool connectionPool;
+	private boolean shutdown = false;
+	private final AtomicInteger activeCalls = new AtomicInteger();
+	private ExecutorService executorService;
+	private boolean defaultExecutorService = false;
+	private ExecutorService decodeExecutorService;
+	private boolean defaultDecodeExecutorService = false;
+	private ExecutorService hedgeExecutorService;
+	private boolean defaultHedgeExecutorService = false;
+	private ScheduledExecutorService hedgeTimer;
 	
 	public KalturaConfiguration() {		
 	}
@@ -54,12 +128,130 @@ public class KalturaConfiguration {
 		this.adminSecret = adminSecret;
 	}
 
+	/**
+	 * @return the first (or only) endpoint
+	 */
 	public String getEndpoint() {
 		return endpoint;
 	}
 
-	public void setEndpoint(String endpoint) {
+	/**
+	 * @param endpoint the only endpoint (replaces any added with {@link #addEndpoint(String, int)})
+	 */
+	public synchronized void setEndpoint(String endpoint) {
 		this.endpoint = endpoint;
+		this.endpoints.clear();
+		if (endpoint != null) {
+			this.endpoints.add(new KalturaEndpoint(endpoint, 1));
+		}
+		this.endpointBalancer = null;
+	}
+
+	/**
+	 * Adds an endpoint the requests are spread across (see {@link KalturaEndpointBalancer}), 
+	 * all the endpoints must serve the same partner, the first one is also the {@link #getEndpoint() endpoint}
+	 * 
+	 * @param endpoint the endpoint url
+	 * @param weight the share of the requests the endpoint gets relative to the others
+	 */
+	public synchronized void addEndpoint(String endpoint, int weight) {
+		if (this.endpoint == null) {
+			this.endpoint = endpoint;
+		} else {
+			// replace the one which was set or added before
+			for (int i = 0; i < this.endpoints.size(); i++) {
+				if (this.endpoints.get(i).getUrl().equals(endpoint)) {
+					this.endpoints.remove(i);
+					break;
+				}
+			}
+		}
+		KalturaEndpoint added = new KalturaEndpoint(endpoint, weight);
+		if (endpoint.equals(this.endpoint)) {
+			this.endpoints.add(0, added);
+		} else {
+			this.endpoints.add(added);
+		}
+		this.endpointBalancer = null;
+	}
+
+	/**
+	 * @return the endpoints the requests are spread across
+	 */
+	public synchronized List<KalturaEndpoint> getEndpoints() {
+		return new ArrayList<KalturaEndpoint>(endpoints);
+	}
+
+	/**
+	 * @return the balancer which picks the endpoint of each request (created on first use, 
+	 * and again when the endpoints change)
+	 */
+	public synchronized KalturaEndpointBalancer getEndpointBalancer() {
+		if (endpointBalancer == null) {
+			if (endpoints.isEmpty()) {
+				throw new IllegalStateException("No kaltura endpoint is set");
+			}
+			endpointBalancer = new KalturaEndpointBalancer(this);
+		}
+		return endpointBalancer;
+	}
+
+	public EKalturaBalancingStrategy getBalancingStrategy() {
+		return balancingStrategy;
+	}
+
+	/**
+	 * @param balancingStrategy how the requests are spread across the endpoints (power of two choices by default),
+	 * must be set before the first call is made using this configuration (as must all the endpoint settings)
+	 */
+	public void setBalancingStrategy(EKalturaBalancingStrategy balancingStrategy) {
+		this.balancingStrategy = balancingStrategy;
+	}
+
+	public int getEndpointEjectFailures() {
+		return endpointEjectFailures;
+	}
+
+	/**
+	 * @param endpointEjectFailures the number of consecutive failures which ejects an endpoint 
+	 * (when there are several), 0 or less to never eject
+	 */
+	public void setEndpointEjectFailures(int endpointEjectFailures) {
+		this.endpointEjectFailures = endpointEjectFailures;
+	}
+
+	public long getEndpointEjectTime() {
+		return endpointEjectTime;
+	}
+
+	/**
+	 * @param endpointEjectTime how long (milliseconds) an endpoint is ejected the first time, 
+	 * this doubles each time it is ejected again soon after it was readmitted
+	 */
+	public void setEndpointEjectTime(long endpointEjectTime) {
+		this.endpointEjectTime = endpointEjectTime;
+	}
+
+	public long getEndpointMaxEjectTime() {
+		return endpointMaxEjectTime;
+	}
+
+	/**
+	 * @param endpointMaxEjectTime the max time (milliseconds) an endpoint is ejected
+	 */
+	public void setEndpointMaxEjectTime(long endpointMaxEjectTime) {
+		this.endpointMaxEjectTime = endpointMaxEjectTime;
+	}
+
+	public long getEndpointRampTime() {
+		return endpointRampTime;
+	}
+
+	/**
+	 * @param endpointRampTime the time (milliseconds) a readmitted endpoint takes to get its full share of the requests back
+	 */
+	public void setEndpointRampTime(long endpointRampTime) {
+		this.endpointRampTime = endpointRampTime;
 	}
 
 	public Map<String, String> getParams() {
@@ -93,5 +285,731 @@ public class KalturaConfiguration {
 	public void setTimeout(int timeout) {
 		this.timeout = timeout;
 	}
+
+	/**
+	 * @param timeoutClass the class of the request
+	 * @return the socket timeout (milliseconds) for requests of the class, unless it is set the FAST timeout is 
+	 * at most 30 seconds, the NORMAL timeout is {@link #getTimeout()} and the UPLOAD timeout is at least 10 minutes
+	 */
+	public int getTimeout(EKalturaTimeoutClass timeoutClass) {
+		synchronized (classTimeouts) {
+			Integer classTimeout = classTimeouts.get(timeoutClass);
+			if (classTimeout != null) {
+				return classTimeout;
+			}
+		}
+		switch (timeoutClass) {
+			case FAST: return Math.min(timeout, 30000);
+			case UPLOAD: return Math.max(timeout, 600000);
+			default: return timeout;
+		}
+	}
+
+	/**
+	 * @param timeoutClass the class of the requests
+	 * @param timeout the socket timeout (milliseconds) for requests of the class, 0 or less to use the default
+	 */
+	public void setTimeout(EKalturaTimeoutClass timeoutClass, int timeout) {
+		synchronized (classTimeouts) {
+			if (timeout > 0) {
+				classTimeouts.put(timeoutClass, timeout);
+			} else {
+				classTimeouts.remove(timeoutClass);
+			}
+		}
+	}
+
+	/**
+	 * @param service the service name (e.g. baseentry)
+	 * @param action the action name (e.g. get)
+	 * @return the timeout class of a call without files, the get, count and ping actions are FAST
+	 * and all others are NORMAL unless they were set with {@link #setTimeoutClass(String, String, EKalturaTimeoutClass)}
+	 */
+	public EKalturaTimeoutClass getTimeoutClass(String service, String action) {
+		EKalturaTimeoutClass timeoutClass = actionTimeoutClasses.get(service + "." + action);
+		if (timeoutClass != null) {
+			return timeoutClass;
+		}
+		if ("get".equals(action) || "count".equals(action) || "ping".equals(action)) {
+			return EKalturaTimeoutClass.FAST;
+		}
+		return EKalturaTimeoutClass.NORMAL;
+	}
+
+	/**
+	 * @param service the service name (e.g. flavorasset)
+	 * @param action the action name (e.g. getWebPlayableByEntryId)
+	 * @param timeoutClass the timeout class for the action, null to use the default one
+	 */
+	public void setTimeoutClass(String service, String action, EKalturaTimeoutClass timeoutClass) {
+		if (timeoutClass == null) {
+			actionTimeoutClasses.remove(service + "." + action);
+		} else {
+			actionTimeoutClasses.put(service + "." + action, timeoutClass);
+		}
+	}
+
+	public boolean isAdaptiveTimeouts() {
+		return adaptiveTimeouts;
+	}
+
+	/**
+	 * @param adaptiveTimeouts if true then the socket timeout of the FAST calls follows the recent latencies 
+	 * (see {@link KalturaLatencyTracker#getAdaptiveTimeout(EKalturaTimeoutClass, int)}), 
+	 * the timeout of the class is then the max, default false
+	 */
+	public void setAdaptiveTimeouts(boolean adaptiveTimeouts) {
+		this.adaptiveTimeouts = adaptiveTimeouts;
+	}
+
+	/**
+	 * @return the latencies of the requests made using this configuration
+	 */
+	public KalturaLatencyTracker getLatencyTracker() {
+		return latencyTracker;
+	}
+
+	/**
+	 * @param service the service name (e.g. baseentry)
+	 * @param action the action name (e.g. list)
+	 * @return how safe it is to repeat the call, the get, list, count, search and ping actions are READ,
+	 * the update, delete, set, upload and session start actions are IDEMPOTENT_WRITE and all others are 
+	 * NON_IDEMPOTENT_WRITE unless they were set with {@link #setRetryClass(String, String, EKalturaRetryClass)}
+	 */
+	public EKalturaRetryClass getRetryClass(String service, String action) {
+		EKalturaRetryClass retryClass = actionRetryClasses.get(service + "." + action);
+		if (retryClass != null) {
+			return retryClass;
+		}
+		if (action.startsWith("get") || action.startsWith("list") || action.startsWith("search") 
+				|| "count".equals(action) || "ping".equals(action)) {
+			return EKalturaRetryClass.READ;
+		}
+		if (action.startsWith("update") || action.startsWith("delete") || action.startsWith("set") 
+				|| "upload".equals(action) || ("session".equals(service) && "start".equals(action))) {
+			return EKalturaRetryClass.IDEMPOTENT_WRITE;
+		}
+		return EKalturaRetryClass.NON_IDEMPOTENT_WRITE;
+	}
+
+	/**
+	 * @param service the service name (e.g. media)
+	 * @param action the action name (e.g. addFromUploadedFile)
+	 * @param retryClass how safe it is to repeat the action, null to use the default one
+	 */
+	public void setRetryClass(String service, String action, EKalturaRetryClass retryClass) {
+		if (retryClass == null) {
+			actionRetryClasses.remove(service + "." + action);
+		} else {
+			actionRetryClasses.put(service + "." + action, retryClass);
+		}
+	}
+
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @param maxRetries the max number of times a failed call is repeated, 0 to never retry.
+	 * Calls which never reached the server are always retried, transport failures and the 
+	 * {@link #getRetryableErrorCodes() retryable api errors} are only retried for the READ and IDEMPOTENT_WRITE calls
+	 */
+	public void setMaxRetries(int maxRetries) {
+		this.maxRetries = maxRetries;
+	}
+
+	public long getRetryBaseDelay() {
+		return retryBaseDelay;
+	}
+
+	/**
+	 * @param retryBaseDelay the max delay (milliseconds) before the first retry, it doubles for each retry 
+	 * and the actual delay is a random part of it (so retries from many threads are spread out)
+	 */
+	public void setRetryBaseDelay(long retryBaseDelay) {
+		this.retryBaseDelay = retryBaseDelay;
+	}
+
+	public long getRetryMaxDelay() {
+		return retryMaxDelay;
+	}
+
+	/**
+	 * @param retryMaxDelay the max delay (milliseconds) before any retry
+	 */
+	public void setRetryMaxDelay(long retryMaxDelay) {
+		this.retryMaxDelay = retryMaxDelay;
+	}
+
+	/**
+	 * @return the kaltura api error codes which mean the call can be tried again (the set can be changed)
+	 */
+	public Set<String> getRetryableErrorCodes() {
+		return retryableErrorCodes;
+	}
+
+	public long getRetrySpoolMemoryThreshold() {
+		return retrySpoolMemoryThreshold;
+	}
+
+	/**
+	 * @param retrySpoolMemoryThreshold uploads from streams up to this size (bytes) are copied in memory so they
+	 * can be sent again, larger ones are copied to a temporary file (once that much has been read, 
+	 * see {@link KalturaUploadSpool})
+	 */
+	public void setRetrySpoolMemoryThreshold(long retrySpoolMemoryThreshold) {
+		this.retrySpoolMemoryThreshold = retrySpoolMemoryThreshold;
+	}
+
+	public long getRetrySpoolMaxSize() {
+		return retrySpoolMaxSize;
+	}
+
+	/**
+	 * @param retrySpoolMaxSize uploads from streams declared larger than this (bytes) are not copied, 
+	 * they are sent once and only retried if the connection could not be made, 
+	 * an upload which is declared smaller but turns out to be larger than this fails
+	 */
+	public void setRetrySpoolMaxSize(long retrySpoolMaxSize) {
+		this.retrySpoolMaxSize = retrySpoolMaxSize;
+	}
+
+	public File getRetrySpoolDirectory() {
+		return retrySpoolDirectory;
+	}
+
+	/**
+	 * @param retrySpoolDirectory the directory the uploads are copied to, null for the default temp directory
+	 */
+	public void setRetrySpoolDirectory(File retrySpoolDirectory) {
+		this.retrySpoolDirectory = retrySpoolDirectory;
+	}
+
+	public boolean isHedging() {
+		return hedging;
+	}
+
+	/**
+	 * @param hedging if true then a duplicate of a slow request for one of the {@link #getHedgedActions() hedged actions} 
+	 * is sent once it takes longer than the {@link #getHedgePercentile() latency percentile} and the first response is used,
+	 * the duplicates are sent from the {@link #getHedgeExecutorService() hedge executor}
+	 */
+	public void setHedging(boolean hedging) {
+		this.hedging = hedging;
+	}
+
+	/**
+	 * @return the read only actions (service.action) which can be hedged (the set can be changed)
+	 */
+	public Set<String> getHedgedActions() {
+		return hedgedActions;
+	}
+
+	/**
+	 * @param service the service name (e.g. baseentry)
+	 * @param action the action name (e.g. get)
+	 * @return true if requests for the action can be hedged
+	 */
+	public boolean isHedgedAction(String service, String action) {
+		return hedgedActions.contains(service + "." + action);
+	}
+
+	public int getHedgePercentile() {
+		return hedgePercentile;
+	}
+
+	/**
+	 * @param hedgePercentile the latency percentile (of the recent requests of the same timeout class) 
+	 * after which a request is hedged
+	 */
+	public void setHedgePercentile(int hedgePercentile) {
+		this.hedgePercentile = hedgePercentile;
+	}
+
+	public long getHedgeMinDelay() {
+		return hedgeMinDelay;
+	}
+
+	/**
+	 * @param hedgeMinDelay requests are never hedged before this (milliseconds)
+	 */
+	public void setHedgeMinDelay(long hedgeMinDelay) {
+		this.hedgeMinDelay = hedgeMinDelay;
+	}
+
+	public int getHedgeBudgetPercent() {
+		return hedgeBudgetPercent;
+	}
+
+	/**
+	 * @param hedgeBudgetPercent the max percentage of the hedgeable requests which are hedged,
+	 * must be set before the first call is made using this configuration
+	 */
+	public void setHedgeBudgetPercent(int hedgeBudgetPercent) {
+		this.hedgeBudgetPercent = hedgeBudgetPercent;
+	}
+
+	/**
+	 * @return the budget shared by all clients using this configuration (created on first use)
+	 */
+	public synchronized KalturaHedgeBudget getHedgeBudget() {
+		if (hedgeBudget == null) {
+			hedgeBudget = new KalturaHedgeBudget(hedgeBudgetPercent);
+		}
+		return hedgeBudget;
+	}
+
+	public boolean isCircuitBreakerEnabled() {
+		return circuitBreakerEnabled;
+	}
+
+	/**
+	 * @param circuitBreakerEnabled if true then calls fail fast while the endpoint is failing (see {@link KalturaCircuitBreaker})
+	 */
+	public void setCircuitBreakerEnabled(boolean circuitBreakerEnabled) {
+		this.circuitBreakerEnabled = circuitBreakerEnabled;
+	}
+
+	public int getCircuitBreakerWindow() {
+		return circuitBreakerWindow;
+	}
+
+	/**
+	 * @param circuitBreakerWindow the number of recent calls the failure and slow call rates are computed on,
+	 * must be set before the first call is made using this configuration (as must all the circuit breaker settings)
+	 */
+	public void setCircuitBreakerWindow(int circuitBreakerWindow) {
+		this.circuitBreakerWindow = circuitBreakerWindow;
+	}
+
+	public int getCircuitBreakerMinCalls() {
+		return circuitBreakerMinCalls;
+	}
+
+	/**
+	 * @param circuitBreakerMinCalls the min number of recent calls before the breaker can open
+	 */
+	public void setCircuitBreakerMinCalls(int circuitBreakerMinCalls) {
+		this.circuitBreakerMinCalls = circuitBreakerMinCalls;
+	}
+
+	public int getCircuitBreakerFailureRate() {
+		return circuitBreakerFailureRate;
+	}
+
+	/**
+	 * @param circuitBreakerFailureRate the percentage of failed calls (transport errors, server errors
+	 * and unreadable responses, but not kaltura api errors) which opens the breaker
+	 */
+	public void setCircuitBreakerFailureRate(int circuitBreakerFailureRate) {
+		this.circuitBreakerFailureRate = circuitBreakerFailureRate;
+	}
+
+	public int getCircuitBreakerSlowCallRate() {
+		return circuitBreakerSlowCallRate;
+	}
+
+	/**
+	 * @param circuitBreakerSlowCallRate the percentage of slow calls which opens the breaker, 0 or less to ignore latency
+	 */
+	public void setCircuitBreakerSlowCallRate(int circuitBreakerSlowCallRate) {
+		this.circuitBreakerSlowCallRate = circuitBreakerSlowCallRate;
+	}
+
+	public long getCircuitBreakerSlowCallTime() {
+		return circuitBreakerSlowCallTime;
+	}
+
+	/**
+	 * @param circuitBreakerSlowCallTime calls which take longer than this (milliseconds) are slow
+	 */
+	public void setCircuitBreakerSlowCallTime(long circuitBreakerSlowCallTime) {
+		this.circuitBreakerSlowCallTime = circuitBreakerSlowCallTime;
+	}
+
+	public long getCircuitBreakerOpenDuration() {
+		return circuitBreakerOpenDuration;
+	}
+
+	/**
+	 * @param circuitBreakerOpenDuration how long (milliseconds) calls fail fast before a trial call is allowed
+	 */
+	public void setCircuitBreakerOpenDuration(long circuitBreakerOpenDuration) {
+		this.circuitBreakerOpenDuration = circuitBreakerOpenDuration;
+	}
+
+	/**
+	 * @param endpoint the endpoint url
+	 * @return the circuit breaker of the endpoint (created on first use)
+	 */
+	public KalturaCircuitBreaker getCircuitBreaker(String endpoint) {
+		synchronized (circuitBreakers) {
+			KalturaCircuitBreaker breaker = circuitBreakers.get(endpoint);
+			if (breaker == null) {
+				breaker = new KalturaCircuitBreaker(endpoint, this);
+				// no requests are sent to an endpoint while its breaker is open (if there are others)
+				breaker.addListener(new KalturaCircuitBreaker.Listener() {
+					public void stateChanged(KalturaCircuitBreaker breaker, EKalturaCircuitState from, EKalturaCircuitState to) {
+						if (to == EKalturaCircuitState.OPEN) {
+							getEndpointBalancer().eject(breaker.getEndpoint(), circuitBreakerOpenDuration);
+						}
+					}
+				});
+				for (KalturaCircuitBreaker.Listener listener : circuitBreakerListeners) {
+					breaker.addListener(listener);
+				}
+				circuitBreakers.put(endpoint, breaker);
+			}
+			return breaker;
+		}
+	}
+
+	/**
+	 * @return the circuit breakers of the endpoints called so far (for metrics)
+	 */
+	public Collection<KalturaCircuitBreaker> getCircuitBreakers() {
+		synchronized (circuitBreakers) {
+			return new ArrayList<KalturaCircuitBreaker>(circuitBreakers.values());
+		}
+	}
+
+	/**
+	 * @param listener notified of the state transitions of all the circuit breakers (current and future ones)
+	 */
+	public void addCircuitBreakerListener(KalturaCircuitBreaker.Listener listener) {
+		synchronized (circuitBreakers) {
+			circuitBreakerListeners.add(listener);
+			for (KalturaCircuitBreaker breaker : circuitBreakers.values()) {
+				breaker.addListener(listener);
+			}
+		}
+	}
+	
+	public int getMaxConnectionsPerHost() {
+		return maxConnectionsPerHost;
+	}
+
+	/**
+	 * @param maxConnectionsPerHost the max number of pooled connections to a single host,
+	 * must be set before the first call is made using this configuration
+	 */
+	public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+	}
+
+	public int getMaxTotalConnections() {
+		return maxTotalConnections;
+	}
+
+	/**
+	 * @param maxTotalConnections the max number of pooled connections (all hosts),
+	 * must be set before the first call is made using this configuration
+	 */
+	public void setMaxTotalConnections(int maxTotalConnections) {
+		this.maxTotalConnections = maxTotalConnections;
+	}
+
+	public int getIdleConnectionTimeout() {
+		return idleConnectionTimeout;
+	}
+
+	/**
+	 * @param idleConnectionTimeout milliseconds a pooled connection can stay unused before it is closed,
+	 * must be set before the first call is made using this configuration
+	 */
+	public void setIdleConnectionTimeout(int idleConnectionTimeout) {
+		this.idleConnectionTimeout = idleConnectionTimeout;
+	}
+
+	public long getMaxResponseSize() {
+		return maxResponseSize;
+	}
+
+	/**
+	 * @param maxResponseSize the max number of bytes allowed in a single response, 
+	 * larger responses fail instead of being decoded, 0 or less for no limit
+	 */
+	public void setMaxResponseSize(long maxResponseSize) {
+		this.maxResponseSize = maxResponseSize;
+	}
+
+	public EKalturaParserEngine getParserEngine() {
+		return parserEngine;
+	}
+
+	/**
+	 * @param parserEngine the engine used to decode the responses (DOM by default),
+	 * can be changed at any time and applies to the next response
+	 */
+	public void setParserEngine(EKalturaParserEngine parserEngine) {
+		this.parserEngine = parserEngine == null ? EKalturaParserEngine.DOM : parserEngine;
+	}
+
+	public boolean isLazyListResponses() {
+		return lazyListResponses;
+	}
+
+	/**
+	 * @param lazyListResponses if true then the entries of list responses (and other arrays) are only decoded 
+	 * when they are first accessed (see {@link KalturaLazyList}), this only applies to the DOM parser engine
+	 * (the streaming engines never keep the response around)
+	 */
+	public void setLazyListResponses(boolean lazyListResponses) {
+		this.lazyListResponses = lazyListResponses;
+	}
+
+	public int getParallelDecodeThreshold() {
+		return parallelDecodeThreshold;
+	}
+
+	/**
+	 * @param parallelDecodeThreshold the number of objects in a list response (or results in a multirequest) 
+	 * from which they are decoded in parallel on the {@link #getDecodeExecutorService() decode executor}, 
+	 * the results keep their order, 0 or less to always decode on the calling thread (the default).
+	 * This only applies to the DOM parser engine (the streaming engines decode while reading)
+	 * and custom object creators must then be threadsafe
+	 */
+	public void setParallelDecodeThreshold(int parallelDecodeThreshold) {
+		this.parallelDecodeThreshold = parallelDecodeThreshold;
+	}
+
+	public EKalturaStringPoolScope getStringPoolScope() {
+		return stringPoolScope;
+	}
+
+	/**
+	 * @param stringPoolScope if the string values repeated in the responses (ids, tags, etc.) are deduplicated
+	 * within each response or across all the responses of a client (see {@link KalturaStringPool}), 
+	 * NONE (the default) to keep every value as a separate string
+	 */
+	public void setStringPoolScope(EKalturaStringPoolScope stringPoolScope) {
+		this.stringPoolScope = stringPoolScope == null ? EKalturaStringPoolScope.NONE : stringPoolScope;
+	}
+
+	public int getStringPoolSize() {
+		return stringPoolSize;
+	}
+
+	/**
+	 * @param stringPoolSize the max number of distinct strings held by a string pool,
+	 * must be set before the first call is made using this configuration
+	 */
+	public void setStringPoolSize(int stringPoolSize) {
+		this.stringPoolSize = stringPoolSize;
+	}
+
+	/**
+	 * @return the connection pool shared by all clients using this configuration (created on first use)
+	 * @throws IllegalStateException if this configuration has been shut down
+	 */
+	public synchronized KalturaConnectionPool getConnectionPool() {
+		if (shutdown) {
+			throw new IllegalStateException("Kaltura configuration has been shut down");
+		}
+		if (connectionPool == null) {
+			connectionPool = new KalturaConnectionPool(this);
+		}
+		return connectionPool;
+	}
+
+	/**
+	 * @return the executor used to run the async client calls (a default one is created on first use
+	 * which runs up to {@link #getMaxConnectionsPerHost()} calls at once)
+	 */
+	public synchronized ExecutorService getExecutorService() {
+		if (executorService == null) {
+			final AtomicInteger threadCount = new AtomicInteger();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConnectionsPerHost, maxConnectionsPerHost, 
+					60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "KalturaAsyncCall-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			executor.allowCoreThreadTimeOut(true);
+			executorService = executor;
+			defaultExecutorService = true;
+		}
+		return executorService;
+	}
+
+	/**
+	 * Allows the executor for async calls to be replaced (e.g. by a container managed pool
+	 * or an executor that starts a virtual thread per task on JVMs which support it),
+	 * an executor set here is NOT shutdown by {@link #shutdown()}
+	 * 
+	 * @param executorService the executor to run async calls with, null to use the default one
+	 */
+	public synchronized void setExecutorService(ExecutorService executorService) {
+		if (defaultExecutorService && this.executorService != null) {
+			this.executorService.shutdown();
+		}
+		this.executorService = executorService;
+		defaultExecutorService = false;
+	}
+
+	/**
+	 * @return the executor used to decode large responses in parallel (a default one is created on first use
+	 * which has a thread per available processor)
+	 */
+	public synchronized ExecutorService getDecodeExecutorService() {
+		if (decodeExecutorService == null) {
+			final AtomicInteger threadCount = new AtomicInteger();
+			int processors = Runtime.getRuntime().availableProcessors();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(processors, processors, 
+					60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "KalturaDecoder-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			executor.allowCoreThreadTimeOut(true);
+			decodeExecutorService = executor;
+			defaultDecodeExecutorService = true;
+		}
+		return decodeExecutorService;
+	}
+
+	/**
+	 * Allows the executor for parallel decoding to be replaced (it can be shared with other work,
+	 * the calling thread always takes part in the decoding so it never waits on queued tasks),
+	 * an executor set here is NOT shutdown by {@link #shutdown()}
+	 * 
+	 * @param decodeExecutorService the executor to decode with, null to use the default one
+	 */
+	public synchronized void setDecodeExecutorService(ExecutorService decodeExecutorService) {
+		if (defaultDecodeExecutorService && this.decodeExecutorService != null) {
+			this.decodeExecutorService.shutdown();
+		}
+		this.decodeExecutorService = decodeExecutorService;
+		defaultDecodeExecutorService = false;
+	}
+
+	/**
+	 * @return the executor which sends the duplicates of hedged requests, a task is only given to it once the duplicate 
+	 * is actually sent (a default one is created on first use which starts up to {@link #getMaxConnectionsPerHost()} 
+	 * threads as needed and stops them when they are idle, a request is not hedged when they are all busy)
+	 */
+	public synchronized ExecutorService getHedgeExecutorService() {
+		if (hedgeExecutorService == null) {
+			final AtomicInteger threadCount = new AtomicInteger();
+			hedgeExecutorService = new ThreadPoolExecutor(0, maxConnectionsPerHost, 
+					60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactory() {
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "KalturaHedgedCall-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			defaultHedgeExecutorService = true;
+		}
+		return hedgeExecutorService;
+	}
+
+	/**
+	 * @return the single thread which waits out the hedge delay of the hedged requests (so no thread is held
+	 * for the requests which complete in time), created on first use
+	 */
+	synchronized ScheduledExecutorService getHedgeTimer() {
+		if (hedgeTimer == null) {
+			hedgeTimer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "KalturaHedgeTimer");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return hedgeTimer;
+	}
+
+	/**
+	 * Allows the executor for the duplicates of hedged requests to be replaced, it must not be used by tasks which make 
+	 * kaltura calls themselves (the callers wait on it), an executor set here is NOT shutdown by {@link #shutdown()}
+	 * 
+	 * @param hedgeExecutorService the executor to send the duplicates with, null to use the default one
+	 */
+	public synchronized void setHedgeExecutorService(ExecutorService hedgeExecutorService) {
+		if (defaultHedgeExecutorService && this.hedgeExecutorService != null) {
+			this.hedgeExecutorService.shutdown();
+		}
+		this.hedgeExecutorService = hedgeExecutorService;
+		defaultHedgeExecutorService = false;
+	}
+
+	/**
+	 * Closes the shared connection pool and the default executors (if they were created),
+	 * calls made with this configuration afterwards fail
+	 */
+	public synchronized void shutdown() {
+		shutdown = true;
+		if (connectionPool != null) {
+			connectionPool.shutdown();
+			connectionPool = null;
+		}
+		if (defaultExecutorService && executorService != null) {
+			executorService.shutdown();
+			executorService = null;
+			defaultExecutorService = false;
+		}
+		if (defaultDecodeExecutorService && decodeExecutorService != null) {
+			decodeExecutorService.shutdown();
+			decodeExecutorService = null;
+			defaultDecodeExecutorService = false;
+		}
+		if (defaultHedgeExecutorService && hedgeExecutorService != null) {
+			hedgeExecutorService.shutdown();
+			hedgeExecutorService = null;
+			defaultHedgeExecutorService = false;
+		}
+		if (hedgeTimer != null) {
+			hedgeTimer.shutdown();
+			hedgeTimer = null;
+		}
+	}
+
+	/**
+	 * Waits for the calls which are being made with this configuration to complete (their retries included)
+	 * and then shuts it down like {@link #shutdown()}, calls can still be made while it waits, 
+	 * e.g. to replace a configuration without breaking the calls (and uploads) which were started with it
+	 * 
+	 * @param drainTimeout the max milliseconds to wait for the calls, the calls still running then are cut off
+	 * @return true if no call was running anymore when it was shut down
+	 * @throws InterruptedException if interrupted while waiting (it is not shut down then)
+	 */
+	public boolean shutdown(long drainTimeout) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + drainTimeout;
+		long wait;
+		while (activeCalls.get() > 0 && (wait = deadline - System.currentTimeMillis()) > 0) {
+			Thread.sleep(Math.min(100, wait));
+		}
+		boolean drained = activeCalls.get() == 0;
+		shutdown();
+		return drained;
+	}
+
+	/**
+	 * @return the number of calls being made with this configuration
+	 */
+	public int getActiveCalls() {
+		return activeCalls.get();
+	}
+
+	void callStarted() {
+		activeCalls.incrementAndGet();
+	}
+
+	void callFinished() {
+		activeCalls.decrementAndGet();
+	}
+
+	/**
+	 * @return true if {@link #shutdown()} has been called
+	 */
+	public synchronized boolean isShutdown() {
+		return shutdown;
+	}
 	
 }
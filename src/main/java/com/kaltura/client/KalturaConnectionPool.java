@@ -0,0 +1,186 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.httpclient.ConnectionPoolTimeoutException;
+import org.apache.commons.httpclient.HostConfiguration;
+import org.apache.commons.httpclient.HttpClient;
+import org.apache.commons.httpclient.HttpConnection;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
+import org.apache.commons.httpclient.ProxyHost;
+import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
+import org.apache.commons.httpclient.params.HttpMethodParams;
+import org.apache.commons.httpclient.util.IdleConnectionTimeoutThread;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A shared pool of keep-alive HTTP connections to the Kaltura endpoint.
+ * One pool is owned by each {@link KalturaConfiguration} and it is reused by every
+ * {@link KalturaClient} created from that configuration so that calls do not pay for a new
+ * TCP connection (and TLS handshake) each time.
+ *
+ * Idle connections are evicted by a background thread once they have been unused for
+ * {@link KalturaConfiguration#getIdleConnectionTimeout()} milliseconds.
+ */
+public class KalturaConnectionPool {
+
+    private static Logger logger = LoggerFactory.getLogger(KalturaConnectionPool.class);
+
+    private static final String UTF8_CHARSET = "UTF-8";
+
+    private final CountingConnectionManager connectionManager;
+    private final HttpClient httpClient;
+    private final IdleConnectionTimeoutThread idleConnectionThread;
+
+    /**
+     * Create a connection pool using the settings in the given configuration
+     * @param config the kaltura configuration (must not be null)
+     */
+    public KalturaConnectionPool(KalturaConfiguration config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config must be set");
+        }
+        this.connectionManager = new CountingConnectionManager();
+        HttpConnectionManagerParams connParams = this.connectionManager.getParams();
+        connParams.setDefaultMaxConnectionsPerHost(config.getMaxConnectionsPerHost());
+        connParams.setMaxTotalConnections(config.getMaxTotalConnections());
+        connParams.setSoTimeout(config.getTimeout());
+        connParams.setStaleCheckingEnabled(true);
+
+        this.httpClient = new HttpClient(this.connectionManager);
+        // added by Unicon to handle proxy hosts
+        String proxyHost = System.getProperty( "http.proxyHost" );
+        if ( proxyHost != null ) {
+            int proxyPort = -1;
+            String proxyPortStr = System.getProperty( "http.proxyPort" );
+            if (proxyPortStr != null) {
+                try {
+                    proxyPort = Integer.parseInt( proxyPortStr );
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid number for system property http.proxyPort ("+proxyPortStr+"), using default port instead");
+                }
+            }
+            ProxyHost proxy = new ProxyHost( proxyHost, proxyPort );
+            this.httpClient.getHostConfiguration().setProxyHost( proxy );
+        }
+        // added by Unicon to force encoding to UTF-8
+        this.httpClient.getParams().setParameter(HttpMethodParams.HTTP_CONTENT_CHARSET, UTF8_CHARSET);
+        this.httpClient.getParams().setParameter(HttpMethodParams.HTTP_ELEMENT_CHARSET, UTF8_CHARSET);
+        this.httpClient.getParams().setParameter(HttpMethodParams.HTTP_URI_CHARSET, UTF8_CHARSET);
+
+        this.idleConnectionThread = new IdleConnectionTimeoutThread();
+        this.idleConnectionThread.setName("KalturaIdleConnectionEvictor");
+        this.idleConnectionThread.setConnectionTimeout(config.getIdleConnectionTimeout());
+        this.idleConnectionThread.setTimeoutInterval(Math.max(1000, config.getIdleConnectionTimeout() / 2));
+        this.idleConnectionThread.addConnectionManager(this.connectionManager);
+        this.idleConnectionThread.start();
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Created kaltura connection pool: maxPerHost=" + config.getMaxConnectionsPerHost()
+                    + ", maxTotal=" + config.getMaxTotalConnections()
+                    + ", idleTimeout=" + config.getIdleConnectionTimeout());
+        }
+    }
+
+    /**
+     * @return the shared (threadsafe) http client which uses this pool
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * @return the number of connections currently leased to an executing call
+     */
+    public int getLeasedConnections() {
+        return connectionManager.leased.get();
+    }
+
+    /**
+     * @return the number of open connections waiting in the pool to be reused
+     */
+    public int getIdleConnections() {
+        return Math.max(0, connectionManager.getConnectionsInPool() - connectionManager.leased.get());
+    }
+
+    /**
+     * @return the number of calls currently blocked waiting for a connection to become available
+     */
+    public int getPendingConnections() {
+        return connectionManager.pending.get();
+    }
+
+    /**
+     * @return the total number of open connections (leased and idle)
+     */
+    public int getTotalConnections() {
+        return connectionManager.getConnectionsInPool();
+    }
+
+    /**
+     * Closes all connections which have been idle for longer than the given time
+     * @param idleTimeout the idle time in milliseconds
+     */
+    public void closeIdleConnections(long idleTimeout) {
+        connectionManager.closeIdleConnections(idleTimeout);
+    }
+
+    /**
+     * Closes all connections and stops the idle eviction thread,
+     * this pool cannot be used after it is shutdown
+     */
+    public void shutdown() {
+        idleConnectionThread.shutdown();
+        connectionManager.shutdown();
+        logger.debug("Shutdown kaltura connection pool: " + this);
+    }
+
+    @Override
+    public String toString() {
+        return "KalturaConnectionPool[leased=" + getLeasedConnections() + ", idle=" + getIdleConnections()
+                + ", pending=" + getPendingConnections() + ", total=" + getTotalConnections() + "]";
+    }
+
+    /**
+     * Tracks the connections which are leased out and the callers waiting for one
+     */
+    private static class CountingConnectionManager extends MultiThreadedHttpConnectionManager {
+        final AtomicInteger leased = new AtomicInteger();
+        final AtomicInteger pending = new AtomicInteger();
+
+        @Override
+        public HttpConnection getConnectionWithTimeout(HostConfiguration hostConfiguration, long timeout)
+                throws ConnectionPoolTimeoutException {
+            pending.incrementAndGet();
+            try {
+                HttpConnection connection = super.getConnectionWithTimeout(hostConfiguration, timeout);
+                leased.incrementAndGet();
+                return connection;
+            } finally {
+                pending.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void releaseConnection(HttpConnection conn) {
+            super.releaseConnection(conn);
+            leased.decrementAndGet();
+        }
+    }
+
+}
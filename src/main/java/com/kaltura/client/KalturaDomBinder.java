@@ -0,0 +1,328 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import com.kaltura.client.KalturaObjectBinding.FieldBinding;
+import com.kaltura.client.utils.XmlUtils;
+
+/**
+ * Decodes kaltura objects from DOM elements using the cached {@link KalturaObjectBinding}s,
+ * each object is decoded in a single pass over its child elements and text is only read for scalar fields.
+ *
+ * Optionally the arrays can be decoded lazily (see {@link KalturaLazyList}) and the elements of the arrays
+ * (e.g. the objects of a list response) can be limited to a projection of their fields.
+ * Large arrays and multirequest results can also be decoded in parallel, the calling thread takes part
+ * in the decoding (so a busy executor only means less parallelism) and the order of the results is kept.
+ */
+public class KalturaDomBinder {
+
+    /**
+     * Decodes everything eagerly
+     */
+    public static final KalturaDomBinder DEFAULT = new KalturaDomBinder(false, null);
+
+    private final boolean lazyLists;
+    private final Set<String> projection;
+    private final ExecutorService executor;
+    private final int parallelThreshold;
+    private final int parallelism;
+    private final KalturaStringPool stringPool;
+
+    /**
+     * @param lazyLists if true then array fields are decoded on first access to each element
+     * @param projection the only fields to decode for the elements of arrays, null to decode all fields
+     */
+    public KalturaDomBinder(boolean lazyLists, Set<String> projection) {
+        this(lazyLists, projection, null, 0, null);
+    }
+
+    /**
+     * @param lazyLists if true then array fields are decoded on first access to each element
+     * @param projection the only fields to decode for the elements of arrays, null to decode all fields
+     * @param executor the executor to decode large arrays with, null to always decode on the calling thread
+     * @param parallelThreshold the number of elements from which an array (or the results of a multirequest)
+     * is decoded in parallel, 0 or less to never decode in parallel
+     * @param stringPool the pool to deduplicate the string values with, null to keep them as they are
+     */
+    public KalturaDomBinder(boolean lazyLists, Set<String> projection, ExecutorService executor, int parallelThreshold, 
+            KalturaStringPool stringPool) {
+        this(lazyLists, projection, executor, parallelThreshold, Runtime.getRuntime().availableProcessors(), stringPool);
+    }
+
+    /**
+     * @param parallelism the max number of threads (the calling one included) which decode an array
+     */
+    KalturaDomBinder(boolean lazyLists, Set<String> projection, ExecutorService executor, int parallelThreshold, 
+            int parallelism, KalturaStringPool stringPool) {
+        this.lazyLists = lazyLists;
+        this.projection = projection;
+        this.executor = executor;
+        this.parallelThreshold = parallelThreshold;
+        this.parallelism = Math.max(1, parallelism);
+        this.stringPool = stringPool;
+    }
+
+    /**
+     * Decodes the objects in a result element and attaches them to it (so the services pick them up
+     * through the {@link KalturaObjectFactory}), this handles single objects and the items of
+     * multirequest and array results
+     *
+     * @param result the result (or result item) element
+     * @throws KalturaApiException if any object cannot be decoded
+     */
+    public void bindResult(Element result) throws KalturaApiException {
+        if (KalturaObjectBinding.getBoundObject(result) != null) {
+            return;
+        }
+        Element first = firstChildElement(result);
+        if (first == null) {
+            // scalar value
+            return;
+        }
+        String name = first.getNodeName();
+        if (KalturaObjectBinding.OBJECT_TYPE.equals(name)) {
+            result.setUserData(KalturaObjectBinding.BOUND_OBJECT_KEY, decode(result, null, null, projection), null);
+        } else if ("item".equals(name)) {
+            List<Element> objectItems = new ArrayList<Element>();
+            for (Node node = first; node != null; node = node.getNextSibling()) {
+                if (node.getNodeType() != Node.ELEMENT_NODE) {
+                    continue;
+                }
+                Element item = (Element) node;
+                Element itemFirst = firstChildElement(item);
+                if (itemFirst != null && KalturaObjectBinding.OBJECT_TYPE.equals(itemFirst.getNodeName())
+                        && KalturaObjectBinding.getBoundObject(item) == null) {
+                    objectItems.add(item);
+                } else {
+                    bindResult(item);
+                }
+            }
+            // the objects are attached on this thread, the DOM must not be modified while it is read in parallel
+            Object[] objects = decodeAll(objectItems, null, null, projection);
+            for (int i = 0; i < objects.length; i++) {
+                objectItems.get(i).setUserData(KalturaObjectBinding.BOUND_OBJECT_KEY, objects[i], null);
+            }
+        }
+        // anything else (e.g. error) is left as is
+    }
+
+    /**
+     * Decode an object
+     *
+     * @param element the element holding the object
+     * @param declaredType the type to use if the element has no objectType (null if there is no default)
+     * @return the decoded object OR null if the element is empty
+     * @throws KalturaApiException if the object cannot be decoded
+     */
+    public Object decode(Element element, Class<?> declaredType) throws KalturaApiException {
+        return decode(element, declaredType, null, projection);
+    }
+
+    /**
+     * Decode an object from its element
+     * @param fields the fields to decode on this object, null for all
+     * @param itemFields the fields to decode on the elements of arrays below this object, null for all
+     */
+    Object decode(Element element, Class<?> declaredType, Set<String> fields, Set<String> itemFields) throws KalturaApiException {
+        Element objectTypeElement = XmlUtils.getChildElement(element, KalturaObjectBinding.OBJECT_TYPE);
+        Class<?> type = declaredType;
+        if (objectTypeElement != null) {
+            String objectType = objectTypeElement.getTextContent();
+            if (KalturaObjectFactory.isRegistered(objectType) && KalturaObjectFactory.getRegisteredType(objectType) == null) {
+                // custom creator, it decodes the element itself
+                return KalturaObjectFactory.create(element);
+            }
+            type = KalturaObjectBinding.getObjectClass(objectType);
+        } else if (declaredType == null) {
+            throw new KalturaApiException("Invalid object: no objectType in element " + element.getNodeName());
+        } else if (firstChildElement(element) == null) {
+            return null;
+        }
+        KalturaObjectBinding binding = KalturaObjectBinding.get(type);
+        Object object = binding.newInstance();
+        fill(binding, object, element, fields, itemFields);
+        return object;
+    }
+
+    /**
+     * Decodes the fields of an element into an existing object (this is what the generated
+     * Element constructors use), all the fields of the type including the inherited ones
+     * are decoded in a single pass over the child elements
+     *
+     * @param target the object to fill
+     * @param type the type whose fields (and inherited fields) should be decoded
+     * @param element the element holding the object
+     * @throws KalturaApiException if a nested object cannot be decoded
+     */
+    public void fill(Object target, Class<?> type, Element element) throws KalturaApiException {
+        fill(KalturaObjectBinding.get(type), target, element, null, projection);
+    }
+
+    private void fill(KalturaObjectBinding binding, Object object, Element element, 
+            Set<String> fields, Set<String> itemFields) throws KalturaApiException {
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+            String name = node.getNodeName();
+            if (fields != null && ! fields.contains(name)) {
+                continue;
+            }
+            FieldBinding field = binding.getField(name);
+            if (field == null) {
+                // objectType or a field this client version does not know about
+                continue;
+            }
+            if (field.isScalar()) {
+                field.setText(object, node.getTextContent(), stringPool);
+            } else if (field.getKind() == KalturaObjectBinding.KIND_OBJECT) {
+                field.set(object, decode((Element) node, field.getValueType(), null, fields == null ? itemFields : null));
+            } else {
+                field.set(object, decodeArray((Element) node, field.getValueType(), fields == null ? itemFields : null));
+            }
+        }
+    }
+
+    private List<Object> decodeArray(Element arrayElement, Class<?> elementType, Set<String> itemFields) throws KalturaApiException {
+        List<Element> items = new ArrayList<Element>();
+        for (Node node = arrayElement.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                items.add((Element) node);
+            }
+        }
+        if (lazyLists) {
+            return new KalturaLazyList<Object>(this, items, elementType, itemFields);
+        }
+        Object[] objects = decodeAll(items, elementType, itemFields, null);
+        List<Object> list = new ArrayList<Object>(objects.length);
+        for (Object object : objects) {
+            list.add(object);
+        }
+        return list;
+    }
+
+    /**
+     * Decodes a list of objects, in parallel if there are enough of them
+     * @return the objects in the same order as the elements
+     */
+    private Object[] decodeAll(List<Element> elements, Class<?> declaredType, Set<String> fields, Set<String> itemFields) throws KalturaApiException {
+        if (executor != null && parallelThreshold > 0 && elements.size() >= parallelThreshold) {
+            return new ParallelDecode(elements, declaredType, fields, itemFields).execute();
+        }
+        Object[] objects = new Object[elements.size()];
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = decode(elements.get(i), declaredType, fields, itemFields);
+        }
+        return objects;
+    }
+
+    /**
+     * Splits the elements into chunks which the calling thread and the executor threads take in turn,
+     * the caller only waits for chunks which are already being decoded so this cannot deadlock on
+     * a busy (or shared) executor
+     */
+    private class ParallelDecode implements Runnable {
+        private final List<Element> elements;
+        private final Class<?> declaredType;
+        private final Set<String> fields;
+        private final Set<String> itemFields;
+        private final Object[] objects;
+        private final int chunkSize;
+        private final int chunkCount;
+        private final AtomicInteger nextChunk = new AtomicInteger();
+        private final CountDownLatch done;
+        private volatile Throwable failure;
+
+        ParallelDecode(List<Element> elements, Class<?> declaredType, Set<String> fields, Set<String> itemFields) {
+            this.elements = elements;
+            this.declaredType = declaredType;
+            this.fields = fields;
+            this.itemFields = itemFields;
+            this.objects = new Object[elements.size()];
+            // a few chunks per thread so uneven objects still spread out
+            this.chunkSize = Math.max(1, (objects.length + parallelism * 4 - 1) / (parallelism * 4));
+            this.chunkCount = (objects.length + chunkSize - 1) / chunkSize;
+            this.done = new CountDownLatch(chunkCount);
+        }
+
+        Object[] execute() throws KalturaApiException {
+            int helpers = Math.min(chunkCount, parallelism) - 1;
+            for (int i = 0; i < helpers; i++) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // executor is shutdown or full, the calling thread does the rest
+                    break;
+                }
+            }
+            run();
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KalturaApiException("Interrupted while decoding the response");
+            }
+            if (failure instanceof KalturaApiException) {
+                throw (KalturaApiException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            return objects;
+        }
+
+        public void run() {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                try {
+                    if (failure == null) {
+                        int end = Math.min(objects.length, (chunk + 1) * chunkSize);
+                        for (int i = chunk * chunkSize; i < end; i++) {
+                            objects[i] = decode(elements.get(i), declaredType, fields, itemFields);
+                        }
+                    }
+                } catch (Throwable t) {
+                    if (failure == null) {
+                        failure = t;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }
+        }
+    }
+
+    private static Element firstChildElement(Element element) {
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                return (Element) node;
+            }
+        }
+        return null;
+    }
+
+}
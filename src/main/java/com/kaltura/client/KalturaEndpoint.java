@@ -0,0 +1,172 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One of the kaltura api endpoints requests are spread across, this tracks the requests in progress 
+ * and the recent failures so a failing endpoint can be ejected and then slowly readmitted.
+ * This is threadsafe.
+ */
+public class KalturaEndpoint {
+
+    private final String url;
+    private final int weight;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    // health, guarded by this
+    private int consecutiveFailures = 0;
+    private int consecutiveEjections = 0;
+    private long ejectedUntil = 0;
+    private long requests = 0;
+    private long failures = 0;
+    private long ejections = 0;
+
+    /**
+     * @param url the endpoint url (e.g. http://kaltura1.example.edu)
+     * @param weight the share of the requests this endpoint gets relative to the others (at least 1)
+     */
+    public KalturaEndpoint(String url, int weight) {
+        if (url == null || "".equals(url)) {
+            throw new IllegalArgumentException("url must be set");
+        }
+        this.url = url;
+        this.weight = Math.max(1, weight);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return the number of requests in progress on this endpoint
+     */
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * @return true if the endpoint is currently ejected (no requests are sent to it unless all are ejected)
+     */
+    public synchronized boolean isEjected(long now) {
+        return now < ejectedUntil;
+    }
+
+    synchronized long getEjectedUntil() {
+        return ejectedUntil;
+    }
+
+    /**
+     * @param rampTime the time (milliseconds) a readmitted endpoint takes to get its full weight back
+     * @return the weight of the endpoint, reduced while it is being readmitted (never less than a tenth)
+     */
+    public synchronized double getEffectiveWeight(long now, long rampTime) {
+        if (ejectedUntil > 0 && rampTime > 0 && now - ejectedUntil < rampTime) {
+            return weight * Math.max(0.1, (double) (now - ejectedUntil) / rampTime);
+        }
+        return weight;
+    }
+
+    /**
+     * Must be called when a request is sent to this endpoint and followed by {@link #onComplete(boolean, long, int, long, long, long)}
+     * or {@link #onCancel()}
+     */
+    public void onStart() {
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * The request was aborted by the client (e.g. the other request of a hedged call won) so it is not counted
+     */
+    public void onCancel() {
+        outstanding.decrementAndGet();
+    }
+
+    /**
+     * @param failed true if the request failed (transport or server error)
+     * @param ejectFailures the number of consecutive failures which ejects the endpoint, 0 or less to never eject
+     * @param ejectTime how long (milliseconds) the endpoint is ejected the first time, this doubles each time
+     * it is ejected again before it was fully readmitted
+     * @param maxEjectTime the max time (milliseconds) the endpoint is ejected
+     * @param rampTime the time (milliseconds) a readmitted endpoint takes to get its full weight back,
+     * it counts as fully readmitted after that
+     * @return true if the endpoint was ejected by this failure
+     */
+    public boolean onComplete(boolean failed, long now, int ejectFailures, long ejectTime, long maxEjectTime, long rampTime) {
+        outstanding.decrementAndGet();
+        synchronized (this) {
+            requests++;
+            if (!failed) {
+                consecutiveFailures = 0;
+                if (now - ejectedUntil >= rampTime) {
+                    consecutiveEjections = 0;
+                }
+                return false;
+            }
+            failures++;
+            consecutiveFailures++;
+            if (ejectFailures > 0 && consecutiveFailures >= ejectFailures && now >= ejectedUntil) {
+                eject(now, Math.min(maxEjectTime, ejectTime << Math.min(consecutiveEjections, 20)));
+                consecutiveEjections++;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Stops sending requests to this endpoint for a while (e.g. when its circuit breaker opens)
+     * @param duration how long (milliseconds) the endpoint is ejected
+     */
+    public synchronized void eject(long now, long duration) {
+        ejectedUntil = Math.max(ejectedUntil, now + duration);
+        consecutiveFailures = 0;
+        ejections++;
+    }
+
+    /**
+     * @return the number of requests completed on this endpoint
+     */
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return the number of requests which failed on this endpoint
+     */
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return the number of times this endpoint was ejected
+     */
+    public synchronized long getEjections() {
+        return ejections;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "KalturaEndpoint[" + url + ": weight=" + weight + ", outstanding=" + outstanding.get() + ", requests=" + requests 
+            + ", failures=" + failures + ", ejections=" + ejections 
+            + (isEjected(System.currentTimeMillis()) ? ", ejected" : "") + "]";
+    }
+
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Spreads the requests across the kaltura api endpoints of a configuration by their weights and 
+ * their outstanding requests, endpoints which keep failing are ejected for a while and then get their 
+ * share of the requests back slowly. The sessions are signed with the partner secrets so the same
+ * session is valid on all the endpoints.
+ * This is threadsafe.
+ */
+public class KalturaEndpointBalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(KalturaEndpointBalancer.class);
+
+    private final List<KalturaEndpoint> endpoints;
+    private final EKalturaBalancingStrategy strategy;
+    private final int ejectFailures;
+    private final long ejectTime;
+    private final long maxEjectTime;
+    private final long rampTime;
+    private final Random random = new Random();
+
+    /**
+     * @param endpoints the endpoints (at least one)
+     * @param strategy how an endpoint is picked for each request
+     * @param ejectFailures the number of consecutive failures which ejects an endpoint, 0 or less to never eject
+     * @param ejectTime how long (milliseconds) an endpoint is ejected the first time (doubles when ejected again)
+     * @param maxEjectTime the max time (milliseconds) an endpoint is ejected
+     * @param rampTime the time (milliseconds) a readmitted endpoint takes to get its full share of the requests back
+     */
+    public KalturaEndpointBalancer(List<KalturaEndpoint> endpoints, EKalturaBalancingStrategy strategy, 
+            int ejectFailures, long ejectTime, long maxEjectTime, long rampTime) {
+        if (endpoints == null || endpoints.isEmpty()) {
+            throw new IllegalArgumentException("endpoints must be set");
+        }
+        this.endpoints = Collections.unmodifiableList(new ArrayList<KalturaEndpoint>(endpoints));
+        this.strategy = strategy == null ? EKalturaBalancingStrategy.POWER_OF_TWO_CHOICES : strategy;
+        this.ejectFailures = ejectFailures;
+        this.ejectTime = ejectTime;
+        this.maxEjectTime = maxEjectTime;
+        this.rampTime = rampTime;
+    }
+
+    /**
+     * Builds a balancer using the endpoints and settings of the configuration
+     */
+    public KalturaEndpointBalancer(KalturaConfiguration config) {
+        this(config.getEndpoints(), config.getBalancingStrategy(), config.getEndpointEjectFailures(), 
+                config.getEndpointEjectTime(), config.getEndpointMaxEjectTime(), config.getEndpointRampTime());
+    }
+
+    public List<KalturaEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * @param url an endpoint url
+     * @return the endpoint with the url OR null if there is none
+     */
+    public KalturaEndpoint getEndpoint(String url) {
+        for (KalturaEndpoint endpoint : endpoints) {
+            if (endpoint.getUrl().equals(url)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param avoid an endpoint to use only if there is no other one (e.g. the one a retried request failed on), can be null
+     * @return the endpoint to send the next request to (if all are ejected then the one readmitted first)
+     */
+    public KalturaEndpoint choose(KalturaEndpoint avoid) {
+        if (endpoints.size() == 1) {
+            return endpoints.get(0);
+        }
+        long now = System.currentTimeMillis();
+        List<KalturaEndpoint> candidates = new ArrayList<KalturaEndpoint>(endpoints.size());
+        KalturaEndpoint soonest = null;
+        for (KalturaEndpoint endpoint : endpoints) {
+            if (!endpoint.isEjected(now)) {
+                if (endpoint != avoid) {
+                    candidates.add(endpoint);
+                }
+            } else if (soonest == null || endpoint.getEjectedUntil() < soonest.getEjectedUntil()) {
+                soonest = endpoint;
+            }
+        }
+        if (candidates.isEmpty()) {
+            if (avoid != null && !avoid.isEjected(now)) {
+                return avoid;
+            }
+            return soonest;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        if (strategy == EKalturaBalancingStrategy.LEAST_OUTSTANDING) {
+            // start at a random place so ties are spread
+            int start = random.nextInt(candidates.size());
+            KalturaEndpoint best = null;
+            double bestLoad = Double.MAX_VALUE;
+            for (int i = 0; i < candidates.size(); i++) {
+                KalturaEndpoint endpoint = candidates.get((start + i) % candidates.size());
+                double load = load(endpoint, now);
+                if (load < bestLoad) {
+                    best = endpoint;
+                    bestLoad = load;
+                }
+            }
+            return best;
+        }
+        KalturaEndpoint first = pickByWeight(candidates, null, now);
+        KalturaEndpoint second = pickByWeight(candidates, first, now);
+        return load(second, now) < load(first, now) ? second : first;
+    }
+
+    private double load(KalturaEndpoint endpoint, long now) {
+        return (endpoint.getOutstanding() + 1) / endpoint.getEffectiveWeight(now, rampTime);
+    }
+
+    private KalturaEndpoint pickByWeight(List<KalturaEndpoint> candidates, KalturaEndpoint exclude, long now) {
+        double total = 0;
+        for (KalturaEndpoint endpoint : candidates) {
+            if (endpoint != exclude) {
+                total += endpoint.getEffectiveWeight(now, rampTime);
+            }
+        }
+        double point = random.nextDouble() * total;
+        KalturaEndpoint picked = null;
+        for (KalturaEndpoint endpoint : candidates) {
+            if (endpoint != exclude) {
+                picked = endpoint;
+                point -= endpoint.getEffectiveWeight(now, rampTime);
+                if (point < 0) {
+                    break;
+                }
+            }
+        }
+        return picked;
+    }
+
+    /**
+     * Must be called when a request sent to the endpoint (see {@link KalturaEndpoint#onStart()}) completes
+     * @param failed true if it failed (transport or server error)
+     */
+    public void onComplete(KalturaEndpoint endpoint, boolean failed) {
+        if (endpoint.onComplete(failed, System.currentTimeMillis(), ejectFailures, ejectTime, maxEjectTime, rampTime)) {
+            log.warn("Kaltura endpoint " + endpoint.getUrl() + " ejected after " + ejectFailures + " consecutive failures");
+        }
+    }
+
+    /**
+     * Ejects the endpoint with the url (if it is one of the endpoints)
+     * @param duration how long (milliseconds) the endpoint is ejected
+     */
+    public void eject(String url, long duration) {
+        KalturaEndpoint endpoint = getEndpoint(url);
+        if (endpoint != null && endpoints.size() > 1) {
+            endpoint.eject(System.currentTimeMillis(), duration);
+            log.warn("Kaltura endpoint " + url + " ejected for " + duration + " ms");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "KalturaEndpointBalancer[" + strategy + ": " + endpoints + "]";
+    }
+
+}
@@ -14,6 +14,7 @@
  */
 package com.kaltura.client;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -31,6 +32,7 @@ public class KalturaFile {
     private long size;
     private File file;
     private InputStream inputStream;
+    private byte[] content;
 
     /**
      * Create a KF from a File object
@@ -48,6 +50,36 @@ public class KalturaFile {
         this.size = this.file.length();
     }
 
+    /**
+     * Create a KF from a File object with a different name (e.g. a temporary copy)
+     * @param file the file (must not be null)
+     * @param name the file name
+     */
+    public KalturaFile(File file, String name) {
+        this(file);
+        if (name == null || "".equals(name)) {
+            throw new IllegalArgumentException("name must be set");
+        }
+        this.name = name;
+    }
+
+    /**
+     * Create a KF from the file content held in memory
+     * @param content the file content (must not be null)
+     * @param name the file name
+     */
+    public KalturaFile(byte[] content, String name) {
+        if (content == null) {
+            throw new IllegalArgumentException("content must be set");
+        }
+        if (name == null || "".equals(name)) {
+            throw new IllegalArgumentException("name must be set");
+        }
+        this.content = content;
+        this.name = name;
+        this.size = content.length;
+    }
+
     /**
      * Create a KF from a FileInputStream object
      * @param fileInputStream the file stream (must not be null)
@@ -112,12 +144,22 @@ public class KalturaFile {
         return size;
     }
 
+    /**
+     * @return true if {@link #getInputStream()} returns a new stream each time 
+     * (so the file can be sent again), false if it can only be read once
+     */
+    public boolean isReplayable() {
+        return inputStream == null;
+    }
+
     /**
      * @return the input stream for this File (this is NEVER null)
      */
     public InputStream getInputStream() {
         InputStream fis = inputStream;
-        if (inputStream == null && file != null) {
+        if (content != null) {
+            fis = new ByteArrayInputStream(content);
+        } else if (inputStream == null && file != null) {
             try {
                 fis = new FileInputStream(file);
             } catch (FileNotFoundException e) {
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+/**
+ * Limits the duplicate (hedge) requests to a percentage of the hedgeable requests so hedging 
+ * never adds more than that much load on the server, a few hedges can be saved up for bursts.
+ * This is threadsafe.
+ */
+public class KalturaHedgeBudget {
+
+    /**
+     * the max number of hedges which can be saved up
+     */
+    public static final int MAX_TOKENS = 10;
+
+    // in hundredths of a hedge so the budget adds up exactly
+    private final int tokensPerRequest;
+    private int tokens = 0;
+    private long requests = 0;
+    private long hedges = 0;
+    private long hedgeWins = 0;
+    private long denied = 0;
+
+    /**
+     * @param percent the max percentage of requests which can be hedged
+     */
+    public KalturaHedgeBudget(int percent) {
+        this.tokensPerRequest = Math.max(0, Math.min(100, percent));
+    }
+
+    /**
+     * Must be called for each hedgeable request (this adds to the budget)
+     */
+    public synchronized void onRequest() {
+        requests++;
+        tokens = Math.min(MAX_TOKENS * 100, tokens + tokensPerRequest);
+    }
+
+    /**
+     * @return true if a hedge can be sent (the budget is then used), false if the budget is spent
+     */
+    public synchronized boolean tryAcquire() {
+        if (tokens >= 100) {
+            tokens -= 100;
+            hedges++;
+            return true;
+        }
+        denied++;
+        return false;
+    }
+
+    /**
+     * Records that a hedge completed before the request it duplicates
+     */
+    public synchronized void onHedgeWon() {
+        hedgeWins++;
+    }
+
+    /**
+     * @return the number of hedgeable requests
+     */
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return the number of hedges sent
+     */
+    public synchronized long getHedges() {
+        return hedges;
+    }
+
+    /**
+     * @return the number of hedges which completed first
+     */
+    public synchronized long getHedgeWins() {
+        return hedgeWins;
+    }
+
+    /**
+     * @return the number of hedges which were not sent because the budget was spent
+     */
+    public synchronized long getDenied() {
+        return denied;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "KalturaHedgeBudget[requests=" + requests + ", hedges=" + hedges + ", hedgeWins=" + hedgeWins 
+            + ", denied=" + denied + "]";
+    }
+
+}
@@ -0,0 +1,30 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+/**
+ * The server answered but its response could not be used (it could not be parsed or was too large),
+ * this counts against the endpoint but the call is not retried since the same request would most likely
+ * get the same response again
+ */
+public class KalturaInvalidResponseException extends KalturaApiException {
+
+    private static final long serialVersionUID = 6121370391437658845L;
+
+    public KalturaInvalidResponseException(String message) {
+        super(message);
+    }
+
+}
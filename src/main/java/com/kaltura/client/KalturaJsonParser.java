@@ -0,0 +1,388 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import com.kaltura.client.KalturaObjectBinding.FieldBinding;
+import com.kaltura.client.utils.JsonPullParser;
+
+/**
+ * Decodes kaltura JSON responses (format=1) with a streaming JSON parser into the same objects
+ * the XML engines produce.
+ *
+ * Fields are bound directly from the stream as soon as the objectType of an object is known,
+ * fields which come before the objectType are held until it is found.
+ * NOTE: the server usually sends the objectType as the last field of an object, so most objects are
+ * first read into a map of generic values (maps, lists and strings, nested objects included) and only
+ * bound once their objectType is read. The objects end up the same as with the XML engines but an object
+ * is held twice while it is bound, for a large object this costs about as much memory as the DOM engine.
+ * The objects field of a list response is the exception when a visitor is used, it is streamed to the
+ * visitor before the objectType of the list response is known (each object has its own objectType).
+ * Like {@link KalturaStaxParser} this returns a skeleton of the XML response (xml/result/item elements
+ * with the decoded objects attached) so the services and the multirequest handling work unchanged,
+ * API errors are turned into the same error elements kaltura sends in XML.
+ */
+public class KalturaJsonParser {
+
+    private static final String API_EXCEPTION_TYPE = "KalturaAPIException";
+
+    private final JsonPullParser json;
+    private final Set<String> projection;
+    private final KalturaStringPool stringPool;
+
+    private KalturaJsonParser(InputStream jsonStream, Set<String> projection, KalturaStringPool stringPool) {
+        this.json = new JsonPullParser(jsonStream);
+        this.projection = projection;
+        this.stringPool = stringPool;
+    }
+
+    /**
+     * Parse a kaltura JSON response
+     *
+     * @param jsonStream the response stream
+     * @return the root (xml) element of the response skeleton
+     * @throws IOException if the stream cannot be read
+     * @throws KalturaApiException if the response is not valid JSON or contains an unknown object type
+     */
+    public static Element parse(InputStream jsonStream) throws IOException, KalturaApiException {
+        return parse(jsonStream, null);
+    }
+
+    /**
+     * Parse a kaltura JSON response
+     *
+     * @param jsonStream the response stream
+     * @param projection the only fields to decode for the elements of arrays (e.g. the objects of a list response), null for all
+     * @return the root (xml) element of the response skeleton
+     * @throws IOException if the stream cannot be read
+     * @throws KalturaApiException if the response is not valid JSON or contains an unknown object type
+     */
+    public static Element parse(InputStream jsonStream, Set<String> projection) throws IOException, KalturaApiException {
+        return parse(jsonStream, projection, null);
+    }
+
+    /**
+     * Parse a kaltura JSON response, the objects of a list response are passed to the visitor as they are read
+     * instead of being collected (the objects field of the list response is left unset)
+     *
+     * @param jsonStream the response stream
+     * @param projection the only fields to decode for the elements of arrays (e.g. the objects of a list response), null for all
+     * @param visitor the visitor for the objects of the list, null to collect them as usual
+     * @return the root (xml) element of the response skeleton
+     * @throws IOException if the stream cannot be read
+     * @throws KalturaApiException if the response is not valid JSON or contains an unknown object type (or the visitor fails)
+     */
+    public static Element parse(InputStream jsonStream, Set<String> projection, KalturaObjectVisitor<Object> visitor) 
+            throws IOException, KalturaApiException {
+        return parse(jsonStream, projection, visitor, null);
+    }
+
+    /**
+     * Parse a kaltura JSON response
+     *
+     * @param jsonStream the response stream
+     * @param projection the only fields to decode for the elements of arrays (e.g. the objects of a list response), null for all
+     * @param visitor the visitor for the objects of the list, null to collect them as usual
+     * @param stringPool the pool to deduplicate the string values with, null to keep them as they are
+     * @return the root (xml) element of the response skeleton
+     * @throws IOException if the stream cannot be read
+     * @throws KalturaApiException if the response is not valid JSON or contains an unknown object type (or the visitor fails)
+     */
+    public static Element parse(InputStream jsonStream, Set<String> projection, KalturaObjectVisitor<Object> visitor, 
+            KalturaStringPool stringPool) throws IOException, KalturaApiException {
+        KalturaJsonParser parser = new KalturaJsonParser(jsonStream, projection, stringPool);
+        try {
+            Document doc = KalturaStaxParser.createDocument("xml");
+            Element root = doc.getDocumentElement();
+            Element result = doc.createElement("result");
+            root.appendChild(result);
+            parser.readValue(parser.json.next(), result, visitor);
+            if (parser.json.next() != JsonPullParser.END_DOCUMENT) {
+                throw new JsonPullParser.MalformedJsonException("Unexpected data after the result");
+            }
+            return root;
+        } catch (JsonPullParser.MalformedJsonException e) {
+            throw new KalturaInvalidResponseException("Invalid result: response could not be parsed (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * Reads a result (or multirequest / array item) value into the skeleton element
+     * @param listVisitor the visitor for the objects if the value is a list response, null to collect them
+     */
+    private void readValue(int token, Element shell, KalturaObjectVisitor<Object> listVisitor) throws IOException, KalturaApiException {
+        Document doc = shell.getOwnerDocument();
+        switch (token) {
+        case JsonPullParser.BEGIN_OBJECT:
+            Object value = readObject(null, null, projection, listVisitor);
+            if (value instanceof KalturaApiException) {
+                KalturaApiException error = (KalturaApiException) value;
+                Element errorElement = doc.createElement("error");
+                appendText(errorElement, "code", error.code);
+                appendText(errorElement, "message", error.getMessage());
+                shell.appendChild(errorElement);
+            } else if (value != null) {
+                appendText(shell, KalturaObjectBinding.OBJECT_TYPE, value.getClass().getSimpleName());
+                shell.setUserData(KalturaObjectBinding.BOUND_OBJECT_KEY, value, null);
+            }
+            break;
+        case JsonPullParser.BEGIN_ARRAY:
+            int itemToken;
+            while ((itemToken = json.next()) != JsonPullParser.END_ARRAY) {
+                Element item = doc.createElement("item");
+                shell.appendChild(item);
+                readValue(itemToken, item, null);
+            }
+            break;
+        case JsonPullParser.NULL:
+            break;
+        default:
+            shell.appendChild(doc.createTextNode(scalarText(token)));
+        }
+    }
+
+    /**
+     * Reads an object, the opening brace must already be consumed
+     * @param declaredType the type to use when the object has no objectType, null if not known
+     * @param fields the fields to decode on this object, null for all
+     * @param itemFields the fields to decode on the elements of arrays below this object, null for all
+     * @param listVisitor if not null the objects of the list field are passed to it instead of being collected
+     * @return the object OR a KalturaApiException for an API error
+     */
+    private Object readObject(Class<?> declaredType, Set<String> fields, Set<String> itemFields, 
+            KalturaObjectVisitor<Object> listVisitor) throws IOException, KalturaApiException {
+        KalturaObjectBinding binding = null;
+        Object object = null;
+        boolean error = false;
+        Map<String, Object> pending = null;
+        int token;
+        while ((token = json.next()) == JsonPullParser.NAME) {
+            String name = json.getText();
+            if (binding != null) {
+                readField(binding, object, name, fields, itemFields, listVisitor);
+            } else if (! error && KalturaObjectBinding.OBJECT_TYPE.equals(name)) {
+                String objectType = scalarText(json.next());
+                if (API_EXCEPTION_TYPE.equals(objectType)) {
+                    error = true;
+                } else {
+                    binding = KalturaObjectBinding.get(KalturaObjectBinding.getObjectClass(objectType));
+                    object = binding.newInstance();
+                    if (pending != null) {
+                        bindPending(binding, object, pending, fields, itemFields);
+                    }
+                }
+            } else if (! error && listVisitor != null && KalturaObjectBinding.LIST_OBJECTS.equals(name)) {
+                // the list can be streamed before the objectType is known since its objects have their own objectType
+                visitObjects(json.next(), null, itemFields, listVisitor);
+            } else if (! error && fields != null && ! fields.contains(name)) {
+                // not in the projection
+                json.skip(json.next());
+            } else {
+                // objectType not known yet so hold on to the value
+                if (pending == null) {
+                    pending = new LinkedHashMap<String, Object>();
+                }
+                pending.put(name, readPending(json.next()));
+            }
+        }
+        if (token != JsonPullParser.END_OBJECT) {
+            throw new JsonPullParser.MalformedJsonException("Expected the end of an object");
+        }
+        if (binding != null) {
+            return object;
+        }
+        if (pending == null) {
+            pending = new LinkedHashMap<String, Object>();
+        }
+        if (error || (declaredType == null && pending.containsKey("code") && pending.containsKey("message"))) {
+            Object message = pending.get("message");
+            Object code = pending.get("code");
+            return new KalturaApiException(message == null ? null : message.toString(), code == null ? null : code.toString());
+        }
+        if (declaredType == null) {
+            throw new KalturaApiException("Invalid result: object has no objectType");
+        }
+        return bindPending(pending, declaredType, fields, itemFields);
+    }
+
+    /**
+     * Reads the value of a single field directly into the object
+     */
+    private void readField(KalturaObjectBinding binding, Object object, String name, 
+            Set<String> fields, Set<String> itemFields, KalturaObjectVisitor<Object> listVisitor) throws IOException, KalturaApiException {
+        int token = json.next();
+        FieldBinding field = binding.getField(name);
+        if (field == null || token == JsonPullParser.NULL || (fields != null && ! fields.contains(name))) {
+            json.skip(token);
+        } else if (token == JsonPullParser.BEGIN_OBJECT) {
+            if (field.getKind() == KalturaObjectBinding.KIND_OBJECT) {
+                field.set(object, checkObject(readObject(field.getValueType(), null, fields == null ? itemFields : null, null)));
+            } else {
+                json.skip(token);
+            }
+        } else if (token == JsonPullParser.BEGIN_ARRAY) {
+            if (listVisitor != null && field.getKind() == KalturaObjectBinding.KIND_ARRAY && KalturaObjectBinding.LIST_OBJECTS.equals(name)) {
+                visitObjects(token, field.getValueType(), fields == null ? itemFields : null, listVisitor);
+            } else if (field.getKind() == KalturaObjectBinding.KIND_ARRAY) {
+                ArrayList<Object> list = new ArrayList<Object>();
+                int itemToken;
+                while ((itemToken = json.next()) != JsonPullParser.END_ARRAY) {
+                    if (itemToken == JsonPullParser.BEGIN_OBJECT) {
+                        list.add(checkObject(readObject(field.getValueType(), fields == null ? itemFields : null, null, null)));
+                    } else {
+                        json.skip(itemToken);
+                    }
+                }
+                field.set(object, list);
+            } else {
+                // kaltura sends empty objects as empty arrays
+                json.skip(token);
+            }
+        } else if (field.isScalar()) {
+            field.setText(object, scalarText(token), stringPool);
+        }
+    }
+
+    /**
+     * Passes the objects of a list to the visitor one at a time
+     * @param token the first token of the list value
+     */
+    private void visitObjects(int token, Class<?> elementType, Set<String> itemFields, 
+            KalturaObjectVisitor<Object> listVisitor) throws IOException, KalturaApiException {
+        if (token != JsonPullParser.BEGIN_ARRAY) {
+            json.skip(token);
+            return;
+        }
+        int itemToken;
+        while ((itemToken = json.next()) != JsonPullParser.END_ARRAY) {
+            if (itemToken == JsonPullParser.BEGIN_OBJECT) {
+                listVisitor.visit(checkObject(readObject(elementType, itemFields, null, null)));
+            } else {
+                json.skip(itemToken);
+            }
+        }
+    }
+
+    /**
+     * Reads a value which cannot be bound yet: scalars become strings, objects become maps and arrays lists
+     */
+    private Object readPending(int token) throws IOException {
+        switch (token) {
+        case JsonPullParser.BEGIN_OBJECT:
+            Map<String, Object> map = new LinkedHashMap<String, Object>();
+            while (json.next() == JsonPullParser.NAME) {
+                String name = json.getText();
+                map.put(name, readPending(json.next()));
+            }
+            return map;
+        case JsonPullParser.BEGIN_ARRAY:
+            List<Object> list = new ArrayList<Object>();
+            int itemToken;
+            while ((itemToken = json.next()) != JsonPullParser.END_ARRAY) {
+                list.add(readPending(itemToken));
+            }
+            return list;
+        case JsonPullParser.NULL:
+            return null;
+        default:
+            return scalarText(token);
+        }
+    }
+
+    private Object bindPending(Map<String, Object> values, Class<?> declaredType, 
+            Set<String> fields, Set<String> itemFields) throws KalturaApiException {
+        Object objectType = values.get(KalturaObjectBinding.OBJECT_TYPE);
+        KalturaObjectBinding binding = KalturaObjectBinding.get(objectType != null
+                ? KalturaObjectBinding.getObjectClass(objectType.toString()) : declaredType);
+        Object object = binding.newInstance();
+        bindPending(binding, object, values, fields, itemFields);
+        return object;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void bindPending(KalturaObjectBinding binding, Object object, Map<String, Object> values, 
+            Set<String> fields, Set<String> itemFields) throws KalturaApiException {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            FieldBinding field = binding.getField(entry.getKey());
+            Object value = entry.getValue();
+            if (field == null || value == null || (fields != null && ! fields.contains(entry.getKey()))) {
+                continue;
+            }
+            if (value instanceof String) {
+                if (field.isScalar()) {
+                    field.setText(object, (String) value, stringPool);
+                }
+            } else if (value instanceof Map) {
+                if (field.getKind() == KalturaObjectBinding.KIND_OBJECT) {
+                    field.set(object, bindPending((Map<String, Object>) value, field.getValueType(), null, fields == null ? itemFields : null));
+                }
+            } else if (field.getKind() == KalturaObjectBinding.KIND_ARRAY) {
+                ArrayList<Object> list = new ArrayList<Object>();
+                for (Object item : (List<Object>) value) {
+                    if (item instanceof Map) {
+                        list.add(bindPending((Map<String, Object>) item, field.getValueType(), fields == null ? itemFields : null, null));
+                    }
+                }
+                field.set(object, list);
+            }
+        }
+    }
+
+    /**
+     * Nested API errors are not valid values
+     */
+    private static Object checkObject(Object value) throws KalturaApiException {
+        if (value instanceof KalturaApiException) {
+            throw (KalturaApiException) value;
+        }
+        return value;
+    }
+
+    /**
+     * @return the text of a scalar token, in the same form the XML responses use (booleans are 1 or 0)
+     */
+    private String scalarText(int token) throws IOException {
+        switch (token) {
+        case JsonPullParser.STRING:
+        case JsonPullParser.NUMBER:
+            return json.getText();
+        case JsonPullParser.BOOLEAN:
+            return "true".equals(json.getText()) ? "1" : "0";
+        case JsonPullParser.NULL:
+            return "";
+        default:
+            throw new JsonPullParser.MalformedJsonException("Expected a scalar value");
+        }
+    }
+
+    private static void appendText(Element parent, String name, String text) {
+        Element element = parent.getOwnerDocument().createElement(name);
+        if (text != null) {
+            element.setTextContent(text);
+        }
+        parent.appendChild(element);
+    }
+
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the latencies of the most recent requests for each {@link EKalturaTimeoutClass}
+ * so percentiles can be reported and the socket timeouts can follow the observed latency.
+ * This is threadsafe.
+ */
+public class KalturaLatencyTracker {
+
+    public static final int DEFAULT_SAMPLES = 256;
+    /**
+     * no adaptive timeout is given until a class has this many samples
+     */
+    public static final int MIN_SAMPLES = 20;
+    /**
+     * the adaptive timeout is this many times the 99th percentile latency
+     */
+    public static final int TIMEOUT_MULTIPLIER = 4;
+    /**
+     * the adaptive timeout is never less than this (milliseconds)
+     */
+    public static final int MIN_ADAPTIVE_TIMEOUT = 2000;
+
+    private final long[][] samples;
+    private final int[] counts;
+
+    public KalturaLatencyTracker() {
+        this(DEFAULT_SAMPLES);
+    }
+
+    /**
+     * @param size the number of recent samples kept for each class
+     */
+    public KalturaLatencyTracker(int size) {
+        EKalturaTimeoutClass[] classes = EKalturaTimeoutClass.values();
+        this.samples = new long[classes.length][Math.max(MIN_SAMPLES, size)];
+        this.counts = new int[classes.length];
+    }
+
+    /**
+     * @param timeoutClass the class of the request
+     * @param latencyMs the time the request took (milliseconds), for a request which timed out 
+     * this is the timeout it had so the adaptive timeout can grow again
+     */
+    public void record(EKalturaTimeoutClass timeoutClass, long latencyMs) {
+        int c = timeoutClass.ordinal();
+        synchronized (samples[c]) {
+            samples[c][counts[c] % samples[c].length] = latencyMs;
+            counts[c]++;
+            if (counts[c] < 0) {
+                // wrapped, keep it above the buffer size
+                counts[c] = samples[c].length;
+            }
+        }
+    }
+
+    /**
+     * @param timeoutClass the class of the requests
+     * @return the total number of requests recorded
+     */
+    public int getCount(EKalturaTimeoutClass timeoutClass) {
+        int c = timeoutClass.ordinal();
+        synchronized (samples[c]) {
+            return counts[c];
+        }
+    }
+
+    /**
+     * @param timeoutClass the class of the requests
+     * @param percentile the percentile (e.g. 50, 99)
+     * @return the latency (milliseconds) at the percentile for the recent requests, -1 if there are none
+     */
+    public long getPercentile(EKalturaTimeoutClass timeoutClass, double percentile) {
+        int c = timeoutClass.ordinal();
+        long[] recent;
+        synchronized (samples[c]) {
+            int n = Math.min(counts[c], samples[c].length);
+            if (n == 0) {
+                return -1;
+            }
+            recent = Arrays.copyOf(samples[c], n);
+        }
+        Arrays.sort(recent);
+        int index = (int) Math.ceil(percentile / 100.0 * recent.length) - 1;
+        return recent[Math.max(0, Math.min(recent.length - 1, index))];
+    }
+
+    /**
+     * @param timeoutClass the class of the request
+     * @return true if the timeout of the class follows the latency, only the FAST calls do since 
+     * the time of the NORMAL and UPLOAD calls depends on the amount of data more than on the server
+     * (a large upload must not get the timeout learned from the small ones)
+     */
+    public static boolean isAdaptive(EKalturaTimeoutClass timeoutClass) {
+        return timeoutClass == EKalturaTimeoutClass.FAST;
+    }
+
+    /**
+     * @param timeoutClass the class of the request
+     * @param maxTimeout the configured timeout for the class (milliseconds)
+     * @return the timeout derived from the 99th percentile latency (never more than the max), 
+     * the max if there are not enough samples yet or the class is not adaptive (see {@link #isAdaptive(EKalturaTimeoutClass)})
+     */
+    public int getAdaptiveTimeout(EKalturaTimeoutClass timeoutClass, int maxTimeout) {
+        if (!isAdaptive(timeoutClass) || getCount(timeoutClass) < MIN_SAMPLES) {
+            return maxTimeout;
+        }
+        long timeout = Math.max(MIN_ADAPTIVE_TIMEOUT, getPercentile(timeoutClass, 99) * TIMEOUT_MULTIPLIER);
+        return (int) Math.min(maxTimeout, timeout);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("KalturaLatencyTracker[");
+        for (EKalturaTimeoutClass timeoutClass : EKalturaTimeoutClass.values()) {
+            if (timeoutClass.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append(timeoutClass).append(": n=").append(getCount(timeoutClass))
+                .append(" p50=").append(getPercentile(timeoutClass, 50))
+                .append(" p99=").append(getPercentile(timeoutClass, 99));
+        }
+        return sb.append("]").toString();
+    }
+
+}
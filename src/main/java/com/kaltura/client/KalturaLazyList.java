@@ -0,0 +1,136 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import org.w3c.dom.Element;
+
+/**
+ * A list (used for the array fields of the kaltura objects, e.g. the objects of a list response)
+ * which keeps the elements of the response and only decodes each entry the first time it is accessed,
+ * so size() and access to a few entries are cheap even for large pages.
+ *
+ * All reads go through get(index) so they are lazy, modifying the list decodes all remaining entries first.
+ * Like ArrayList this is not threadsafe.
+ */
+public class KalturaLazyList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final KalturaDomBinder binder;
+    private final Class<?> elementType;
+    private final Set<String> fields;
+    private final ArrayList<T> values;
+    private Element[] nodes;
+    private int pending;
+
+    KalturaLazyList(KalturaDomBinder binder, List<Element> items, Class<?> elementType, Set<String> fields) {
+        this.binder = binder;
+        this.elementType = elementType;
+        this.fields = fields;
+        this.values = new ArrayList<T>(items.size());
+        this.nodes = items.toArray(new Element[items.size()]);
+        this.pending = this.nodes.length;
+        for (int i = 0; i < this.nodes.length; i++) {
+            this.values.add(null);
+        }
+        if (this.pending == 0) {
+            this.nodes = null;
+        }
+    }
+
+    /**
+     * @return the number of entries which have not been decoded yet
+     */
+    public int getPendingCount() {
+        return nodes == null ? 0 : pending;
+    }
+
+    /**
+     * Decodes all the remaining entries (and releases the response elements)
+     */
+    public void materialize() {
+        if (nodes != null) {
+            for (int i = 0; nodes != null && i < nodes.length; i++) {
+                if (nodes[i] != null) {
+                    decode(i);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decode(int index) {
+        Element node = nodes[index];
+        nodes[index] = null;
+        T value;
+        try {
+            value = (T) binder.decode(node, elementType, fields, null);
+        } catch (KalturaApiException e) {
+            throw new IllegalStateException("Unable to decode list entry " + index + ": " + e.getMessage(), e);
+        }
+        values.set(index, value);
+        if (--pending == 0) {
+            nodes = null;
+        }
+        return value;
+    }
+
+    @Override
+    public T get(int index) {
+        T value = values.get(index);
+        if (value == null && nodes != null && nodes[index] != null) {
+            value = decode(index);
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public T set(int index, T element) {
+        materialize();
+        return values.set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        materialize();
+        values.add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        materialize();
+        T value = values.remove(index);
+        modCount++;
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        nodes = null;
+        values.clear();
+        modCount++;
+    }
+
+}
@@ -1,5 +1,9 @@
 package com.kaltura.client;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Ancestor class for all of the generated classes in the com.kaltura.client.types package.
  * 
@@ -8,8 +12,75 @@ package com.kaltura.client;
  */
 public class KalturaObjectBase {
 
+	/**
+	 * raw values of enum fields which this client version does not know about
+	 */
+	private Map<String, String> unknownValues;
+
 	public KalturaParams toParams() {
-		return new KalturaParams();
+		KalturaParamsEncoder kparams = new KalturaParamsEncoder(16);
+		toParams(kparams, null);
+		return kparams.toParams();
+	}
+
+	/**
+	 * Writes this object straight into the request params (no map per object), each field is written once
+	 * starting with the objectType and then the fields of each class from the top down
+	 * 
+	 * @param kparams the request params to write into
+	 * @param prefix the prefix of every key (e.g. "filter:"), null for none
+	 */
+	public void toParams(KalturaParamsEncoder kparams, String prefix) {
+		kparams.addStringIfNotNull(prefix, KalturaObjectBinding.OBJECT_TYPE, KalturaObjectBinding.get(getClass()).getObjectType());
+		int start = kparams.size();
+		writeParams(kparams, prefix);
+		if (unknownValues != null) {
+			// send unknown values back as they were received (unless the field was set to a known value)
+			for (Map.Entry<String, String> unknown : unknownValues.entrySet()) {
+				if (!kparams.containsKey(start, prefix, unknown.getKey())) {
+					kparams.addStringIfNotNull(prefix, unknown.getKey(), unknown.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the fields declared by this class, subclasses call super.writeParams first
+	 * 
+	 * @param kparams the request params to write into
+	 * @param prefix the prefix of every key, null for none
+	 */
+	protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+	}
+
+	/**
+	 * @param fieldName the name of an enum field
+	 * @return the raw value received for this field if it did not match any known enum value OR null if there is none
+	 */
+	public String getUnknownValue(String fieldName) {
+		return unknownValues == null ? null : unknownValues.get(fieldName);
+	}
+
+	/**
+	 * @return the raw values (by field name) received for enum fields which did not match any known enum value
+	 */
+	public Map<String, String> getUnknownValues() {
+		if (unknownValues == null) {
+			return Collections.emptyMap();
+		}
+		return Collections.unmodifiableMap(unknownValues);
+	}
+
+	/**
+	 * Keeps a value which could not be decoded into the enum of a field
+	 * @param fieldName the name of the enum field
+	 * @param value the raw value
+	 */
+	protected void setUnknownValue(String fieldName, String value) {
+		if (unknownValues == null) {
+			unknownValues = new LinkedHashMap<String, String>(4);
+		}
+		unknownValues.put(fieldName, value);
 	}
 	
 }
@@ -0,0 +1,438 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.w3c.dom.Element;
+
+/**
+ * Describes how the fields of one of the generated types (com.kaltura.client.types)
+ * are decoded, this includes all the inherited fields so an object can be filled in a single pass.
+ * The binding follows the same conversion rules as the generated DOM constructors.
+ *
+ * Bindings are built once per class (using reflection on the public fields) and cached.
+ */
+public class KalturaObjectBinding {
+
+    public static final String TYPES_PACKAGE = "com.kaltura.client.types.";
+    public static final String OBJECT_TYPE = "objectType";
+    /**
+     * The field which holds the entries of the list responses
+     */
+    public static final String LIST_OBJECTS = "objects";
+    /**
+     * The DOM user data key which holds an object that was already decoded for an element
+     */
+    public static final String BOUND_OBJECT_KEY = "kaltura.boundObject";
+
+    public static final int KIND_STRING = 1;
+    public static final int KIND_INT = 2;
+    public static final int KIND_FLOAT = 3;
+    public static final int KIND_BOOLEAN = 4;
+    public static final int KIND_INT_ENUM = 5;
+    public static final int KIND_STRING_ENUM = 6;
+    public static final int KIND_OBJECT = 7;
+    public static final int KIND_ARRAY = 8;
+
+    private static final Map<Class<?>, KalturaObjectBinding> bindings = new ConcurrentHashMap<Class<?>, KalturaObjectBinding>();
+    private static final Map<String, Class<?>> objectTypes = new ConcurrentHashMap<String, Class<?>>();
+
+    /**
+     * @param type the kaltura object class
+     * @return the (cached) binding for this class
+     */
+    public static KalturaObjectBinding get(Class<?> type) {
+        KalturaObjectBinding binding = bindings.get(type);
+        if (binding == null) {
+            binding = new KalturaObjectBinding(type);
+            bindings.put(type, binding);
+        }
+        return binding;
+    }
+
+    /**
+     * @param element any element
+     * @return the object already decoded for this element OR null if there is none
+     */
+    public static Object getBoundObject(Element element) {
+        return element.getUserData(BOUND_OBJECT_KEY);
+    }
+
+    /**
+     * Find the class for a kaltura objectType name,
+     * the types registered with the {@link KalturaObjectFactory} are used first
+     * 
+     * @param objectType the name of the type (e.g. KalturaMediaEntry)
+     * @return the class for this type
+     * @throws KalturaApiException if the type is not known
+     */
+    public static Class<?> getObjectClass(String objectType) throws KalturaApiException {
+        Class<?> type = KalturaObjectFactory.getRegisteredType(objectType);
+        if (type == null) {
+            type = objectTypes.get(objectType);
+        }
+        if (type == null) {
+            try {
+                type = Class.forName(TYPES_PACKAGE + objectType);
+            } catch (ClassNotFoundException e) {
+                type = null;
+            }
+            if (type == null || ! KalturaObjectBase.class.isAssignableFrom(type)) {
+                throw new KalturaApiException("Unknown object type: " + objectType 
+                        + " (not registered with " + KalturaObjectFactory.class.getSimpleName() + ")");
+            }
+            objectTypes.put(objectType, type);
+        }
+        return type;
+    }
+
+    private final Class<?> type;
+    private final String objectType;
+    private final Map<String, FieldBinding> fields;
+
+    private KalturaObjectBinding(Class<?> type) {
+        this.type = type;
+        String name = null;
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            if (c.getName().startsWith(TYPES_PACKAGE)) {
+                // subclasses of the generated types are sent as the generated type
+                name = c.getSimpleName();
+                break;
+            }
+        }
+        this.objectType = name;
+        Map<String, FieldBinding> m = new HashMap<String, FieldBinding>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                int mod = field.getModifiers();
+                if (! Modifier.isPublic(mod) || Modifier.isStatic(mod) || Modifier.isFinal(mod)) {
+                    continue;
+                }
+                if (! m.containsKey(field.getName())) {
+                    // subclass fields win over the inherited ones
+                    m.put(field.getName(), new FieldBinding(field));
+                }
+            }
+        }
+        this.fields = Collections.unmodifiableMap(m);
+    }
+
+    /**
+     * @return the class this binding is for
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the kaltura objectType name sent for this class (the nearest generated type) OR null if it has none
+     */
+    public String getObjectType() {
+        return objectType;
+    }
+
+    /**
+     * @param name the field (tag) name
+     * @return the field binding OR null if there is no field with this name
+     */
+    public FieldBinding getField(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * @return all the field bindings for this type (including inherited ones)
+     */
+    public Collection<FieldBinding> getFields() {
+        return fields.values();
+    }
+
+    /**
+     * @return a new empty instance of this type (with all the default values set)
+     * @throws KalturaApiException if the type cannot be created
+     */
+    public Object newInstance() throws KalturaApiException {
+        try {
+            return type.newInstance();
+        } catch (Exception e) {
+            throw new KalturaApiException("Unable to create object of type " + type.getName() + ": " + e);
+        }
+    }
+
+    /**
+     * Binding for a single field of a kaltura object
+     */
+    public static class FieldBinding {
+        private final Field field;
+        private final String name;
+        private final int kind;
+        private final Method enumGet;
+        private final Method enumCode;
+        private final Class<?> valueType;
+
+        FieldBinding(Field field) {
+            this.field = field;
+            this.name = field.getName();
+            Class<?> t = field.getType();
+            Method enumMethod = null;
+            Class<?> vType = t;
+            if (t == String.class) {
+                kind = KIND_STRING;
+            } else if (t == int.class) {
+                kind = KIND_INT;
+            } else if (t == float.class) {
+                kind = KIND_FLOAT;
+            } else if (t == boolean.class) {
+                kind = KIND_BOOLEAN;
+            } else if (t.isEnum()) {
+                enumMethod = findEnumGet(t, int.class);
+                if (enumMethod != null) {
+                    kind = KIND_INT_ENUM;
+                } else {
+                    enumMethod = findEnumGet(t, String.class);
+                    kind = KIND_STRING_ENUM;
+                }
+            } else if (List.class.isAssignableFrom(t)) {
+                kind = KIND_ARRAY;
+                vType = KalturaObjectBase.class;
+                Type generic = field.getGenericType();
+                if (generic instanceof ParameterizedType) {
+                    Type[] args = ((ParameterizedType) generic).getActualTypeArguments();
+                    if (args.length == 1 && args[0] instanceof Class<?>) {
+                        vType = (Class<?>) args[0];
+                    }
+                }
+            } else {
+                kind = KIND_OBJECT;
+            }
+            this.enumGet = enumMethod;
+            this.enumCode = enumMethod == null ? null : findEnumCode(t);
+            this.valueType = vType;
+        }
+
+        private static Method findEnumCode(Class<?> enumType) {
+            try {
+                return enumType.getMethod("getHashCode");
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        private static Method findEnumGet(Class<?> enumType, Class<?> paramType) {
+            try {
+                return enumType.getMethod("get", paramType);
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        /**
+         * @return the field (and tag) name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return one of the KIND_* constants
+         */
+        public int getKind() {
+            return kind;
+        }
+
+        /**
+         * @return true if the value is decoded from the text of the tag
+         */
+        public boolean isScalar() {
+            return kind < KIND_OBJECT;
+        }
+
+        /**
+         * @return the declared type of the value (or of the array elements for arrays)
+         */
+        public Class<?> getValueType() {
+            return valueType;
+        }
+
+        /**
+         * Decode the text value of a scalar field and set it on the target,
+         * empty or invalid numbers leave the default value in place (same as the generated code)
+         *
+         * @param target the object to set the field on
+         * @param txt the text content of the field tag
+         * @throws KalturaApiException if the field cannot be set
+         */
+        public void setText(Object target, String txt) throws KalturaApiException {
+            setText(target, txt, null);
+        }
+
+        /**
+         * Decode the text value of a scalar field and set it on the target
+         *
+         * @param target the object to set the field on
+         * @param txt the text content of the field tag
+         * @param pool the pool for string values, null to keep the strings as they are
+         * @throws KalturaApiException if the field cannot be set
+         */
+        public void setText(Object target, String txt, KalturaStringPool pool) throws KalturaApiException {
+            if (txt == null) {
+                return;
+            }
+            if (kind == KIND_STRING) {
+                set(target, pool == null ? txt : pool.canonical(txt));
+            } else if (txt.length() > 0) {
+                try {
+                    // the primitive setters avoid boxing every number
+                    switch (kind) {
+                    case KIND_INT:
+                        field.setInt(target, Integer.parseInt(txt));
+                        break;
+                    case KIND_FLOAT:
+                        field.setFloat(target, Float.parseFloat(txt));
+                        break;
+                    case KIND_BOOLEAN:
+                        field.setBoolean(target, ! txt.equals("0"));
+                        break;
+                    case KIND_INT_ENUM:
+                        setEnum(target, enumGet.invoke(null, Integer.valueOf(Integer.parseInt(txt))), txt);
+                        break;
+                    case KIND_STRING_ENUM:
+                        setEnum(target, enumGet.invoke(null, txt), txt);
+                        break;
+                    default:
+                        throw new KalturaApiException("Field " + name + " is not a scalar field");
+                    }
+                } catch (NumberFormatException nfe) {
+                    // leave the default value (same as the generated code)
+                } catch (KalturaApiException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new KalturaApiException("Unable to decode field " + name + " from (" + txt + "): " + e);
+                }
+            }
+        }
+
+        private void setEnum(Object target, Object value, String txt) throws KalturaApiException {
+            set(target, value);
+            if (value == null && target instanceof KalturaObjectBase) {
+                // keep values this client version does not know
+                ((KalturaObjectBase) target).setUnknownValue(name, txt);
+            }
+        }
+
+        /**
+         * @param target the object to set the field on
+         * @param value the decoded value
+         * @throws KalturaApiException if the field cannot be set
+         */
+        public void set(Object target, Object value) throws KalturaApiException {
+            try {
+                field.set(target, value);
+            } catch (Exception e) {
+                throw new KalturaApiException("Unable to set field " + name + " on " + target.getClass().getSimpleName() + ": " + e);
+            }
+        }
+
+        /**
+         * @param target the object to get the field value from
+         * @return the current value of this field
+         */
+        public Object get(Object target) {
+            try {
+                return field.get(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to read field " + name + ": " + e, e);
+            }
+        }
+
+        /**
+         * @param target the object to get the field value from
+         * @return the value kaltura uses for the current enum value of this field 
+         * (an Integer or String, the same as the text in the responses) OR null if it is not set
+         */
+        public Object getEnumCode(Object target) {
+            Object value = get(target);
+            if (value == null || enumCode == null) {
+                return null;
+            }
+            try {
+                return enumCode.invoke(value);
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to read the value of enum field " + name + ": " + e, e);
+            }
+        }
+
+        // primitive accessors (no boxing) for the int, float and boolean fields
+
+        public int getInt(Object target) {
+            try {
+                return field.getInt(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to read field " + name + ": " + e, e);
+            }
+        }
+
+        public void setInt(Object target, int value) throws KalturaApiException {
+            try {
+                field.setInt(target, value);
+            } catch (Exception e) {
+                throw new KalturaApiException("Unable to set field " + name + " on " + target.getClass().getSimpleName() + ": " + e);
+            }
+        }
+
+        public float getFloat(Object target) {
+            try {
+                return field.getFloat(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to read field " + name + ": " + e, e);
+            }
+        }
+
+        public void setFloat(Object target, float value) throws KalturaApiException {
+            try {
+                field.setFloat(target, value);
+            } catch (Exception e) {
+                throw new KalturaApiException("Unable to set field " + name + " on " + target.getClass().getSimpleName() + ": " + e);
+            }
+        }
+
+        public boolean getBoolean(Object target) {
+            try {
+                return field.getBoolean(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to read field " + name + ": " + e, e);
+            }
+        }
+
+        public void setBoolean(Object target, boolean value) throws KalturaApiException {
+            try {
+                field.setBoolean(target, value);
+            } catch (Exception e) {
+                throw new KalturaApiException("Unable to set field " + name + " on " + target.getClass().getSimpleName() + ": " + e);
+            }
+        }
+    }
+
+}
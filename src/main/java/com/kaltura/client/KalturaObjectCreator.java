@@ -0,0 +1,32 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import org.w3c.dom.Element;
+
+/**
+ * Creates a kaltura object from its XML element, these are registered (by objectType)
+ * with {@link KalturaObjectFactory#registerType(String, KalturaObjectCreator)}
+ */
+public interface KalturaObjectCreator {
+
+    /**
+     * @param xmlElement the element holding the object (including its objectType)
+     * @return the new object
+     * @throws KalturaApiException if the object cannot be created
+     */
+    Object create(Element xmlElement) throws KalturaApiException;
+
+}
@@ -1,8 +1,13 @@
 package com.kaltura.client;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.types.KalturaBaseRestriction;
 import com.kaltura.client.types.KalturaAccessControl;
@@ -220,634 +225,325 @@ import com.kaltura.client.types.KalturaYahooSyndicationFeed;
  */
 
 public class KalturaObjectFactory {
-    public static Object create(Element xmlElement) throws KalturaApiException {
-        NodeList objectTypeNodes = xmlElement.getElementsByTagName("objectType");
-        Node objectTypeNode = objectTypeNodes.item(0);
-        String objectType = objectTypeNode.getTextContent();
-        if (false) {
-        	// noop
-        }
-        else if (objectType.equals("KalturaBaseRestriction")) {
-            return new KalturaBaseRestriction(xmlElement);
-        }
-        else if (objectType.equals("KalturaAccessControl")) {
-            return new KalturaAccessControl(xmlElement);
-        }
-        else if (objectType.equals("KalturaFilter")) {
-            return new KalturaFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaAccessControlFilter")) {
-            return new KalturaAccessControlFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaFilterPager")) {
-            return new KalturaFilterPager(xmlElement);
-        }
-        else if (objectType.equals("KalturaAccessControlListResponse")) {
-            return new KalturaAccessControlListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaUser")) {
-            return new KalturaUser(xmlElement);
-        }
-        else if (objectType.equals("KalturaAdminUser")) {
-            return new KalturaAdminUser(xmlElement);
-        }
-        else if (objectType.equals("KalturaDynamicEnum")) {
-            return new KalturaDynamicEnum(xmlElement);
-        }
-        else if (objectType.equals("KalturaBaseEntry")) {
-            return new KalturaBaseEntry(xmlElement);
-        }
-        else if (objectType.equals("KalturaBaseEntryFilter")) {
-            return new KalturaBaseEntryFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaBaseEntryListResponse")) {
-            return new KalturaBaseEntryListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaModerationFlag")) {
-            return new KalturaModerationFlag(xmlElement);
-        }
-        else if (objectType.equals("KalturaModerationFlagListResponse")) {
-            return new KalturaModerationFlagListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaEntryContextDataParams")) {
-            return new KalturaEntryContextDataParams(xmlElement);
-        }
-        else if (objectType.equals("KalturaEntryContextDataResult")) {
-            return new KalturaEntryContextDataResult(xmlElement);
-        }
-        else if (objectType.equals("KalturaBulkUploadPluginData")) {
-            return new KalturaBulkUploadPluginData(xmlElement);
-        }
-        else if (objectType.equals("KalturaBulkUploadResult")) {
-            return new KalturaBulkUploadResult(xmlElement);
-        }
-        else if (objectType.equals("KalturaBulkUpload")) {
-            return new KalturaBulkUpload(xmlElement);
-        }
-        else if (objectType.equals("KalturaBulkUploadListResponse")) {
-            return new KalturaBulkUploadListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaCategory")) {
-            return new KalturaCategory(xmlElement);
-        }
-        else if (objectType.equals("KalturaCategoryFilter")) {
-            return new KalturaCategoryFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaCategoryListResponse")) {
-            return new KalturaCategoryListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaCropDimensions")) {
-            return new KalturaCropDimensions(xmlElement);
-        }
-        else if (objectType.equals("KalturaConversionProfile")) {
-            return new KalturaConversionProfile(xmlElement);
-        }
-        else if (objectType.equals("KalturaConversionProfileFilter")) {
-            return new KalturaConversionProfileFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaConversionProfileListResponse")) {
-            return new KalturaConversionProfileListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaDataEntry")) {
-            return new KalturaDataEntry(xmlElement);
-        }
-        else if (objectType.equals("KalturaDataEntryFilter")) {
-            return new KalturaDataEntryFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaDataListResponse")) {
-            return new KalturaDataListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaDocumentEntry")) {
-            return new KalturaDocumentEntry(xmlElement);
-        }
-        else if (objectType.equals("KalturaConversionAttribute")) {
-            return new KalturaConversionAttribute(xmlElement);
-        }
-        else if (objectType.equals("KalturaDocumentEntryFilter")) {
-            return new KalturaDocumentEntryFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaDocumentListResponse")) {
-            return new KalturaDocumentListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaEmailIngestionProfile")) {
-            return new KalturaEmailIngestionProfile(xmlElement);
-        }
-        else if (objectType.equals("KalturaPlayableEntry")) {
-            return new KalturaPlayableEntry(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaEntry")) {
-            return new KalturaMediaEntry(xmlElement);
-        }
-        else if (objectType.equals("KalturaAsset")) {
-            return new KalturaAsset(xmlElement);
-        }
-        else if (objectType.equals("KalturaFlavorAsset")) {
-            return new KalturaFlavorAsset(xmlElement);
-        }
-        else if (objectType.equals("KalturaAssetFilter")) {
-            return new KalturaAssetFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaFlavorAssetListResponse")) {
-            return new KalturaFlavorAssetListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaString")) {
-            return new KalturaString(xmlElement);
-        }
-        else if (objectType.equals("KalturaAssetParams")) {
-            return new KalturaAssetParams(xmlElement);
-        }
-        else if (objectType.equals("KalturaFlavorParams")) {
-            return new KalturaFlavorParams(xmlElement);
-        }
-        else if (objectType.equals("KalturaFlavorAssetWithParams")) {
-            return new KalturaFlavorAssetWithParams(xmlElement);
-        }
-        else if (objectType.equals("KalturaAssetParamsFilter")) {
-            return new KalturaAssetParamsFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaFlavorParamsFilter")) {
-            return new KalturaFlavorParamsFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaFlavorParamsListResponse")) {
-            return new KalturaFlavorParamsListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaLiveStreamBitrate")) {
-            return new KalturaLiveStreamBitrate(xmlElement);
-        }
-        else if (objectType.equals("KalturaLiveStreamEntry")) {
-            return new KalturaLiveStreamEntry(xmlElement);
-        }
-        else if (objectType.equals("KalturaLiveStreamAdminEntry")) {
-            return new KalturaLiveStreamAdminEntry(xmlElement);
-        }
-        else if (objectType.equals("KalturaPlayableEntryFilter")) {
-            return new KalturaPlayableEntryFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaEntryFilter")) {
-            return new KalturaMediaEntryFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaLiveStreamEntryFilter")) {
-            return new KalturaLiveStreamEntryFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaLiveStreamListResponse")) {
-            return new KalturaLiveStreamListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaSearch")) {
-            return new KalturaSearch(xmlElement);
-        }
-        else if (objectType.equals("KalturaSearchResult")) {
-            return new KalturaSearchResult(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaListResponse")) {
-            return new KalturaMediaListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaMixEntry")) {
-            return new KalturaMixEntry(xmlElement);
-        }
-        else if (objectType.equals("KalturaMixEntryFilter")) {
-            return new KalturaMixEntryFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaMixListResponse")) {
-            return new KalturaMixListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaClientNotification")) {
-            return new KalturaClientNotification(xmlElement);
-        }
-        else if (objectType.equals("KalturaKeyValue")) {
-            return new KalturaKeyValue(xmlElement);
-        }
-        else if (objectType.equals("KalturaPartner")) {
-            return new KalturaPartner(xmlElement);
-        }
-        else if (objectType.equals("KalturaPartnerUsage")) {
-            return new KalturaPartnerUsage(xmlElement);
-        }
-        else if (objectType.equals("KalturaPermissionItemFilter")) {
-            return new KalturaPermissionItemFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaPermissionItemListResponse")) {
-            return new KalturaPermissionItemListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaPermission")) {
-            return new KalturaPermission(xmlElement);
-        }
-        else if (objectType.equals("KalturaPermissionFilter")) {
-            return new KalturaPermissionFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaPermissionListResponse")) {
-            return new KalturaPermissionListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaEntryFilterForPlaylist")) {
-            return new KalturaMediaEntryFilterForPlaylist(xmlElement);
-        }
-        else if (objectType.equals("KalturaPlaylist")) {
-            return new KalturaPlaylist(xmlElement);
-        }
-        else if (objectType.equals("KalturaPlaylistFilter")) {
-            return new KalturaPlaylistFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaPlaylistListResponse")) {
-            return new KalturaPlaylistListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaReportInputFilter")) {
-            return new KalturaReportInputFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaReportGraph")) {
-            return new KalturaReportGraph(xmlElement);
-        }
-        else if (objectType.equals("KalturaReportTotal")) {
-            return new KalturaReportTotal(xmlElement);
-        }
-        else if (objectType.equals("KalturaReportTable")) {
-            return new KalturaReportTable(xmlElement);
-        }
-        else if (objectType.equals("KalturaSearchResultResponse")) {
-            return new KalturaSearchResultResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaSearchAuthData")) {
-            return new KalturaSearchAuthData(xmlElement);
-        }
-        else if (objectType.equals("KalturaStartWidgetSessionResponse")) {
-            return new KalturaStartWidgetSessionResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaStatsEvent")) {
-            return new KalturaStatsEvent(xmlElement);
-        }
-        else if (objectType.equals("KalturaStatsKmcEvent")) {
-            return new KalturaStatsKmcEvent(xmlElement);
-        }
-        else if (objectType.equals("KalturaCEError")) {
-            return new KalturaCEError(xmlElement);
-        }
-        else if (objectType.equals("KalturaBaseSyndicationFeedFilter")) {
-            return new KalturaBaseSyndicationFeedFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaBaseSyndicationFeedListResponse")) {
-            return new KalturaBaseSyndicationFeedListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaSyndicationFeedEntryCount")) {
-            return new KalturaSyndicationFeedEntryCount(xmlElement);
-        }
-        else if (objectType.equals("KalturaThumbAsset")) {
-            return new KalturaThumbAsset(xmlElement);
-        }
-        else if (objectType.equals("KalturaThumbParams")) {
-            return new KalturaThumbParams(xmlElement);
-        }
-        else if (objectType.equals("KalturaThumbAssetListResponse")) {
-            return new KalturaThumbAssetListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaThumbParamsFilter")) {
-            return new KalturaThumbParamsFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaThumbParamsListResponse")) {
-            return new KalturaThumbParamsListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaUiConf")) {
-            return new KalturaUiConf(xmlElement);
-        }
-        else if (objectType.equals("KalturaUiConfFilter")) {
-            return new KalturaUiConfFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaUiConfListResponse")) {
-            return new KalturaUiConfListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaUiConfTypeInfo")) {
-            return new KalturaUiConfTypeInfo(xmlElement);
-        }
-        else if (objectType.equals("KalturaUploadResponse")) {
-            return new KalturaUploadResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaUploadToken")) {
-            return new KalturaUploadToken(xmlElement);
-        }
-        else if (objectType.equals("KalturaUploadTokenFilter")) {
-            return new KalturaUploadTokenFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaUploadTokenListResponse")) {
-            return new KalturaUploadTokenListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaUserRole")) {
-            return new KalturaUserRole(xmlElement);
-        }
-        else if (objectType.equals("KalturaUserRoleFilter")) {
-            return new KalturaUserRoleFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaUserRoleListResponse")) {
-            return new KalturaUserRoleListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaUserFilter")) {
-            return new KalturaUserFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaUserListResponse")) {
-            return new KalturaUserListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaWidget")) {
-            return new KalturaWidget(xmlElement);
-        }
-        else if (objectType.equals("KalturaWidgetFilter")) {
-            return new KalturaWidgetFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaWidgetListResponse")) {
-            return new KalturaWidgetListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaMetadataFilter")) {
-            return new KalturaMetadataFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaMetadata")) {
-            return new KalturaMetadata(xmlElement);
-        }
-        else if (objectType.equals("KalturaMetadataListResponse")) {
-            return new KalturaMetadataListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaMetadataProfileFilter")) {
-            return new KalturaMetadataProfileFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaMetadataProfile")) {
-            return new KalturaMetadataProfile(xmlElement);
-        }
-        else if (objectType.equals("KalturaMetadataProfileListResponse")) {
-            return new KalturaMetadataProfileListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaMetadataProfileField")) {
-            return new KalturaMetadataProfileField(xmlElement);
-        }
-        else if (objectType.equals("KalturaMetadataProfileFieldListResponse")) {
-            return new KalturaMetadataProfileFieldListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaPartnerFilter")) {
-            return new KalturaPartnerFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaStorageProfile")) {
-            return new KalturaStorageProfile(xmlElement);
-        }
-        else if (objectType.equals("KalturaStorageProfileListResponse")) {
-            return new KalturaStorageProfileListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaSystemPartnerUsageFilter")) {
-            return new KalturaSystemPartnerUsageFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaSystemPartnerUsageItem")) {
-            return new KalturaSystemPartnerUsageItem(xmlElement);
-        }
-        else if (objectType.equals("KalturaSystemPartnerUsageListResponse")) {
-            return new KalturaSystemPartnerUsageListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaPartnerListResponse")) {
-            return new KalturaPartnerListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaSystemPartnerConfiguration")) {
-            return new KalturaSystemPartnerConfiguration(xmlElement);
-        }
-        else if (objectType.equals("KalturaSystemPartnerPackage")) {
-            return new KalturaSystemPartnerPackage(xmlElement);
-        }
-        else if (objectType.equals("KalturaFlavorParamsOutputFilter")) {
-            return new KalturaFlavorParamsOutputFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaFlavorParamsOutput")) {
-            return new KalturaFlavorParamsOutput(xmlElement);
-        }
-        else if (objectType.equals("KalturaFlavorParamsOutputListResponse")) {
-            return new KalturaFlavorParamsOutputListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaThumbParamsOutputFilter")) {
-            return new KalturaThumbParamsOutputFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaThumbParamsOutput")) {
-            return new KalturaThumbParamsOutput(xmlElement);
-        }
-        else if (objectType.equals("KalturaThumbParamsOutputListResponse")) {
-            return new KalturaThumbParamsOutputListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaInfoFilter")) {
-            return new KalturaMediaInfoFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaInfo")) {
-            return new KalturaMediaInfo(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaInfoListResponse")) {
-            return new KalturaMediaInfoListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaTrackEntry")) {
-            return new KalturaTrackEntry(xmlElement);
-        }
-        else if (objectType.equals("KalturaTrackEntryListResponse")) {
-            return new KalturaTrackEntryListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaUiConfAdmin")) {
-            return new KalturaUiConfAdmin(xmlElement);
-        }
-        else if (objectType.equals("KalturaUiConfAdminListResponse")) {
-            return new KalturaUiConfAdminListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaInternalToolsSession")) {
-            return new KalturaInternalToolsSession(xmlElement);
-        }
-        else if (objectType.equals("KalturaAuditTrailFilter")) {
-            return new KalturaAuditTrailFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaAuditTrail")) {
-            return new KalturaAuditTrail(xmlElement);
-        }
-        else if (objectType.equals("KalturaAuditTrailListResponse")) {
-            return new KalturaAuditTrailListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaVirusScanProfileFilter")) {
-            return new KalturaVirusScanProfileFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaVirusScanProfile")) {
-            return new KalturaVirusScanProfile(xmlElement);
-        }
-        else if (objectType.equals("KalturaVirusScanProfileListResponse")) {
-            return new KalturaVirusScanProfileListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaDistributionThumbDimensions")) {
-            return new KalturaDistributionThumbDimensions(xmlElement);
-        }
-        else if (objectType.equals("KalturaDistributionProfileFilter")) {
-            return new KalturaDistributionProfileFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaDistributionProfileListResponse")) {
-            return new KalturaDistributionProfileListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaEntryDistribution")) {
-            return new KalturaEntryDistribution(xmlElement);
-        }
-        else if (objectType.equals("KalturaEntryDistributionFilter")) {
-            return new KalturaEntryDistributionFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaEntryDistributionListResponse")) {
-            return new KalturaEntryDistributionListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaDistributionProviderFilter")) {
-            return new KalturaDistributionProviderFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaDistributionProviderListResponse")) {
-            return new KalturaDistributionProviderListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaGenericDistributionProvider")) {
-            return new KalturaGenericDistributionProvider(xmlElement);
-        }
-        else if (objectType.equals("KalturaGenericDistributionProviderFilter")) {
-            return new KalturaGenericDistributionProviderFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaGenericDistributionProviderListResponse")) {
-            return new KalturaGenericDistributionProviderListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaGenericDistributionProviderAction")) {
-            return new KalturaGenericDistributionProviderAction(xmlElement);
-        }
-        else if (objectType.equals("KalturaGenericDistributionProviderActionFilter")) {
-            return new KalturaGenericDistributionProviderActionFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaGenericDistributionProviderActionListResponse")) {
-            return new KalturaGenericDistributionProviderActionListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaAnnotationFilter")) {
-            return new KalturaAnnotationFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaAnnotation")) {
-            return new KalturaAnnotation(xmlElement);
-        }
-        else if (objectType.equals("KalturaAnnotationListResponse")) {
-            return new KalturaAnnotationListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaShortLinkFilter")) {
-            return new KalturaShortLinkFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaShortLink")) {
-            return new KalturaShortLink(xmlElement);
-        }
-        else if (objectType.equals("KalturaShortLinkListResponse")) {
-            return new KalturaShortLinkListResponse(xmlElement);
-        }
-        else if (objectType.equals("KalturaCountryRestriction")) {
-            return new KalturaCountryRestriction(xmlElement);
-        }
-        else if (objectType.equals("KalturaDirectoryRestriction")) {
-            return new KalturaDirectoryRestriction(xmlElement);
-        }
-        else if (objectType.equals("KalturaIpAddressRestriction")) {
-            return new KalturaIpAddressRestriction(xmlElement);
-        }
-        else if (objectType.equals("KalturaSessionRestriction")) {
-            return new KalturaSessionRestriction(xmlElement);
-        }
-        else if (objectType.equals("KalturaPreviewRestriction")) {
-            return new KalturaPreviewRestriction(xmlElement);
-        }
-        else if (objectType.equals("KalturaSiteRestriction")) {
-            return new KalturaSiteRestriction(xmlElement);
-        }
-        else if (objectType.equals("KalturaSearchCondition")) {
-            return new KalturaSearchCondition(xmlElement);
-        }
-        else if (objectType.equals("KalturaSearchComparableCondition")) {
-            return new KalturaSearchComparableCondition(xmlElement);
-        }
-        else if (objectType.equals("KalturaSearchOperator")) {
-            return new KalturaSearchOperator(xmlElement);
-        }
-        else if (objectType.equals("KalturaBaseJobFilter")) {
-            return new KalturaBaseJobFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaBatchJobFilter")) {
-            return new KalturaBatchJobFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaControlPanelCommandFilter")) {
-            return new KalturaControlPanelCommandFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaMailJobFilter")) {
-            return new KalturaMailJobFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaNotificationFilter")) {
-            return new KalturaNotificationFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaBatchJobFilterExt")) {
-            return new KalturaBatchJobFilterExt(xmlElement);
-        }
-        else if (objectType.equals("KalturaAssetParamsOutputFilter")) {
-            return new KalturaAssetParamsOutputFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaFlavorAssetFilter")) {
-            return new KalturaFlavorAssetFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaFlavorParamsFilter")) {
-            return new KalturaMediaFlavorParamsFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaFlavorParamsOutputFilter")) {
-            return new KalturaMediaFlavorParamsOutputFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaThumbAssetFilter")) {
-            return new KalturaThumbAssetFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaLiveStreamAdminEntryFilter")) {
-            return new KalturaLiveStreamAdminEntryFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaAdminUserFilter")) {
-            return new KalturaAdminUserFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaGoogleVideoSyndicationFeedFilter")) {
-            return new KalturaGoogleVideoSyndicationFeedFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaITunesSyndicationFeedFilter")) {
-            return new KalturaITunesSyndicationFeedFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaTubeMogulSyndicationFeedFilter")) {
-            return new KalturaTubeMogulSyndicationFeedFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaYahooSyndicationFeedFilter")) {
-            return new KalturaYahooSyndicationFeedFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaApiActionPermissionItemFilter")) {
-            return new KalturaApiActionPermissionItemFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaApiParameterPermissionItemFilter")) {
-            return new KalturaApiParameterPermissionItemFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaGenericSyndicationFeedFilter")) {
-            return new KalturaGenericSyndicationFeedFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaGenericXsltSyndicationFeedFilter")) {
-            return new KalturaGenericXsltSyndicationFeedFilter(xmlElement);
-        }
-        else if (objectType.equals("KalturaAssetParamsOutput")) {
-            return new KalturaAssetParamsOutput(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaFlavorParamsOutput")) {
-            return new KalturaMediaFlavorParamsOutput(xmlElement);
-        }
-        else if (objectType.equals("KalturaMediaFlavorParams")) {
-            return new KalturaMediaFlavorParams(xmlElement);
-        }
-        else if (objectType.equals("KalturaApiActionPermissionItem")) {
-            return new KalturaApiActionPermissionItem(xmlElement);
-        }
-        else if (objectType.equals("KalturaApiParameterPermissionItem")) {
-            return new KalturaApiParameterPermissionItem(xmlElement);
-        }
-        else if (objectType.equals("KalturaGenericSyndicationFeed")) {
-            return new KalturaGenericSyndicationFeed(xmlElement);
-        }
-        else if (objectType.equals("KalturaGenericXsltSyndicationFeed")) {
-            return new KalturaGenericXsltSyndicationFeed(xmlElement);
-        }
-        else if (objectType.equals("KalturaGoogleVideoSyndicationFeed")) {
-            return new KalturaGoogleVideoSyndicationFeed(xmlElement);
-        }
-        else if (objectType.equals("KalturaITunesSyndicationFeed")) {
-            return new KalturaITunesSyndicationFeed(xmlElement);
-        }
-        else if (objectType.equals("KalturaTubeMogulSyndicationFeed")) {
-            return new KalturaTubeMogulSyndicationFeed(xmlElement);
+
+    private static final Map<String, KalturaObjectCreator> creators = new ConcurrentHashMap<String, KalturaObjectCreator>(512);
+    private static final Map<String, Class<?>> types = new ConcurrentHashMap<String, Class<?>>(512);
+
+    static {
+        registerType(KalturaBaseRestriction.class);
+        registerType(KalturaAccessControl.class);
+        registerType(KalturaFilter.class);
+        registerType(KalturaAccessControlFilter.class);
+        registerType(KalturaFilterPager.class);
+        registerType(KalturaAccessControlListResponse.class);
+        registerType(KalturaUser.class);
+        registerType(KalturaAdminUser.class);
+        registerType(KalturaDynamicEnum.class);
+        registerType(KalturaBaseEntry.class);
+        registerType(KalturaBaseEntryFilter.class);
+        registerType(KalturaBaseEntryListResponse.class);
+        registerType(KalturaModerationFlag.class);
+        registerType(KalturaModerationFlagListResponse.class);
+        registerType(KalturaEntryContextDataParams.class);
+        registerType(KalturaEntryContextDataResult.class);
+        registerType(KalturaBulkUploadPluginData.class);
+        registerType(KalturaBulkUploadResult.class);
+        registerType(KalturaBulkUpload.class);
+        registerType(KalturaBulkUploadListResponse.class);
+        registerType(KalturaCategory.class);
+        registerType(KalturaCategoryFilter.class);
+        registerType(KalturaCategoryListResponse.class);
+        registerType(KalturaCropDimensions.class);
+        registerType(KalturaConversionProfile.class);
+        registerType(KalturaConversionProfileFilter.class);
+        registerType(KalturaConversionProfileListResponse.class);
+        registerType(KalturaDataEntry.class);
+        registerType(KalturaDataEntryFilter.class);
+        registerType(KalturaDataListResponse.class);
+        registerType(KalturaDocumentEntry.class);
+        registerType(KalturaConversionAttribute.class);
+        registerType(KalturaDocumentEntryFilter.class);
+        registerType(KalturaDocumentListResponse.class);
+        registerType(KalturaEmailIngestionProfile.class);
+        registerType(KalturaPlayableEntry.class);
+        registerType(KalturaMediaEntry.class);
+        registerType(KalturaAsset.class);
+        registerType(KalturaFlavorAsset.class);
+        registerType(KalturaAssetFilter.class);
+        registerType(KalturaFlavorAssetListResponse.class);
+        registerType(KalturaString.class);
+        registerType(KalturaAssetParams.class);
+        registerType(KalturaFlavorParams.class);
+        registerType(KalturaFlavorAssetWithParams.class);
+        registerType(KalturaAssetParamsFilter.class);
+        registerType(KalturaFlavorParamsFilter.class);
+        registerType(KalturaFlavorParamsListResponse.class);
+        registerType(KalturaLiveStreamBitrate.class);
+        registerType(KalturaLiveStreamEntry.class);
+        registerType(KalturaLiveStreamAdminEntry.class);
+        registerType(KalturaPlayableEntryFilter.class);
+        registerType(KalturaMediaEntryFilter.class);
+        registerType(KalturaLiveStreamEntryFilter.class);
+        registerType(KalturaLiveStreamListResponse.class);
+        registerType(KalturaSearch.class);
+        registerType(KalturaSearchResult.class);
+        registerType(KalturaMediaListResponse.class);
+        registerType(KalturaMixEntry.class);
+        registerType(KalturaMixEntryFilter.class);
+        registerType(KalturaMixListResponse.class);
+        registerType(KalturaClientNotification.class);
+        registerType(KalturaKeyValue.class);
+        registerType(KalturaPartner.class);
+        registerType(KalturaPartnerUsage.class);
+        registerType(KalturaPermissionItemFilter.class);
+        registerType(KalturaPermissionItemListResponse.class);
+        registerType(KalturaPermission.class);
+        registerType(KalturaPermissionFilter.class);
+        registerType(KalturaPermissionListResponse.class);
+        registerType(KalturaMediaEntryFilterForPlaylist.class);
+        registerType(KalturaPlaylist.class);
+        registerType(KalturaPlaylistFilter.class);
+        registerType(KalturaPlaylistListResponse.class);
+        registerType(KalturaReportInputFilter.class);
+        registerType(KalturaReportGraph.class);
+        registerType(KalturaReportTotal.class);
+        registerType(KalturaReportTable.class);
+        registerType(KalturaSearchResultResponse.class);
+        registerType(KalturaSearchAuthData.class);
+        registerType(KalturaStartWidgetSessionResponse.class);
+        registerType(KalturaStatsEvent.class);
+        registerType(KalturaStatsKmcEvent.class);
+        registerType(KalturaCEError.class);
+        registerType(KalturaBaseSyndicationFeedFilter.class);
+        registerType(KalturaBaseSyndicationFeedListResponse.class);
+        registerType(KalturaSyndicationFeedEntryCount.class);
+        registerType(KalturaThumbAsset.class);
+        registerType(KalturaThumbParams.class);
+        registerType(KalturaThumbAssetListResponse.class);
+        registerType(KalturaThumbParamsFilter.class);
+        registerType(KalturaThumbParamsListResponse.class);
+        registerType(KalturaUiConf.class);
+        registerType(KalturaUiConfFilter.class);
+        registerType(KalturaUiConfListResponse.class);
+        registerType(KalturaUiConfTypeInfo.class);
+        registerType(KalturaUploadResponse.class);
+        registerType(KalturaUploadToken.class);
+        registerType(KalturaUploadTokenFilter.class);
+        registerType(KalturaUploadTokenListResponse.class);
+        registerType(KalturaUserRole.class);
+        registerType(KalturaUserRoleFilter.class);
+        registerType(KalturaUserRoleListResponse.class);
+        registerType(KalturaUserFilter.class);
+        registerType(KalturaUserListResponse.class);
+        registerType(KalturaWidget.class);
+        registerType(KalturaWidgetFilter.class);
+        registerType(KalturaWidgetListResponse.class);
+        registerType(KalturaMetadataFilter.class);
+        registerType(KalturaMetadata.class);
+        registerType(KalturaMetadataListResponse.class);
+        registerType(KalturaMetadataProfileFilter.class);
+        registerType(KalturaMetadataProfile.class);
+        registerType(KalturaMetadataProfileListResponse.class);
+        registerType(KalturaMetadataProfileField.class);
+        registerType(KalturaMetadataProfileFieldListResponse.class);
+        registerType(KalturaPartnerFilter.class);
+        registerType(KalturaStorageProfile.class);
+        registerType(KalturaStorageProfileListResponse.class);
+        registerType(KalturaSystemPartnerUsageFilter.class);
+        registerType(KalturaSystemPartnerUsageItem.class);
+        registerType(KalturaSystemPartnerUsageListResponse.class);
+        registerType(KalturaPartnerListResponse.class);
+        registerType(KalturaSystemPartnerConfiguration.class);
+        registerType(KalturaSystemPartnerPackage.class);
+        registerType(KalturaFlavorParamsOutputFilter.class);
+        registerType(KalturaFlavorParamsOutput.class);
+        registerType(KalturaFlavorParamsOutputListResponse.class);
+        registerType(KalturaThumbParamsOutputFilter.class);
+        registerType(KalturaThumbParamsOutput.class);
+        registerType(KalturaThumbParamsOutputListResponse.class);
+        registerType(KalturaMediaInfoFilter.class);
+        registerType(KalturaMediaInfo.class);
+        registerType(KalturaMediaInfoListResponse.class);
+        registerType(KalturaTrackEntry.class);
+        registerType(KalturaTrackEntryListResponse.class);
+        registerType(KalturaUiConfAdmin.class);
+        registerType(KalturaUiConfAdminListResponse.class);
+        registerType(KalturaInternalToolsSession.class);
+        registerType(KalturaAuditTrailFilter.class);
+        registerType(KalturaAuditTrail.class);
+        registerType(KalturaAuditTrailListResponse.class);
+        registerType(KalturaVirusScanProfileFilter.class);
+        registerType(KalturaVirusScanProfile.class);
+        registerType(KalturaVirusScanProfileListResponse.class);
+        registerType(KalturaDistributionThumbDimensions.class);
+        registerType(KalturaDistributionProfileFilter.class);
+        registerType(KalturaDistributionProfileListResponse.class);
+        registerType(KalturaEntryDistribution.class);
+        registerType(KalturaEntryDistributionFilter.class);
+        registerType(KalturaEntryDistributionListResponse.class);
+        registerType(KalturaDistributionProviderFilter.class);
+        registerType(KalturaDistributionProviderListResponse.class);
+        registerType(KalturaGenericDistributionProvider.class);
+        registerType(KalturaGenericDistributionProviderFilter.class);
+        registerType(KalturaGenericDistributionProviderListResponse.class);
+        registerType(KalturaGenericDistributionProviderAction.class);
+        registerType(KalturaGenericDistributionProviderActionFilter.class);
+        registerType(KalturaGenericDistributionProviderActionListResponse.class);
+        registerType(KalturaAnnotationFilter.class);
+        registerType(KalturaAnnotation.class);
+        registerType(KalturaAnnotationListResponse.class);
+        registerType(KalturaShortLinkFilter.class);
+        registerType(KalturaShortLink.class);
+        registerType(KalturaShortLinkListResponse.class);
+        registerType(KalturaCountryRestriction.class);
+        registerType(KalturaDirectoryRestriction.class);
+        registerType(KalturaIpAddressRestriction.class);
+        registerType(KalturaSessionRestriction.class);
+        registerType(KalturaPreviewRestriction.class);
+        registerType(KalturaSiteRestriction.class);
+        registerType(KalturaSearchCondition.class);
+        registerType(KalturaSearchComparableCondition.class);
+        registerType(KalturaSearchOperator.class);
+        registerType(KalturaBaseJobFilter.class);
+        registerType(KalturaBatchJobFilter.class);
+        registerType(KalturaControlPanelCommandFilter.class);
+        registerType(KalturaMailJobFilter.class);
+        registerType(KalturaNotificationFilter.class);
+        registerType(KalturaBatchJobFilterExt.class);
+        registerType(KalturaAssetParamsOutputFilter.class);
+        registerType(KalturaFlavorAssetFilter.class);
+        registerType(KalturaMediaFlavorParamsFilter.class);
+        registerType(KalturaMediaFlavorParamsOutputFilter.class);
+        registerType(KalturaThumbAssetFilter.class);
+        registerType(KalturaLiveStreamAdminEntryFilter.class);
+        registerType(KalturaAdminUserFilter.class);
+        registerType(KalturaGoogleVideoSyndicationFeedFilter.class);
+        registerType(KalturaITunesSyndicationFeedFilter.class);
+        registerType(KalturaTubeMogulSyndicationFeedFilter.class);
+        registerType(KalturaYahooSyndicationFeedFilter.class);
+        registerType(KalturaApiActionPermissionItemFilter.class);
+        registerType(KalturaApiParameterPermissionItemFilter.class);
+        registerType(KalturaGenericSyndicationFeedFilter.class);
+        registerType(KalturaGenericXsltSyndicationFeedFilter.class);
+        registerType(KalturaAssetParamsOutput.class);
+        registerType(KalturaMediaFlavorParamsOutput.class);
+        registerType(KalturaMediaFlavorParams.class);
+        registerType(KalturaApiActionPermissionItem.class);
+        registerType(KalturaApiParameterPermissionItem.class);
+        registerType(KalturaGenericSyndicationFeed.class);
+        registerType(KalturaGenericXsltSyndicationFeed.class);
+        registerType(KalturaGoogleVideoSyndicationFeed.class);
+        registerType(KalturaITunesSyndicationFeed.class);
+        registerType(KalturaTubeMogulSyndicationFeed.class);
+        registerType(KalturaYahooSyndicationFeed.class);
+    }
+
+    /**
+     * Registers a type which can be created by this factory (replaces any existing registration for the objectType),
+     * the objectType is the simple name of the class and the class must have a public constructor which takes the XML Element
+     * 
+     * @param type the kaltura object class
+     */
+    public static void registerType(Class<?> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type must be set");
+        }
+        try {
+            Constructor<?> constructor = type.getConstructor(Element.class);
+            creators.put(type.getSimpleName(), new ConstructorCreator(constructor));
+            types.put(type.getSimpleName(), type);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("type " + type.getName() + " has no public constructor which takes an Element");
         }
-        else if (objectType.equals("KalturaYahooSyndicationFeed")) {
-            return new KalturaYahooSyndicationFeed(xmlElement);
+    }
+
+    /**
+     * Registers a creator for an objectType (replaces any existing registration for the objectType),
+     * this allows extension types (e.g. from plugins or OSGi fragments) to be added at runtime
+     * 
+     * @param objectType the kaltura objectType name
+     * @param creator the creator for objects of this type
+     */
+    public static void registerType(String objectType, KalturaObjectCreator creator) {
+        if (objectType == null || creator == null) {
+            throw new IllegalArgumentException("objectType and creator must be set");
+        }
+        creators.put(objectType, creator);
+        types.remove(objectType);
+    }
+
+    /**
+     * @param objectType the kaltura objectType name
+     * @return true if the type was registered and is now removed
+     */
+    public static boolean unregisterType(String objectType) {
+        types.remove(objectType);
+        return creators.remove(objectType) != null;
+    }
+
+    /**
+     * @param objectType the kaltura objectType name
+     * @return true if objects of this type can be created by this factory
+     */
+    public static boolean isRegistered(String objectType) {
+        return creators.containsKey(objectType);
+    }
+
+    /**
+     * @param objectType the kaltura objectType name
+     * @return the class registered for this type OR null if there is none (or it was registered with a custom creator)
+     */
+    public static Class<?> getRegisteredType(String objectType) {
+        return types.get(objectType);
+    }
+
+    public static Object create(Element xmlElement) throws KalturaApiException {
+        Object boundObject = KalturaObjectBinding.getBoundObject(xmlElement);
+        if (boundObject != null) {
+            // already decoded by the streaming parser
+            return boundObject;
+        }
+        Element objectTypeElement = XmlUtils.getChildElement(xmlElement, "objectType");
+        if (objectTypeElement == null) {
+            NodeList objectTypeNodes = xmlElement.getElementsByTagName("objectType");
+            if (objectTypeNodes.getLength() == 0) {
+                throw new KalturaApiException("Invalid object: no objectType in element " + xmlElement.getNodeName());
+            }
+            objectTypeElement = (Element) objectTypeNodes.item(0);
+        }
+        String objectType = objectTypeElement.getTextContent();
+        KalturaObjectCreator creator = creators.get(objectType);
+        if (creator == null) {
+            throw new KalturaApiException("Unknown object type: " + objectType 
+                    + " (not registered with " + KalturaObjectFactory.class.getSimpleName() + ")");
+        }
+        return creator.create(xmlElement);
+    }
+
+    /**
+     * Creates objects using their Element constructor
+     */
+    private static class ConstructorCreator implements KalturaObjectCreator {
+        private final Constructor<?> constructor;
+
+        ConstructorCreator(Constructor<?> constructor) {
+            this.constructor = constructor;
         }
-        else {
-            throw new KalturaApiException("Invalid object type");
+
+        public Object create(Element xmlElement) throws KalturaApiException {
+            try {
+                return constructor.newInstance(xmlElement);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof KalturaApiException) {
+                    throw (KalturaApiException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new KalturaApiException("Unable to create " + constructor.getDeclaringClass().getSimpleName() + ": " + cause);
+            } catch (Exception e) {
+                throw new KalturaApiException("Unable to create " + constructor.getDeclaringClass().getSimpleName() + ": " + e);
+            }
         }
-        return null;
     }
 }
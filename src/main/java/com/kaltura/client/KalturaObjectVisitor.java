@@ -0,0 +1,33 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+/**
+ * Receives the objects of a list response one at a time while the response is being read
+ * (see the list methods of the services which take a visitor), the objects are not collected
+ * so the memory used does not depend on the size of the page.
+ *
+ * The visitor is called on the thread executing the request and the connection is held
+ * until the whole response has been read so it should not block for long.
+ */
+public interface KalturaObjectVisitor<T> {
+
+    /**
+     * @param object the next object of the list (in the order of the response)
+     * @throws KalturaApiException to stop reading the response, this is thrown from the list call
+     */
+    void visit(T object) throws KalturaApiException;
+
+}
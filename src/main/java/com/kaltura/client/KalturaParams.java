@@ -1,51 +1,75 @@
 package com.kaltura.client;
 
-import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Helper class that provides a collection of Kaltura parameters (key-value pairs).
+ * Helper class that provides a collection of Kaltura parameters (key-value pairs),
+ * the parameters keep the order they were added in.
  * 
  * @author jpotts
  *
  */
-public class KalturaParams extends HashMap<String, String> {
+public class KalturaParams extends LinkedHashMap<String, String> {
 
 	private static final long serialVersionUID = 6630046786691120850L;
 
+	public KalturaParams() {
+		super();
+	}
+
+	/**
+	 * @param expectedSize the number of parameters expected (so the map does not need to grow)
+	 */
+	public KalturaParams(int expectedSize) {
+		super(expectedSize * 4 / 3 + 1);
+	}
+
+	/**
+	 * the object params (by key), their values in the map are null and they are 
+	 * written straight into the request (see {@link #writeTo(KalturaParamsEncoder, String)})
+	 */
+	private Map<String, Object> objects;
+
 	public String toQueryString() {
-		String str = "";
-		
-		Set<String> s = this.keySet();
-		Iterator<String> it = s.iterator( );
-		while (it.hasNext()) {
-			String name = (String)it.next();
-			String value = (String)this.get(name);
-			try {
-				str += (name + "=" + URLEncoder.encode (value, "UTF-8") + "&");
-			} catch (Exception e) {
-				//TODO handle this
+		KalturaParamsEncoder encoder = new KalturaParamsEncoder(size());
+		writeTo(encoder, null);
+		return encoder.toQueryString();
+	}
+	
+	public void add(String objectName, KalturaParams objectProperties) {
+		for (Map.Entry<String, String> param : objectProperties.entrySet()) {
+			Object object = objectProperties.getObject(param);
+			if (object == null) {
+				this.put(objectName + ":" + param.getKey(), param.getValue());
+			} else {
+				putObject(objectName + ":" + param.getKey(), object);
 			}
 		}
-		
-        if (str.endsWith("&"))
-            str = str.substring(0, str.length() - 1);
+	}
 
-        return str;        
+	/**
+	 * Adds the object, its fields are written into the request when it is sent (not copied into this map)
+	 * @param objectName the param name of the object (e.g. filter)
+	 * @param object the object, nothing is added if null
+	 */
+	public void add(String objectName, KalturaObjectBase object) {
+		addObjectIfNotNull(objectName, object);
 	}
-	
-	public void add(String objectName, KalturaParams objectProperties) {
-        for (String key : objectProperties.keySet()) {
-            this.put(objectName + ":" + key, objectProperties.get(key));            
-        }
-    }
 
 	public void add(KalturaParams objectProperties) {
-		this.putAll(objectProperties);
-    }
+		for (Map.Entry<String, String> param : objectProperties.entrySet()) {
+			Object object = objectProperties.getObject(param);
+			if (object == null) {
+				this.put(param.getKey(), param.getValue());
+			} else {
+				putObject(param.getKey(), object);
+			}
+		}
+	}
 
 	public void setString(String key, String value) {
 		if(this.get(key) != null)
@@ -54,41 +78,12 @@ public class KalturaParams extends HashMap<String, String> {
     }
 	
 	public void addObjectIfNotNull(String key, KalturaObjectBase object) {
-		if (object == null)
-			return;
-		
-		KalturaParams params = object.toParams();
-		Set<String> s = params.keySet();
-		Iterator<String> it = s.iterator( );
-		while (it.hasNext()) {
-			String name = (String)it.next();
-			String value = (String)params.get(name);
-			this.put(key + ":" + name, value);
-		}
-    }
+		if (object != null) putObject(key, object);
+	}
 	
-	public void addObjectIfNotNull(String key, ArrayList array) {
-		if (array == null)
-			return;
-		
-		int index = 0;
-		for(KalturaObjectBase object : (ArrayList<KalturaObjectBase>)array)
-		{
-			KalturaParams params = object.toParams();
-			Set<String> s = params.keySet();
-			Iterator<String> it = s.iterator( );
-			while (it.hasNext()) {
-				String name = (String)it.next();
-				String value = (String)params.get(name);
-				this.put(key + ":" + index + ":" + name, value);
-			}
-			index++;
-		}
-		if (array.isEmpty())
-		{
-			this.put(key + ":-", "");
-		}
-    }
+	public void addObjectIfNotNull(String key, ArrayList<? extends KalturaObjectBase> array) {
+		if (array != null) putObject(key, array);
+	}
 
 	public void addStringIfNotNull(String key, String value) {
         if (value != null) this.put(key, value);
@@ -105,4 +100,43 @@ public class KalturaParams extends HashMap<String, String> {
     public void addBoolIfNotNull(String key, boolean value) {
         this.put(key, value ? "1" : "0");
     }
+
+	/**
+	 * Writes the params into the request in the order they were added, the fields of the object params
+	 * are written straight from the objects
+	 * 
+	 * @param encoder the request params
+	 * @param prefix the prefix of the param names (e.g. "1:" in a multirequest), null for none
+	 */
+	@SuppressWarnings("unchecked")
+	public void writeTo(KalturaParamsEncoder encoder, String prefix) {
+		for (Map.Entry<String, String> param : this.entrySet()) {
+			Object object = getObject(param);
+			if (object == null) {
+				encoder.add(prefix, param.getKey(), param.getValue());
+			} else if (object instanceof KalturaObjectBase) {
+				encoder.addObjectIfNotNull(prefix, param.getKey(), (KalturaObjectBase) object);
+			} else {
+				encoder.addObjectIfNotNull(prefix, param.getKey(), (List<? extends KalturaObjectBase>) object);
+			}
+		}
+	}
+
+	/**
+	 * @return the object of the param OR null if it is not an object param
+	 */
+	private Object getObject(Map.Entry<String, String> param) {
+		if (objects == null || param.getValue() != null) {
+			return null;
+		}
+		return objects.get(param.getKey());
+	}
+
+	private void putObject(String key, Object object) {
+		if (objects == null) {
+			objects = new HashMap<String, Object>(4);
+		}
+		objects.put(key, object);
+		this.put(key, null);
+	}
 }
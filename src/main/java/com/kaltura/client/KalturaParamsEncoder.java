@@ -0,0 +1,347 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wire level encoder for the request parameters, the parameters are kept in the order they are added
+ * and as each one is added it is written straight into the url encoded request body and into the MD5 signature
+ * (no maps are built and the prefixes of the keys, e.g. of nested objects, are kept apart from the keys, 
+ * they are only joined if a full {@link #getKey(int) key} is asked for).
+ *
+ * The keys must be unique (this does not replace values like a map does) and once the request
+ * is {@link #sign() signed} no more parameters can be added.
+ */
+public class KalturaParamsEncoder {
+
+    public static final String SIGNATURE = "sig";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] URL_HEX = "0123456789ABCDEF".toCharArray();
+
+    private String[] prefixes;
+    private String[] keys;
+    private String[] values;
+    private int size = 0;
+    private final MessageDigest md5;
+    private boolean signed = false;
+
+    // the url encoded body
+    private byte[] body;
+    private int bodyLength = 0;
+
+    // scratch space for the UTF-8 bytes of the current key or value
+    private byte[] utf8 = new byte[64];
+
+    /**
+     * @param expectedSize the number of parameters expected (the buffers grow as needed)
+     */
+    public KalturaParamsEncoder(int expectedSize) {
+        int capacity = Math.max(8, expectedSize);
+        this.prefixes = new String[capacity];
+        this.keys = new String[capacity];
+        this.values = new String[capacity];
+        this.body = new byte[capacity * 24];
+        try {
+            this.md5 = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available: " + e, e);
+        }
+    }
+
+    /**
+     * @param key the parameter name
+     * @param value the value (null is sent as empty)
+     */
+    public void add(String key, String value) {
+        add(null, key, value);
+    }
+
+    /**
+     * Adds a parameter whose name is the prefix followed by the key (e.g. "filter:" and "orderBy"),
+     * the name is only joined into one string if it is asked for
+     *
+     * @param prefix the prefix of the parameter name (e.g. the name of the object and the separator), null for none
+     * @param key the rest of the parameter name
+     * @param value the value (null is sent as empty)
+     */
+    public void add(String prefix, String key, String value) {
+        if (signed) {
+            throw new IllegalStateException("Parameters cannot be added once the request is signed");
+        }
+        if (value == null) {
+            value = "";
+        }
+        if (size == keys.length) {
+            prefixes = grow(prefixes);
+            keys = grow(keys);
+            values = grow(values);
+        }
+        prefixes[size] = prefix;
+        keys[size] = key;
+        values[size] = value;
+        if (size > 0) {
+            writeBody('&');
+        }
+        size++;
+        if (prefix != null) {
+            write(prefix);
+        }
+        write(key);
+        writeBody('=');
+        write(value);
+    }
+
+    /**
+     * @param prefix the prefix for the parameter names, null for none
+     * @param params the parameters to add (in their iteration order)
+     */
+    public void addAll(String prefix, Map<String, String> params) {
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            add(prefix, param.getKey(), param.getValue());
+        }
+    }
+
+    /*
+     * The typed versions are used by the objects to write their fields (see KalturaObjectBase.toParams),
+     * the prefix is null for top level params or the names of the enclosing objects (e.g. "filter:")
+     */
+
+    public void addStringIfNotNull(String prefix, String key, String value) {
+        if (value != null) add(prefix, key, value);
+    }
+
+    public void addIntIfNotNull(String prefix, String key, int value) {
+        if (value != Integer.MIN_VALUE) add(prefix, key, Integer.toString(value));
+    }
+
+    public void addFloatIfNotNull(String prefix, String key, float value) {
+        if (value != Float.MIN_VALUE) add(prefix, key, Float.toString(value));
+    }
+
+    public void addBoolIfNotNull(String prefix, String key, boolean value) {
+        add(prefix, key, value ? "1" : "0");
+    }
+
+    public void addObjectIfNotNull(String prefix, String key, KalturaObjectBase object) {
+        if (object != null) object.toParams(this, objectPrefix(prefix, key));
+    }
+
+    public void addObjectIfNotNull(String prefix, String key, List<? extends KalturaObjectBase> array) {
+        if (array == null) {
+            return;
+        }
+        String arrayPrefix = objectPrefix(prefix, key);
+        if (array.isEmpty()) {
+            add(arrayPrefix, "-", "");
+            return;
+        }
+        int index = 0;
+        for (KalturaObjectBase object : array) {
+            object.toParams(this, arrayPrefix + index + ":");
+            index++;
+        }
+    }
+
+    /**
+     * @return the prefix of the fields of an object param (one string for each object, not for each field)
+     */
+    private static String objectPrefix(String prefix, String key) {
+        return prefix == null ? key + ":" : prefix + key + ":";
+    }
+
+    /**
+     * @param from the index of the first parameter to look at
+     * @param prefix the prefix of the parameter name, null for none
+     * @param key the rest of the parameter name
+     * @return true if the parameter was added at or after the index
+     */
+    public boolean containsKey(int from, String prefix, String key) {
+        for (int i = from; i < size; i++) {
+            if (key.equals(keys[i]) && (prefix == null ? prefixes[i] == null : prefix.equals(prefixes[i]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finishes the signature and adds it as the last parameter ({@value #SIGNATURE}),
+     * nothing can be added after this
+     *
+     * @return the MD5 signature (hex) of all the parameters
+     */
+    public String sign() {
+        if (signed) {
+            return getValue(size - 1);
+        }
+        byte[] digest = md5.digest();
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX[(digest[i] >> 4) & 0x0F];
+            hex[i * 2 + 1] = HEX[digest[i] & 0x0F];
+        }
+        String signature = new String(hex);
+        add(SIGNATURE, signature);
+        signed = true;
+        return signature;
+    }
+
+    /**
+     * @return the number of parameters
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of the parameter (in the order they were added)
+     * @return the full parameter name (the prefix and the key)
+     */
+    public String getKey(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index + " >= " + size);
+        }
+        return prefixes[index] == null ? keys[index] : prefixes[index] + keys[index];
+    }
+
+    /**
+     * @param index the index of the parameter (in the order they were added)
+     * @return the parameter value
+     */
+    public String getValue(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index + " >= " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * @return the parameters as a form url encoded (UTF-8) request body
+     */
+    public byte[] toFormUrlEncoded() {
+        byte[] bytes = new byte[bodyLength];
+        System.arraycopy(body, 0, bytes, 0, bodyLength);
+        return bytes;
+    }
+
+    /**
+     * @return the parameters as a url query string (without the leading ?)
+     */
+    public String toQueryString() {
+        try {
+            return new String(body, 0, bodyLength, "US-ASCII");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return a copy of the parameters as a map
+     */
+    public KalturaParams toParams() {
+        KalturaParams params = new KalturaParams(size);
+        for (int i = 0; i < size; i++) {
+            params.put(getKey(i), values[i]);
+        }
+        return params;
+    }
+
+    @Override
+    public String toString() {
+        return toQueryString();
+    }
+
+    /**
+     * Writes the UTF-8 bytes of the string into the signature and the url encoded bytes into the body
+     */
+    private void write(String s) {
+        int length = encodeUtf8(s);
+        md5.update(utf8, 0, length);
+        ensureBody(length * 3);
+        for (int i = 0; i < length; i++) {
+            int b = utf8[i] & 0xFF;
+            if ((b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9') 
+                    || b == '-' || b == '_' || b == '.' || b == '*') {
+                body[bodyLength++] = (byte) b;
+            } else if (b == ' ') {
+                body[bodyLength++] = '+';
+            } else {
+                body[bodyLength++] = '%';
+                body[bodyLength++] = (byte) URL_HEX[b >> 4];
+                body[bodyLength++] = (byte) URL_HEX[b & 0x0F];
+            }
+        }
+    }
+
+    private String[] grow(String[] array) {
+        String[] bigger = new String[array.length * 2];
+        System.arraycopy(array, 0, bigger, 0, size);
+        return bigger;
+    }
+
+    private void writeBody(char c) {
+        ensureBody(1);
+        body[bodyLength++] = (byte) c;
+    }
+
+    private void ensureBody(int extra) {
+        if (bodyLength + extra > body.length) {
+            byte[] bigger = new byte[Math.max(body.length * 2, bodyLength + extra)];
+            System.arraycopy(body, 0, bigger, 0, bodyLength);
+            body = bigger;
+        }
+    }
+
+    /**
+     * @return the number of UTF-8 bytes of the string written into the scratch buffer
+     */
+    private int encodeUtf8(String s) {
+        int max = s.length() * 3;
+        if (max > utf8.length) {
+            utf8 = new byte[Math.max(max, utf8.length * 2)];
+        }
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                utf8[n++] = (byte) c;
+            } else if (c < 0x800) {
+                utf8[n++] = (byte) (0xC0 | (c >> 6));
+                utf8[n++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                utf8[n++] = (byte) (0xF0 | (cp >> 18));
+                utf8[n++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                utf8[n++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                utf8[n++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (c >= '\uD800' && c <= '\uDFFF') {
+                // unpaired surrogate, same replacement as String.getBytes
+                utf8[n++] = '?';
+            } else {
+                utf8[n++] = (byte) (0xE0 | (c >> 12));
+                utf8[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                utf8[n++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return n;
+    }
+
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.util.Set;
+
+/**
+ * A fully prepared (signed) HTTP request to the Kaltura server, this is what the queued
+ * {@link KalturaServiceActionCall}s turn into when the client queue is flushed.
+ * A request does not depend on the client state so it can be executed on any thread.
+ */
+public class KalturaRequest {
+
+    private final String url;
+    private final String path;
+    private final KalturaParamsEncoder params;
+    private final KalturaFiles files;
+    private final boolean multiRequest;
+    private final EKalturaServiceFormat format;
+    private final Set<String> projection;
+    private final EKalturaTimeoutClass timeoutClass;
+    private final EKalturaRetryClass retryClass;
+    private final boolean hedgeable;
+
+    public KalturaRequest(String url, KalturaParams params, KalturaFiles files, boolean multiRequest, EKalturaServiceFormat format) {
+        this(url, params, files, multiRequest, format, null);
+    }
+
+    /**
+     * @param params the request params, they are signed here (any signature already in them is replaced)
+     */
+    public KalturaRequest(String url, KalturaParams params, KalturaFiles files, boolean multiRequest, EKalturaServiceFormat format, 
+            Set<String> projection) {
+        this(url, encode(params), files, multiRequest, format, projection);
+    }
+
+    /**
+     * @param params the encoded (and signed) request params
+     */
+    public KalturaRequest(String url, KalturaParamsEncoder params, KalturaFiles files, boolean multiRequest, 
+            EKalturaServiceFormat format, Set<String> projection) {
+        this(url, params, files, multiRequest, format, projection, 
+                files.isEmpty() ? EKalturaTimeoutClass.NORMAL : EKalturaTimeoutClass.UPLOAD, EKalturaRetryClass.NON_IDEMPOTENT_WRITE);
+    }
+
+    /**
+     * @param params the encoded (and signed) request params
+     * @param timeoutClass the class which sets the socket timeout of this request
+     * @param retryClass how safe it is to send this request again
+     */
+    public KalturaRequest(String url, KalturaParamsEncoder params, KalturaFiles files, boolean multiRequest, 
+            EKalturaServiceFormat format, Set<String> projection, EKalturaTimeoutClass timeoutClass, EKalturaRetryClass retryClass) {
+        this(url, params, files, multiRequest, format, projection, timeoutClass, retryClass, false);
+    }
+
+    /**
+     * @param hedgeable true if a duplicate of this request can be sent when it is slow
+     */
+    public KalturaRequest(String url, KalturaParamsEncoder params, KalturaFiles files, boolean multiRequest, 
+            EKalturaServiceFormat format, Set<String> projection, EKalturaTimeoutClass timeoutClass, EKalturaRetryClass retryClass,
+            boolean hedgeable) {
+        this(url, null, params, files, multiRequest, format, projection, timeoutClass, retryClass, hedgeable);
+    }
+
+    /**
+     * @param endpoint the endpoint the url starts with
+     * @param path the rest of the url (so the request can be sent to any of the configured endpoints), 
+     * null to always send it to the url
+     */
+    public KalturaRequest(String endpoint, String path, KalturaParamsEncoder params, KalturaFiles files, boolean multiRequest, 
+            EKalturaServiceFormat format, Set<String> projection, EKalturaTimeoutClass timeoutClass, EKalturaRetryClass retryClass,
+            boolean hedgeable) {
+        this.url = path == null ? endpoint : endpoint + path;
+        this.path = path;
+        this.params = params;
+        this.files = files;
+        this.multiRequest = multiRequest;
+        this.format = format;
+        this.projection = projection;
+        this.timeoutClass = timeoutClass;
+        this.retryClass = retryClass;
+        this.hedgeable = hedgeable;
+    }
+
+    /**
+     * @return the full url (including the service and action) to post to
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return the url without the endpoint (e.g. /api_v3/index.php?service=baseentry&action=get), 
+     * null if the request can only be sent to {@link #getUrl()}
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return a copy of the signed request params
+     */
+    public KalturaParams getParams() {
+        return params.toParams();
+    }
+
+    /**
+     * @return the signed request params as they are sent
+     */
+    public KalturaParamsEncoder getEncodedParams() {
+        return params;
+    }
+
+    /**
+     * @return the files to upload with this request (empty if none)
+     */
+    public KalturaFiles getFiles() {
+        return files;
+    }
+
+    /**
+     * @return true if this request contains multiple calls
+     */
+    public boolean isMultiRequest() {
+        return multiRequest;
+    }
+
+    /**
+     * @return the response format requested from the server
+     */
+    public EKalturaServiceFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @return the only fields to decode for the entries of list responses, null to decode all
+     */
+    public Set<String> getProjection() {
+        return projection;
+    }
+
+    /**
+     * @return the class which sets the socket timeout of this request
+     */
+    public EKalturaTimeoutClass getTimeoutClass() {
+        return timeoutClass;
+    }
+
+    /**
+     * @return how safe it is to send this request again
+     */
+    public EKalturaRetryClass getRetryClass() {
+        return retryClass;
+    }
+
+    /**
+     * @return true if a duplicate of this request can be sent when it is slow
+     */
+    public boolean isHedgeable() {
+        return hedgeable;
+    }
+
+    /**
+     * @return the params encoded and signed (any old signature in them is dropped)
+     */
+    private static KalturaParamsEncoder encode(KalturaParams params) {
+        if (params.containsKey(KalturaParamsEncoder.SIGNATURE)) {
+            KalturaParams unsigned = new KalturaParams(params.size());
+            unsigned.add(params);
+            unsigned.remove(KalturaParamsEncoder.SIGNATURE);
+            params = unsigned;
+        }
+        KalturaParamsEncoder encoder = new KalturaParamsEncoder(params.size() + 1);
+        // the object params are written from their objects
+        params.writeTo(encoder, null);
+        encoder.sign();
+        return encoder;
+    }
+
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The calls queued for the next request (a single call or a multirequest batch) along with the
+ * multirequest param mappings and the response projection, this is all the state a request needs
+ * before it is {@link KalturaClientBase#prepareRequest(KalturaRequestBuilder) prepared}.
+ * The caller owns this and passes it to the client to execute, so a single client (and its session) 
+ * can be shared by all threads.
+ * This is not threadsafe.
+ */
+public class KalturaRequestBuilder {
+
+    private final List<KalturaServiceActionCall> calls = new ArrayList<KalturaServiceActionCall>(4);
+    private final boolean multiRequest;
+    private KalturaParams multiRequestParamsMap;
+    private Set<String> projection;
+
+    /**
+     * A single call request
+     */
+    public KalturaRequestBuilder() {
+        this(false);
+    }
+
+    /**
+     * @param multiRequest true to batch all the queued calls in one multirequest
+     */
+    public KalturaRequestBuilder(boolean multiRequest) {
+        this.multiRequest = multiRequest;
+    }
+
+    /**
+     * @param call the call to add to the request
+     */
+    public void add(KalturaServiceActionCall call) {
+        calls.add(call);
+    }
+
+    /**
+     * @return the queued calls (in order)
+     */
+    public List<KalturaServiceActionCall> getCalls() {
+        return calls;
+    }
+
+    /**
+     * @return true if no calls are queued
+     */
+    public boolean isEmpty() {
+        return calls.isEmpty();
+    }
+
+    /**
+     * Drops the queued calls and param mappings (the projection is kept)
+     */
+    public void clear() {
+        calls.clear();
+        multiRequestParamsMap = null;
+    }
+
+    public boolean isMultiRequest() {
+        return multiRequest;
+    }
+
+    /**
+     * @param requestParam the param of a queued call (e.g. 2:entryId)
+     * @param resultParam the result of an earlier call to use as its value (e.g. {1:result:id})
+     */
+    public void mapMultiRequestParam(String requestParam, String resultParam) {
+        if (multiRequestParamsMap == null) {
+            multiRequestParamsMap = new KalturaParams();
+        }
+        multiRequestParamsMap.put(requestParam, resultParam);
+    }
+
+    public void mapMultiRequestParam(int resultNumber, int requestNumber, String requestParamName) {
+        this.mapMultiRequestParam(resultNumber, null, requestNumber, requestParamName);
+    }
+
+    /**
+     * @param resultNumber the number of the earlier call (from 1)
+     * @param resultParamName the path in its result (e.g. :id), null for the whole result
+     * @param requestNumber the number of the call which uses the result
+     * @param requestParamName the param of that call
+     */
+    public void mapMultiRequestParam(int resultNumber, String resultParamName, int requestNumber, String requestParamName) {
+        String resultParam = "{" + resultNumber + ":result";
+        if (resultParamName != null && resultParamName.length() > 0) resultParam += resultParamName;
+        resultParam += "}";
+
+        this.mapMultiRequestParam(requestNumber + ":" + requestParamName, resultParam);
+    }
+
+    /**
+     * @return the multirequest param mappings (request param to result param), empty if there are none
+     */
+    public Map<String, String> getMultiRequestParamsMap() {
+        if (multiRequestParamsMap == null) {
+            return Collections.emptyMap();
+        }
+        return multiRequestParamsMap;
+    }
+
+    /**
+     * @return the only fields to decode for the entries of list responses, null to decode all
+     */
+    public Set<String> getProjection() {
+        return projection;
+    }
+
+    public void setProjection(Set<String> projection) {
+        this.projection = projection;
+    }
+
+    /**
+     * Limits the fields which are decoded for the entries of the list responses (and other arrays of objects)
+     * returned by this request, all other fields are left unset
+     * e.g. setResponseProjection("id", "name", "thumbnailUrl") before calling list
+     * 
+     * @param fieldNames the names of the fields to decode, none to decode all fields
+     */
+    public void setResponseProjection(String... fieldNames) {
+        if (fieldNames == null || fieldNames.length == 0) {
+            this.projection = null;
+        } else {
+            this.projection = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(fieldNames)));
+        }
+    }
+
+}
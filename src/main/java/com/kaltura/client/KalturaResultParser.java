@@ -0,0 +1,33 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import org.w3c.dom.Element;
+
+/**
+ * Turns the result element of a call into its typed result
+ * (see {@link KalturaClientBase#doQueueAsync(KalturaRequestBuilder, KalturaResultParser)}),
+ * the parser is called on the thread executing the request.
+ */
+public interface KalturaResultParser<T> {
+
+    /**
+     * @param result the result element of the call
+     * @return the typed result of the call
+     * @throws KalturaApiException if the result cannot be parsed, this is thrown from the future
+     */
+    T parse(Element result) throws KalturaApiException;
+
+}
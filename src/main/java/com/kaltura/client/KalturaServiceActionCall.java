@@ -29,14 +29,13 @@ public class KalturaServiceActionCall {
     }
 
     public KalturaParams getParamsForMultiRequest(int multiRequestNumber) {
-        KalturaParams multiRequestParams = new KalturaParams();
-        multiRequestParams.put(multiRequestNumber + ":service", this.service);
-        multiRequestParams.put(multiRequestNumber + ":action", this.action);
-        for (String param : this.params.keySet()) {
-            multiRequestParams.put(multiRequestNumber + ":" + param, this.params.get(param));
-        }
-
-        return multiRequestParams;
+        String prefix = multiRequestNumber + ":";
+        KalturaParamsEncoder multiRequestParams = new KalturaParamsEncoder(this.params.size() + 2);
+        multiRequestParams.add(prefix, "service", this.service);
+        multiRequestParams.add(prefix, "action", this.action);
+        this.params.writeTo(multiRequestParams, prefix);
+
+        return multiRequestParams.toParams();
     }
 
     public KalturaServiceActionCall(String service, String action, KalturaParams kparams) {
@@ -10,6 +10,11 @@ public class KalturaServiceBase {
 
 	protected KalturaClient kalturaClient;
 	
+	/**
+	 * the request the calls are queued in, null to send each call on its own
+	 */
+	protected KalturaRequestBuilder request;
+	
 	public KalturaServiceBase() {		
 	}
 	
@@ -17,6 +22,15 @@ public class KalturaServiceBase {
 		this.kalturaClient = kalturaClient;
 	}
 	
+	/**
+	 * @param kalturaClient the client
+	 * @param request the request to queue the calls in (e.g. a multirequest, the calls then return null)
+	 */
+	public KalturaServiceBase(KalturaClient kalturaClient, KalturaRequestBuilder request) {
+		this.kalturaClient = kalturaClient;
+		this.request = request;
+	}
+	
 	public void setKalturaClient(KalturaClient kalturaClient) {
 		this.kalturaClient = kalturaClient;
 	}
@@ -0,0 +1,369 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.DOMImplementation;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import com.kaltura.client.KalturaObjectBinding.FieldBinding;
+import com.kaltura.client.utils.XmlUtils;
+
+/**
+ * Decodes kaltura XML responses with a StAX pull parser, the kaltura objects are bound
+ * directly from the stream in a single forward pass (no DOM is built for them).
+ *
+ * The result is a small skeleton of the response document (the same shape as the full DOM)
+ * so the services and the response checks work unchanged: every element which holds an object
+ * only contains its objectType and the decoded object is attached to it
+ * (see {@link KalturaObjectBinding#getBoundObject(Element)}), errors and scalar values are kept as is.
+ *
+ * The server always sends the objectType as the first field of an object, when it does not the fields
+ * of that object are buffered as DOM until the end of the object and decoded like the DOM parser would
+ * (so the object is never decoded as the declared type of its field while it has an objectType).
+ */
+public class KalturaStaxParser {
+
+    private static final String RESULT = "result";
+    private static final String ITEM = "item";
+
+    private static final XMLInputFactory inputFactory;
+    private static final DOMImplementation domImplementation;
+    static {
+        inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        domImplementation = XmlUtils.getDocumentBuilder().getDOMImplementation();
+    }
+
+    private final KalturaStringPool stringPool;
+    private KalturaDomBinder domBinder;
+
+    private KalturaStaxParser(KalturaStringPool stringPool) {
+        this.stringPool = stringPool;
+    }
+
+    /**
+     * Parse a kaltura response
+     *
+     * @param xmlStream the response stream
+     * @return the root (xml) element of the response skeleton
+     * @throws IOException if the stream cannot be read
+     * @throws KalturaApiException if the response is not valid XML or contains an unknown object type
+     */
+    public static Element parse(InputStream xmlStream) throws IOException, KalturaApiException {
+        return parse(xmlStream, null);
+    }
+
+    /**
+     * Parse a kaltura response
+     *
+     * @param xmlStream the response stream
+     * @param projection the only fields to decode for the elements of arrays (e.g. the objects of a list response), null for all
+     * @return the root (xml) element of the response skeleton
+     * @throws IOException if the stream cannot be read
+     * @throws KalturaApiException if the response is not valid XML or contains an unknown object type
+     */
+    public static Element parse(InputStream xmlStream, Set<String> projection) throws IOException, KalturaApiException {
+        return parse(xmlStream, projection, null);
+    }
+
+    /**
+     * Parse a kaltura response, the objects of a list response are passed to the visitor as they are read
+     * instead of being collected (the objects field of the list response is left unset)
+     *
+     * @param xmlStream the response stream
+     * @param projection the only fields to decode for the elements of arrays (e.g. the objects of a list response), null for all
+     * @param visitor the visitor for the objects of the list, null to collect them as usual
+     * @return the root (xml) element of the response skeleton
+     * @throws IOException if the stream cannot be read
+     * @throws KalturaApiException if the response is not valid XML or contains an unknown object type (or the visitor fails)
+     */
+    public static Element parse(InputStream xmlStream, Set<String> projection, KalturaObjectVisitor<Object> visitor) 
+            throws IOException, KalturaApiException {
+        return parse(xmlStream, projection, visitor, null);
+    }
+
+    /**
+     * Parse a kaltura response
+     *
+     * @param xmlStream the response stream
+     * @param projection the only fields to decode for the elements of arrays (e.g. the objects of a list response), null for all
+     * @param visitor the visitor for the objects of the list, null to collect them as usual
+     * @param stringPool the pool to deduplicate the string values with, null to keep them as they are
+     * @return the root (xml) element of the response skeleton
+     * @throws IOException if the stream cannot be read
+     * @throws KalturaApiException if the response is not valid XML or contains an unknown object type (or the visitor fails)
+     */
+    public static Element parse(InputStream xmlStream, Set<String> projection, KalturaObjectVisitor<Object> visitor, 
+            KalturaStringPool stringPool) throws IOException, KalturaApiException {
+        KalturaStaxParser parser = new KalturaStaxParser(stringPool);
+        XMLStreamReader reader = null;
+        try {
+            reader = inputFactory.createXMLStreamReader(xmlStream);
+            while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // skip the prolog
+            }
+            if (! reader.isStartElement()) {
+                throw new KalturaApiException("Invalid result: response is empty");
+            }
+            Document doc = createDocument(reader.getLocalName());
+            Element root = doc.getDocumentElement();
+            while (nextChild(reader)) {
+                Element child = doc.createElement(reader.getLocalName());
+                root.appendChild(child);
+                if (RESULT.equals(reader.getLocalName())) {
+                    parser.readValue(reader, child, projection, visitor);
+                } else {
+                    copyContent(reader, child);
+                }
+            }
+            return root;
+        } catch (XMLStreamException e) {
+            Throwable cause = e.getNestedException() != null ? e.getNestedException() : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new KalturaInvalidResponseException("Invalid result: response could not be parsed (" + e.getMessage() + ")");
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // nothing to do
+                }
+            }
+        }
+    }
+
+    /**
+     * @param rootName the name of the root element
+     * @return a new empty document for a response skeleton
+     */
+    static Document createDocument(String rootName) {
+        return domImplementation.createDocument(null, rootName, null);
+    }
+
+    /**
+     * Reads a result (or multirequest / array item) value into the skeleton element,
+     * the reader must be on the start of the value and is left on its end
+     */
+    private void readValue(XMLStreamReader reader, Element shell, Set<String> projection, 
+            KalturaObjectVisitor<Object> visitor) throws XMLStreamException, KalturaApiException {
+        Document doc = shell.getOwnerDocument();
+        StringBuilder text = new StringBuilder();
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if (KalturaObjectBinding.OBJECT_TYPE.equals(name)) {
+                    String objectType = readText(reader);
+                    KalturaObjectBinding binding = KalturaObjectBinding.get(KalturaObjectBinding.getObjectClass(objectType));
+                    Object object = binding.newInstance();
+                    Element objectTypeElement = doc.createElement(name);
+                    objectTypeElement.setTextContent(objectType);
+                    shell.appendChild(objectTypeElement);
+                    while (nextChild(reader)) {
+                        readField(reader, binding, object, null, projection, visitor);
+                    }
+                    shell.setUserData(KalturaObjectBinding.BOUND_OBJECT_KEY, object, null);
+                } else if (ITEM.equals(name)) {
+                    do {
+                        Element item = doc.createElement(reader.getLocalName());
+                        shell.appendChild(item);
+                        readValue(reader, item, projection, null);
+                    } while (nextChild(reader));
+                } else {
+                    // errors and anything unknown are kept as they are (an object with a late objectType is decoded from the DOM)
+                    do {
+                        Element child = doc.createElement(reader.getLocalName());
+                        shell.appendChild(child);
+                        copyContent(reader, child);
+                    } while (nextChild(reader));
+                    if (visitor != null && XmlUtils.getChildElement(shell, KalturaObjectBinding.OBJECT_TYPE) != null) {
+                        throw new KalturaInvalidResponseException("Invalid result: objectType is not the first field of the result, "
+                                + "its list cannot be visited");
+                    }
+                }
+                return;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (text.length() > 0) {
+                    shell.appendChild(doc.createTextNode(text.toString()));
+                }
+                return;
+            } else if (isText(event)) {
+                text.append(reader.getText());
+            }
+        }
+    }
+
+    /**
+     * Reads a nested object, the reader must be on the start of the field and is left on its end
+     * @param fields the fields to decode on this object, null for all
+     * @param itemFields the fields to decode on the elements of arrays below this object, null for all
+     * @return the object OR null if the field is empty
+     */
+    private Object readObject(XMLStreamReader reader, Class<?> declaredType, Set<String> fields, Set<String> itemFields) throws XMLStreamException, KalturaApiException {
+        if (! nextChild(reader)) {
+            return null;
+        }
+        if (! KalturaObjectBinding.OBJECT_TYPE.equals(reader.getLocalName())) {
+            // the type is not known until the objectType (if any) is read so buffer the object
+            Element buffer = createDocument(ITEM).getDocumentElement();
+            do {
+                Element child = buffer.getOwnerDocument().createElement(reader.getLocalName());
+                buffer.appendChild(child);
+                copyContent(reader, child);
+            } while (nextChild(reader));
+            if (domBinder == null) {
+                domBinder = new KalturaDomBinder(false, null, null, 0, stringPool);
+            }
+            return domBinder.decode(buffer, declaredType, fields, itemFields);
+        }
+        KalturaObjectBinding binding = KalturaObjectBinding.get(KalturaObjectBinding.getObjectClass(readText(reader)));
+        Object object = binding.newInstance();
+        while (nextChild(reader)) {
+            readField(reader, binding, object, fields, itemFields, null);
+        }
+        return object;
+    }
+
+    /**
+     * Reads a single field into the object, the reader must be on the start of the field and is left on its end
+     * @param visitor if not null the objects of the list field are passed to it instead of being collected
+     */
+    private void readField(XMLStreamReader reader, KalturaObjectBinding binding, Object object, 
+            Set<String> fields, Set<String> itemFields, KalturaObjectVisitor<Object> visitor) throws XMLStreamException, KalturaApiException {
+        FieldBinding field = binding.getField(reader.getLocalName());
+        if (fields != null && ! fields.contains(reader.getLocalName())) {
+            // not in the projection
+            skip(reader);
+        } else if (field == null) {
+            // objectType or a field this client version does not know about
+            skip(reader);
+        } else if (field.isScalar()) {
+            field.setText(object, readText(reader), stringPool);
+        } else if (field.getKind() == KalturaObjectBinding.KIND_OBJECT) {
+            field.set(object, readObject(reader, field.getValueType(), null, fields == null ? itemFields : null));
+        } else if (visitor != null && KalturaObjectBinding.LIST_OBJECTS.equals(field.getName())) {
+            while (nextChild(reader)) {
+                visitor.visit(readObject(reader, field.getValueType(), fields == null ? itemFields : null, null));
+            }
+        } else {
+            ArrayList<Object> list = new ArrayList<Object>();
+            while (nextChild(reader)) {
+                list.add(readObject(reader, field.getValueType(), fields == null ? itemFields : null, null));
+            }
+            field.set(object, list);
+        }
+    }
+
+    /**
+     * Moves to the start of the next child element
+     * @return true if there is one, false if the end of the current element was reached
+     */
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return all the text inside the current element (same as the DOM getTextContent)
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String single = null;
+        StringBuilder sb = null;
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (isText(event)) {
+                if (single == null) {
+                    single = reader.getText();
+                } else {
+                    if (sb == null) {
+                        sb = new StringBuilder(single);
+                    }
+                    sb.append(reader.getText());
+                }
+            }
+        }
+        if (sb != null) {
+            return sb.toString();
+        }
+        return single == null ? "" : single;
+    }
+
+    private static void skip(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Copies the content of the current element into the target element as DOM nodes
+     */
+    private static void copyContent(XMLStreamReader reader, Element target) throws XMLStreamException {
+        Document doc = target.getOwnerDocument();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            target.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        }
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                Element child = doc.createElement(reader.getLocalName());
+                target.appendChild(child);
+                copyContent(reader, child);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return;
+            } else if (isText(event)) {
+                target.appendChild(doc.createTextNode(reader.getText()));
+            }
+        }
+    }
+
+    private static boolean isText(int event) {
+        return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+            || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.ENTITY_REFERENCE;
+    }
+
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded table of canonical strings, the decoders pass the string field values through it so 
+ * the values repeated in every entry of a listing (partner and user ids, tags, categories, etc.)
+ * are held once instead of once per entry.
+ *
+ * Only short values are pooled (long ones like descriptions are rarely repeated) and once
+ * the table is full it is cleared so it keeps following the values which are currently repeated.
+ * This is threadsafe.
+ */
+public class KalturaStringPool {
+
+    public static final int DEFAULT_MAX_ENTRIES = 4096;
+    public static final int DEFAULT_MAX_LENGTH = 128;
+
+    private final ConcurrentMap<String, String> strings;
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxEntries;
+    private final int maxLength;
+
+    public KalturaStringPool() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * @param maxEntries the max number of strings held
+     * @param maxLength the max length of the strings to pool, longer ones are returned as is
+     */
+    public KalturaStringPool(int maxEntries, int maxLength) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be > 0");
+        }
+        this.maxEntries = maxEntries;
+        this.maxLength = maxLength;
+        this.strings = new ConcurrentHashMap<String, String>(Math.min(maxEntries, 256));
+    }
+
+    /**
+     * @param value any string
+     * @return the pooled string equal to the value (the value itself if it is not pooled)
+     */
+    public String canonical(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        if (value.length() == 0) {
+            return "";
+        }
+        String canonical = strings.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (size.get() >= maxEntries) {
+            clear();
+        }
+        canonical = strings.putIfAbsent(value, value);
+        if (canonical == null) {
+            size.incrementAndGet();
+            canonical = value;
+        }
+        return canonical;
+    }
+
+    /**
+     * @return the number of pooled strings
+     */
+    public int size() {
+        return strings.size();
+    }
+
+    /**
+     * Drops all the pooled strings
+     */
+    public void clear() {
+        strings.clear();
+        size.set(0);
+    }
+
+}
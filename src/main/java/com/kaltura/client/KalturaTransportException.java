@@ -0,0 +1,53 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+/**
+ * A call which failed before a response was read from the server (connection and socket errors
+ * and server errors), as opposed to an error returned by the kaltura api or an 
+ * {@link KalturaInvalidResponseException invalid response}
+ */
+public class KalturaTransportException extends KalturaApiException {
+
+    private static final long serialVersionUID = -2412209866718231563L;
+
+    private final boolean requestSent;
+    private final boolean responseReceived;
+
+    /**
+     * @param requestSent false if the request certainly never reached the server (e.g. the connection was refused)
+     * @param responseReceived true if the server started to send a response
+     */
+    public KalturaTransportException(String message, boolean requestSent, boolean responseReceived) {
+        super(message);
+        this.requestSent = requestSent;
+        this.responseReceived = responseReceived;
+    }
+
+    /**
+     * @return false if the request certainly never reached the server (so it is always safe to repeat)
+     */
+    public boolean isRequestSent() {
+        return requestSent;
+    }
+
+    /**
+     * @return true if the server started to send a response
+     */
+    public boolean isResponseReceived() {
+        return responseReceived;
+    }
+
+}
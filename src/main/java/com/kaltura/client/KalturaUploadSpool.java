@@ -0,0 +1,137 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies the upload streams of a request (which can only be read once) into buffers which can be
+ * read again so the request can be retried, small uploads are held in memory and larger ones 
+ * in temporary files which are deleted by {@link #release()}.
+ * The declared size of a stream only decides if it is spooled at all, a stream is held in memory until 
+ * more than the memory threshold has actually been read from it and then moved to a temporary file.
+ * NOTE: a stream which turns out to be larger than the max size (its declared size was too small) fails 
+ * the upload since it has been read by then.
+ * An instance is used by a single request.
+ */
+public class KalturaUploadSpool {
+
+    private static final Logger log = LoggerFactory.getLogger(KalturaUploadSpool.class);
+
+    private final long memoryThreshold;
+    private final long maxSize;
+    private final File directory;
+    private final List<File> tempFiles = new ArrayList<File>(1);
+
+    /**
+     * @param memoryThreshold uploads up to this size (bytes) are held in memory
+     * @param maxSize uploads larger than this (bytes) are not spooled (so they cannot be retried)
+     * @param directory the directory for the temporary files, null for the default temp directory
+     */
+    public KalturaUploadSpool(long memoryThreshold, long maxSize, File directory) {
+        this.memoryThreshold = memoryThreshold;
+        this.maxSize = maxSize;
+        this.directory = directory;
+    }
+
+    /**
+     * @param files the files of a request
+     * @return the files which can all be read again (the replayable ones are kept as they are),
+     * null if any of them is declared too large to spool (in which case none of the streams are read)
+     * @throws IOException if a stream could not be read or spooled, or is larger than the max size 
+     * (its content is then lost)
+     */
+    public KalturaFiles spool(KalturaFiles files) throws IOException {
+        for (KalturaFile file : files.values()) {
+            if (!file.isReplayable() && file.getSize() > maxSize) {
+                return null;
+            }
+        }
+        KalturaFiles spooled = new KalturaFiles();
+        for (Map.Entry<String, KalturaFile> entry : files.entrySet()) {
+            KalturaFile file = entry.getValue();
+            spooled.put(entry.getKey(), file.isReplayable() ? file : spool(file));
+        }
+        return spooled;
+    }
+
+    private KalturaFile spool(KalturaFile file) throws IOException {
+        InputStream in = file.getInputStream();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream((int) Math.max(32, Math.min(memoryThreshold, file.getSize())));
+        OutputStream out = buffer;
+        File tempFile = null;
+        try {
+            byte[] chunk = new byte[8192];
+            long total = 0;
+            int n;
+            while ((n = in.read(chunk)) != -1) {
+                total += n;
+                if (total > maxSize) {
+                    throw new IOException("Upload " + file.getName() + " is larger than the max spool size of " 
+                            + maxSize + " bytes (declared size " + file.getSize() + ")");
+                }
+                if (tempFile == null && total > memoryThreshold) {
+                    // too large for memory whatever size was declared
+                    tempFile = File.createTempFile("kaltura-upload-", ".tmp", directory);
+                    tempFiles.add(tempFile);
+                    out = new FileOutputStream(tempFile);
+                    buffer.writeTo(out);
+                    buffer = null;
+                }
+                out.write(chunk, 0, n);
+            }
+        } finally {
+            try {
+                in.close();
+            } finally {
+                if (tempFile != null) {
+                    out.close();
+                }
+            }
+        }
+        if (tempFile == null) {
+            return new KalturaFile(buffer.toByteArray(), file.getName());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Spooled upload " + file.getName() + " (" + tempFile.length() + " bytes) to " + tempFile);
+        }
+        return new KalturaFile(tempFile, file.getName());
+    }
+
+    /**
+     * Deletes the temporary files
+     */
+    public void release() {
+        for (File tempFile : tempFiles) {
+            if (!tempFile.delete() && tempFile.exists()) {
+                log.warn("Could not delete the spooled upload " + tempFile);
+                tempFile.deleteOnExit();
+            }
+        }
+        tempFiles.clear();
+    }
+
+}
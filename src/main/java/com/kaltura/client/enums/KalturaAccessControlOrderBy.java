@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -13,6 +17,17 @@ public enum KalturaAccessControlOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaAccessControlOrderBy> lookup;
+    static {
+        Map<String, KalturaAccessControlOrderBy> m = new HashMap<String, KalturaAccessControlOrderBy>();
+        for (KalturaAccessControlOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaAccessControlOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -22,18 +37,7 @@ public enum KalturaAccessControlOrderBy {
     }
 
     public static KalturaAccessControlOrderBy get(String hashCode) {
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        {
-           return CREATED_AT_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -15,6 +19,17 @@ public enum KalturaAdminUserOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaAdminUserOrderBy> lookup;
+    static {
+        Map<String, KalturaAdminUserOrderBy> m = new HashMap<String, KalturaAdminUserOrderBy>();
+        for (KalturaAdminUserOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaAdminUserOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -24,28 +39,7 @@ public enum KalturaAdminUserOrderBy {
     }
 
     public static KalturaAdminUserOrderBy get(String hashCode) {
-        if (hashCode.equals("+id"))
-        {
-           return ID_ASC;
-        }
-        else 
-        if (hashCode.equals("-id"))
-        {
-           return ID_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        {
-           return ID_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -15,6 +19,17 @@ public enum KalturaAnnotationOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaAnnotationOrderBy> lookup;
+    static {
+        Map<String, KalturaAnnotationOrderBy> m = new HashMap<String, KalturaAnnotationOrderBy>();
+        for (KalturaAnnotationOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaAnnotationOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -24,28 +39,7 @@ public enum KalturaAnnotationOrderBy {
     }
 
     public static KalturaAnnotationOrderBy get(String hashCode) {
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatedAt"))
-        {
-           return UPDATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatedAt"))
-        {
-           return UPDATED_AT_DESC;
-        }
-        else 
-        {
-           return CREATED_AT_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
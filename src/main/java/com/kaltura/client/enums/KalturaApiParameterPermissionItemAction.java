@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -14,6 +18,17 @@ public enum KalturaApiParameterPermissionItemAction {
 
     String hashCode;
 
+    private static final Map<String, KalturaApiParameterPermissionItemAction> lookup;
+    static {
+        Map<String, KalturaApiParameterPermissionItemAction> m = new HashMap<String, KalturaApiParameterPermissionItemAction>();
+        for (KalturaApiParameterPermissionItemAction value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaApiParameterPermissionItemAction(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -23,23 +38,7 @@ public enum KalturaApiParameterPermissionItemAction {
     }
 
     public static KalturaApiParameterPermissionItemAction get(String hashCode) {
-        if (hashCode.equals("read"))
-        {
-           return READ;
-        }
-        else 
-        if (hashCode.equals("update"))
-        {
-           return UPDATE;
-        }
-        else 
-        if (hashCode.equals("insert"))
-        {
-           return INSERT;
-        }
-        else 
-        {
-           return READ;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -17,6 +21,17 @@ public enum KalturaApiParameterPermissionItemOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaApiParameterPermissionItemOrderBy> lookup;
+    static {
+        Map<String, KalturaApiParameterPermissionItemOrderBy> m = new HashMap<String, KalturaApiParameterPermissionItemOrderBy>();
+        for (KalturaApiParameterPermissionItemOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaApiParameterPermissionItemOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -26,38 +41,7 @@ public enum KalturaApiParameterPermissionItemOrderBy {
     }
 
     public static KalturaApiParameterPermissionItemOrderBy get(String hashCode) {
-        if (hashCode.equals("+id"))
-        {
-           return ID_ASC;
-        }
-        else 
-        if (hashCode.equals("-id"))
-        {
-           return ID_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatedAt"))
-        {
-           return UPDATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatedAt"))
-        {
-           return UPDATED_AT_DESC;
-        }
-        else 
-        {
-           return ID_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
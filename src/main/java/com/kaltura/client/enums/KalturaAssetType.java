@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -16,6 +20,17 @@ public enum KalturaAssetType {
 
     String hashCode;
 
+    private static final Map<String, KalturaAssetType> lookup;
+    static {
+        Map<String, KalturaAssetType> m = new HashMap<String, KalturaAssetType>();
+        for (KalturaAssetType value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaAssetType(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -25,33 +40,7 @@ public enum KalturaAssetType {
     }
 
     public static KalturaAssetType get(String hashCode) {
-        if (hashCode.equals("1"))
-        {
-           return FLAVOR;
-        }
-        else 
-        if (hashCode.equals("2"))
-        {
-           return THUMBNAIL;
-        }
-        else 
-        if (hashCode.equals("document.Document"))
-        {
-           return DOCUMENT;
-        }
-        else 
-        if (hashCode.equals("document.SWF"))
-        {
-           return SWF;
-        }
-        else 
-        if (hashCode.equals("document.PDF"))
-        {
-           return PDF;
-        }
-        else 
-        {
-           return FLAVOR;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
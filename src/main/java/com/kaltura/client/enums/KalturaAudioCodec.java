@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -17,6 +21,17 @@ public enum KalturaAudioCodec {
 
     String hashCode;
 
+    private static final Map<String, KalturaAudioCodec> lookup;
+    static {
+        Map<String, KalturaAudioCodec> m = new HashMap<String, KalturaAudioCodec>();
+        for (KalturaAudioCodec value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaAudioCodec(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -26,38 +41,7 @@ public enum KalturaAudioCodec {
     }
 
     public static KalturaAudioCodec get(String hashCode) {
-        if (hashCode.equals(""))
-        {
-           return NONE;
-        }
-        else 
-        if (hashCode.equals("mp3"))
-        {
-           return MP3;
-        }
-        else 
-        if (hashCode.equals("aac"))
-        {
-           return AAC;
-        }
-        else 
-        if (hashCode.equals("vorbis"))
-        {
-           return VORBIS;
-        }
-        else 
-        if (hashCode.equals("wma"))
-        {
-           return WMA;
-        }
-        else 
-        if (hashCode.equals("copy"))
-        {
-           return COPY;
-        }
-        else 
-        {
-           return NONE;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -20,6 +24,17 @@ public enum KalturaAuditTrailAction {
 
     String hashCode;
 
+    private static final Map<String, KalturaAuditTrailAction> lookup;
+    static {
+        Map<String, KalturaAuditTrailAction> m = new HashMap<String, KalturaAuditTrailAction>();
+        for (KalturaAuditTrailAction value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaAuditTrailAction(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -29,53 +44,7 @@ public enum KalturaAuditTrailAction {
     }
 
     public static KalturaAuditTrailAction get(String hashCode) {
-        if (hashCode.equals("CREATED"))
-        {
-           return CREATED;
-        }
-        else 
-        if (hashCode.equals("COPIED"))
-        {
-           return COPIED;
-        }
-        else 
-        if (hashCode.equals("CHANGED"))
-        {
-           return CHANGED;
-        }
-        else 
-        if (hashCode.equals("DELETED"))
-        {
-           return DELETED;
-        }
-        else 
-        if (hashCode.equals("VIEWED"))
-        {
-           return VIEWED;
-        }
-        else 
-        if (hashCode.equals("CONTENT_VIEWED"))
-        {
-           return CONTENT_VIEWED;
-        }
-        else 
-        if (hashCode.equals("FILE_SYNC_CREATED"))
-        {
-           return FILE_SYNC_CREATED;
-        }
-        else 
-        if (hashCode.equals("RELATION_ADDED"))
-        {
-           return RELATION_ADDED;
-        }
-        else 
-        if (hashCode.equals("RELATION_REMOVED"))
-        {
-           return RELATION_REMOVED;
-        }
-        else 
-        {
-           return CREATED;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -29,7 +29,7 @@ public enum KalturaAuditTrailContext {
             case 0: return SCRIPT;
             case 1: return PS2;
             case 2: return API_V3;
-            default: return CLIENT;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
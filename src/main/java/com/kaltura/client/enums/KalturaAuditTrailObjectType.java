@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -39,6 +43,17 @@ public enum KalturaAuditTrailObjectType {
 
     String hashCode;
 
+    private static final Map<String, KalturaAuditTrailObjectType> lookup;
+    static {
+        Map<String, KalturaAuditTrailObjectType> m = new HashMap<String, KalturaAuditTrailObjectType>();
+        for (KalturaAuditTrailObjectType value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaAuditTrailObjectType(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -48,148 +63,7 @@ public enum KalturaAuditTrailObjectType {
     }
 
     public static KalturaAuditTrailObjectType get(String hashCode) {
-        if (hashCode.equals("accessControl"))
-        {
-           return ACCESS_CONTROL;
-        }
-        else 
-        if (hashCode.equals("adminKuser"))
-        {
-           return ADMIN_KUSER;
-        }
-        else 
-        if (hashCode.equals("BatchJob"))
-        {
-           return BATCH_JOB;
-        }
-        else 
-        if (hashCode.equals("category"))
-        {
-           return CATEGORY;
-        }
-        else 
-        if (hashCode.equals("conversionProfile2"))
-        {
-           return CONVERSION_PROFILE_2;
-        }
-        else 
-        if (hashCode.equals("EmailIngestionProfile"))
-        {
-           return EMAIL_INGESTION_PROFILE;
-        }
-        else 
-        if (hashCode.equals("entry"))
-        {
-           return ENTRY;
-        }
-        else 
-        if (hashCode.equals("FileSync"))
-        {
-           return FILE_SYNC;
-        }
-        else 
-        if (hashCode.equals("flavorAsset"))
-        {
-           return FLAVOR_ASSET;
-        }
-        else 
-        if (hashCode.equals("flavorParams"))
-        {
-           return FLAVOR_PARAMS;
-        }
-        else 
-        if (hashCode.equals("flavorParamsConversionProfile"))
-        {
-           return FLAVOR_PARAMS_CONVERSION_PROFILE;
-        }
-        else 
-        if (hashCode.equals("flavorParamsOutput"))
-        {
-           return FLAVOR_PARAMS_OUTPUT;
-        }
-        else 
-        if (hashCode.equals("kshow"))
-        {
-           return KSHOW;
-        }
-        else 
-        if (hashCode.equals("KshowKuser"))
-        {
-           return KSHOW_KUSER;
-        }
-        else 
-        if (hashCode.equals("kuser"))
-        {
-           return KUSER;
-        }
-        else 
-        if (hashCode.equals("mediaInfo"))
-        {
-           return MEDIA_INFO;
-        }
-        else 
-        if (hashCode.equals("moderation"))
-        {
-           return MODERATION;
-        }
-        else 
-        if (hashCode.equals("Partner"))
-        {
-           return PARTNER;
-        }
-        else 
-        if (hashCode.equals("roughcutEntry"))
-        {
-           return ROUGHCUT;
-        }
-        else 
-        if (hashCode.equals("syndicationFeed"))
-        {
-           return SYNDICATION;
-        }
-        else 
-        if (hashCode.equals("uiConf"))
-        {
-           return UI_CONF;
-        }
-        else 
-        if (hashCode.equals("UploadToken"))
-        {
-           return UPLOAD_TOKEN;
-        }
-        else 
-        if (hashCode.equals("widget"))
-        {
-           return WIDGET;
-        }
-        else 
-        if (hashCode.equals("Metadata"))
-        {
-           return METADATA;
-        }
-        else 
-        if (hashCode.equals("MetadataProfile"))
-        {
-           return METADATA_PROFILE;
-        }
-        else 
-        if (hashCode.equals("UserLoginData"))
-        {
-           return USER_LOGIN_DATA;
-        }
-        else 
-        if (hashCode.equals("UserRole"))
-        {
-           return USER_ROLE;
-        }
-        else 
-        if (hashCode.equals("Permission"))
-        {
-           return PERMISSION;
-        }
-        else 
-        {
-           return ACCESS_CONTROL;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -15,6 +19,17 @@ public enum KalturaAuditTrailOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaAuditTrailOrderBy> lookup;
+    static {
+        Map<String, KalturaAuditTrailOrderBy> m = new HashMap<String, KalturaAuditTrailOrderBy>();
+        for (KalturaAuditTrailOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaAuditTrailOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -24,28 +39,7 @@ public enum KalturaAuditTrailOrderBy {
     }
 
     public static KalturaAuditTrailOrderBy get(String hashCode) {
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+parsedAt"))
-        {
-           return PARSED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-parsedAt"))
-        {
-           return PARSED_AT_DESC;
-        }
-        else 
-        {
-           return CREATED_AT_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
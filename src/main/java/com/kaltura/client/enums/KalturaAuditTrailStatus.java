@@ -27,7 +27,7 @@ public enum KalturaAuditTrailStatus {
             case 1: return PENDING;
             case 2: return READY;
             case 3: return FAILED;
-            default: return PENDING;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -33,7 +33,7 @@ public enum KalturaBatchJobErrorTypes {
             case 3: return CURL;
             case 4: return KALTURA_API;
             case 5: return KALTURA_CLIENT;
-            default: return APP;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -37,6 +41,17 @@ public enum KalturaBatchJobOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaBatchJobOrderBy> lookup;
+    static {
+        Map<String, KalturaBatchJobOrderBy> m = new HashMap<String, KalturaBatchJobOrderBy>();
+        for (KalturaBatchJobOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaBatchJobOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -46,138 +61,7 @@ public enum KalturaBatchJobOrderBy {
     }
 
     public static KalturaBatchJobOrderBy get(String hashCode) {
-        if (hashCode.equals("+status"))
-        {
-           return STATUS_ASC;
-        }
-        else 
-        if (hashCode.equals("-status"))
-        {
-           return STATUS_DESC;
-        }
-        else 
-        if (hashCode.equals("+checkAgainTimeout"))
-        {
-           return CHECK_AGAIN_TIMEOUT_ASC;
-        }
-        else 
-        if (hashCode.equals("-checkAgainTimeout"))
-        {
-           return CHECK_AGAIN_TIMEOUT_DESC;
-        }
-        else 
-        if (hashCode.equals("+progress"))
-        {
-           return PROGRESS_ASC;
-        }
-        else 
-        if (hashCode.equals("-progress"))
-        {
-           return PROGRESS_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatesCount"))
-        {
-           return UPDATES_COUNT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatesCount"))
-        {
-           return UPDATES_COUNT_DESC;
-        }
-        else 
-        if (hashCode.equals("+priority"))
-        {
-           return PRIORITY_ASC;
-        }
-        else 
-        if (hashCode.equals("-priority"))
-        {
-           return PRIORITY_DESC;
-        }
-        else 
-        if (hashCode.equals("+queueTime"))
-        {
-           return QUEUE_TIME_ASC;
-        }
-        else 
-        if (hashCode.equals("-queueTime"))
-        {
-           return QUEUE_TIME_DESC;
-        }
-        else 
-        if (hashCode.equals("+finishTime"))
-        {
-           return FINISH_TIME_ASC;
-        }
-        else 
-        if (hashCode.equals("-finishTime"))
-        {
-           return FINISH_TIME_DESC;
-        }
-        else 
-        if (hashCode.equals("+fileSize"))
-        {
-           return FILE_SIZE_ASC;
-        }
-        else 
-        if (hashCode.equals("-fileSize"))
-        {
-           return FILE_SIZE_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatedAt"))
-        {
-           return UPDATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatedAt"))
-        {
-           return UPDATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+processorExpiration"))
-        {
-           return PROCESSOR_EXPIRATION_ASC;
-        }
-        else 
-        if (hashCode.equals("-processorExpiration"))
-        {
-           return PROCESSOR_EXPIRATION_DESC;
-        }
-        else 
-        if (hashCode.equals("+executionAttempts"))
-        {
-           return EXECUTION_ATTEMPTS_ASC;
-        }
-        else 
-        if (hashCode.equals("-executionAttempts"))
-        {
-           return EXECUTION_ATTEMPTS_DESC;
-        }
-        else 
-        if (hashCode.equals("+lockVersion"))
-        {
-           return LOCK_VERSION_ASC;
-        }
-        else 
-        if (hashCode.equals("-lockVersion"))
-        {
-           return LOCK_VERSION_DESC;
-        }
-        else 
-        {
-           return STATUS_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -45,7 +45,7 @@ public enum KalturaBatchJobStatus {
             case 9: return RETRY;
             case 10: return FATAL;
             case 11: return DONT_PROCESS;
-            default: return PENDING;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
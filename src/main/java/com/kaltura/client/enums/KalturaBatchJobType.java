@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -48,6 +52,17 @@ public enum KalturaBatchJobType {
 
     String hashCode;
 
+    private static final Map<String, KalturaBatchJobType> lookup;
+    static {
+        Map<String, KalturaBatchJobType> m = new HashMap<String, KalturaBatchJobType>();
+        for (KalturaBatchJobType value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaBatchJobType(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -57,193 +72,7 @@ public enum KalturaBatchJobType {
     }
 
     public static KalturaBatchJobType get(String hashCode) {
-        if (hashCode.equals("0"))
-        {
-           return CONVERT;
-        }
-        else 
-        if (hashCode.equals("1"))
-        {
-           return IMPORT;
-        }
-        else 
-        if (hashCode.equals("2"))
-        {
-           return DELETE;
-        }
-        else 
-        if (hashCode.equals("3"))
-        {
-           return FLATTEN;
-        }
-        else 
-        if (hashCode.equals("4"))
-        {
-           return BULKUPLOAD;
-        }
-        else 
-        if (hashCode.equals("5"))
-        {
-           return DVDCREATOR;
-        }
-        else 
-        if (hashCode.equals("6"))
-        {
-           return DOWNLOAD;
-        }
-        else 
-        if (hashCode.equals("7"))
-        {
-           return OOCONVERT;
-        }
-        else 
-        if (hashCode.equals("10"))
-        {
-           return CONVERT_PROFILE;
-        }
-        else 
-        if (hashCode.equals("11"))
-        {
-           return POSTCONVERT;
-        }
-        else 
-        if (hashCode.equals("12"))
-        {
-           return PULL;
-        }
-        else 
-        if (hashCode.equals("13"))
-        {
-           return REMOTE_CONVERT;
-        }
-        else 
-        if (hashCode.equals("14"))
-        {
-           return EXTRACT_MEDIA;
-        }
-        else 
-        if (hashCode.equals("15"))
-        {
-           return MAIL;
-        }
-        else 
-        if (hashCode.equals("16"))
-        {
-           return NOTIFICATION;
-        }
-        else 
-        if (hashCode.equals("17"))
-        {
-           return CLEANUP;
-        }
-        else 
-        if (hashCode.equals("18"))
-        {
-           return SCHEDULER_HELPER;
-        }
-        else 
-        if (hashCode.equals("19"))
-        {
-           return BULKDOWNLOAD;
-        }
-        else 
-        if (hashCode.equals("20"))
-        {
-           return DB_CLEANUP;
-        }
-        else 
-        if (hashCode.equals("21"))
-        {
-           return PROVISION_PROVIDE;
-        }
-        else 
-        if (hashCode.equals("22"))
-        {
-           return CONVERT_COLLECTION;
-        }
-        else 
-        if (hashCode.equals("23"))
-        {
-           return STORAGE_EXPORT;
-        }
-        else 
-        if (hashCode.equals("24"))
-        {
-           return PROVISION_DELETE;
-        }
-        else 
-        if (hashCode.equals("25"))
-        {
-           return STORAGE_DELETE;
-        }
-        else 
-        if (hashCode.equals("26"))
-        {
-           return EMAIL_INGESTION;
-        }
-        else 
-        if (hashCode.equals("27"))
-        {
-           return METADATA_IMPORT;
-        }
-        else 
-        if (hashCode.equals("28"))
-        {
-           return METADATA_TRANSFORM;
-        }
-        else 
-        if (hashCode.equals("29"))
-        {
-           return FILESYNC_IMPORT;
-        }
-        else 
-        if (hashCode.equals("30"))
-        {
-           return CAPTURE_THUMB;
-        }
-        else 
-        if (hashCode.equals("virusScan.VirusScan"))
-        {
-           return VIRUS_SCAN;
-        }
-        else 
-        if (hashCode.equals("contentDistribution.DistributionSubmit"))
-        {
-           return DISTRIBUTION_SUBMIT;
-        }
-        else 
-        if (hashCode.equals("contentDistribution.DistributionUpdate"))
-        {
-           return DISTRIBUTION_UPDATE;
-        }
-        else 
-        if (hashCode.equals("contentDistribution.DistributionDelete"))
-        {
-           return DISTRIBUTION_DELETE;
-        }
-        else 
-        if (hashCode.equals("contentDistribution.DistributionFetchReport"))
-        {
-           return DISTRIBUTION_FETCH_REPORT;
-        }
-        else 
-        if (hashCode.equals("contentDistribution.DistributionEnable"))
-        {
-           return DISTRIBUTION_ENABLE;
-        }
-        else 
-        if (hashCode.equals("contentDistribution.DistributionDisable"))
-        {
-           return DISTRIBUTION_DISABLE;
-        }
-        else 
-        if (hashCode.equals("contentDistribution.DistributionSync"))
-        {
-           return DISTRIBUTION_SYNC;
-        }
-        else 
-        {
-           return CONVERT;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -25,7 +25,7 @@ public enum KalturaBitRateMode {
         switch(hashCode) {
             case 1: return CBR;
             case 2: return VBR;
-            default: return CBR;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -17,6 +21,17 @@ public enum KalturaCategoryOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaCategoryOrderBy> lookup;
+    static {
+        Map<String, KalturaCategoryOrderBy> m = new HashMap<String, KalturaCategoryOrderBy>();
+        for (KalturaCategoryOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaCategoryOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -26,38 +41,7 @@ public enum KalturaCategoryOrderBy {
     }
 
     public static KalturaCategoryOrderBy get(String hashCode) {
-        if (hashCode.equals("+depth"))
-        {
-           return DEPTH_ASC;
-        }
-        else 
-        if (hashCode.equals("-depth"))
-        {
-           return DEPTH_DESC;
-        }
-        else 
-        if (hashCode.equals("+fullName"))
-        {
-           return FULL_NAME_ASC;
-        }
-        else 
-        if (hashCode.equals("-fullName"))
-        {
-           return FULL_NAME_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        {
-           return DEPTH_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
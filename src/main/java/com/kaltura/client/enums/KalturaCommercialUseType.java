@@ -25,7 +25,7 @@ public enum KalturaCommercialUseType {
         switch(hashCode) {
             case 1: return COMMERCIAL_USE;
             case 0: return NON_COMMERCIAL_USE;
-            default: return COMMERCIAL_USE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
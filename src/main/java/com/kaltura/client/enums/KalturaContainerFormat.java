@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -29,6 +33,17 @@ public enum KalturaContainerFormat {
 
     String hashCode;
 
+    private static final Map<String, KalturaContainerFormat> lookup;
+    static {
+        Map<String, KalturaContainerFormat> m = new HashMap<String, KalturaContainerFormat>();
+        for (KalturaContainerFormat value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaContainerFormat(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -38,98 +53,7 @@ public enum KalturaContainerFormat {
     }
 
     public static KalturaContainerFormat get(String hashCode) {
-        if (hashCode.equals("flv"))
-        {
-           return FLV;
-        }
-        else 
-        if (hashCode.equals("mp4"))
-        {
-           return MP4;
-        }
-        else 
-        if (hashCode.equals("avi"))
-        {
-           return AVI;
-        }
-        else 
-        if (hashCode.equals("mov"))
-        {
-           return MOV;
-        }
-        else 
-        if (hashCode.equals("mp3"))
-        {
-           return MP3;
-        }
-        else 
-        if (hashCode.equals("3gp"))
-        {
-           return _3GP;
-        }
-        else 
-        if (hashCode.equals("ogg"))
-        {
-           return OGG;
-        }
-        else 
-        if (hashCode.equals("wmv"))
-        {
-           return WMV;
-        }
-        else 
-        if (hashCode.equals("wma"))
-        {
-           return WMA;
-        }
-        else 
-        if (hashCode.equals("ismv"))
-        {
-           return ISMV;
-        }
-        else 
-        if (hashCode.equals("mkv"))
-        {
-           return MKV;
-        }
-        else 
-        if (hashCode.equals("webm"))
-        {
-           return WEBM;
-        }
-        else 
-        if (hashCode.equals("mpeg"))
-        {
-           return MPEG;
-        }
-        else 
-        if (hashCode.equals("mpegts"))
-        {
-           return MPEGTS;
-        }
-        else 
-        if (hashCode.equals("applehttp"))
-        {
-           return APPLEHTTP;
-        }
-        else 
-        if (hashCode.equals("swf"))
-        {
-           return SWF;
-        }
-        else 
-        if (hashCode.equals("pdf"))
-        {
-           return PDF;
-        }
-        else 
-        if (hashCode.equals("jpg"))
-        {
-           return JPG;
-        }
-        else 
-        {
-           return FLV;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -29,7 +29,7 @@ public enum KalturaControlPanelCommandStatus {
             case 2: return HANDLED;
             case 3: return DONE;
             case 4: return FAILED;
-            default: return PENDING;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
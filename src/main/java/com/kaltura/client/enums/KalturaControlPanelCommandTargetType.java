@@ -31,7 +31,7 @@ public enum KalturaControlPanelCommandTargetType {
             case 3: return JOB_TYPE;
             case 4: return JOB;
             case 5: return BATCH;
-            default: return DATA_CENTER;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
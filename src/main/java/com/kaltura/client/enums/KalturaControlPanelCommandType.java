@@ -29,7 +29,7 @@ public enum KalturaControlPanelCommandType {
             case 2: return START;
             case 3: return CONFIG;
             case 4: return KILL;
-            default: return STOP;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
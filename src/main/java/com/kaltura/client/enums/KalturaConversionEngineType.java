@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -27,6 +31,17 @@ public enum KalturaConversionEngineType {
 
     String hashCode;
 
+    private static final Map<String, KalturaConversionEngineType> lookup;
+    static {
+        Map<String, KalturaConversionEngineType> m = new HashMap<String, KalturaConversionEngineType>();
+        for (KalturaConversionEngineType value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaConversionEngineType(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -36,88 +51,7 @@ public enum KalturaConversionEngineType {
     }
 
     public static KalturaConversionEngineType get(String hashCode) {
-        if (hashCode.equals("0"))
-        {
-           return KALTURA_COM;
-        }
-        else 
-        if (hashCode.equals("1"))
-        {
-           return ON2;
-        }
-        else 
-        if (hashCode.equals("2"))
-        {
-           return FFMPEG;
-        }
-        else 
-        if (hashCode.equals("3"))
-        {
-           return MENCODER;
-        }
-        else 
-        if (hashCode.equals("4"))
-        {
-           return ENCODING_COM;
-        }
-        else 
-        if (hashCode.equals("5"))
-        {
-           return EXPRESSION_ENCODER3;
-        }
-        else 
-        if (hashCode.equals("98"))
-        {
-           return FFMPEG_VP8;
-        }
-        else 
-        if (hashCode.equals("99"))
-        {
-           return FFMPEG_AUX;
-        }
-        else 
-        if (hashCode.equals("201"))
-        {
-           return PDF2SWF;
-        }
-        else 
-        if (hashCode.equals("202"))
-        {
-           return PDF_CREATOR;
-        }
-        else 
-        if (hashCode.equals("quickTimeTools.QuickTimeTools"))
-        {
-           return QUICK_TIME_PLAYER_TOOLS;
-        }
-        else 
-        if (hashCode.equals("fastStart.FastStart"))
-        {
-           return FAST_START;
-        }
-        else 
-        if (hashCode.equals("expressionEncoder.ExpressionEncoder"))
-        {
-           return EXPRESSION_ENCODER;
-        }
-        else 
-        if (hashCode.equals("avidemux.Avidemux"))
-        {
-           return AVIDEMUX;
-        }
-        else 
-        if (hashCode.equals("segmenter.Segmenter"))
-        {
-           return SEGMENTER;
-        }
-        else 
-        if (hashCode.equals("inletArmada.InletArmada"))
-        {
-           return INLET_ARMADA;
-        }
-        else 
-        {
-           return KALTURA_COM;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -13,6 +17,17 @@ public enum KalturaConversionProfileOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaConversionProfileOrderBy> lookup;
+    static {
+        Map<String, KalturaConversionProfileOrderBy> m = new HashMap<String, KalturaConversionProfileOrderBy>();
+        for (KalturaConversionProfileOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaConversionProfileOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -22,18 +37,7 @@ public enum KalturaConversionProfileOrderBy {
     }
 
     public static KalturaConversionProfileOrderBy get(String hashCode) {
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        {
-           return CREATED_AT_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
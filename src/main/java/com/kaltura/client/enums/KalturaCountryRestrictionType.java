@@ -25,7 +25,7 @@ public enum KalturaCountryRestrictionType {
         switch(hashCode) {
             case 0: return RESTRICT_COUNTRY_LIST;
             case 1: return ALLOW_COUNTRY_LIST;
-            default: return RESTRICT_COUNTRY_LIST;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
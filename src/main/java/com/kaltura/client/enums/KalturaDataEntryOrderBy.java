@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -21,6 +25,17 @@ public enum KalturaDataEntryOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaDataEntryOrderBy> lookup;
+    static {
+        Map<String, KalturaDataEntryOrderBy> m = new HashMap<String, KalturaDataEntryOrderBy>();
+        for (KalturaDataEntryOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaDataEntryOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -30,58 +45,7 @@ public enum KalturaDataEntryOrderBy {
     }
 
     public static KalturaDataEntryOrderBy get(String hashCode) {
-        if (hashCode.equals("+name"))
-        {
-           return NAME_ASC;
-        }
-        else 
-        if (hashCode.equals("-name"))
-        {
-           return NAME_DESC;
-        }
-        else 
-        if (hashCode.equals("+moderationCount"))
-        {
-           return MODERATION_COUNT_ASC;
-        }
-        else 
-        if (hashCode.equals("-moderationCount"))
-        {
-           return MODERATION_COUNT_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatedAt"))
-        {
-           return UPDATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatedAt"))
-        {
-           return UPDATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+rank"))
-        {
-           return RANK_ASC;
-        }
-        else 
-        if (hashCode.equals("-rank"))
-        {
-           return RANK_DESC;
-        }
-        else 
-        {
-           return NAME_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
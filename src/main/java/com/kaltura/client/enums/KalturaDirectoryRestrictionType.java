@@ -25,7 +25,7 @@ public enum KalturaDirectoryRestrictionType {
         switch(hashCode) {
             case 0: return DONT_DISPLAY;
             case 1: return DISPLAY_WITH_LINK;
-            default: return DONT_DISPLAY;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
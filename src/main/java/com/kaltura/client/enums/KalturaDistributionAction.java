@@ -29,7 +29,7 @@ public enum KalturaDistributionAction {
             case 2: return UPDATE;
             case 3: return DELETE;
             case 4: return FETCH_REPORT;
-            default: return SUBMIT;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -29,7 +29,7 @@ public enum KalturaDistributionErrorType {
             case 2: return MISSING_THUMBNAIL;
             case 3: return MISSING_METADATA;
             case 4: return INVALID_DATA;
-            default: return MISSING_FLAVOR;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
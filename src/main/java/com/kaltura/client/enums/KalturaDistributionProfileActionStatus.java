@@ -27,7 +27,7 @@ public enum KalturaDistributionProfileActionStatus {
             case 1: return DISABLED;
             case 2: return AUTOMATIC;
             case 3: return MANUAL;
-            default: return DISABLED;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
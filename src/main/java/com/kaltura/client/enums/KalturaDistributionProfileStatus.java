@@ -27,7 +27,7 @@ public enum KalturaDistributionProfileStatus {
             case 1: return DISABLED;
             case 2: return ENABLED;
             case 3: return DELETED;
-            default: return DISABLED;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -31,7 +31,7 @@ public enum KalturaDistributionProtocol {
             case 3: return SFTP;
             case 4: return HTTP;
             case 5: return HTTPS;
-            default: return FTP;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -19,6 +23,17 @@ public enum KalturaDistributionProviderType {
 
     String hashCode;
 
+    private static final Map<String, KalturaDistributionProviderType> lookup;
+    static {
+        Map<String, KalturaDistributionProviderType> m = new HashMap<String, KalturaDistributionProviderType>();
+        for (KalturaDistributionProviderType value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaDistributionProviderType(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -28,48 +43,7 @@ public enum KalturaDistributionProviderType {
     }
 
     public static KalturaDistributionProviderType get(String hashCode) {
-        if (hashCode.equals("1"))
-        {
-           return GENERIC;
-        }
-        else 
-        if (hashCode.equals("2"))
-        {
-           return SYNDICATION;
-        }
-        else 
-        if (hashCode.equals("youtubeApiDistribution.YOUTUBE_API"))
-        {
-           return YOUTUBE_API;
-        }
-        else 
-        if (hashCode.equals("dailymotionDistribution.DAILYMOTION"))
-        {
-           return DAILYMOTION;
-        }
-        else 
-        if (hashCode.equals("msnDistribution.MSN"))
-        {
-           return MSN;
-        }
-        else 
-        if (hashCode.equals("verizonDistribution.VERIZON"))
-        {
-           return VERIZON;
-        }
-        else 
-        if (hashCode.equals("comcastDistribution.COMCAST"))
-        {
-           return COMCAST;
-        }
-        else 
-        if (hashCode.equals("youTubeDistribution.YOUTUBE"))
-        {
-           return YOUTUBE;
-        }
-        else 
-        {
-           return GENERIC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -27,7 +27,7 @@ public enum KalturaDocumentType {
             case 11: return DOCUMENT;
             case 12: return SWF;
             case 13: return PDF;
-            default: return DOCUMENT;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
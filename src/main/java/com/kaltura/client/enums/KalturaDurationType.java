@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -15,6 +19,17 @@ public enum KalturaDurationType {
 
     String hashCode;
 
+    private static final Map<String, KalturaDurationType> lookup;
+    static {
+        Map<String, KalturaDurationType> m = new HashMap<String, KalturaDurationType>();
+        for (KalturaDurationType value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaDurationType(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -24,28 +39,7 @@ public enum KalturaDurationType {
     }
 
     public static KalturaDurationType get(String hashCode) {
-        if (hashCode.equals("notavailable"))
-        {
-           return NOT_AVAILABLE;
-        }
-        else 
-        if (hashCode.equals("short"))
-        {
-           return SHORT;
-        }
-        else 
-        if (hashCode.equals("medium"))
-        {
-           return MEDIUM;
-        }
-        else 
-        if (hashCode.equals("long"))
-        {
-           return LONG;
-        }
-        else 
-        {
-           return NOT_AVAILABLE;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
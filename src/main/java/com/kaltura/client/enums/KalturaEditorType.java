@@ -25,7 +25,7 @@ public enum KalturaEditorType {
         switch(hashCode) {
             case 1: return SIMPLE;
             case 2: return ADVANCED;
-            default: return SIMPLE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
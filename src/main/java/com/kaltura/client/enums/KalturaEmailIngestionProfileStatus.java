@@ -25,7 +25,7 @@ public enum KalturaEmailIngestionProfileStatus {
         switch(hashCode) {
             case 0: return INACTIVE;
             case 1: return ACTIVE;
-            default: return INACTIVE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
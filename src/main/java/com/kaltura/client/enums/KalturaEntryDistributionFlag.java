@@ -33,7 +33,7 @@ public enum KalturaEntryDistributionFlag {
             case 3: return UPDATE_REQUIRED;
             case 4: return ENABLE_REQUIRED;
             case 5: return DISABLE_REQUIRED;
-            default: return NONE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -21,6 +25,17 @@ public enum KalturaEntryDistributionOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaEntryDistributionOrderBy> lookup;
+    static {
+        Map<String, KalturaEntryDistributionOrderBy> m = new HashMap<String, KalturaEntryDistributionOrderBy>();
+        for (KalturaEntryDistributionOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaEntryDistributionOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -30,58 +45,7 @@ public enum KalturaEntryDistributionOrderBy {
     }
 
     public static KalturaEntryDistributionOrderBy get(String hashCode) {
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatedAt"))
-        {
-           return UPDATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatedAt"))
-        {
-           return UPDATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+submittedAt"))
-        {
-           return SUBMITTED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-submittedAt"))
-        {
-           return SUBMITTED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+sunrise"))
-        {
-           return SUNRISE_ASC;
-        }
-        else 
-        if (hashCode.equals("-sunrise"))
-        {
-           return SUNRISE_DESC;
-        }
-        else 
-        if (hashCode.equals("+sunset"))
-        {
-           return SUNSET_ASC;
-        }
-        else 
-        if (hashCode.equals("-sunset"))
-        {
-           return SUNSET_DESC;
-        }
-        else 
-        {
-           return CREATED_AT_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
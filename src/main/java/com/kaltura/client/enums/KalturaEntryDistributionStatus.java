@@ -43,7 +43,7 @@ public enum KalturaEntryDistributionStatus {
             case 8: return ERROR_UPDATING;
             case 9: return ERROR_DELETING;
             case 10: return REMOVED;
-            default: return PENDING;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
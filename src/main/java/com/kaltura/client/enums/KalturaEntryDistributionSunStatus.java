@@ -27,7 +27,7 @@ public enum KalturaEntryDistributionSunStatus {
             case 1: return BEFORE_SUNRISE;
             case 2: return AFTER_SUNRISE;
             case 3: return AFTER_SUNSET;
-            default: return BEFORE_SUNRISE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -31,7 +31,7 @@ public enum KalturaEntryModerationStatus {
             case 3: return REJECTED;
             case 5: return FLAGGED_FOR_REVIEW;
             case 6: return AUTO_APPROVED;
-            default: return PENDING_MODERATION;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
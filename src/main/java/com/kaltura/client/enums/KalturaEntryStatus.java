@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -21,6 +25,17 @@ public enum KalturaEntryStatus {
 
     String hashCode;
 
+    private static final Map<String, KalturaEntryStatus> lookup;
+    static {
+        Map<String, KalturaEntryStatus> m = new HashMap<String, KalturaEntryStatus>();
+        for (KalturaEntryStatus value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaEntryStatus(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -30,58 +45,7 @@ public enum KalturaEntryStatus {
     }
 
     public static KalturaEntryStatus get(String hashCode) {
-        if (hashCode.equals("-2"))
-        {
-           return ERROR_IMPORTING;
-        }
-        else 
-        if (hashCode.equals("-1"))
-        {
-           return ERROR_CONVERTING;
-        }
-        else 
-        if (hashCode.equals("0"))
-        {
-           return IMPORT;
-        }
-        else 
-        if (hashCode.equals("1"))
-        {
-           return PRECONVERT;
-        }
-        else 
-        if (hashCode.equals("2"))
-        {
-           return READY;
-        }
-        else 
-        if (hashCode.equals("3"))
-        {
-           return DELETED;
-        }
-        else 
-        if (hashCode.equals("4"))
-        {
-           return PENDING;
-        }
-        else 
-        if (hashCode.equals("5"))
-        {
-           return MODERATE;
-        }
-        else 
-        if (hashCode.equals("6"))
-        {
-           return BLOCKED;
-        }
-        else 
-        if (hashCode.equals("virusScan.Infected"))
-        {
-           return INFECTED;
-        }
-        else 
-        {
-           return ERROR_IMPORTING;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -18,6 +22,17 @@ public enum KalturaEntryType {
 
     String hashCode;
 
+    private static final Map<String, KalturaEntryType> lookup;
+    static {
+        Map<String, KalturaEntryType> m = new HashMap<String, KalturaEntryType>();
+        for (KalturaEntryType value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaEntryType(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -27,43 +42,7 @@ public enum KalturaEntryType {
     }
 
     public static KalturaEntryType get(String hashCode) {
-        if (hashCode.equals("-1"))
-        {
-           return AUTOMATIC;
-        }
-        else 
-        if (hashCode.equals("1"))
-        {
-           return MEDIA_CLIP;
-        }
-        else 
-        if (hashCode.equals("2"))
-        {
-           return MIX;
-        }
-        else 
-        if (hashCode.equals("5"))
-        {
-           return PLAYLIST;
-        }
-        else 
-        if (hashCode.equals("6"))
-        {
-           return DATA;
-        }
-        else 
-        if (hashCode.equals("7"))
-        {
-           return LIVE_STREAM;
-        }
-        else 
-        if (hashCode.equals("10"))
-        {
-           return DOCUMENT;
-        }
-        else 
-        {
-           return AUTOMATIC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
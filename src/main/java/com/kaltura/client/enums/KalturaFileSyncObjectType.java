@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -21,6 +25,17 @@ public enum KalturaFileSyncObjectType {
 
     String hashCode;
 
+    private static final Map<String, KalturaFileSyncObjectType> lookup;
+    static {
+        Map<String, KalturaFileSyncObjectType> m = new HashMap<String, KalturaFileSyncObjectType>();
+        for (KalturaFileSyncObjectType value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaFileSyncObjectType(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -30,58 +45,7 @@ public enum KalturaFileSyncObjectType {
     }
 
     public static KalturaFileSyncObjectType get(String hashCode) {
-        if (hashCode.equals("1"))
-        {
-           return ENTRY;
-        }
-        else 
-        if (hashCode.equals("2"))
-        {
-           return UICONF;
-        }
-        else 
-        if (hashCode.equals("3"))
-        {
-           return BATCHJOB;
-        }
-        else 
-        if (hashCode.equals("4"))
-        {
-           return FLAVOR_ASSET;
-        }
-        else 
-        if (hashCode.equals("5"))
-        {
-           return METADATA;
-        }
-        else 
-        if (hashCode.equals("6"))
-        {
-           return METADATA_PROFILE;
-        }
-        else 
-        if (hashCode.equals("7"))
-        {
-           return SYNDICATION_FEED;
-        }
-        else 
-        if (hashCode.equals("contentDistribution.GenericDistributionAction"))
-        {
-           return GENERIC_DISTRIBUTION_ACTION;
-        }
-        else 
-        if (hashCode.equals("contentDistribution.EntryDistribution"))
-        {
-           return ENTRY_DISTRIBUTION;
-        }
-        else 
-        if (hashCode.equals("contentDistribution.DistributionProfile"))
-        {
-           return DISTRIBUTION_PROFILE;
-        }
-        else 
-        {
-           return ENTRY;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -35,7 +35,7 @@ public enum KalturaFlavorAssetStatus {
             case 3: return DELETED;
             case 4: return NOT_APPLICABLE;
             case 5: return TEMP;
-            default: return ERROR;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
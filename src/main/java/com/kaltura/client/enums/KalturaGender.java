@@ -27,7 +27,7 @@ public enum KalturaGender {
             case 0: return UNKNOWN;
             case 1: return MALE;
             case 2: return FEMALE;
-            default: return UNKNOWN;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -27,7 +27,7 @@ public enum KalturaGenericDistributionProviderParser {
             case 1: return XSL;
             case 2: return XPATH;
             case 3: return REGEX;
-            default: return XSL;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
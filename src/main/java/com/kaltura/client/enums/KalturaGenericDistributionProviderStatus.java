@@ -25,7 +25,7 @@ public enum KalturaGenericDistributionProviderStatus {
         switch(hashCode) {
             case 2: return ACTIVE;
             case 3: return DELETED;
-            default: return ACTIVE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
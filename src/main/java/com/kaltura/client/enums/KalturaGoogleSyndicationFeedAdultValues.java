@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -13,6 +17,17 @@ public enum KalturaGoogleSyndicationFeedAdultValues {
 
     String hashCode;
 
+    private static final Map<String, KalturaGoogleSyndicationFeedAdultValues> lookup;
+    static {
+        Map<String, KalturaGoogleSyndicationFeedAdultValues> m = new HashMap<String, KalturaGoogleSyndicationFeedAdultValues>();
+        for (KalturaGoogleSyndicationFeedAdultValues value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaGoogleSyndicationFeedAdultValues(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -22,18 +37,7 @@ public enum KalturaGoogleSyndicationFeedAdultValues {
     }
 
     public static KalturaGoogleSyndicationFeedAdultValues get(String hashCode) {
-        if (hashCode.equals("Yes"))
-        {
-           return YES;
-        }
-        else 
-        if (hashCode.equals("No"))
-        {
-           return NO;
-        }
-        else 
-        {
-           return YES;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -14,6 +18,17 @@ public enum KalturaITunesSyndicationFeedAdultValues {
 
     String hashCode;
 
+    private static final Map<String, KalturaITunesSyndicationFeedAdultValues> lookup;
+    static {
+        Map<String, KalturaITunesSyndicationFeedAdultValues> m = new HashMap<String, KalturaITunesSyndicationFeedAdultValues>();
+        for (KalturaITunesSyndicationFeedAdultValues value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaITunesSyndicationFeedAdultValues(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -23,23 +38,7 @@ public enum KalturaITunesSyndicationFeedAdultValues {
     }
 
     public static KalturaITunesSyndicationFeedAdultValues get(String hashCode) {
-        if (hashCode.equals("yes"))
-        {
-           return YES;
-        }
-        else 
-        if (hashCode.equals("no"))
-        {
-           return NO;
-        }
-        else 
-        if (hashCode.equals("clean"))
-        {
-           return CLEAN;
-        }
-        else 
-        {
-           return YES;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -78,6 +82,17 @@ public enum KalturaITunesSyndicationFeedCategories {
 
     String hashCode;
 
+    private static final Map<String, KalturaITunesSyndicationFeedCategories> lookup;
+    static {
+        Map<String, KalturaITunesSyndicationFeedCategories> m = new HashMap<String, KalturaITunesSyndicationFeedCategories>();
+        for (KalturaITunesSyndicationFeedCategories value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaITunesSyndicationFeedCategories(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -87,343 +102,7 @@ public enum KalturaITunesSyndicationFeedCategories {
     }
 
     public static KalturaITunesSyndicationFeedCategories get(String hashCode) {
-        if (hashCode.equals("Arts"))
-        {
-           return ARTS;
-        }
-        else 
-        if (hashCode.equals("Arts/Design"))
-        {
-           return ARTS_DESIGN;
-        }
-        else 
-        if (hashCode.equals("Arts/Fashion &amp; Beauty"))
-        {
-           return ARTS_FASHION_BEAUTY;
-        }
-        else 
-        if (hashCode.equals("Arts/Food"))
-        {
-           return ARTS_FOOD;
-        }
-        else 
-        if (hashCode.equals("Arts/Literature"))
-        {
-           return ARTS_LITERATURE;
-        }
-        else 
-        if (hashCode.equals("Arts/Performing Arts"))
-        {
-           return ARTS_PERFORMING_ARTS;
-        }
-        else 
-        if (hashCode.equals("Arts/Visual Arts"))
-        {
-           return ARTS_VISUAL_ARTS;
-        }
-        else 
-        if (hashCode.equals("Business"))
-        {
-           return BUSINESS;
-        }
-        else 
-        if (hashCode.equals("Business/Business News"))
-        {
-           return BUSINESS_BUSINESS_NEWS;
-        }
-        else 
-        if (hashCode.equals("Business/Careers"))
-        {
-           return BUSINESS_CAREERS;
-        }
-        else 
-        if (hashCode.equals("Business/Investing"))
-        {
-           return BUSINESS_INVESTING;
-        }
-        else 
-        if (hashCode.equals("Business/Management &amp; Marketing"))
-        {
-           return BUSINESS_MANAGEMENT_MARKETING;
-        }
-        else 
-        if (hashCode.equals("Business/Shopping"))
-        {
-           return BUSINESS_SHOPPING;
-        }
-        else 
-        if (hashCode.equals("Comedy"))
-        {
-           return COMEDY;
-        }
-        else 
-        if (hashCode.equals("Education"))
-        {
-           return EDUCATION;
-        }
-        else 
-        if (hashCode.equals("Education/Education Technology"))
-        {
-           return EDUCATION_TECHNOLOGY;
-        }
-        else 
-        if (hashCode.equals("Education/Higher Education"))
-        {
-           return EDUCATION_HIGHER_EDUCATION;
-        }
-        else 
-        if (hashCode.equals("Education/K-12"))
-        {
-           return EDUCATION_K_12;
-        }
-        else 
-        if (hashCode.equals("Education/Language Courses"))
-        {
-           return EDUCATION_LANGUAGE_COURSES;
-        }
-        else 
-        if (hashCode.equals("Education/Training"))
-        {
-           return EDUCATION_TRAINING;
-        }
-        else 
-        if (hashCode.equals("Games &amp; Hobbies"))
-        {
-           return GAMES_HOBBIES;
-        }
-        else 
-        if (hashCode.equals("Games &amp; Hobbies/Automotive"))
-        {
-           return GAMES_HOBBIES_AUTOMOTIVE;
-        }
-        else 
-        if (hashCode.equals("Games &amp; Hobbies/Aviation"))
-        {
-           return GAMES_HOBBIES_AVIATION;
-        }
-        else 
-        if (hashCode.equals("Games &amp; Hobbies/Hobbies"))
-        {
-           return GAMES_HOBBIES_HOBBIES;
-        }
-        else 
-        if (hashCode.equals("Games &amp; Hobbies/Other Games"))
-        {
-           return GAMES_HOBBIES_OTHER_GAMES;
-        }
-        else 
-        if (hashCode.equals("Games &amp; Hobbies/Video Games"))
-        {
-           return GAMES_HOBBIES_VIDEO_GAMES;
-        }
-        else 
-        if (hashCode.equals("Government &amp; Organizations"))
-        {
-           return GOVERNMENT_ORGANIZATIONS;
-        }
-        else 
-        if (hashCode.equals("Government &amp; Organizations/Local"))
-        {
-           return GOVERNMENT_ORGANIZATIONS_LOCAL;
-        }
-        else 
-        if (hashCode.equals("Government &amp; Organizations/National"))
-        {
-           return GOVERNMENT_ORGANIZATIONS_NATIONAL;
-        }
-        else 
-        if (hashCode.equals("Government &amp; Organizations/Non-Profit"))
-        {
-           return GOVERNMENT_ORGANIZATIONS_NON_PROFIT;
-        }
-        else 
-        if (hashCode.equals("Government &amp; Organizations/Regional"))
-        {
-           return GOVERNMENT_ORGANIZATIONS_REGIONAL;
-        }
-        else 
-        if (hashCode.equals("Health"))
-        {
-           return HEALTH;
-        }
-        else 
-        if (hashCode.equals("Health/Alternative Health"))
-        {
-           return HEALTH_ALTERNATIVE_HEALTH;
-        }
-        else 
-        if (hashCode.equals("Health/Fitness &amp; Nutrition"))
-        {
-           return HEALTH_FITNESS_NUTRITION;
-        }
-        else 
-        if (hashCode.equals("Health/Self-Help"))
-        {
-           return HEALTH_SELF_HELP;
-        }
-        else 
-        if (hashCode.equals("Health/Sexuality"))
-        {
-           return HEALTH_SEXUALITY;
-        }
-        else 
-        if (hashCode.equals("Kids &amp; Family"))
-        {
-           return KIDS_FAMILY;
-        }
-        else 
-        if (hashCode.equals("Music"))
-        {
-           return MUSIC;
-        }
-        else 
-        if (hashCode.equals("News &amp; Politics"))
-        {
-           return NEWS_POLITICS;
-        }
-        else 
-        if (hashCode.equals("Religion &amp; Spirituality"))
-        {
-           return RELIGION_SPIRITUALITY;
-        }
-        else 
-        if (hashCode.equals("Religion &amp; Spirituality/Buddhism"))
-        {
-           return RELIGION_SPIRITUALITY_BUDDHISM;
-        }
-        else 
-        if (hashCode.equals("Religion &amp; Spirituality/Christianity"))
-        {
-           return RELIGION_SPIRITUALITY_CHRISTIANITY;
-        }
-        else 
-        if (hashCode.equals("Religion &amp; Spirituality/Hinduism"))
-        {
-           return RELIGION_SPIRITUALITY_HINDUISM;
-        }
-        else 
-        if (hashCode.equals("Religion &amp; Spirituality/Islam"))
-        {
-           return RELIGION_SPIRITUALITY_ISLAM;
-        }
-        else 
-        if (hashCode.equals("Religion &amp; Spirituality/Judaism"))
-        {
-           return RELIGION_SPIRITUALITY_JUDAISM;
-        }
-        else 
-        if (hashCode.equals("Religion &amp; Spirituality/Other"))
-        {
-           return RELIGION_SPIRITUALITY_OTHER;
-        }
-        else 
-        if (hashCode.equals("Religion &amp; Spirituality/Spirituality"))
-        {
-           return RELIGION_SPIRITUALITY_SPIRITUALITY;
-        }
-        else 
-        if (hashCode.equals("Science &amp; Medicine"))
-        {
-           return SCIENCE_MEDICINE;
-        }
-        else 
-        if (hashCode.equals("Science &amp; Medicine/Medicine"))
-        {
-           return SCIENCE_MEDICINE_MEDICINE;
-        }
-        else 
-        if (hashCode.equals("Science &amp; Medicine/Natural Sciences"))
-        {
-           return SCIENCE_MEDICINE_NATURAL_SCIENCES;
-        }
-        else 
-        if (hashCode.equals("Science &amp; Medicine/Social Sciences"))
-        {
-           return SCIENCE_MEDICINE_SOCIAL_SCIENCES;
-        }
-        else 
-        if (hashCode.equals("Society &amp; Culture"))
-        {
-           return SOCIETY_CULTURE;
-        }
-        else 
-        if (hashCode.equals("Society &amp; Culture/History"))
-        {
-           return SOCIETY_CULTURE_HISTORY;
-        }
-        else 
-        if (hashCode.equals("Society &amp; Culture/Personal Journals"))
-        {
-           return SOCIETY_CULTURE_PERSONAL_JOURNALS;
-        }
-        else 
-        if (hashCode.equals("Society &amp; Culture/Philosophy"))
-        {
-           return SOCIETY_CULTURE_PHILOSOPHY;
-        }
-        else 
-        if (hashCode.equals("Society &amp; Culture/Places &amp; Travel"))
-        {
-           return SOCIETY_CULTURE_PLACES_TRAVEL;
-        }
-        else 
-        if (hashCode.equals("Sports &amp; Recreation"))
-        {
-           return SPORTS_RECREATION;
-        }
-        else 
-        if (hashCode.equals("Sports &amp; Recreation/Amateur"))
-        {
-           return SPORTS_RECREATION_AMATEUR;
-        }
-        else 
-        if (hashCode.equals("Sports &amp; Recreation/College &amp; High School"))
-        {
-           return SPORTS_RECREATION_COLLEGE_HIGH_SCHOOL;
-        }
-        else 
-        if (hashCode.equals("Sports &amp; Recreation/Outdoor"))
-        {
-           return SPORTS_RECREATION_OUTDOOR;
-        }
-        else 
-        if (hashCode.equals("Sports &amp; Recreation/Professional"))
-        {
-           return SPORTS_RECREATION_PROFESSIONAL;
-        }
-        else 
-        if (hashCode.equals("Technology"))
-        {
-           return TECHNOLOGY;
-        }
-        else 
-        if (hashCode.equals("Technology/Gadgets"))
-        {
-           return TECHNOLOGY_GADGETS;
-        }
-        else 
-        if (hashCode.equals("Technology/Tech News"))
-        {
-           return TECHNOLOGY_TECH_NEWS;
-        }
-        else 
-        if (hashCode.equals("Technology/Podcasting"))
-        {
-           return TECHNOLOGY_PODCASTING;
-        }
-        else 
-        if (hashCode.equals("Technology/Software How-To"))
-        {
-           return TECHNOLOGY_SOFTWARE_HOW_TO;
-        }
-        else 
-        if (hashCode.equals("TV &amp; Film"))
-        {
-           return TV_FILM;
-        }
-        else 
-        {
-           return ARTS;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
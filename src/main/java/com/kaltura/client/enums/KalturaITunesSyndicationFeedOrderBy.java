@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -19,6 +23,17 @@ public enum KalturaITunesSyndicationFeedOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaITunesSyndicationFeedOrderBy> lookup;
+    static {
+        Map<String, KalturaITunesSyndicationFeedOrderBy> m = new HashMap<String, KalturaITunesSyndicationFeedOrderBy>();
+        for (KalturaITunesSyndicationFeedOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaITunesSyndicationFeedOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -28,48 +43,7 @@ public enum KalturaITunesSyndicationFeedOrderBy {
     }
 
     public static KalturaITunesSyndicationFeedOrderBy get(String hashCode) {
-        if (hashCode.equals("+playlistId"))
-        {
-           return PLAYLIST_ID_ASC;
-        }
-        else 
-        if (hashCode.equals("-playlistId"))
-        {
-           return PLAYLIST_ID_DESC;
-        }
-        else 
-        if (hashCode.equals("+name"))
-        {
-           return NAME_ASC;
-        }
-        else 
-        if (hashCode.equals("-name"))
-        {
-           return NAME_DESC;
-        }
-        else 
-        if (hashCode.equals("+type"))
-        {
-           return TYPE_ASC;
-        }
-        else 
-        if (hashCode.equals("-type"))
-        {
-           return TYPE_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        {
-           return PLAYLIST_ID_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
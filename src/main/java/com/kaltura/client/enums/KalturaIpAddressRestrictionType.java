@@ -25,7 +25,7 @@ public enum KalturaIpAddressRestrictionType {
         switch(hashCode) {
             case 0: return RESTRICT_LIST;
             case 1: return ALLOW_LIST;
-            default: return RESTRICT_LIST;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -55,7 +55,7 @@ public enum KalturaLicenseType {
             case 13: return BSD;
             case 14: return APACHE;
             case 15: return MOZILLA;
-            default: return UNKNOWN;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -31,6 +35,17 @@ public enum KalturaMediaEntryOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaMediaEntryOrderBy> lookup;
+    static {
+        Map<String, KalturaMediaEntryOrderBy> m = new HashMap<String, KalturaMediaEntryOrderBy>();
+        for (KalturaMediaEntryOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaMediaEntryOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -40,108 +55,7 @@ public enum KalturaMediaEntryOrderBy {
     }
 
     public static KalturaMediaEntryOrderBy get(String hashCode) {
-        if (hashCode.equals("+mediaType"))
-        {
-           return MEDIA_TYPE_ASC;
-        }
-        else 
-        if (hashCode.equals("-mediaType"))
-        {
-           return MEDIA_TYPE_DESC;
-        }
-        else 
-        if (hashCode.equals("+plays"))
-        {
-           return PLAYS_ASC;
-        }
-        else 
-        if (hashCode.equals("-plays"))
-        {
-           return PLAYS_DESC;
-        }
-        else 
-        if (hashCode.equals("+views"))
-        {
-           return VIEWS_ASC;
-        }
-        else 
-        if (hashCode.equals("-views"))
-        {
-           return VIEWS_DESC;
-        }
-        else 
-        if (hashCode.equals("+duration"))
-        {
-           return DURATION_ASC;
-        }
-        else 
-        if (hashCode.equals("-duration"))
-        {
-           return DURATION_DESC;
-        }
-        else 
-        if (hashCode.equals("+msDuration"))
-        {
-           return MS_DURATION_ASC;
-        }
-        else 
-        if (hashCode.equals("-msDuration"))
-        {
-           return MS_DURATION_DESC;
-        }
-        else 
-        if (hashCode.equals("+name"))
-        {
-           return NAME_ASC;
-        }
-        else 
-        if (hashCode.equals("-name"))
-        {
-           return NAME_DESC;
-        }
-        else 
-        if (hashCode.equals("+moderationCount"))
-        {
-           return MODERATION_COUNT_ASC;
-        }
-        else 
-        if (hashCode.equals("-moderationCount"))
-        {
-           return MODERATION_COUNT_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatedAt"))
-        {
-           return UPDATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatedAt"))
-        {
-           return UPDATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+rank"))
-        {
-           return RANK_ASC;
-        }
-        else 
-        if (hashCode.equals("-rank"))
-        {
-           return RANK_DESC;
-        }
-        else 
-        {
-           return MEDIA_TYPE_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
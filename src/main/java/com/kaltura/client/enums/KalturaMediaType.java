@@ -35,7 +35,7 @@ public enum KalturaMediaType {
             case 202: return LIVE_STREAM_WINDOWS_MEDIA;
             case 203: return LIVE_STREAM_REAL_MEDIA;
             case 204: return LIVE_STREAM_QUICKTIME;
-            default: return VIDEO;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -23,7 +23,7 @@ public enum KalturaMetadataObjectType {
     public static KalturaMetadataObjectType get(int hashCode) {
         switch(hashCode) {
             case 1: return ENTRY;
-            default: return ENTRY;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
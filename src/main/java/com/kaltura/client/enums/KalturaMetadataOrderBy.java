@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -19,6 +23,17 @@ public enum KalturaMetadataOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaMetadataOrderBy> lookup;
+    static {
+        Map<String, KalturaMetadataOrderBy> m = new HashMap<String, KalturaMetadataOrderBy>();
+        for (KalturaMetadataOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaMetadataOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -28,48 +43,7 @@ public enum KalturaMetadataOrderBy {
     }
 
     public static KalturaMetadataOrderBy get(String hashCode) {
-        if (hashCode.equals("+metadataProfileVersion"))
-        {
-           return METADATA_PROFILE_VERSION_ASC;
-        }
-        else 
-        if (hashCode.equals("-metadataProfileVersion"))
-        {
-           return METADATA_PROFILE_VERSION_DESC;
-        }
-        else 
-        if (hashCode.equals("+version"))
-        {
-           return VERSION_ASC;
-        }
-        else 
-        if (hashCode.equals("-version"))
-        {
-           return VERSION_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatedAt"))
-        {
-           return UPDATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatedAt"))
-        {
-           return UPDATED_AT_DESC;
-        }
-        else 
-        {
-           return METADATA_PROFILE_VERSION_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -27,7 +27,7 @@ public enum KalturaMetadataProfileStatus {
             case 1: return ACTIVE;
             case 2: return DEPRECATED;
             case 3: return TRANSFORMING;
-            default: return ACTIVE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -27,7 +27,7 @@ public enum KalturaMetadataStatus {
             case 1: return VALID;
             case 2: return INVALID;
             case 3: return DELETED;
-            default: return VALID;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
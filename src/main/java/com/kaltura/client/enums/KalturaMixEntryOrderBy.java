@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -29,6 +33,17 @@ public enum KalturaMixEntryOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaMixEntryOrderBy> lookup;
+    static {
+        Map<String, KalturaMixEntryOrderBy> m = new HashMap<String, KalturaMixEntryOrderBy>();
+        for (KalturaMixEntryOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaMixEntryOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -38,98 +53,7 @@ public enum KalturaMixEntryOrderBy {
     }
 
     public static KalturaMixEntryOrderBy get(String hashCode) {
-        if (hashCode.equals("+plays"))
-        {
-           return PLAYS_ASC;
-        }
-        else 
-        if (hashCode.equals("-plays"))
-        {
-           return PLAYS_DESC;
-        }
-        else 
-        if (hashCode.equals("+views"))
-        {
-           return VIEWS_ASC;
-        }
-        else 
-        if (hashCode.equals("-views"))
-        {
-           return VIEWS_DESC;
-        }
-        else 
-        if (hashCode.equals("+duration"))
-        {
-           return DURATION_ASC;
-        }
-        else 
-        if (hashCode.equals("-duration"))
-        {
-           return DURATION_DESC;
-        }
-        else 
-        if (hashCode.equals("+msDuration"))
-        {
-           return MS_DURATION_ASC;
-        }
-        else 
-        if (hashCode.equals("-msDuration"))
-        {
-           return MS_DURATION_DESC;
-        }
-        else 
-        if (hashCode.equals("+name"))
-        {
-           return NAME_ASC;
-        }
-        else 
-        if (hashCode.equals("-name"))
-        {
-           return NAME_DESC;
-        }
-        else 
-        if (hashCode.equals("+moderationCount"))
-        {
-           return MODERATION_COUNT_ASC;
-        }
-        else 
-        if (hashCode.equals("-moderationCount"))
-        {
-           return MODERATION_COUNT_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatedAt"))
-        {
-           return UPDATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatedAt"))
-        {
-           return UPDATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+rank"))
-        {
-           return RANK_ASC;
-        }
-        else 
-        if (hashCode.equals("-rank"))
-        {
-           return RANK_DESC;
-        }
-        else 
-        {
-           return PLAYS_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -25,7 +25,7 @@ public enum KalturaModerationFlagStatus {
         switch(hashCode) {
             case 1: return PENDING;
             case 2: return MODERATED;
-            default: return PENDING;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
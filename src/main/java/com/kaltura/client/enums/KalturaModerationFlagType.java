@@ -29,7 +29,7 @@ public enum KalturaModerationFlagType {
             case 2: return VIOLENT_REPULSIVE;
             case 3: return HARMFUL_DANGEROUS;
             case 4: return SPAM_COMMERCIALS;
-            default: return SEXUAL_CONTENT;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -25,7 +25,7 @@ public enum KalturaModerationObjectType {
         switch(hashCode) {
             case 2: return ENTRY;
             case 3: return USER;
-            default: return ENTRY;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
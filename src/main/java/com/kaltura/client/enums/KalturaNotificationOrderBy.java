@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -21,6 +25,17 @@ public enum KalturaNotificationOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaNotificationOrderBy> lookup;
+    static {
+        Map<String, KalturaNotificationOrderBy> m = new HashMap<String, KalturaNotificationOrderBy>();
+        for (KalturaNotificationOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaNotificationOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -30,58 +45,7 @@ public enum KalturaNotificationOrderBy {
     }
 
     public static KalturaNotificationOrderBy get(String hashCode) {
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatedAt"))
-        {
-           return UPDATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatedAt"))
-        {
-           return UPDATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+processorExpiration"))
-        {
-           return PROCESSOR_EXPIRATION_ASC;
-        }
-        else 
-        if (hashCode.equals("-processorExpiration"))
-        {
-           return PROCESSOR_EXPIRATION_DESC;
-        }
-        else 
-        if (hashCode.equals("+executionAttempts"))
-        {
-           return EXECUTION_ATTEMPTS_ASC;
-        }
-        else 
-        if (hashCode.equals("-executionAttempts"))
-        {
-           return EXECUTION_ATTEMPTS_DESC;
-        }
-        else 
-        if (hashCode.equals("+lockVersion"))
-        {
-           return LOCK_VERSION_ASC;
-        }
-        else 
-        if (hashCode.equals("-lockVersion"))
-        {
-           return LOCK_VERSION_DESC;
-        }
-        else 
-        {
-           return CREATED_AT_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -39,7 +39,7 @@ public enum KalturaNotificationType {
             case 7: return ENTRY_UPDATE_MODERATION;
             case 21: return USER_ADD;
             case 26: return USER_BANNED;
-            default: return ENTRY_ADD;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
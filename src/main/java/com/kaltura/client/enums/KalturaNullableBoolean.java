@@ -27,7 +27,7 @@ public enum KalturaNullableBoolean {
             case -1: return NULL_VALUE;
             case 0: return FALSE_VALUE;
             case 1: return TRUE_VALUE;
-            default: return NULL_VALUE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
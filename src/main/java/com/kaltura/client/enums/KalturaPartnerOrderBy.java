@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -25,6 +29,17 @@ public enum KalturaPartnerOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaPartnerOrderBy> lookup;
+    static {
+        Map<String, KalturaPartnerOrderBy> m = new HashMap<String, KalturaPartnerOrderBy>();
+        for (KalturaPartnerOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaPartnerOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -34,78 +49,7 @@ public enum KalturaPartnerOrderBy {
     }
 
     public static KalturaPartnerOrderBy get(String hashCode) {
-        if (hashCode.equals("+id"))
-        {
-           return ID_ASC;
-        }
-        else 
-        if (hashCode.equals("-id"))
-        {
-           return ID_DESC;
-        }
-        else 
-        if (hashCode.equals("+name"))
-        {
-           return NAME_ASC;
-        }
-        else 
-        if (hashCode.equals("-name"))
-        {
-           return NAME_DESC;
-        }
-        else 
-        if (hashCode.equals("+website"))
-        {
-           return WEBSITE_ASC;
-        }
-        else 
-        if (hashCode.equals("-website"))
-        {
-           return WEBSITE_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+adminName"))
-        {
-           return ADMIN_NAME_ASC;
-        }
-        else 
-        if (hashCode.equals("-adminName"))
-        {
-           return ADMIN_NAME_DESC;
-        }
-        else 
-        if (hashCode.equals("+adminEmail"))
-        {
-           return ADMIN_EMAIL_ASC;
-        }
-        else 
-        if (hashCode.equals("-adminEmail"))
-        {
-           return ADMIN_EMAIL_DESC;
-        }
-        else 
-        if (hashCode.equals("+status"))
-        {
-           return STATUS_ASC;
-        }
-        else 
-        if (hashCode.equals("-status"))
-        {
-           return STATUS_DESC;
-        }
-        else 
-        {
-           return ID_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
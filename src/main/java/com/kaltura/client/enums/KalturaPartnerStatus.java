@@ -27,7 +27,7 @@ public enum KalturaPartnerStatus {
             case 1: return ACTIVE;
             case 2: return BLOCKED;
             case 3: return FULL_BLOCK;
-            default: return ACTIVE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -41,7 +41,7 @@ public enum KalturaPartnerType {
             case 106: return JOOMLA;
             case 107: return BLACKBOARD;
             case 108: return SAKAI;
-            default: return KMC;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
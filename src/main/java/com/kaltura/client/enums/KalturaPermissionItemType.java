@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -13,6 +17,17 @@ public enum KalturaPermissionItemType {
 
     String hashCode;
 
+    private static final Map<String, KalturaPermissionItemType> lookup;
+    static {
+        Map<String, KalturaPermissionItemType> m = new HashMap<String, KalturaPermissionItemType>();
+        for (KalturaPermissionItemType value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaPermissionItemType(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -22,18 +37,7 @@ public enum KalturaPermissionItemType {
     }
 
     public static KalturaPermissionItemType get(String hashCode) {
-        if (hashCode.equals("kApiActionPermissionItem"))
-        {
-           return API_ACTION_ITEM;
-        }
-        else 
-        if (hashCode.equals("kApiParameterPermissionItem"))
-        {
-           return API_PARAMETER_ITEM;
-        }
-        else 
-        {
-           return API_ACTION_ITEM;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -131,6 +135,17 @@ public enum KalturaPermissionName {
 
     String hashCode;
 
+    private static final Map<String, KalturaPermissionName> lookup;
+    static {
+        Map<String, KalturaPermissionName> m = new HashMap<String, KalturaPermissionName>();
+        for (KalturaPermissionName value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaPermissionName(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -140,608 +155,7 @@ public enum KalturaPermissionName {
     }
 
     public static KalturaPermissionName get(String hashCode) {
-        if (hashCode.equals("FEATURE_ANALYTICS_TAB"))
-        {
-           return FEATURE_ANALYTICS_TAB;
-        }
-        else 
-        if (hashCode.equals("FEATURE_508_PLAYERS"))
-        {
-           return FEATURE_508_PLAYERS;
-        }
-        else 
-        if (hashCode.equals("FEATURE_LIVE_STREAM"))
-        {
-           return FEATURE_LIVE_STREAM;
-        }
-        else 
-        if (hashCode.equals("FEATURE_VAST"))
-        {
-           return FEATURE_VAST;
-        }
-        else 
-        if (hashCode.equals("FEATURE_SILVERLIGHT"))
-        {
-           return FEATURE_SILVERLIGHT;
-        }
-        else 
-        if (hashCode.equals("FEATURE_PS2_PERMISSIONS_VALIDATION"))
-        {
-           return FEATURE_PS2_PERMISSIONS_VALIDATION;
-        }
-        else 
-        if (hashCode.equals("FEATURE_MOBILE_FLAVORS"))
-        {
-           return FEATURE_MOBILE_FLAVORS;
-        }
-        else 
-        if (hashCode.equals("BASE_USER_SESSION_PERMISSION"))
-        {
-           return USER_SESSION_PERMISSION;
-        }
-        else 
-        if (hashCode.equals("ALWAYS_ALLOWED_ACTIONS"))
-        {
-           return ALWAYS_ALLOWED_ACTIONS;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_FILESYNC"))
-        {
-           return SYSTEM_FILESYNC;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_INTERNAL"))
-        {
-           return SYSTEM_INTERNAL;
-        }
-        else 
-        if (hashCode.equals("KMC_ACCESS"))
-        {
-           return KMC_ACCESS;
-        }
-        else 
-        if (hashCode.equals("KMC_READ_ONLY"))
-        {
-           return KMC_READ_ONLY;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_BASE"))
-        {
-           return SYSTEM_ADMIN_BASE;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_PUBLISHER_BASE"))
-        {
-           return SYSTEM_ADMIN_PUBLISHER_BASE;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_PUBLISHER_KMC_ACCESS"))
-        {
-           return SYSTEM_ADMIN_PUBLISHER_KMC_ACCESS;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_PUBLISHER_CONFIG"))
-        {
-           return SYSTEM_ADMIN_PUBLISHER_CONFIG;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_PUBLISHER_BLOCK"))
-        {
-           return SYSTEM_ADMIN_PUBLISHER_BLOCK;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_PUBLISHER_REMOVE"))
-        {
-           return SYSTEM_ADMIN_PUBLISHER_REMOVE;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_PUBLISHER_ADD"))
-        {
-           return SYSTEM_ADMIN_PUBLISHER_ADD;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_PUBLISHER_USAGE"))
-        {
-           return SYSTEM_ADMIN_PUBLISHER_USAGE;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_USER_MANAGE"))
-        {
-           return SYSTEM_ADMIN_USER_MANAGE;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_SYSTEM_MONITOR"))
-        {
-           return SYSTEM_ADMIN_SYSTEM_MONITOR;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_DEVELOPERS_TAB"))
-        {
-           return SYSTEM_ADMIN_DEVELOPERS_TAB;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_BATCH_CONTROL"))
-        {
-           return SYSTEM_ADMIN_BATCH_CONTROL;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_BATCH_CONTROL_INPROGRESS"))
-        {
-           return SYSTEM_ADMIN_BATCH_CONTROL_INPROGRESS;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_BATCH_CONTROL_FAILED"))
-        {
-           return SYSTEM_ADMIN_BATCH_CONTROL_FAILED;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_BATCH_CONTROL_SETUP"))
-        {
-           return SYSTEM_ADMIN_BATCH_CONTROL_SETUP;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_STORAGE"))
-        {
-           return SYSTEM_ADMIN_STORAGE;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_VIRUS_SCAN"))
-        {
-           return SYSTEM_ADMIN_VIRUS_SCAN;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_EMAIL_INGESTION"))
-        {
-           return SYSTEM_ADMIN_EMAIL_INGESTION;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_CONTENT_DISTRIBUTION_BASE"))
-        {
-           return SYSTEM_ADMIN_CONTENT_DISTRIBUTION_BASE;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_CONTENT_DISTRIBUTION_MODIFY"))
-        {
-           return SYSTEM_ADMIN_CONTENT_DISTRIBUTION_MODIFY;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_PERMISSIONS_MANAGE"))
-        {
-           return SYSTEM_ADMIN_PERMISSIONS_MANAGE;
-        }
-        else 
-        if (hashCode.equals("SYSTEM_ADMIN_ENTRY_INVESTIGATION"))
-        {
-           return SYSTEM_ADMIN_ENTRY_INVESTIGATION;
-        }
-        else 
-        if (hashCode.equals("BATCH_BASE"))
-        {
-           return BATCH_BASE;
-        }
-        else 
-        if (hashCode.equals("CONTENT_INGEST_UPLOAD"))
-        {
-           return CONTENT_INGEST_UPLOAD;
-        }
-        else 
-        if (hashCode.equals("CONTENT_INGEST_BULK_UPLOAD"))
-        {
-           return CONTENT_INGEST_BULK_UPLOAD;
-        }
-        else 
-        if (hashCode.equals("CONTENT_INGEST_FEED"))
-        {
-           return CONTENT_INGEST_FEED;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_DISTRIBUTION_BASE"))
-        {
-           return CONTENT_MANAGE_DISTRIBUTION_BASE;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_DISTRIBUTION_WHERE"))
-        {
-           return CONTENT_MANAGE_DISTRIBUTION_WHERE;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_DISTRIBUTION_SEND"))
-        {
-           return CONTENT_MANAGE_DISTRIBUTION_SEND;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_DISTRIBUTION_REMOVE"))
-        {
-           return CONTENT_MANAGE_DISTRIBUTION_REMOVE;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_DISTRIBUTION_PROFILE_MODIFY"))
-        {
-           return CONTENT_MANAGE_DISTRIBUTION_PROFILE_MODIFY;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_VIRUS_SCAN"))
-        {
-           return CONTENT_MANAGE_VIRUS_SCAN;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_MIX"))
-        {
-           return CONTENT_MANAGE_MIX;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_BASE"))
-        {
-           return CONTENT_MANAGE_BASE;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_METADATA"))
-        {
-           return CONTENT_MANAGE_METADATA;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_ASSIGN_CATEGORIES"))
-        {
-           return CONTENT_MANAGE_ASSIGN_CATEGORIES;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_THUMBNAIL"))
-        {
-           return CONTENT_MANAGE_THUMBNAIL;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_SCHEDULE"))
-        {
-           return CONTENT_MANAGE_SCHEDULE;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_ACCESS_CONTROL"))
-        {
-           return CONTENT_MANAGE_ACCESS_CONTROL;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_CUSTOM_DATA"))
-        {
-           return CONTENT_MANAGE_CUSTOM_DATA;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_DELETE"))
-        {
-           return CONTENT_MANAGE_DELETE;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_RECONVERT"))
-        {
-           return CONTENT_MANAGE_RECONVERT;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_EDIT_CATEGORIES"))
-        {
-           return CONTENT_MANAGE_EDIT_CATEGORIES;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_ANNOTATION"))
-        {
-           return CONTENT_MANAGE_ANNOTATION;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_SHARE"))
-        {
-           return CONTENT_MANAGE_SHARE;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_DOWNLOAD"))
-        {
-           return CONTENT_MANAGE_DOWNLOAD;
-        }
-        else 
-        if (hashCode.equals("LIVE_STREAM_ADD"))
-        {
-           return LIVE_STREAM_ADD;
-        }
-        else 
-        if (hashCode.equals("LIVE_STREAM_UPDATE"))
-        {
-           return LIVE_STREAM_UPDATE;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MODERATE_BASE"))
-        {
-           return CONTENT_MODERATE_BASE;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MODERATE_METADATA"))
-        {
-           return CONTENT_MODERATE_METADATA;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MODERATE_CUSTOM_DATA"))
-        {
-           return CONTENT_MODERATE_CUSTOM_DATA;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MODERATE_APPROVE_REJECT"))
-        {
-           return CONTENT_MODERATE_APPROVE_REJECT;
-        }
-        else 
-        if (hashCode.equals("PLAYLIST_BASE"))
-        {
-           return PLAYLIST_BASE;
-        }
-        else 
-        if (hashCode.equals("PLAYLIST_ADD"))
-        {
-           return PLAYLIST_ADD;
-        }
-        else 
-        if (hashCode.equals("PLAYLIST_UPDATE"))
-        {
-           return PLAYLIST_UPDATE;
-        }
-        else 
-        if (hashCode.equals("PLAYLIST_DELETE"))
-        {
-           return PLAYLIST_DELETE;
-        }
-        else 
-        if (hashCode.equals("SYNDICATION_BASE"))
-        {
-           return SYNDICATION_BASE;
-        }
-        else 
-        if (hashCode.equals("SYNDICATION_ADD"))
-        {
-           return SYNDICATION_ADD;
-        }
-        else 
-        if (hashCode.equals("SYNDICATION_UPDATE"))
-        {
-           return SYNDICATION_UPDATE;
-        }
-        else 
-        if (hashCode.equals("SYNDICATION_DELETE"))
-        {
-           return SYNDICATION_DELETE;
-        }
-        else 
-        if (hashCode.equals("STUDIO_BASE"))
-        {
-           return STUDIO_BASE;
-        }
-        else 
-        if (hashCode.equals("STUDIO_ADD_UICONF"))
-        {
-           return STUDIO_ADD_UICONF;
-        }
-        else 
-        if (hashCode.equals("STUDIO_UPDATE_UICONF"))
-        {
-           return STUDIO_UPDATE_UICONF;
-        }
-        else 
-        if (hashCode.equals("STUDIO_DELETE_UICONF"))
-        {
-           return STUDIO_DELETE_UICONF;
-        }
-        else 
-        if (hashCode.equals("ACCOUNT_BASE"))
-        {
-           return ACCOUNT_BASE;
-        }
-        else 
-        if (hashCode.equals("ACCOUNT_UPDATE_SETTINGS"))
-        {
-           return ACCOUNT_UPDATE_SETTINGS;
-        }
-        else 
-        if (hashCode.equals("INTEGRATION_BASE"))
-        {
-           return INTEGRATION_BASE;
-        }
-        else 
-        if (hashCode.equals("INTEGRATION_UPDATE_SETTINGS"))
-        {
-           return INTEGRATION_UPDATE_SETTINGS;
-        }
-        else 
-        if (hashCode.equals("ACCESS_CONTROL_BASE"))
-        {
-           return ACCESS_CONTROL_BASE;
-        }
-        else 
-        if (hashCode.equals("ACCESS_CONTROL_ADD"))
-        {
-           return ACCESS_CONTROL_ADD;
-        }
-        else 
-        if (hashCode.equals("ACCESS_CONTROL_UPDATE"))
-        {
-           return ACCESS_CONTROL_UPDATE;
-        }
-        else 
-        if (hashCode.equals("ACCESS_CONTROL_DELETE"))
-        {
-           return ACCESS_CONTROL_DELETE;
-        }
-        else 
-        if (hashCode.equals("TRANSCODING_BASE"))
-        {
-           return TRANSCODING_BASE;
-        }
-        else 
-        if (hashCode.equals("TRANSCODING_ADD"))
-        {
-           return TRANSCODING_ADD;
-        }
-        else 
-        if (hashCode.equals("TRANSCODING_UPDATE"))
-        {
-           return TRANSCODING_UPDATE;
-        }
-        else 
-        if (hashCode.equals("TRANSCODING_DELETE"))
-        {
-           return TRANSCODING_DELETE;
-        }
-        else 
-        if (hashCode.equals("CUSTOM_DATA_PROFILE_BASE"))
-        {
-           return CUSTOM_DATA_PROFILE_BASE;
-        }
-        else 
-        if (hashCode.equals("CUSTOM_DATA_PROFILE_ADD"))
-        {
-           return CUSTOM_DATA_PROFILE_ADD;
-        }
-        else 
-        if (hashCode.equals("CUSTOM_DATA_PROFILE_UPDATE"))
-        {
-           return CUSTOM_DATA_PROFILE_UPDATE;
-        }
-        else 
-        if (hashCode.equals("CUSTOM_DATA_PROFILE_DELETE"))
-        {
-           return CUSTOM_DATA_PROFILE_DELETE;
-        }
-        else 
-        if (hashCode.equals("CUSTOM_DATA_FIELD_ADD"))
-        {
-           return CUSTOM_DATA_FIELD_ADD;
-        }
-        else 
-        if (hashCode.equals("CUSTOM_DATA_FIELD_UPDATE"))
-        {
-           return CUSTOM_DATA_FIELD_UPDATE;
-        }
-        else 
-        if (hashCode.equals("CUSTOM_DATA_FIELD_DELETE"))
-        {
-           return CUSTOM_DATA_FIELD_DELETE;
-        }
-        else 
-        if (hashCode.equals("ADMIN_BASE"))
-        {
-           return ADMIN_BASE;
-        }
-        else 
-        if (hashCode.equals("ADMIN_USER_ADD"))
-        {
-           return ADMIN_USER_ADD;
-        }
-        else 
-        if (hashCode.equals("ADMIN_USER_UPDATE"))
-        {
-           return ADMIN_USER_UPDATE;
-        }
-        else 
-        if (hashCode.equals("ADMIN_USER_DELETE"))
-        {
-           return ADMIN_USER_DELETE;
-        }
-        else 
-        if (hashCode.equals("ADMIN_ROLE_ADD"))
-        {
-           return ADMIN_ROLE_ADD;
-        }
-        else 
-        if (hashCode.equals("ADMIN_ROLE_UPDATE"))
-        {
-           return ADMIN_ROLE_UPDATE;
-        }
-        else 
-        if (hashCode.equals("ADMIN_ROLE_DELETE"))
-        {
-           return ADMIN_ROLE_DELETE;
-        }
-        else 
-        if (hashCode.equals("ADMIN_PERMISSION_ADD"))
-        {
-           return ADMIN_PERMISSION_ADD;
-        }
-        else 
-        if (hashCode.equals("ADMIN_PERMISSION_UPDATE"))
-        {
-           return ADMIN_PERMISSION_UPDATE;
-        }
-        else 
-        if (hashCode.equals("ADMIN_PERMISSION_DELETE"))
-        {
-           return ADMIN_PERMISSION_DELETE;
-        }
-        else 
-        if (hashCode.equals("ADMIN_PUBLISHER_MANAGE"))
-        {
-           return ADMIN_PUBLISHER_MANAGE;
-        }
-        else 
-        if (hashCode.equals("ANALYTICS_BASE"))
-        {
-           return ANALYTICS_BASE;
-        }
-        else 
-        if (hashCode.equals("WIDGET_ADMIN"))
-        {
-           return WIDGET_ADMIN;
-        }
-        else 
-        if (hashCode.equals("SEARCH_SERVICE"))
-        {
-           return SEARCH_SERVICE;
-        }
-        else 
-        if (hashCode.equals("ANALYTICS_SEND_DATA"))
-        {
-           return ANALYTICS_SEND_DATA;
-        }
-        else 
-        if (hashCode.equals("AUDIT_TRAIL_BASE"))
-        {
-           return AUDIT_TRAIL_BASE;
-        }
-        else 
-        if (hashCode.equals("AUDIT_TRAIL_ADD"))
-        {
-           return AUDIT_TRAIL_ADD;
-        }
-        else 
-        if (hashCode.equals("ADVERTISING_BASE"))
-        {
-           return ADVERTISING_BASE;
-        }
-        else 
-        if (hashCode.equals("ADVERTISING_UPDATE_SETTINGS"))
-        {
-           return ADVERTISING_UPDATE_SETTINGS;
-        }
-        else 
-        if (hashCode.equals("PLAYLIST_EMBED_CODE"))
-        {
-           return PLAYLIST_EMBED_CODE;
-        }
-        else 
-        if (hashCode.equals("STUDIO_BRAND_UICONF"))
-        {
-           return STUDIO_BRAND_UICONF;
-        }
-        else 
-        if (hashCode.equals("STUDIO_SELECT_CONTENT"))
-        {
-           return STUDIO_SELECT_CONTENT;
-        }
-        else 
-        if (hashCode.equals("CONTENT_MANAGE_EMBED_CODE"))
-        {
-           return CONTENT_MANAGE_EMBED_CODE;
-        }
-        else 
-        if (hashCode.equals("ADMIN_WHITE_BRANDING"))
-        {
-           return ADMIN_WHITE_BRANDING;
-        }
-        else 
-        {
-           return FEATURE_ANALYTICS_TAB;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
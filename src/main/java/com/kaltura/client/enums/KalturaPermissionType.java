@@ -29,7 +29,7 @@ public enum KalturaPermissionType {
             case 2: return SPECIAL_FEATURE;
             case 3: return PLUGIN;
             case 4: return PARTNER_GROUP;
-            default: return NORMAL;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -27,7 +27,7 @@ public enum KalturaPlaylistType {
             case 10: return DYNAMIC;
             case 3: return STATIC_LIST;
             case 101: return EXTERNAL;
-            default: return DYNAMIC;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -35,7 +35,7 @@ public enum KalturaReportType {
             case 5: return TOP_CONTRIBUTORS;
             case 6: return TOP_SYNDICATION;
             case 7: return CONTENT_CONTRIBUTIONS;
-            default: return TOP_CONTENT;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
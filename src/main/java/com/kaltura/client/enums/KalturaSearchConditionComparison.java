@@ -31,7 +31,7 @@ public enum KalturaSearchConditionComparison {
             case 3: return GREATER_THAN_OR_EQUEL;
             case 4: return LESS_THAN;
             case 5: return LESS_THAN_OR_EQUEL;
-            default: return EQUEL;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
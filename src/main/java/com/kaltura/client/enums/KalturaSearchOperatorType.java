@@ -25,7 +25,7 @@ public enum KalturaSearchOperatorType {
         switch(hashCode) {
             case 1: return SEARCH_AND;
             case 2: return SEARCH_OR;
-            default: return SEARCH_AND;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
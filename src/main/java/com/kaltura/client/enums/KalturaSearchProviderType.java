@@ -53,7 +53,7 @@ public enum KalturaSearchProviderType {
             case 24: return METACAFE;
             case 28: return SEARCH_PROXY;
             case 100: return PARTNER_SPECIFIC;
-            default: return FLICKR;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
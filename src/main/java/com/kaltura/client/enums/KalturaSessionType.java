@@ -25,7 +25,7 @@ public enum KalturaSessionType {
         switch(hashCode) {
             case 0: return USER;
             case 2: return ADMIN;
-            default: return USER;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
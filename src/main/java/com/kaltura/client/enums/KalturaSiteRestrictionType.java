@@ -25,7 +25,7 @@ public enum KalturaSiteRestrictionType {
         switch(hashCode) {
             case 0: return RESTRICT_SITE_LIST;
             case 1: return ALLOW_SITE_LIST;
-            default: return RESTRICT_SITE_LIST;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -31,7 +31,7 @@ public enum KalturaSourceType {
             case 5: return URL;
             case 6: return SEARCH_PROVIDER;
             case 29: return AKAMAI_LIVE;
-            default: return FILE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
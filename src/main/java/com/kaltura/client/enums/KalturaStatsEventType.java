@@ -101,7 +101,7 @@ public enum KalturaStatsEventType {
             case 38: return POSTROLL_25;
             case 39: return POSTROLL_50;
             case 40: return POSTROLL_75;
-            default: return WIDGET_LOADED;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
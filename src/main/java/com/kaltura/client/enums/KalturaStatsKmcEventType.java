@@ -149,7 +149,7 @@ public enum KalturaStatsKmcEventType {
             case 1085: return REPORTS_AND_ANALYTICS_TOP_SYNDICATIONS_DRILL_DOWN;
             case 1086: return REPORTS_AND_ANALYTICS_BANDWIDTH_USAGE_VIEW_MONTHLY;
             case 1087: return REPORTS_AND_ANALYTICS_BANDWIDTH_USAGE_VIEW_YEARLY;
-            default: return CONTENT_PAGE_VIEW;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
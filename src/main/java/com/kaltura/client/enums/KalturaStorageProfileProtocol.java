@@ -29,7 +29,7 @@ public enum KalturaStorageProfileProtocol {
             case 1: return FTP;
             case 2: return SCP;
             case 3: return SFTP;
-            default: return KALTURA_DC;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
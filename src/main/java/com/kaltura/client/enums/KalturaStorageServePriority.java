@@ -29,7 +29,7 @@ public enum KalturaStorageServePriority {
             case 2: return KALTURA_FIRST;
             case 3: return EXTERNAL_FIRST;
             case 4: return EXTERNAL_ONLY;
-            default: return KALTURA_ONLY;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -25,7 +25,7 @@ public enum KalturaSyndicationFeedStatus {
         switch(hashCode) {
             case -1: return DELETED;
             case 1: return ACTIVE;
-            default: return DELETED;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
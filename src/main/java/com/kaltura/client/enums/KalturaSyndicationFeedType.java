@@ -33,7 +33,7 @@ public enum KalturaSyndicationFeedType {
             case 4: return TUBE_MOGUL;
             case 5: return KALTURA;
             case 6: return KALTURA_XSLT;
-            default: return GOOGLE_VIDEO;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
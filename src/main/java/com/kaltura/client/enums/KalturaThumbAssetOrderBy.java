@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -19,6 +23,17 @@ public enum KalturaThumbAssetOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaThumbAssetOrderBy> lookup;
+    static {
+        Map<String, KalturaThumbAssetOrderBy> m = new HashMap<String, KalturaThumbAssetOrderBy>();
+        for (KalturaThumbAssetOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaThumbAssetOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -28,48 +43,7 @@ public enum KalturaThumbAssetOrderBy {
     }
 
     public static KalturaThumbAssetOrderBy get(String hashCode) {
-        if (hashCode.equals("+size"))
-        {
-           return SIZE_ASC;
-        }
-        else 
-        if (hashCode.equals("-size"))
-        {
-           return SIZE_DESC;
-        }
-        else 
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+updatedAt"))
-        {
-           return UPDATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-updatedAt"))
-        {
-           return UPDATED_AT_DESC;
-        }
-        else 
-        if (hashCode.equals("+deletedAt"))
-        {
-           return DELETED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-deletedAt"))
-        {
-           return DELETED_AT_DESC;
-        }
-        else 
-        {
-           return SIZE_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -29,7 +29,7 @@ public enum KalturaThumbCropType {
             case 2: return RESIZE_WITH_PADDING;
             case 3: return CROP;
             case 4: return CROP_FROM_TOP;
-            default: return RESIZE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -33,7 +33,7 @@ public enum KalturaTrackEntryEventType {
             case 4: return ADD_ENTRY;
             case 5: return UPDATE_ENTRY;
             case 6: return DELETED_ENTRY;
-            default: return UPLOADED_FILE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
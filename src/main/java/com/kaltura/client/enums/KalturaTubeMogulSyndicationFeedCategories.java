@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -26,6 +30,17 @@ public enum KalturaTubeMogulSyndicationFeedCategories {
 
     String hashCode;
 
+    private static final Map<String, KalturaTubeMogulSyndicationFeedCategories> lookup;
+    static {
+        Map<String, KalturaTubeMogulSyndicationFeedCategories> m = new HashMap<String, KalturaTubeMogulSyndicationFeedCategories>();
+        for (KalturaTubeMogulSyndicationFeedCategories value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaTubeMogulSyndicationFeedCategories(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -35,83 +50,7 @@ public enum KalturaTubeMogulSyndicationFeedCategories {
     }
 
     public static KalturaTubeMogulSyndicationFeedCategories get(String hashCode) {
-        if (hashCode.equals("Arts &amp; Animation"))
-        {
-           return ARTS_AND_ANIMATION;
-        }
-        else 
-        if (hashCode.equals("Comedy"))
-        {
-           return COMEDY;
-        }
-        else 
-        if (hashCode.equals("Entertainment"))
-        {
-           return ENTERTAINMENT;
-        }
-        else 
-        if (hashCode.equals("Music"))
-        {
-           return MUSIC;
-        }
-        else 
-        if (hashCode.equals("News &amp; Blogs"))
-        {
-           return NEWS_AND_BLOGS;
-        }
-        else 
-        if (hashCode.equals("Science &amp; Technology"))
-        {
-           return SCIENCE_AND_TECHNOLOGY;
-        }
-        else 
-        if (hashCode.equals("Sports"))
-        {
-           return SPORTS;
-        }
-        else 
-        if (hashCode.equals("Travel &amp; Places"))
-        {
-           return TRAVEL_AND_PLACES;
-        }
-        else 
-        if (hashCode.equals("Video Games"))
-        {
-           return VIDEO_GAMES;
-        }
-        else 
-        if (hashCode.equals("Animals &amp; Pets"))
-        {
-           return ANIMALS_AND_PETS;
-        }
-        else 
-        if (hashCode.equals("Autos"))
-        {
-           return AUTOS;
-        }
-        else 
-        if (hashCode.equals("Vlogs &amp; People"))
-        {
-           return VLOGS_PEOPLE;
-        }
-        else 
-        if (hashCode.equals("How To/Instructional/DIY"))
-        {
-           return HOW_TO_INSTRUCTIONAL_DIY;
-        }
-        else 
-        if (hashCode.equals("Commercials/Promotional"))
-        {
-           return COMMERCIALS_PROMOTIONAL;
-        }
-        else 
-        if (hashCode.equals("Family &amp; Kids"))
-        {
-           return FAMILY_AND_KIDS;
-        }
-        else 
-        {
-           return ARTS_AND_ANIMATION;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -25,7 +25,7 @@ public enum KalturaUiConfCreationMode {
         switch(hashCode) {
             case 2: return WIZARD;
             case 3: return ADVANCED;
-            default: return WIZARD;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
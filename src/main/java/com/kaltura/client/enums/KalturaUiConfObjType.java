@@ -55,7 +55,7 @@ public enum KalturaUiConfObjType {
             case 15: return CLIENTSIDE_ENCODER;
             case 16: return KMC_GENERAL;
             case 17: return KMC_ROLES_AND_PERMISSIONS;
-            default: return PLAYER;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
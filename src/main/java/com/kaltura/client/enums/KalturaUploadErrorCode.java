@@ -27,7 +27,7 @@ public enum KalturaUploadErrorCode {
             case 0: return NO_ERROR;
             case 1: return GENERAL_ERROR;
             case 2: return PARTIAL_UPLOAD;
-            default: return NO_ERROR;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
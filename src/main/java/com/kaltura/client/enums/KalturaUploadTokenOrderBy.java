@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -13,6 +17,17 @@ public enum KalturaUploadTokenOrderBy {
 
     String hashCode;
 
+    private static final Map<String, KalturaUploadTokenOrderBy> lookup;
+    static {
+        Map<String, KalturaUploadTokenOrderBy> m = new HashMap<String, KalturaUploadTokenOrderBy>();
+        for (KalturaUploadTokenOrderBy value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaUploadTokenOrderBy(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -22,18 +37,7 @@ public enum KalturaUploadTokenOrderBy {
     }
 
     public static KalturaUploadTokenOrderBy get(String hashCode) {
-        if (hashCode.equals("+createdAt"))
-        {
-           return CREATED_AT_ASC;
-        }
-        else 
-        if (hashCode.equals("-createdAt"))
-        {
-           return CREATED_AT_DESC;
-        }
-        else 
-        {
-           return CREATED_AT_ASC;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
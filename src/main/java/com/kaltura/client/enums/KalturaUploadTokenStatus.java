@@ -33,7 +33,7 @@ public enum KalturaUploadTokenStatus {
             case 3: return CLOSED;
             case 4: return TIMED_OUT;
             case 5: return DELETED;
-            default: return PENDING;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -27,7 +27,7 @@ public enum KalturaUserStatus {
             case 0: return BLOCKED;
             case 1: return ACTIVE;
             case 2: return DELETED;
-            default: return BLOCKED;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
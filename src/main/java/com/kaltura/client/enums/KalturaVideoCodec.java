@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -26,6 +30,17 @@ public enum KalturaVideoCodec {
 
     String hashCode;
 
+    private static final Map<String, KalturaVideoCodec> lookup;
+    static {
+        Map<String, KalturaVideoCodec> m = new HashMap<String, KalturaVideoCodec>();
+        for (KalturaVideoCodec value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaVideoCodec(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -35,83 +50,7 @@ public enum KalturaVideoCodec {
     }
 
     public static KalturaVideoCodec get(String hashCode) {
-        if (hashCode.equals(""))
-        {
-           return NONE;
-        }
-        else 
-        if (hashCode.equals("vp6"))
-        {
-           return VP6;
-        }
-        else 
-        if (hashCode.equals("h263"))
-        {
-           return H263;
-        }
-        else 
-        if (hashCode.equals("h264"))
-        {
-           return H264;
-        }
-        else 
-        if (hashCode.equals("h264b"))
-        {
-           return H264B;
-        }
-        else 
-        if (hashCode.equals("h264m"))
-        {
-           return H264M;
-        }
-        else 
-        if (hashCode.equals("h264h"))
-        {
-           return H264H;
-        }
-        else 
-        if (hashCode.equals("flv"))
-        {
-           return FLV;
-        }
-        else 
-        if (hashCode.equals("mpeg4"))
-        {
-           return MPEG4;
-        }
-        else 
-        if (hashCode.equals("theora"))
-        {
-           return THEORA;
-        }
-        else 
-        if (hashCode.equals("wmv2"))
-        {
-           return WMV2;
-        }
-        else 
-        if (hashCode.equals("wmv3"))
-        {
-           return WMV3;
-        }
-        else 
-        if (hashCode.equals("wvc1a"))
-        {
-           return WVC1A;
-        }
-        else 
-        if (hashCode.equals("vp8"))
-        {
-           return VP8;
-        }
-        else 
-        if (hashCode.equals("copy"))
-        {
-           return COPY;
-        }
-        else 
-        {
-           return NONE;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
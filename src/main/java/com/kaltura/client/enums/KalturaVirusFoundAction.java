@@ -29,7 +29,7 @@ public enum KalturaVirusFoundAction {
             case 1: return DELETE;
             case 2: return CLEAN_NONE;
             case 3: return CLEAN_DELETE;
-            default: return NONE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -12,6 +16,17 @@ public enum KalturaVirusScanEngineType {
 
     String hashCode;
 
+    private static final Map<String, KalturaVirusScanEngineType> lookup;
+    static {
+        Map<String, KalturaVirusScanEngineType> m = new HashMap<String, KalturaVirusScanEngineType>();
+        for (KalturaVirusScanEngineType value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaVirusScanEngineType(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -21,13 +36,7 @@ public enum KalturaVirusScanEngineType {
     }
 
     public static KalturaVirusScanEngineType get(String hashCode) {
-        if (hashCode.equals("symantecScanEngine.SymantecScanEngine"))
-        {
-           return SYMANTEC_SCAN_ENGINE;
-        }
-        else 
-        {
-           return SYMANTEC_SCAN_ENGINE;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -25,7 +25,7 @@ public enum KalturaVirusScanProfileStatus {
         switch(hashCode) {
             case 1: return DISABLED;
             case 2: return ENABLED;
-            default: return DISABLED;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -25,7 +25,7 @@ public enum KalturaWidgetSecurityType {
         switch(hashCode) {
             case 1: return NONE;
             case 2: return TIMEHASH;
-            default: return NONE;
+            default: return null; // unknown values are not mapped to a default
         }
     }
 }
@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -13,6 +17,17 @@ public enum KalturaYahooSyndicationFeedAdultValues {
 
     String hashCode;
 
+    private static final Map<String, KalturaYahooSyndicationFeedAdultValues> lookup;
+    static {
+        Map<String, KalturaYahooSyndicationFeedAdultValues> m = new HashMap<String, KalturaYahooSyndicationFeedAdultValues>();
+        for (KalturaYahooSyndicationFeedAdultValues value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaYahooSyndicationFeedAdultValues(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -22,18 +37,7 @@ public enum KalturaYahooSyndicationFeedAdultValues {
     }
 
     public static KalturaYahooSyndicationFeedAdultValues get(String hashCode) {
-        if (hashCode.equals("adult"))
-        {
-           return ADULT;
-        }
-        else 
-        if (hashCode.equals("nonadult"))
-        {
-           return NON_ADULT;
-        }
-        else 
-        {
-           return ADULT;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
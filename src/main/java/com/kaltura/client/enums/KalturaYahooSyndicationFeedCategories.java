@@ -1,5 +1,9 @@
 package com.kaltura.client.enums;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class was generated using generate.php
  * against an XML schema provided by Kaltura.
@@ -31,6 +35,17 @@ public enum KalturaYahooSyndicationFeedCategories {
 
     String hashCode;
 
+    private static final Map<String, KalturaYahooSyndicationFeedCategories> lookup;
+    static {
+        Map<String, KalturaYahooSyndicationFeedCategories> m = new HashMap<String, KalturaYahooSyndicationFeedCategories>();
+        for (KalturaYahooSyndicationFeedCategories value : values()) {
+            if (! m.containsKey(value.hashCode)) {
+                m.put(value.hashCode, value);
+            }
+        }
+        lookup = Collections.unmodifiableMap(m);
+    }
+
     KalturaYahooSyndicationFeedCategories(String hashCode) {
         this.hashCode = hashCode;
     }
@@ -40,108 +55,7 @@ public enum KalturaYahooSyndicationFeedCategories {
     }
 
     public static KalturaYahooSyndicationFeedCategories get(String hashCode) {
-        if (hashCode.equals("Action"))
-        {
-           return ACTION;
-        }
-        else 
-        if (hashCode.equals("Art &amp; Animation"))
-        {
-           return ART_AND_ANIMATION;
-        }
-        else 
-        if (hashCode.equals("Entertainment &amp; TV"))
-        {
-           return ENTERTAINMENT_AND_TV;
-        }
-        else 
-        if (hashCode.equals("Food"))
-        {
-           return FOOD;
-        }
-        else 
-        if (hashCode.equals("Games"))
-        {
-           return GAMES;
-        }
-        else 
-        if (hashCode.equals("How-To"))
-        {
-           return HOW_TO;
-        }
-        else 
-        if (hashCode.equals("Music"))
-        {
-           return MUSIC;
-        }
-        else 
-        if (hashCode.equals("People &amp; Vlogs"))
-        {
-           return PEOPLE_AND_VLOGS;
-        }
-        else 
-        if (hashCode.equals("Science &amp; Environment"))
-        {
-           return SCIENCE_AND_ENVIRONMENT;
-        }
-        else 
-        if (hashCode.equals("Transportation"))
-        {
-           return TRANSPORTATION;
-        }
-        else 
-        if (hashCode.equals("Animals"))
-        {
-           return ANIMALS;
-        }
-        else 
-        if (hashCode.equals("Commercials"))
-        {
-           return COMMERCIALS;
-        }
-        else 
-        if (hashCode.equals("Family"))
-        {
-           return FAMILY;
-        }
-        else 
-        if (hashCode.equals("Funny Videos"))
-        {
-           return FUNNY_VIDEOS;
-        }
-        else 
-        if (hashCode.equals("Health &amp; Beauty"))
-        {
-           return HEALTH_AND_BEAUTY;
-        }
-        else 
-        if (hashCode.equals("Movies &amp; Shorts"))
-        {
-           return MOVIES_AND_SHORTS;
-        }
-        else 
-        if (hashCode.equals("News &amp; Politics"))
-        {
-           return NEWS_AND_POLITICS;
-        }
-        else 
-        if (hashCode.equals("Products &amp; Tech."))
-        {
-           return PRODUCTS_AND_TECH;
-        }
-        else 
-        if (hashCode.equals("Sports"))
-        {
-           return SPORTS;
-        }
-        else 
-        if (hashCode.equals("Travel"))
-        {
-           return TRAVEL;
-        }
-        else 
-        {
-           return ACTION;
-        }
+        // unknown values are not mapped to a default
+        return lookup.get(hashCode);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaAccessControlService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaAccessControlService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaAccessControl add(KalturaAccessControl accessControl) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (accessControl != null) kparams.add("accessControl", accessControl.toParams());
-        this.kalturaClient.queueServiceCall("accesscontrol", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (accessControl != null) kparams.add("accessControl", accessControl);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "accesscontrol", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaAccessControl)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaAccessControl get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("accesscontrol", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "accesscontrol", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaAccessControl)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaAccessControl update(int id, KalturaAccessControl accessControl) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (accessControl != null) kparams.add("accessControl", accessControl.toParams());
-        this.kalturaClient.queueServiceCall("accesscontrol", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (accessControl != null) kparams.add("accessControl", accessControl);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "accesscontrol", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaAccessControl)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("accesscontrol", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "accesscontrol", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaAccessControlListResponse list() throws KalturaApiException {
@@ -76,13 +82,17 @@ public class KalturaAccessControlService extends KalturaServiceBase {
     }
 
     public KalturaAccessControlListResponse list(KalturaAccessControlFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaAccessControlListResponse list(KalturaAccessControlFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaAccessControl> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("accesscontrol", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "accesscontrol", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaAccessControlListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
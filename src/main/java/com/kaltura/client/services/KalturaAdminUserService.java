@@ -5,6 +5,7 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +28,10 @@ public class KalturaAdminUserService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaAdminUserService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaAdminUser updatePassword(String email, String password) throws KalturaApiException {
         return this.updatePassword(email, password, "");
     }
@@ -41,20 +46,20 @@ public class KalturaAdminUserService extends KalturaServiceBase {
         kparams.addStringIfNotNull("password", password);
         kparams.addStringIfNotNull("newEmail", newEmail);
         kparams.addStringIfNotNull("newPassword", newPassword);
-        this.kalturaClient.queueServiceCall("adminuser", "updatePassword", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminuser", "updatePassword", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaAdminUser)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void resetPassword(String email) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("email", email);
-        this.kalturaClient.queueServiceCall("adminuser", "resetPassword", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminuser", "resetPassword", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public String login(String email, String password) throws KalturaApiException {
@@ -66,10 +71,10 @@ public class KalturaAdminUserService extends KalturaServiceBase {
         kparams.addStringIfNotNull("email", email);
         kparams.addStringIfNotNull("password", password);
         kparams.addIntIfNotNull("partnerId", partnerId);
-        this.kalturaClient.queueServiceCall("adminuser", "login", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminuser", "login", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -78,9 +83,9 @@ public class KalturaAdminUserService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("hashKey", hashKey);
         kparams.addStringIfNotNull("newPassword", newPassword);
-        this.kalturaClient.queueServiceCall("adminuser", "setInitialPassword", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminuser", "setInitialPassword", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +29,10 @@ public class KalturaAnnotationService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaAnnotationService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaAnnotationListResponse list() throws KalturaApiException {
         return this.list(null);
     }
@@ -36,53 +42,57 @@ public class KalturaAnnotationService extends KalturaServiceBase {
     }
 
     public KalturaAnnotationListResponse list(KalturaAnnotationFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaAnnotationListResponse list(KalturaAnnotationFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaAnnotation> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("annotation_annotation", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "annotation_annotation", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaAnnotationListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaAnnotation add(KalturaAnnotation annotation) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (annotation != null) kparams.add("annotation", annotation.toParams());
-        this.kalturaClient.queueServiceCall("annotation_annotation", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (annotation != null) kparams.add("annotation", annotation);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "annotation_annotation", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaAnnotation)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaAnnotation get(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("annotation_annotation", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "annotation_annotation", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaAnnotation)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("annotation_annotation", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "annotation_annotation", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaAnnotation update(String id, KalturaAnnotation annotation) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        if (annotation != null) kparams.add("annotation", annotation.toParams());
-        this.kalturaClient.queueServiceCall("annotation_annotation", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (annotation != null) kparams.add("annotation", annotation);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "annotation_annotation", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaAnnotation)KalturaObjectFactory.create(resultXmlElement);
     }
 }
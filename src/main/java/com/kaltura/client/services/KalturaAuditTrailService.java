@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +29,10 @@ public class KalturaAuditTrailService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaAuditTrailService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaAuditTrailListResponse list() throws KalturaApiException {
         return this.list(null);
     }
@@ -36,33 +42,37 @@ public class KalturaAuditTrailService extends KalturaServiceBase {
     }
 
     public KalturaAuditTrailListResponse list(KalturaAuditTrailFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaAuditTrailListResponse list(KalturaAuditTrailFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaAuditTrail> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("audit_audittrail", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "audit_audittrail", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaAuditTrailListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaAuditTrail add(KalturaAuditTrail auditTrail) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (auditTrail != null) kparams.add("auditTrail", auditTrail.toParams());
-        this.kalturaClient.queueServiceCall("audit_audittrail", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (auditTrail != null) kparams.add("auditTrail", auditTrail);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "audit_audittrail", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaAuditTrail)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaAuditTrail get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("audit_audittrail", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "audit_audittrail", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaAuditTrail)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -11,7 +11,9 @@ import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaFiles;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.types.KalturaBaseEntry;
 import com.kaltura.client.types.KalturaBaseEntryFilter;
@@ -36,19 +38,23 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaBaseEntryService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaBaseEntry addFromUploadedFile(KalturaBaseEntry entry, String uploadTokenId) throws KalturaApiException {
         return this.addFromUploadedFile(entry, uploadTokenId, null);
     }
 
     public KalturaBaseEntry addFromUploadedFile(KalturaBaseEntry entry, String uploadTokenId, String type) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (entry != null) kparams.add("entry", entry.toParams());
+        if (entry != null) kparams.add("entry", entry);
         kparams.addStringIfNotNull("uploadTokenId", uploadTokenId);
         kparams.addStringIfNotNull("type", type);
-        this.kalturaClient.queueServiceCall("baseentry", "addFromUploadedFile", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "addFromUploadedFile", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -60,31 +66,31 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("baseentry", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaBaseEntry update(String entryId, KalturaBaseEntry baseEntry) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        if (baseEntry != null) kparams.add("baseEntry", baseEntry.toParams());
-        this.kalturaClient.queueServiceCall("baseentry", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (baseEntry != null) kparams.add("baseEntry", baseEntry);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public List<KalturaBaseEntry> getByIds(String entryIds) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryIds", entryIds);
-        this.kalturaClient.queueServiceCall("baseentry", "getByIds", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "getByIds", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaBaseEntry> list = new ArrayList<KalturaBaseEntry>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -96,10 +102,10 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
     public void delete(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("baseentry", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaBaseEntryListResponse list() throws KalturaApiException {
@@ -111,13 +117,17 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
     }
 
     public KalturaBaseEntryListResponse list(KalturaBaseEntryFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaBaseEntryListResponse list(KalturaBaseEntryFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaBaseEntry> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("baseentry", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaBaseEntryListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -127,11 +137,11 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
 
     public int count(KalturaBaseEntryFilter filter) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        this.kalturaClient.queueServiceCall("baseentry", "count", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "count", kparams);
+        if (request.isMultiRequest())
             return 0;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return Integer.parseInt(resultText);
     }
@@ -140,10 +150,10 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("fileData", new KalturaFile(fileData));
-        this.kalturaClient.queueServiceCall("baseentry", "upload", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "upload", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -153,10 +163,10 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
         kparams.addStringIfNotNull("entryId", entryId);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("fileData", new KalturaFile(fileData));
-        this.kalturaClient.queueServiceCall("baseentry", "updateThumbnailJpeg", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "updateThumbnailJpeg", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -164,10 +174,10 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addStringIfNotNull("url", url);
-        this.kalturaClient.queueServiceCall("baseentry", "updateThumbnailFromUrl", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "updateThumbnailFromUrl", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -176,38 +186,38 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addStringIfNotNull("sourceEntryId", sourceEntryId);
         kparams.addIntIfNotNull("timeOffset", timeOffset);
-        this.kalturaClient.queueServiceCall("baseentry", "updateThumbnailFromSourceEntry", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "updateThumbnailFromSourceEntry", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void flag(KalturaModerationFlag moderationFlag) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (moderationFlag != null) kparams.add("moderationFlag", moderationFlag.toParams());
-        this.kalturaClient.queueServiceCall("baseentry", "flag", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (moderationFlag != null) kparams.add("moderationFlag", moderationFlag);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "flag", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void reject(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("baseentry", "reject", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "reject", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void approve(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("baseentry", "approve", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "approve", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaModerationFlagListResponse listFlags(String entryId) throws KalturaApiException {
@@ -215,13 +225,17 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
     }
 
     public KalturaModerationFlagListResponse listFlags(String entryId, KalturaFilterPager pager) throws KalturaApiException {
+        return this.listFlags(entryId, pager, null);
+    }
+
+    public KalturaModerationFlagListResponse listFlags(String entryId, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaModerationFlag> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("baseentry", "listFlags", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "listFlags", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaModerationFlagListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -229,20 +243,20 @@ public class KalturaBaseEntryService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("rank", rank);
-        this.kalturaClient.queueServiceCall("baseentry", "anonymousRank", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "anonymousRank", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaEntryContextDataResult getContextData(String entryId, KalturaEntryContextDataParams contextDataParams) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        if (contextDataParams != null) kparams.add("contextDataParams", contextDataParams.toParams());
-        this.kalturaClient.queueServiceCall("baseentry", "getContextData", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (contextDataParams != null) kparams.add("contextDataParams", contextDataParams);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "baseentry", "getContextData", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEntryContextDataResult)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -9,7 +9,9 @@ import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaFiles;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.types.KalturaBulkUpload;
 import com.kaltura.client.types.KalturaBulkUploadListResponse;
@@ -28,25 +30,29 @@ public class KalturaBulkUploadService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaBulkUploadService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaBulkUpload add(int conversionProfileId, File csvFileData) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("conversionProfileId", conversionProfileId);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("csvFileData", new KalturaFile(csvFileData));
-        this.kalturaClient.queueServiceCall("bulkupload", "add", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "bulkupload", "add", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBulkUpload)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaBulkUpload get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("bulkupload", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "bulkupload", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBulkUpload)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -55,12 +61,16 @@ public class KalturaBulkUploadService extends KalturaServiceBase {
     }
 
     public KalturaBulkUploadListResponse list(KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(pager, null);
+    }
+
+    public KalturaBulkUploadListResponse list(KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaBulkUpload> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("bulkupload", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "bulkupload", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaBulkUploadListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaCategoryService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaCategoryService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaCategory add(KalturaCategory category) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (category != null) kparams.add("category", category.toParams());
-        this.kalturaClient.queueServiceCall("category", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (category != null) kparams.add("category", category);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "category", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaCategory)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaCategory get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("category", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "category", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaCategory)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaCategory update(int id, KalturaCategory category) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (category != null) kparams.add("category", category.toParams());
-        this.kalturaClient.queueServiceCall("category", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (category != null) kparams.add("category", category);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "category", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaCategory)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("category", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "category", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaCategoryListResponse list() throws KalturaApiException {
@@ -72,12 +78,16 @@ public class KalturaCategoryService extends KalturaServiceBase {
     }
 
     public KalturaCategoryListResponse list(KalturaCategoryFilter filter) throws KalturaApiException {
+        return this.list(filter, null);
+    }
+
+    public KalturaCategoryListResponse list(KalturaCategoryFilter filter, KalturaObjectVisitor<? super KalturaCategory> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        this.kalturaClient.queueServiceCall("category", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "category", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaCategoryListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaConversionProfileService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaConversionProfileService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaConversionProfile add(KalturaConversionProfile conversionProfile) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (conversionProfile != null) kparams.add("conversionProfile", conversionProfile.toParams());
-        this.kalturaClient.queueServiceCall("conversionprofile", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (conversionProfile != null) kparams.add("conversionProfile", conversionProfile);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "conversionprofile", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaConversionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaConversionProfile get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("conversionprofile", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "conversionprofile", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaConversionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaConversionProfile update(int id, KalturaConversionProfile conversionProfile) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (conversionProfile != null) kparams.add("conversionProfile", conversionProfile.toParams());
-        this.kalturaClient.queueServiceCall("conversionprofile", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (conversionProfile != null) kparams.add("conversionProfile", conversionProfile);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "conversionprofile", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaConversionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("conversionprofile", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "conversionprofile", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaConversionProfileListResponse list() throws KalturaApiException {
@@ -76,13 +82,17 @@ public class KalturaConversionProfileService extends KalturaServiceBase {
     }
 
     public KalturaConversionProfileListResponse list(KalturaConversionProfileFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaConversionProfileListResponse list(KalturaConversionProfileFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaConversionProfile> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("conversionprofile", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "conversionprofile", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaConversionProfileListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,13 +29,17 @@ public class KalturaDataService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaDataService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaDataEntry add(KalturaDataEntry dataEntry) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (dataEntry != null) kparams.add("dataEntry", dataEntry.toParams());
-        this.kalturaClient.queueServiceCall("data", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (dataEntry != null) kparams.add("dataEntry", dataEntry);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "data", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDataEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -45,31 +51,31 @@ public class KalturaDataService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("data", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "data", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDataEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaDataEntry update(String entryId, KalturaDataEntry documentEntry) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        if (documentEntry != null) kparams.add("documentEntry", documentEntry.toParams());
-        this.kalturaClient.queueServiceCall("data", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (documentEntry != null) kparams.add("documentEntry", documentEntry);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "data", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDataEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("data", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "data", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaDataListResponse list() throws KalturaApiException {
@@ -81,13 +87,17 @@ public class KalturaDataService extends KalturaServiceBase {
     }
 
     public KalturaDataListResponse list(KalturaDataEntryFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaDataListResponse list(KalturaDataEntryFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaDataEntry> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("data", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "data", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaDataListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
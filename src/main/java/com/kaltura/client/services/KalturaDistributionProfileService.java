@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,34 +29,38 @@ public class KalturaDistributionProfileService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaDistributionProfileService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaDistributionProfile add(KalturaDistributionProfile distributionProfile) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (distributionProfile != null) kparams.add("distributionProfile", distributionProfile.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_distributionprofile", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (distributionProfile != null) kparams.add("distributionProfile", distributionProfile);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_distributionprofile", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDistributionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaDistributionProfile get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_distributionprofile", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_distributionprofile", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDistributionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaDistributionProfile update(int id, KalturaDistributionProfile distributionProfile) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (distributionProfile != null) kparams.add("distributionProfile", distributionProfile.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_distributionprofile", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (distributionProfile != null) kparams.add("distributionProfile", distributionProfile);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_distributionprofile", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDistributionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -62,20 +68,20 @@ public class KalturaDistributionProfileService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
         kparams.addIntIfNotNull("status", status.getHashCode());
-        this.kalturaClient.queueServiceCall("contentdistribution_distributionprofile", "updateStatus", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_distributionprofile", "updateStatus", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDistributionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_distributionprofile", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_distributionprofile", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaDistributionProfileListResponse list() throws KalturaApiException {
@@ -87,13 +93,17 @@ public class KalturaDistributionProfileService extends KalturaServiceBase {
     }
 
     public KalturaDistributionProfileListResponse list(KalturaDistributionProfileFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaDistributionProfileListResponse list(KalturaDistributionProfileFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaDistributionProfile> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_distributionprofile", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_distributionprofile", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaDistributionProfileListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -106,13 +116,17 @@ public class KalturaDistributionProfileService extends KalturaServiceBase {
     }
 
     public KalturaDistributionProfileListResponse listByPartner(KalturaPartnerFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.listByPartner(filter, pager, null);
+    }
+
+    public KalturaDistributionProfileListResponse listByPartner(KalturaPartnerFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaDistributionProfile> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_distributionprofile", "listByPartner", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_distributionprofile", "listByPartner", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaDistributionProfileListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
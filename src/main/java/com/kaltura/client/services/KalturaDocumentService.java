@@ -5,7 +5,9 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -28,14 +30,18 @@ public class KalturaDocumentService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaDocumentService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaDocumentEntry addFromUploadedFile(KalturaDocumentEntry documentEntry, String uploadTokenId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (documentEntry != null) kparams.add("documentEntry", documentEntry.toParams());
+        if (documentEntry != null) kparams.add("documentEntry", documentEntry);
         kparams.addStringIfNotNull("uploadTokenId", uploadTokenId);
-        this.kalturaClient.queueServiceCall("document", "addFromUploadedFile", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "document", "addFromUploadedFile", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDocumentEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -50,12 +56,12 @@ public class KalturaDocumentService extends KalturaServiceBase {
     public KalturaDocumentEntry addFromEntry(String sourceEntryId, KalturaDocumentEntry documentEntry, int sourceFlavorParamsId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("sourceEntryId", sourceEntryId);
-        if (documentEntry != null) kparams.add("documentEntry", documentEntry.toParams());
+        if (documentEntry != null) kparams.add("documentEntry", documentEntry);
         kparams.addIntIfNotNull("sourceFlavorParamsId", sourceFlavorParamsId);
-        this.kalturaClient.queueServiceCall("document", "addFromEntry", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "document", "addFromEntry", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDocumentEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -66,11 +72,11 @@ public class KalturaDocumentService extends KalturaServiceBase {
     public KalturaDocumentEntry addFromFlavorAsset(String sourceFlavorAssetId, KalturaDocumentEntry documentEntry) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("sourceFlavorAssetId", sourceFlavorAssetId);
-        if (documentEntry != null) kparams.add("documentEntry", documentEntry.toParams());
-        this.kalturaClient.queueServiceCall("document", "addFromFlavorAsset", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (documentEntry != null) kparams.add("documentEntry", documentEntry);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "document", "addFromFlavorAsset", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDocumentEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -87,12 +93,12 @@ public class KalturaDocumentService extends KalturaServiceBase {
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("conversionProfileId", conversionProfileId);
         for(KalturaConversionAttribute obj : dynamicConversionAttributes) {
-            kparams.add("dynamicConversionAttributes", obj.toParams());
+            kparams.add("dynamicConversionAttributes", obj);
         }
-        this.kalturaClient.queueServiceCall("document", "convert", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "document", "convert", kparams);
+        if (request.isMultiRequest())
             return 0;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return Integer.parseInt(resultText);
     }
@@ -105,31 +111,31 @@ public class KalturaDocumentService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("document", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "document", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDocumentEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaDocumentEntry update(String entryId, KalturaDocumentEntry documentEntry) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        if (documentEntry != null) kparams.add("documentEntry", documentEntry.toParams());
-        this.kalturaClient.queueServiceCall("document", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (documentEntry != null) kparams.add("documentEntry", documentEntry);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "document", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaDocumentEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("document", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "document", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaDocumentListResponse list() throws KalturaApiException {
@@ -141,13 +147,17 @@ public class KalturaDocumentService extends KalturaServiceBase {
     }
 
     public KalturaDocumentListResponse list(KalturaDocumentEntryFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaDocumentListResponse list(KalturaDocumentEntryFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaDocumentEntry> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("document", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "document", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaDocumentListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -155,10 +165,10 @@ public class KalturaDocumentService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("fileData", new KalturaFile(fileData));
-        this.kalturaClient.queueServiceCall("document", "upload", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "document", "upload", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -166,10 +176,10 @@ public class KalturaDocumentService extends KalturaServiceBase {
     public String convertPptToSwf(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("document", "convertPptToSwf", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "document", "convertPptToSwf", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -5,6 +5,7 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,67 +28,71 @@ public class KalturaEmailIngestionProfileService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaEmailIngestionProfileService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaEmailIngestionProfile add(KalturaEmailIngestionProfile EmailIP) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (EmailIP != null) kparams.add("EmailIP", EmailIP.toParams());
-        this.kalturaClient.queueServiceCall("emailingestionprofile", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (EmailIP != null) kparams.add("EmailIP", EmailIP);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "emailingestionprofile", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEmailIngestionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaEmailIngestionProfile getByEmailAddress(String emailAddress) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("emailAddress", emailAddress);
-        this.kalturaClient.queueServiceCall("emailingestionprofile", "getByEmailAddress", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "emailingestionprofile", "getByEmailAddress", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEmailIngestionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaEmailIngestionProfile get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("emailingestionprofile", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "emailingestionprofile", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEmailIngestionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaEmailIngestionProfile update(int id, KalturaEmailIngestionProfile EmailIP) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (EmailIP != null) kparams.add("EmailIP", EmailIP.toParams());
-        this.kalturaClient.queueServiceCall("emailingestionprofile", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (EmailIP != null) kparams.add("EmailIP", EmailIP);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "emailingestionprofile", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEmailIngestionProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("emailingestionprofile", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "emailingestionprofile", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaMediaEntry addMediaEntry(KalturaMediaEntry mediaEntry, String uploadTokenId, int emailProfId, String fromAddress, String emailMsgId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry.toParams());
+        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry);
         kparams.addStringIfNotNull("uploadTokenId", uploadTokenId);
         kparams.addIntIfNotNull("emailProfId", emailProfId);
         kparams.addStringIfNotNull("fromAddress", fromAddress);
         kparams.addStringIfNotNull("emailMsgId", emailMsgId);
-        this.kalturaClient.queueServiceCall("emailingestionprofile", "addMediaEntry", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "emailingestionprofile", "addMediaEntry", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +29,10 @@ public class KalturaEntryAdminService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaEntryAdminService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaBaseEntry get(String entryId) throws KalturaApiException {
         return this.get(entryId, -1);
     }
@@ -35,10 +41,10 @@ public class KalturaEntryAdminService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("adminconsole_entryadmin", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminconsole_entryadmin", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -50,20 +56,24 @@ public class KalturaEntryAdminService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("flavorId", flavorId);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("adminconsole_entryadmin", "getByFlavorId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminconsole_entryadmin", "getByFlavorId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaTrackEntryListResponse getTracks(String entryId) throws KalturaApiException {
+        return this.getTracks(entryId, null);
+    }
+
+    public KalturaTrackEntryListResponse getTracks(String entryId, KalturaObjectVisitor<? super KalturaTrackEntry> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("adminconsole_entryadmin", "getTracks", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminconsole_entryadmin", "getTracks", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaTrackEntryListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,54 +29,58 @@ public class KalturaEntryDistributionService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaEntryDistributionService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaEntryDistribution add(KalturaEntryDistribution entryDistribution) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (entryDistribution != null) kparams.add("entryDistribution", entryDistribution.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (entryDistribution != null) kparams.add("entryDistribution", entryDistribution);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEntryDistribution)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaEntryDistribution get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEntryDistribution)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaEntryDistribution validate(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "validate", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "validate", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEntryDistribution)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaEntryDistribution update(int id, KalturaEntryDistribution entryDistribution) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (entryDistribution != null) kparams.add("entryDistribution", entryDistribution.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (entryDistribution != null) kparams.add("entryDistribution", entryDistribution);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEntryDistribution)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaEntryDistributionListResponse list() throws KalturaApiException {
@@ -86,13 +92,17 @@ public class KalturaEntryDistributionService extends KalturaServiceBase {
     }
 
     public KalturaEntryDistributionListResponse list(KalturaEntryDistributionFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaEntryDistributionListResponse list(KalturaEntryDistributionFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaEntryDistribution> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaEntryDistributionListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -104,50 +114,50 @@ public class KalturaEntryDistributionService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
         kparams.addBoolIfNotNull("submitWhenReady", submitWhenReady);
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "submitAdd", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "submitAdd", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEntryDistribution)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaEntryDistribution submitUpdate(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "submitUpdate", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "submitUpdate", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEntryDistribution)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaEntryDistribution submitFetchReport(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "submitFetchReport", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "submitFetchReport", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEntryDistribution)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaEntryDistribution submitDelete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "submitDelete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "submitDelete", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEntryDistribution)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaEntryDistribution retrySubmit(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_entrydistribution", "retrySubmit", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_entrydistribution", "retrySubmit", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaEntryDistribution)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,34 +29,38 @@ public class KalturaFlavorAssetService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaFlavorAssetService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaFlavorAsset update(String id, KalturaFlavorAsset flavorAsset) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        if (flavorAsset != null) kparams.add("flavorAsset", flavorAsset.toParams());
-        this.kalturaClient.queueServiceCall("flavorasset", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (flavorAsset != null) kparams.add("flavorAsset", flavorAsset);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorasset", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaFlavorAsset)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaFlavorAsset get(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("flavorasset", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorasset", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaFlavorAsset)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public List<KalturaFlavorAsset> getByEntryId(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("flavorasset", "getByEntryId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorasset", "getByEntryId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaFlavorAsset> list = new ArrayList<KalturaFlavorAsset>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -72,23 +78,27 @@ public class KalturaFlavorAssetService extends KalturaServiceBase {
     }
 
     public KalturaFlavorAssetListResponse list(KalturaAssetFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaFlavorAssetListResponse list(KalturaAssetFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaFlavorAsset> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("flavorasset", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorasset", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaFlavorAssetListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public List<KalturaFlavorAsset> getWebPlayableByEntryId(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("flavorasset", "getWebPlayableByEntryId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorasset", "getWebPlayableByEntryId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaFlavorAsset> list = new ArrayList<KalturaFlavorAsset>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -101,28 +111,28 @@ public class KalturaFlavorAssetService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("flavorParamsId", flavorParamsId);
-        this.kalturaClient.queueServiceCall("flavorasset", "convert", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorasset", "convert", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void reconvert(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("flavorasset", "reconvert", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorasset", "reconvert", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void delete(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("flavorasset", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorasset", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public String getDownloadUrl(String id) throws KalturaApiException {
@@ -133,10 +143,10 @@ public class KalturaFlavorAssetService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
         kparams.addBoolIfNotNull("useCdn", useCdn);
-        this.kalturaClient.queueServiceCall("flavorasset", "getDownloadUrl", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorasset", "getDownloadUrl", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -144,10 +154,10 @@ public class KalturaFlavorAssetService extends KalturaServiceBase {
     public List<KalturaFlavorAssetWithParams> getFlavorAssetsWithParams(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("flavorasset", "getFlavorAssetsWithParams", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorasset", "getFlavorAssetsWithParams", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaFlavorAssetWithParams> list = new ArrayList<KalturaFlavorAssetWithParams>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
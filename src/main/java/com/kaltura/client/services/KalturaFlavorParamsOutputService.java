@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +29,10 @@ public class KalturaFlavorParamsOutputService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaFlavorParamsOutputService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaFlavorParamsOutputListResponse list() throws KalturaApiException {
         return this.list(null);
     }
@@ -36,13 +42,17 @@ public class KalturaFlavorParamsOutputService extends KalturaServiceBase {
     }
 
     public KalturaFlavorParamsOutputListResponse list(KalturaFlavorParamsOutputFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaFlavorParamsOutputListResponse list(KalturaFlavorParamsOutputFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaFlavorParamsOutput> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("adminconsole_flavorparamsoutput", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminconsole_flavorparamsoutput", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaFlavorParamsOutputListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
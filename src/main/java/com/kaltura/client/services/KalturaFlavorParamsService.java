@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaFlavorParamsService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaFlavorParamsService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaFlavorParams add(KalturaFlavorParams flavorParams) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (flavorParams != null) kparams.add("flavorParams", flavorParams.toParams());
-        this.kalturaClient.queueServiceCall("flavorparams", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (flavorParams != null) kparams.add("flavorParams", flavorParams);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorparams", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaFlavorParams)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaFlavorParams get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("flavorparams", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorparams", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaFlavorParams)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaFlavorParams update(int id, KalturaFlavorParams flavorParams) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (flavorParams != null) kparams.add("flavorParams", flavorParams.toParams());
-        this.kalturaClient.queueServiceCall("flavorparams", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (flavorParams != null) kparams.add("flavorParams", flavorParams);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorparams", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaFlavorParams)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("flavorparams", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorparams", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaFlavorParamsListResponse list() throws KalturaApiException {
@@ -76,23 +82,27 @@ public class KalturaFlavorParamsService extends KalturaServiceBase {
     }
 
     public KalturaFlavorParamsListResponse list(KalturaFlavorParamsFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaFlavorParamsListResponse list(KalturaFlavorParamsFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaFlavorParams> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("flavorparams", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorparams", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaFlavorParamsListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public List<KalturaFlavorParams> getByConversionProfileId(int conversionProfileId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("conversionProfileId", conversionProfileId);
-        this.kalturaClient.queueServiceCall("flavorparams", "getByConversionProfileId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "flavorparams", "getByConversionProfileId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaFlavorParams> list = new ArrayList<KalturaFlavorParams>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
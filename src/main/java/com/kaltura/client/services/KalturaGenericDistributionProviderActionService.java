@@ -5,7 +5,9 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -28,13 +30,17 @@ public class KalturaGenericDistributionProviderActionService extends KalturaServ
         this.kalturaClient = client;
     }
 
+    public KalturaGenericDistributionProviderActionService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaGenericDistributionProviderAction add(KalturaGenericDistributionProviderAction genericDistributionProviderAction) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (genericDistributionProviderAction != null) kparams.add("genericDistributionProviderAction", genericDistributionProviderAction.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (genericDistributionProviderAction != null) kparams.add("genericDistributionProviderAction", genericDistributionProviderAction);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -42,10 +48,10 @@ public class KalturaGenericDistributionProviderActionService extends KalturaServ
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
         kparams.addStringIfNotNull("xslData", xslData);
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "addMrssTransform", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "addMrssTransform", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -54,10 +60,10 @@ public class KalturaGenericDistributionProviderActionService extends KalturaServ
         kparams.addIntIfNotNull("id", id);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("xslFile", new KalturaFile(xslFile));
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "addMrssTransformFromFile", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "addMrssTransformFromFile", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -65,10 +71,10 @@ public class KalturaGenericDistributionProviderActionService extends KalturaServ
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
         kparams.addStringIfNotNull("xsdData", xsdData);
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "addMrssValidate", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "addMrssValidate", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -77,10 +83,10 @@ public class KalturaGenericDistributionProviderActionService extends KalturaServ
         kparams.addIntIfNotNull("id", id);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("xsdFile", new KalturaFile(xsdFile));
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "addMrssValidateFromFile", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "addMrssValidateFromFile", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -88,10 +94,10 @@ public class KalturaGenericDistributionProviderActionService extends KalturaServ
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
         kparams.addStringIfNotNull("transformData", transformData);
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "addResultsTransform", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "addResultsTransform", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -100,20 +106,20 @@ public class KalturaGenericDistributionProviderActionService extends KalturaServ
         kparams.addIntIfNotNull("id", id);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("transformFile", new KalturaFile(transformFile));
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "addResultsTransformFromFile", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "addResultsTransformFromFile", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaGenericDistributionProviderAction get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -121,10 +127,10 @@ public class KalturaGenericDistributionProviderActionService extends KalturaServ
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("genericDistributionProviderId", genericDistributionProviderId);
         kparams.addIntIfNotNull("actionType", actionType.getHashCode());
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "getByProviderId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "getByProviderId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -132,42 +138,42 @@ public class KalturaGenericDistributionProviderActionService extends KalturaServ
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("genericDistributionProviderId", genericDistributionProviderId);
         kparams.addIntIfNotNull("actionType", actionType.getHashCode());
-        if (genericDistributionProviderAction != null) kparams.add("genericDistributionProviderAction", genericDistributionProviderAction.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "updateByProviderId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (genericDistributionProviderAction != null) kparams.add("genericDistributionProviderAction", genericDistributionProviderAction);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "updateByProviderId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaGenericDistributionProviderAction update(int id, KalturaGenericDistributionProviderAction genericDistributionProviderAction) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (genericDistributionProviderAction != null) kparams.add("genericDistributionProviderAction", genericDistributionProviderAction.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (genericDistributionProviderAction != null) kparams.add("genericDistributionProviderAction", genericDistributionProviderAction);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProviderAction)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void deleteByProviderId(int genericDistributionProviderId, KalturaDistributionAction actionType) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("genericDistributionProviderId", genericDistributionProviderId);
         kparams.addIntIfNotNull("actionType", actionType.getHashCode());
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "deleteByProviderId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "deleteByProviderId", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaGenericDistributionProviderActionListResponse list() throws KalturaApiException {
@@ -179,13 +185,17 @@ public class KalturaGenericDistributionProviderActionService extends KalturaServ
     }
 
     public KalturaGenericDistributionProviderActionListResponse list(KalturaGenericDistributionProviderActionFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaGenericDistributionProviderActionListResponse list(KalturaGenericDistributionProviderActionFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaGenericDistributionProviderAction> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovideraction", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovideraction", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaGenericDistributionProviderActionListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
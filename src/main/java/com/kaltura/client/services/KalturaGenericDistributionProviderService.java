@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaGenericDistributionProviderService extends KalturaServiceBas
         this.kalturaClient = client;
     }
 
+    public KalturaGenericDistributionProviderService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaGenericDistributionProvider add(KalturaGenericDistributionProvider genericDistributionProvider) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (genericDistributionProvider != null) kparams.add("genericDistributionProvider", genericDistributionProvider.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovider", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (genericDistributionProvider != null) kparams.add("genericDistributionProvider", genericDistributionProvider);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovider", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProvider)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaGenericDistributionProvider get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovider", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovider", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProvider)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaGenericDistributionProvider update(int id, KalturaGenericDistributionProvider genericDistributionProvider) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (genericDistributionProvider != null) kparams.add("genericDistributionProvider", genericDistributionProvider.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovider", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (genericDistributionProvider != null) kparams.add("genericDistributionProvider", genericDistributionProvider);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovider", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaGenericDistributionProvider)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovider", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovider", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaGenericDistributionProviderListResponse list() throws KalturaApiException {
@@ -76,13 +82,17 @@ public class KalturaGenericDistributionProviderService extends KalturaServiceBas
     }
 
     public KalturaGenericDistributionProviderListResponse list(KalturaGenericDistributionProviderFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaGenericDistributionProviderListResponse list(KalturaGenericDistributionProviderFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaGenericDistributionProvider> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("contentdistribution_genericdistributionprovider", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "contentdistribution_genericdistributionprovider", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaGenericDistributionProviderListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -5,6 +5,7 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -26,4 +27,8 @@ public class KalturaKalturaInternalToolsService extends KalturaServiceBase {
     public KalturaKalturaInternalToolsService(KalturaClient client) {
         this.kalturaClient = client;
     }
+
+    public KalturaKalturaInternalToolsService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
 }
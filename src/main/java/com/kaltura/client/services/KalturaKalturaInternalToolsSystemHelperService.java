@@ -5,6 +5,7 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,33 +28,37 @@ public class KalturaKalturaInternalToolsSystemHelperService extends KalturaServi
         this.kalturaClient = client;
     }
 
+    public KalturaKalturaInternalToolsSystemHelperService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaInternalToolsSession fromSecureString(String str) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("str", str);
-        this.kalturaClient.queueServiceCall("kalturainternaltools_kalturainternaltoolssystemhelper", "fromSecureString", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "kalturainternaltools_kalturainternaltoolssystemhelper", "fromSecureString", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaInternalToolsSession)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public String iptocountry(String remote_addr) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("remote_addr", remote_addr);
-        this.kalturaClient.queueServiceCall("kalturainternaltools_kalturainternaltoolssystemhelper", "iptocountry", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "kalturainternaltools_kalturainternaltoolssystemhelper", "iptocountry", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
 
     public String getRemoteAddress() throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        this.kalturaClient.queueServiceCall("kalturainternaltools_kalturainternaltoolssystemhelper", "getRemoteAddress", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "kalturainternaltools_kalturainternaltoolssystemhelper", "getRemoteAddress", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -5,7 +5,9 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -28,18 +30,22 @@ public class KalturaLiveStreamService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaLiveStreamService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaLiveStreamAdminEntry add(KalturaLiveStreamAdminEntry liveStreamEntry) throws KalturaApiException {
         return this.add(liveStreamEntry, KalturaSourceType.get(Integer.MIN_VALUE));
     }
 
     public KalturaLiveStreamAdminEntry add(KalturaLiveStreamAdminEntry liveStreamEntry, KalturaSourceType sourceType) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (liveStreamEntry != null) kparams.add("liveStreamEntry", liveStreamEntry.toParams());
-        kparams.addIntIfNotNull("sourceType", sourceType.getHashCode());
-        this.kalturaClient.queueServiceCall("livestream", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (liveStreamEntry != null) kparams.add("liveStreamEntry", liveStreamEntry);
+        if (sourceType != null) kparams.addIntIfNotNull("sourceType", sourceType.getHashCode());
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "livestream", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaLiveStreamAdminEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -51,31 +57,31 @@ public class KalturaLiveStreamService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("livestream", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "livestream", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaLiveStreamEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaLiveStreamAdminEntry update(String entryId, KalturaLiveStreamAdminEntry liveStreamEntry) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        if (liveStreamEntry != null) kparams.add("liveStreamEntry", liveStreamEntry.toParams());
-        this.kalturaClient.queueServiceCall("livestream", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (liveStreamEntry != null) kparams.add("liveStreamEntry", liveStreamEntry);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "livestream", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaLiveStreamAdminEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("livestream", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "livestream", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaLiveStreamListResponse list() throws KalturaApiException {
@@ -87,13 +93,17 @@ public class KalturaLiveStreamService extends KalturaServiceBase {
     }
 
     public KalturaLiveStreamListResponse list(KalturaLiveStreamEntryFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaLiveStreamListResponse list(KalturaLiveStreamEntryFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaLiveStreamEntry> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("livestream", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "livestream", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaLiveStreamListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -102,10 +112,10 @@ public class KalturaLiveStreamService extends KalturaServiceBase {
         kparams.addStringIfNotNull("entryId", entryId);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("fileData", new KalturaFile(fileData));
-        this.kalturaClient.queueServiceCall("livestream", "updateOfflineThumbnailJpeg", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "livestream", "updateOfflineThumbnailJpeg", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaLiveStreamEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -113,10 +123,10 @@ public class KalturaLiveStreamService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addStringIfNotNull("url", url);
-        this.kalturaClient.queueServiceCall("livestream", "updateOfflineThumbnailFromUrl", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "livestream", "updateOfflineThumbnailFromUrl", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaLiveStreamEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 }
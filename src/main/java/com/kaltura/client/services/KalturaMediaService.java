@@ -12,7 +12,9 @@ import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaFiles;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.types.KalturaBaseEntry;
 import com.kaltura.client.types.KalturaConversionAttribute;
@@ -40,14 +42,18 @@ public class KalturaMediaService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaMediaService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaMediaEntry addFromUrl(KalturaMediaEntry mediaEntry, String url) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry.toParams());
+        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry);
         kparams.addStringIfNotNull("url", url);
-        this.kalturaClient.queueServiceCall("media", "addFromUrl", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "addFromUrl", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -61,34 +67,34 @@ public class KalturaMediaService extends KalturaServiceBase {
 
     public KalturaMediaEntry addFromSearchResult(KalturaMediaEntry mediaEntry, KalturaSearchResult searchResult) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry.toParams());
-        if (searchResult != null) kparams.add("searchResult", searchResult.toParams());
-        this.kalturaClient.queueServiceCall("media", "addFromSearchResult", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry);
+        if (searchResult != null) kparams.add("searchResult", searchResult);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "addFromSearchResult", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaMediaEntry addFromUploadedFile(KalturaMediaEntry mediaEntry, String uploadTokenId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry.toParams());
+        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry);
         kparams.addStringIfNotNull("uploadTokenId", uploadTokenId);
-        this.kalturaClient.queueServiceCall("media", "addFromUploadedFile", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "addFromUploadedFile", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaMediaEntry addFromRecordedWebcam(KalturaMediaEntry mediaEntry, String webcamTokenId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry.toParams());
+        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry);
         kparams.addStringIfNotNull("webcamTokenId", webcamTokenId);
-        this.kalturaClient.queueServiceCall("media", "addFromRecordedWebcam", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "addFromRecordedWebcam", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -103,12 +109,12 @@ public class KalturaMediaService extends KalturaServiceBase {
     public KalturaMediaEntry addFromEntry(String sourceEntryId, KalturaMediaEntry mediaEntry, int sourceFlavorParamsId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("sourceEntryId", sourceEntryId);
-        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry.toParams());
+        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry);
         kparams.addIntIfNotNull("sourceFlavorParamsId", sourceFlavorParamsId);
-        this.kalturaClient.queueServiceCall("media", "addFromEntry", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "addFromEntry", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -119,11 +125,11 @@ public class KalturaMediaService extends KalturaServiceBase {
     public KalturaMediaEntry addFromFlavorAsset(String sourceFlavorAssetId, KalturaMediaEntry mediaEntry) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("sourceFlavorAssetId", sourceFlavorAssetId);
-        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry.toParams());
-        this.kalturaClient.queueServiceCall("media", "addFromFlavorAsset", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "addFromFlavorAsset", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -140,12 +146,12 @@ public class KalturaMediaService extends KalturaServiceBase {
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("conversionProfileId", conversionProfileId);
         for(KalturaConversionAttribute obj : dynamicConversionAttributes) {
-            kparams.add("dynamicConversionAttributes", obj.toParams());
+            kparams.add("dynamicConversionAttributes", obj);
         }
-        this.kalturaClient.queueServiceCall("media", "convert", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "convert", kparams);
+        if (request.isMultiRequest())
             return 0;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return Integer.parseInt(resultText);
     }
@@ -158,31 +164,31 @@ public class KalturaMediaService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("media", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaMediaEntry update(String entryId, KalturaMediaEntry mediaEntry) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry.toParams());
-        this.kalturaClient.queueServiceCall("media", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (mediaEntry != null) kparams.add("mediaEntry", mediaEntry);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("media", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaMediaListResponse list() throws KalturaApiException {
@@ -194,13 +200,17 @@ public class KalturaMediaService extends KalturaServiceBase {
     }
 
     public KalturaMediaListResponse list(KalturaMediaEntryFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaMediaListResponse list(KalturaMediaEntryFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaMediaEntry> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("media", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaMediaListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -210,11 +220,11 @@ public class KalturaMediaService extends KalturaServiceBase {
 
     public int count(KalturaMediaEntryFilter filter) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        this.kalturaClient.queueServiceCall("media", "count", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "count", kparams);
+        if (request.isMultiRequest())
             return 0;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return Integer.parseInt(resultText);
     }
@@ -235,10 +245,10 @@ public class KalturaMediaService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("fileData", kalturaFile);
-        this.kalturaClient.queueServiceCall("media", "upload", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "upload", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -252,10 +262,10 @@ public class KalturaMediaService extends KalturaServiceBase {
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("timeOffset", timeOffset);
         kparams.addIntIfNotNull("flavorParamsId", flavorParamsId);
-        this.kalturaClient.queueServiceCall("media", "updateThumbnail", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "updateThumbnail", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -269,10 +279,10 @@ public class KalturaMediaService extends KalturaServiceBase {
         kparams.addStringIfNotNull("sourceEntryId", sourceEntryId);
         kparams.addIntIfNotNull("timeOffset", timeOffset);
         kparams.addIntIfNotNull("flavorParamsId", flavorParamsId);
-        this.kalturaClient.queueServiceCall("media", "updateThumbnailFromSourceEntry", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "updateThumbnailFromSourceEntry", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -281,10 +291,10 @@ public class KalturaMediaService extends KalturaServiceBase {
         kparams.addStringIfNotNull("entryId", entryId);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("fileData", new KalturaFile(fileData));
-        this.kalturaClient.queueServiceCall("media", "updateThumbnailJpeg", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "updateThumbnailJpeg", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMediaEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -292,10 +302,10 @@ public class KalturaMediaService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addStringIfNotNull("url", url);
-        this.kalturaClient.queueServiceCall("media", "updateThumbnailFromUrl", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "updateThumbnailFromUrl", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -303,39 +313,39 @@ public class KalturaMediaService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addStringIfNotNull("fileFormat", fileFormat);
-        this.kalturaClient.queueServiceCall("media", "requestConversion", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "requestConversion", kparams);
+        if (request.isMultiRequest())
             return 0;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return Integer.parseInt(resultText);
     }
 
     public void flag(KalturaModerationFlag moderationFlag) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (moderationFlag != null) kparams.add("moderationFlag", moderationFlag.toParams());
-        this.kalturaClient.queueServiceCall("media", "flag", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (moderationFlag != null) kparams.add("moderationFlag", moderationFlag);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "flag", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void reject(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("media", "reject", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "reject", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void approve(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("media", "approve", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "approve", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaModerationFlagListResponse listFlags(String entryId) throws KalturaApiException {
@@ -343,13 +353,17 @@ public class KalturaMediaService extends KalturaServiceBase {
     }
 
     public KalturaModerationFlagListResponse listFlags(String entryId, KalturaFilterPager pager) throws KalturaApiException {
+        return this.listFlags(entryId, pager, null);
+    }
+
+    public KalturaModerationFlagListResponse listFlags(String entryId, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaModerationFlag> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("media", "listFlags", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "listFlags", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaModerationFlagListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -357,9 +371,9 @@ public class KalturaMediaService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("rank", rank);
-        this.kalturaClient.queueServiceCall("media", "anonymousRank", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "media", "anonymousRank", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 }
@@ -5,7 +5,9 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -28,6 +30,10 @@ public class KalturaMetadataProfileService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaMetadataProfileService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaMetadataProfileListResponse list() throws KalturaApiException {
         return this.list(null);
     }
@@ -37,23 +43,31 @@ public class KalturaMetadataProfileService extends KalturaServiceBase {
     }
 
     public KalturaMetadataProfileListResponse list(KalturaMetadataProfileFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaMetadataProfileListResponse list(KalturaMetadataProfileFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaMetadataProfile> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("metadata_metadataprofile", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadataprofile", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaMetadataProfileListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaMetadataProfileFieldListResponse listFields(int metadataProfileId) throws KalturaApiException {
+        return this.listFields(metadataProfileId, null);
+    }
+
+    public KalturaMetadataProfileFieldListResponse listFields(int metadataProfileId, KalturaObjectVisitor<? super KalturaMetadataProfileField> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("metadataProfileId", metadataProfileId);
-        this.kalturaClient.queueServiceCall("metadata_metadataprofile", "listFields", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadataprofile", "listFields", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaMetadataProfileFieldListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -63,13 +77,13 @@ public class KalturaMetadataProfileService extends KalturaServiceBase {
 
     public KalturaMetadataProfile add(KalturaMetadataProfile metadataProfile, String xsdData, String viewsData) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (metadataProfile != null) kparams.add("metadataProfile", metadataProfile.toParams());
+        if (metadataProfile != null) kparams.add("metadataProfile", metadataProfile);
         kparams.addStringIfNotNull("xsdData", xsdData);
         kparams.addStringIfNotNull("viewsData", viewsData);
-        this.kalturaClient.queueServiceCall("metadata_metadataprofile", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadataprofile", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadataProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -79,33 +93,33 @@ public class KalturaMetadataProfileService extends KalturaServiceBase {
 
     public KalturaMetadataProfile addFromFile(KalturaMetadataProfile metadataProfile, File xsdFile, File viewsFile) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (metadataProfile != null) kparams.add("metadataProfile", metadataProfile.toParams());
+        if (metadataProfile != null) kparams.add("metadataProfile", metadataProfile);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("xsdFile", new KalturaFile(xsdFile));
         kfiles.put("viewsFile", new KalturaFile(viewsFile));
-        this.kalturaClient.queueServiceCall("metadata_metadataprofile", "addFromFile", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadataprofile", "addFromFile", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadataProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("metadata_metadataprofile", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadataprofile", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaMetadataProfile get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("metadata_metadataprofile", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadataprofile", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadataProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -120,13 +134,13 @@ public class KalturaMetadataProfileService extends KalturaServiceBase {
     public KalturaMetadataProfile update(int id, KalturaMetadataProfile metadataProfile, String xsdData, String viewsData) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (metadataProfile != null) kparams.add("metadataProfile", metadataProfile.toParams());
+        if (metadataProfile != null) kparams.add("metadataProfile", metadataProfile);
         kparams.addStringIfNotNull("xsdData", xsdData);
         kparams.addStringIfNotNull("viewsData", viewsData);
-        this.kalturaClient.queueServiceCall("metadata_metadataprofile", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadataprofile", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadataProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -134,10 +148,10 @@ public class KalturaMetadataProfileService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
         kparams.addIntIfNotNull("toVersion", toVersion);
-        this.kalturaClient.queueServiceCall("metadata_metadataprofile", "revert", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadataprofile", "revert", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadataProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -146,10 +160,10 @@ public class KalturaMetadataProfileService extends KalturaServiceBase {
         kparams.addIntIfNotNull("id", id);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("xsdFile", new KalturaFile(xsdFile));
-        this.kalturaClient.queueServiceCall("metadata_metadataprofile", "updateDefinitionFromFile", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadataprofile", "updateDefinitionFromFile", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadataProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -158,10 +172,10 @@ public class KalturaMetadataProfileService extends KalturaServiceBase {
         kparams.addIntIfNotNull("id", id);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("viewsFile", new KalturaFile(viewsFile));
-        this.kalturaClient.queueServiceCall("metadata_metadataprofile", "updateViewsFromFile", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadataprofile", "updateViewsFromFile", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadataProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 }
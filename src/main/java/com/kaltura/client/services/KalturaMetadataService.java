@@ -5,7 +5,9 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -28,6 +30,10 @@ public class KalturaMetadataService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaMetadataService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaMetadataListResponse list() throws KalturaApiException {
         return this.list(null);
     }
@@ -37,13 +43,17 @@ public class KalturaMetadataService extends KalturaServiceBase {
     }
 
     public KalturaMetadataListResponse list(KalturaMetadataFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaMetadataListResponse list(KalturaMetadataFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaMetadata> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("metadata_metadata", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadata", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaMetadataListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -53,10 +63,10 @@ public class KalturaMetadataService extends KalturaServiceBase {
         kparams.addIntIfNotNull("objectType", objectType.getHashCode());
         kparams.addStringIfNotNull("objectId", objectId);
         kparams.addStringIfNotNull("xmlData", xmlData);
-        this.kalturaClient.queueServiceCall("metadata_metadata", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadata", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadata)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -67,10 +77,10 @@ public class KalturaMetadataService extends KalturaServiceBase {
         kparams.addStringIfNotNull("objectId", objectId);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("xmlFile", new KalturaFile(xmlFile));
-        this.kalturaClient.queueServiceCall("metadata_metadata", "addFromFile", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadata", "addFromFile", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadata)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -80,10 +90,10 @@ public class KalturaMetadataService extends KalturaServiceBase {
         kparams.addIntIfNotNull("objectType", objectType.getHashCode());
         kparams.addStringIfNotNull("objectId", objectId);
         kparams.addStringIfNotNull("url", url);
-        this.kalturaClient.queueServiceCall("metadata_metadata", "addFromUrl", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadata", "addFromUrl", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadata)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -93,38 +103,38 @@ public class KalturaMetadataService extends KalturaServiceBase {
         kparams.addIntIfNotNull("objectType", objectType.getHashCode());
         kparams.addStringIfNotNull("objectId", objectId);
         kparams.addStringIfNotNull("url", url);
-        this.kalturaClient.queueServiceCall("metadata_metadata", "addFromBulk", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadata", "addFromBulk", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadata)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("metadata_metadata", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadata", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void invalidate(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("metadata_metadata", "invalidate", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadata", "invalidate", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaMetadata get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("metadata_metadata", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadata", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadata)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -136,10 +146,10 @@ public class KalturaMetadataService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
         kparams.addStringIfNotNull("xmlData", xmlData);
-        this.kalturaClient.queueServiceCall("metadata_metadata", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadata", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadata)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -152,10 +162,10 @@ public class KalturaMetadataService extends KalturaServiceBase {
         kparams.addIntIfNotNull("id", id);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("xmlFile", new KalturaFile(xmlFile));
-        this.kalturaClient.queueServiceCall("metadata_metadata", "updateFromFile", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "metadata_metadata", "updateFromFile", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMetadata)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,13 +29,17 @@ public class KalturaMixingService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaMixingService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaMixEntry add(KalturaMixEntry mixEntry) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (mixEntry != null) kparams.add("mixEntry", mixEntry.toParams());
-        this.kalturaClient.queueServiceCall("mixing", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (mixEntry != null) kparams.add("mixEntry", mixEntry);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMixEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -45,31 +51,31 @@ public class KalturaMixingService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("mixing", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMixEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaMixEntry update(String entryId, KalturaMixEntry mixEntry) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        if (mixEntry != null) kparams.add("mixEntry", mixEntry.toParams());
-        this.kalturaClient.queueServiceCall("mixing", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (mixEntry != null) kparams.add("mixEntry", mixEntry);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMixEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("mixing", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaMixListResponse list() throws KalturaApiException {
@@ -81,13 +87,17 @@ public class KalturaMixingService extends KalturaServiceBase {
     }
 
     public KalturaMixListResponse list(KalturaMixEntryFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaMixListResponse list(KalturaMixEntryFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaMixEntry> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("mixing", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaMixListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -97,11 +107,11 @@ public class KalturaMixingService extends KalturaServiceBase {
 
     public int count(KalturaMediaEntryFilter filter) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        this.kalturaClient.queueServiceCall("mixing", "count", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "count", kparams);
+        if (request.isMultiRequest())
             return 0;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return Integer.parseInt(resultText);
     }
@@ -109,10 +119,10 @@ public class KalturaMixingService extends KalturaServiceBase {
     public KalturaMixEntry clone(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("mixing", "clone", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "clone", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMixEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -120,10 +130,10 @@ public class KalturaMixingService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("mixEntryId", mixEntryId);
         kparams.addStringIfNotNull("mediaEntryId", mediaEntryId);
-        this.kalturaClient.queueServiceCall("mixing", "appendMediaEntry", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "appendMediaEntry", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaMixEntry)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -136,10 +146,10 @@ public class KalturaMixingService extends KalturaServiceBase {
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addStringIfNotNull("fileFormat", fileFormat);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("mixing", "requestFlattening", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "requestFlattening", kparams);
+        if (request.isMultiRequest())
             return 0;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return Integer.parseInt(resultText);
     }
@@ -147,10 +157,10 @@ public class KalturaMixingService extends KalturaServiceBase {
     public List<KalturaMixEntry> getMixesByMediaId(String mediaEntryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("mediaEntryId", mediaEntryId);
-        this.kalturaClient.queueServiceCall("mixing", "getMixesByMediaId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "getMixesByMediaId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaMixEntry> list = new ArrayList<KalturaMixEntry>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -167,10 +177,10 @@ public class KalturaMixingService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("mixId", mixId);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("mixing", "getReadyMediaEntries", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "getReadyMediaEntries", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaMediaEntry> list = new ArrayList<KalturaMediaEntry>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -183,9 +193,9 @@ public class KalturaMixingService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("rank", rank);
-        this.kalturaClient.queueServiceCall("mixing", "anonymousRank", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "mixing", "anonymousRank", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 }
@@ -5,6 +5,7 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,18 +28,22 @@ public class KalturaPartnerService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaPartnerService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaPartner register(KalturaPartner partner) throws KalturaApiException {
         return this.register(partner, "");
     }
 
     public KalturaPartner register(KalturaPartner partner, String cmsPassword) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (partner != null) kparams.add("partner", partner.toParams());
+        if (partner != null) kparams.add("partner", partner);
         kparams.addStringIfNotNull("cmsPassword", cmsPassword);
-        this.kalturaClient.queueServiceCall("partner", "register", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "partner", "register", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPartner)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -48,12 +53,12 @@ public class KalturaPartnerService extends KalturaServiceBase {
 
     public KalturaPartner update(KalturaPartner partner, boolean allowEmpty) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (partner != null) kparams.add("partner", partner.toParams());
+        if (partner != null) kparams.add("partner", partner);
         kparams.addBoolIfNotNull("allowEmpty", allowEmpty);
-        this.kalturaClient.queueServiceCall("partner", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "partner", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPartner)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -62,19 +67,19 @@ public class KalturaPartnerService extends KalturaServiceBase {
         kparams.addIntIfNotNull("partnerId", partnerId);
         kparams.addStringIfNotNull("adminEmail", adminEmail);
         kparams.addStringIfNotNull("cmsPassword", cmsPassword);
-        this.kalturaClient.queueServiceCall("partner", "getSecrets", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "partner", "getSecrets", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPartner)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaPartner getInfo() throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        this.kalturaClient.queueServiceCall("partner", "getInfo", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "partner", "getInfo", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPartner)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -95,10 +100,10 @@ public class KalturaPartnerService extends KalturaServiceBase {
         kparams.addIntIfNotNull("year", year);
         kparams.addIntIfNotNull("month", month);
         kparams.addStringIfNotNull("resolution", resolution);
-        this.kalturaClient.queueServiceCall("partner", "getUsage", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "partner", "getUsage", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPartnerUsage)KalturaObjectFactory.create(resultXmlElement);
     }
 }
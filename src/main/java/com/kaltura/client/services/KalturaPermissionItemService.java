@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaPermissionItemService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaPermissionItemService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaPermissionItem add(KalturaPermissionItem permissionItem) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (permissionItem != null) kparams.add("permissionItem", permissionItem.toParams());
-        this.kalturaClient.queueServiceCall("permissionitem", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (permissionItem != null) kparams.add("permissionItem", permissionItem);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permissionitem", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPermissionItem)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaPermissionItem get(int permissionItemId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("permissionItemId", permissionItemId);
-        this.kalturaClient.queueServiceCall("permissionitem", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permissionitem", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPermissionItem)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaPermissionItem update(int permissionItemId, KalturaPermissionItem permissionItem) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("permissionItemId", permissionItemId);
-        if (permissionItem != null) kparams.add("permissionItem", permissionItem.toParams());
-        this.kalturaClient.queueServiceCall("permissionitem", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (permissionItem != null) kparams.add("permissionItem", permissionItem);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permissionitem", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPermissionItem)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaPermissionItem delete(int permissionItemId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("permissionItemId", permissionItemId);
-        this.kalturaClient.queueServiceCall("permissionitem", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permissionitem", "delete", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPermissionItem)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -77,13 +83,17 @@ public class KalturaPermissionItemService extends KalturaServiceBase {
     }
 
     public KalturaPermissionItemListResponse list(KalturaPermissionItemFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaPermissionItemListResponse list(KalturaPermissionItemFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaPermissionItem> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("permissionitem", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permissionitem", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaPermissionItemListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaPermissionService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaPermissionService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaPermission add(KalturaPermission permission) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (permission != null) kparams.add("permission", permission.toParams());
-        this.kalturaClient.queueServiceCall("permission", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (permission != null) kparams.add("permission", permission);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permission", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPermission)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaPermission get(String permissionName) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("permissionName", permissionName);
-        this.kalturaClient.queueServiceCall("permission", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permission", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPermission)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaPermission update(String permissionName, KalturaPermission permission) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("permissionName", permissionName);
-        if (permission != null) kparams.add("permission", permission.toParams());
-        this.kalturaClient.queueServiceCall("permission", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (permission != null) kparams.add("permission", permission);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permission", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPermission)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaPermission delete(String permissionName) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("permissionName", permissionName);
-        this.kalturaClient.queueServiceCall("permission", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permission", "delete", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPermission)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -77,22 +83,26 @@ public class KalturaPermissionService extends KalturaServiceBase {
     }
 
     public KalturaPermissionListResponse list(KalturaPermissionFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaPermissionListResponse list(KalturaPermissionFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaPermission> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("permission", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permission", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaPermissionListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public String getCurrentPermissions() throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        this.kalturaClient.queueServiceCall("permission", "getCurrentPermissions", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "permission", "getCurrentPermissions", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
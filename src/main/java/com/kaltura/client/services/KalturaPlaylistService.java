@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,18 +29,22 @@ public class KalturaPlaylistService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaPlaylistService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaPlaylist add(KalturaPlaylist playlist) throws KalturaApiException {
         return this.add(playlist, false);
     }
 
     public KalturaPlaylist add(KalturaPlaylist playlist, boolean updateStats) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (playlist != null) kparams.add("playlist", playlist.toParams());
+        if (playlist != null) kparams.add("playlist", playlist);
         kparams.addBoolIfNotNull("updateStats", updateStats);
-        this.kalturaClient.queueServiceCall("playlist", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "playlist", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPlaylist)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -50,10 +56,10 @@ public class KalturaPlaylistService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
         kparams.addIntIfNotNull("version", version);
-        this.kalturaClient.queueServiceCall("playlist", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "playlist", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPlaylist)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -64,22 +70,22 @@ public class KalturaPlaylistService extends KalturaServiceBase {
     public KalturaPlaylist update(String id, KalturaPlaylist playlist, boolean updateStats) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        if (playlist != null) kparams.add("playlist", playlist.toParams());
+        if (playlist != null) kparams.add("playlist", playlist);
         kparams.addBoolIfNotNull("updateStats", updateStats);
-        this.kalturaClient.queueServiceCall("playlist", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "playlist", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPlaylist)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("playlist", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "playlist", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaPlaylist clone(String id) throws KalturaApiException {
@@ -89,11 +95,11 @@ public class KalturaPlaylistService extends KalturaServiceBase {
     public KalturaPlaylist clone(String id, KalturaPlaylist newPlaylist) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        if (newPlaylist != null) kparams.add("newPlaylist", newPlaylist.toParams());
-        this.kalturaClient.queueServiceCall("playlist", "clone", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (newPlaylist != null) kparams.add("newPlaylist", newPlaylist);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "playlist", "clone", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPlaylist)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -106,13 +112,17 @@ public class KalturaPlaylistService extends KalturaServiceBase {
     }
 
     public KalturaPlaylistListResponse list(KalturaPlaylistFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaPlaylistListResponse list(KalturaPlaylistFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaPlaylist> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("playlist", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "playlist", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaPlaylistListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -124,10 +134,10 @@ public class KalturaPlaylistService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
         kparams.addStringIfNotNull("detailed", detailed);
-        this.kalturaClient.queueServiceCall("playlist", "execute", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "playlist", "execute", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaBaseEntry> list = new ArrayList<KalturaBaseEntry>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -145,10 +155,10 @@ public class KalturaPlaylistService extends KalturaServiceBase {
         kparams.addIntIfNotNull("playlistType", playlistType.getHashCode());
         kparams.addStringIfNotNull("playlistContent", playlistContent);
         kparams.addStringIfNotNull("detailed", detailed);
-        this.kalturaClient.queueServiceCall("playlist", "executeFromContent", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "playlist", "executeFromContent", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaBaseEntry> list = new ArrayList<KalturaBaseEntry>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -164,14 +174,14 @@ public class KalturaPlaylistService extends KalturaServiceBase {
     public List<KalturaBaseEntry> executeFromFilters(ArrayList<KalturaMediaEntryFilterForPlaylist> filters, int totalResults, String detailed) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         for(KalturaMediaEntryFilterForPlaylist obj : filters) {
-            kparams.add("filters", obj.toParams());
+            kparams.add("filters", obj);
         }
         kparams.addIntIfNotNull("totalResults", totalResults);
         kparams.addStringIfNotNull("detailed", detailed);
-        this.kalturaClient.queueServiceCall("playlist", "executeFromFilters", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "playlist", "executeFromFilters", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaBaseEntry> list = new ArrayList<KalturaBaseEntry>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -184,10 +194,10 @@ public class KalturaPlaylistService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("playlistType", playlistType.getHashCode());
         kparams.addStringIfNotNull("playlistContent", playlistContent);
-        this.kalturaClient.queueServiceCall("playlist", "getStatsFromContent", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "playlist", "getStatsFromContent", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPlaylist)KalturaObjectFactory.create(resultXmlElement);
     }
 }
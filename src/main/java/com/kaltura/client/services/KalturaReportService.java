@@ -5,6 +5,7 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +28,10 @@ public class KalturaReportService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaReportService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public List<KalturaReportGraph> getGraphs(KalturaReportType reportType, KalturaReportInputFilter reportInputFilter) throws KalturaApiException {
         return this.getGraphs(reportType, reportInputFilter, null);
     }
@@ -38,13 +43,13 @@ public class KalturaReportService extends KalturaServiceBase {
     public List<KalturaReportGraph> getGraphs(KalturaReportType reportType, KalturaReportInputFilter reportInputFilter, String dimension, String objectIds) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("reportType", reportType.getHashCode());
-        if (reportInputFilter != null) kparams.add("reportInputFilter", reportInputFilter.toParams());
+        if (reportInputFilter != null) kparams.add("reportInputFilter", reportInputFilter);
         kparams.addStringIfNotNull("dimension", dimension);
         kparams.addStringIfNotNull("objectIds", objectIds);
-        this.kalturaClient.queueServiceCall("report", "getGraphs", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "report", "getGraphs", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaReportGraph> list = new ArrayList<KalturaReportGraph>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -60,12 +65,12 @@ public class KalturaReportService extends KalturaServiceBase {
     public KalturaReportTotal getTotal(KalturaReportType reportType, KalturaReportInputFilter reportInputFilter, String objectIds) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("reportType", reportType.getHashCode());
-        if (reportInputFilter != null) kparams.add("reportInputFilter", reportInputFilter.toParams());
+        if (reportInputFilter != null) kparams.add("reportInputFilter", reportInputFilter);
         kparams.addStringIfNotNull("objectIds", objectIds);
-        this.kalturaClient.queueServiceCall("report", "getTotal", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "report", "getTotal", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaReportTotal)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -80,14 +85,14 @@ public class KalturaReportService extends KalturaServiceBase {
     public KalturaReportTable getTable(KalturaReportType reportType, KalturaReportInputFilter reportInputFilter, KalturaFilterPager pager, String order, String objectIds) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("reportType", reportType.getHashCode());
-        if (reportInputFilter != null) kparams.add("reportInputFilter", reportInputFilter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
+        if (reportInputFilter != null) kparams.add("reportInputFilter", reportInputFilter);
+        if (pager != null) kparams.add("pager", pager);
         kparams.addStringIfNotNull("order", order);
         kparams.addStringIfNotNull("objectIds", objectIds);
-        this.kalturaClient.queueServiceCall("report", "getTable", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "report", "getTable", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaReportTable)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -113,15 +118,15 @@ public class KalturaReportService extends KalturaServiceBase {
         kparams.addStringIfNotNull("reportText", reportText);
         kparams.addStringIfNotNull("headers", headers);
         kparams.addIntIfNotNull("reportType", reportType.getHashCode());
-        if (reportInputFilter != null) kparams.add("reportInputFilter", reportInputFilter.toParams());
+        if (reportInputFilter != null) kparams.add("reportInputFilter", reportInputFilter);
         kparams.addStringIfNotNull("dimension", dimension);
-        if (pager != null) kparams.add("pager", pager.toParams());
+        if (pager != null) kparams.add("pager", pager);
         kparams.addStringIfNotNull("order", order);
         kparams.addStringIfNotNull("objectIds", objectIds);
-        this.kalturaClient.queueServiceCall("report", "getUrlForReportAsCsv", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "report", "getUrlForReportAsCsv", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -5,6 +5,7 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,28 +28,32 @@ public class KalturaSearchService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaSearchService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaSearchResultResponse search(KalturaSearch search) throws KalturaApiException {
         return this.search(search, null);
     }
 
     public KalturaSearchResultResponse search(KalturaSearch search, KalturaFilterPager pager) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (search != null) kparams.add("search", search.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("search", "search", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (search != null) kparams.add("search", search);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "search", "search", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaSearchResultResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaSearchResult getMediaInfo(KalturaSearchResult searchResult) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (searchResult != null) kparams.add("searchResult", searchResult.toParams());
-        this.kalturaClient.queueServiceCall("search", "getMediaInfo", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (searchResult != null) kparams.add("searchResult", searchResult);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "search", "getMediaInfo", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaSearchResult)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -56,10 +61,10 @@ public class KalturaSearchService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("mediaType", mediaType.getHashCode());
         kparams.addStringIfNotNull("url", url);
-        this.kalturaClient.queueServiceCall("search", "searchUrl", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "search", "searchUrl", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaSearchResult)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -68,10 +73,10 @@ public class KalturaSearchService extends KalturaServiceBase {
         kparams.addIntIfNotNull("searchSource", searchSource.getHashCode());
         kparams.addStringIfNotNull("userName", userName);
         kparams.addStringIfNotNull("password", password);
-        this.kalturaClient.queueServiceCall("search", "externalLogin", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "search", "externalLogin", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaSearchAuthData)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -5,6 +5,7 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +28,10 @@ public class KalturaSessionService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaSessionService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public String start(String secret) throws KalturaApiException {
         return this.start(secret, "");
     }
@@ -55,20 +60,20 @@ public class KalturaSessionService extends KalturaServiceBase {
         kparams.addIntIfNotNull("partnerId", partnerId);
         kparams.addIntIfNotNull("expiry", expiry);
         kparams.addStringIfNotNull("privileges", privileges);
-        this.kalturaClient.queueServiceCall("session", "start", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "session", "start", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
 
     public void end() throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        this.kalturaClient.queueServiceCall("session", "end", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "session", "end", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public String impersonate(String secret, int impersonatedPartnerId) throws KalturaApiException {
@@ -100,10 +105,10 @@ public class KalturaSessionService extends KalturaServiceBase {
         kparams.addIntIfNotNull("partnerId", partnerId);
         kparams.addIntIfNotNull("expiry", expiry);
         kparams.addStringIfNotNull("privileges", privileges);
-        this.kalturaClient.queueServiceCall("session", "impersonate", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "session", "impersonate", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -116,10 +121,10 @@ public class KalturaSessionService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("widgetId", widgetId);
         kparams.addIntIfNotNull("expiry", expiry);
-        this.kalturaClient.queueServiceCall("session", "startWidgetSession", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "session", "startWidgetSession", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaStartWidgetSessionResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +29,10 @@ public class KalturaShortLinkService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaShortLinkService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaShortLinkListResponse list() throws KalturaApiException {
         return this.list(null);
     }
@@ -36,54 +42,58 @@ public class KalturaShortLinkService extends KalturaServiceBase {
     }
 
     public KalturaShortLinkListResponse list(KalturaShortLinkFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaShortLinkListResponse list(KalturaShortLinkFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaShortLink> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("shortlink_shortlink", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "shortlink_shortlink", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaShortLinkListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaShortLink add(KalturaShortLink shortLink) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (shortLink != null) kparams.add("shortLink", shortLink.toParams());
-        this.kalturaClient.queueServiceCall("shortlink_shortlink", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (shortLink != null) kparams.add("shortLink", shortLink);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "shortlink_shortlink", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaShortLink)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaShortLink get(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("shortlink_shortlink", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "shortlink_shortlink", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaShortLink)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaShortLink update(String id, KalturaShortLink shortLink) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        if (shortLink != null) kparams.add("shortLink", shortLink.toParams());
-        this.kalturaClient.queueServiceCall("shortlink_shortlink", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (shortLink != null) kparams.add("shortLink", shortLink);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "shortlink_shortlink", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaShortLink)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaShortLink delete(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("shortlink_shortlink", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "shortlink_shortlink", "delete", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaShortLink)KalturaObjectFactory.create(resultXmlElement);
     }
 }
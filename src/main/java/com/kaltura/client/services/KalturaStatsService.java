@@ -5,6 +5,7 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,31 +28,35 @@ public class KalturaStatsService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaStatsService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public void collect(KalturaStatsEvent event) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (event != null) kparams.add("event", event.toParams());
-        this.kalturaClient.queueServiceCall("stats", "collect", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (event != null) kparams.add("event", event);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "stats", "collect", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void kmcCollect(KalturaStatsKmcEvent kmcEvent) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (kmcEvent != null) kparams.add("kmcEvent", kmcEvent.toParams());
-        this.kalturaClient.queueServiceCall("stats", "kmcCollect", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (kmcEvent != null) kparams.add("kmcEvent", kmcEvent);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "stats", "kmcCollect", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaCEError reportKceError(KalturaCEError kalturaCEError) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (kalturaCEError != null) kparams.add("kalturaCEError", kalturaCEError.toParams());
-        this.kalturaClient.queueServiceCall("stats", "reportKceError", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (kalturaCEError != null) kparams.add("kalturaCEError", kalturaCEError);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "stats", "reportKceError", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaCEError)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +29,10 @@ public class KalturaStorageProfileService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaStorageProfileService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaStorageProfileListResponse listByPartner() throws KalturaApiException {
         return this.listByPartner(null);
     }
@@ -36,13 +42,17 @@ public class KalturaStorageProfileService extends KalturaServiceBase {
     }
 
     public KalturaStorageProfileListResponse listByPartner(KalturaPartnerFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.listByPartner(filter, pager, null);
+    }
+
+    public KalturaStorageProfileListResponse listByPartner(KalturaPartnerFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaStorageProfile> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("storageprofile_storageprofile", "listByPartner", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "storageprofile_storageprofile", "listByPartner", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaStorageProfileListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -50,40 +60,40 @@ public class KalturaStorageProfileService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("storageId", storageId);
         kparams.addIntIfNotNull("status", status.getHashCode());
-        this.kalturaClient.queueServiceCall("storageprofile_storageprofile", "updateStatus", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "storageprofile_storageprofile", "updateStatus", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaStorageProfile get(int storageProfileId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("storageProfileId", storageProfileId);
-        this.kalturaClient.queueServiceCall("storageprofile_storageprofile", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "storageprofile_storageprofile", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaStorageProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaStorageProfile update(int storageProfileId, KalturaStorageProfile storageProfile) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("storageProfileId", storageProfileId);
-        if (storageProfile != null) kparams.add("storageProfile", storageProfile.toParams());
-        this.kalturaClient.queueServiceCall("storageprofile_storageprofile", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (storageProfile != null) kparams.add("storageProfile", storageProfile);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "storageprofile_storageprofile", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaStorageProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaStorageProfile add(KalturaStorageProfile storageProfile) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (storageProfile != null) kparams.add("storageProfile", storageProfile.toParams());
-        this.kalturaClient.queueServiceCall("storageprofile_storageprofile", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (storageProfile != null) kparams.add("storageProfile", storageProfile);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "storageprofile_storageprofile", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaStorageProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 }
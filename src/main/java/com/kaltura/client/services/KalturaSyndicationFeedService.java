@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaSyndicationFeedService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaSyndicationFeedService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaBaseSyndicationFeed add(KalturaBaseSyndicationFeed syndicationFeed) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (syndicationFeed != null) kparams.add("syndicationFeed", syndicationFeed.toParams());
-        this.kalturaClient.queueServiceCall("syndicationfeed", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (syndicationFeed != null) kparams.add("syndicationFeed", syndicationFeed);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "syndicationfeed", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseSyndicationFeed)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaBaseSyndicationFeed get(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("syndicationfeed", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "syndicationfeed", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseSyndicationFeed)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaBaseSyndicationFeed update(String id, KalturaBaseSyndicationFeed syndicationFeed) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        if (syndicationFeed != null) kparams.add("syndicationFeed", syndicationFeed.toParams());
-        this.kalturaClient.queueServiceCall("syndicationfeed", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (syndicationFeed != null) kparams.add("syndicationFeed", syndicationFeed);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "syndicationfeed", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaBaseSyndicationFeed)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("syndicationfeed", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "syndicationfeed", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaBaseSyndicationFeedListResponse list() throws KalturaApiException {
@@ -76,33 +82,37 @@ public class KalturaSyndicationFeedService extends KalturaServiceBase {
     }
 
     public KalturaBaseSyndicationFeedListResponse list(KalturaBaseSyndicationFeedFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaBaseSyndicationFeedListResponse list(KalturaBaseSyndicationFeedFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaBaseSyndicationFeed> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("syndicationfeed", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "syndicationfeed", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaBaseSyndicationFeedListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaSyndicationFeedEntryCount getEntryCount(String feedId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("feedId", feedId);
-        this.kalturaClient.queueServiceCall("syndicationfeed", "getEntryCount", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "syndicationfeed", "getEntryCount", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaSyndicationFeedEntryCount)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public String requestConversion(String feedId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("feedId", feedId);
-        this.kalturaClient.queueServiceCall("syndicationfeed", "requestConversion", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "syndicationfeed", "requestConversion", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,13 +29,17 @@ public class KalturaSystemPartnerService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaSystemPartnerService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaPartner get(int partnerId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("partnerId", partnerId);
-        this.kalturaClient.queueServiceCall("systempartner_systempartner", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "systempartner_systempartner", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaPartner)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -50,14 +56,18 @@ public class KalturaSystemPartnerService extends KalturaServiceBase {
     }
 
     public KalturaSystemPartnerUsageListResponse getUsage(KalturaPartnerFilter partnerFilter, KalturaSystemPartnerUsageFilter usageFilter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.getUsage(partnerFilter, usageFilter, pager, null);
+    }
+
+    public KalturaSystemPartnerUsageListResponse getUsage(KalturaPartnerFilter partnerFilter, KalturaSystemPartnerUsageFilter usageFilter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaSystemPartnerUsageItem> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (partnerFilter != null) kparams.add("partnerFilter", partnerFilter.toParams());
-        if (usageFilter != null) kparams.add("usageFilter", usageFilter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("systempartner_systempartner", "getUsage", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (partnerFilter != null) kparams.add("partnerFilter", partnerFilter);
+        if (usageFilter != null) kparams.add("usageFilter", usageFilter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "systempartner_systempartner", "getUsage", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaSystemPartnerUsageListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -70,13 +80,17 @@ public class KalturaSystemPartnerService extends KalturaServiceBase {
     }
 
     public KalturaPartnerListResponse list(KalturaPartnerFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaPartnerListResponse list(KalturaPartnerFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaPartner> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("systempartner_systempartner", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "systempartner_systempartner", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaPartnerListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -84,10 +98,10 @@ public class KalturaSystemPartnerService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("partnerId", partnerId);
         kparams.addIntIfNotNull("status", status.getHashCode());
-        this.kalturaClient.queueServiceCall("systempartner_systempartner", "updateStatus", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "systempartner_systempartner", "updateStatus", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public String getAdminSession(int partnerId) throws KalturaApiException {
@@ -98,10 +112,10 @@ public class KalturaSystemPartnerService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("partnerId", partnerId);
         kparams.addStringIfNotNull("userId", userId);
-        this.kalturaClient.queueServiceCall("systempartner_systempartner", "getAdminSession", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "systempartner_systempartner", "getAdminSession", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -109,29 +123,29 @@ public class KalturaSystemPartnerService extends KalturaServiceBase {
     public void updateConfiguration(int partnerId, KalturaSystemPartnerConfiguration configuration) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("partnerId", partnerId);
-        if (configuration != null) kparams.add("configuration", configuration.toParams());
-        this.kalturaClient.queueServiceCall("systempartner_systempartner", "updateConfiguration", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (configuration != null) kparams.add("configuration", configuration);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "systempartner_systempartner", "updateConfiguration", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaSystemPartnerConfiguration getConfiguration(int partnerId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("partnerId", partnerId);
-        this.kalturaClient.queueServiceCall("systempartner_systempartner", "getConfiguration", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "systempartner_systempartner", "getConfiguration", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaSystemPartnerConfiguration)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public List<KalturaSystemPartnerPackage> getPackages() throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        this.kalturaClient.queueServiceCall("systempartner_systempartner", "getPackages", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "systempartner_systempartner", "getPackages", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaSystemPartnerPackage> list = new ArrayList<KalturaSystemPartnerPackage>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -5,7 +5,9 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -28,23 +30,27 @@ public class KalturaThumbAssetService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaThumbAssetService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public void setAsDefault(String thumbAssetId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("thumbAssetId", thumbAssetId);
-        this.kalturaClient.queueServiceCall("thumbasset", "setAsDefault", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbasset", "setAsDefault", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaThumbAsset generateByEntryId(String entryId, int destThumbParamsId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addIntIfNotNull("destThumbParamsId", destThumbParamsId);
-        this.kalturaClient.queueServiceCall("thumbasset", "generateByEntryId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbasset", "generateByEntryId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaThumbAsset)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -55,42 +61,42 @@ public class KalturaThumbAssetService extends KalturaServiceBase {
     public KalturaThumbAsset generate(String entryId, KalturaThumbParams thumbParams, String sourceAssetId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        if (thumbParams != null) kparams.add("thumbParams", thumbParams.toParams());
+        if (thumbParams != null) kparams.add("thumbParams", thumbParams);
         kparams.addStringIfNotNull("sourceAssetId", sourceAssetId);
-        this.kalturaClient.queueServiceCall("thumbasset", "generate", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbasset", "generate", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaThumbAsset)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaThumbAsset regenerate(String thumbAssetId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("thumbAssetId", thumbAssetId);
-        this.kalturaClient.queueServiceCall("thumbasset", "regenerate", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbasset", "regenerate", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaThumbAsset)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaThumbAsset get(String thumbAssetId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("thumbAssetId", thumbAssetId);
-        this.kalturaClient.queueServiceCall("thumbasset", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbasset", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaThumbAsset)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public List<KalturaThumbAsset> getByEntryId(String entryId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
-        this.kalturaClient.queueServiceCall("thumbasset", "getByEntryId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbasset", "getByEntryId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaThumbAsset> list = new ArrayList<KalturaThumbAsset>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -108,13 +114,17 @@ public class KalturaThumbAssetService extends KalturaServiceBase {
     }
 
     public KalturaThumbAssetListResponse list(KalturaAssetFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaThumbAssetListResponse list(KalturaAssetFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaThumbAsset> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("thumbasset", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbasset", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaThumbAssetListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -122,10 +132,10 @@ public class KalturaThumbAssetService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryId", entryId);
         kparams.addStringIfNotNull("url", url);
-        this.kalturaClient.queueServiceCall("thumbasset", "addFromUrl", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbasset", "addFromUrl", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaThumbAsset)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -134,19 +144,19 @@ public class KalturaThumbAssetService extends KalturaServiceBase {
         kparams.addStringIfNotNull("entryId", entryId);
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("fileData", new KalturaFile(fileData));
-        this.kalturaClient.queueServiceCall("thumbasset", "addFromImage", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbasset", "addFromImage", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaThumbAsset)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(String thumbAssetId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("thumbAssetId", thumbAssetId);
-        this.kalturaClient.queueServiceCall("thumbasset", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbasset", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +29,10 @@ public class KalturaThumbParamsOutputService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaThumbParamsOutputService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaThumbParamsOutputListResponse list() throws KalturaApiException {
         return this.list(null);
     }
@@ -36,13 +42,17 @@ public class KalturaThumbParamsOutputService extends KalturaServiceBase {
     }
 
     public KalturaThumbParamsOutputListResponse list(KalturaThumbParamsOutputFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaThumbParamsOutputListResponse list(KalturaThumbParamsOutputFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaThumbParamsOutput> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("adminconsole_thumbparamsoutput", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminconsole_thumbparamsoutput", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaThumbParamsOutputListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
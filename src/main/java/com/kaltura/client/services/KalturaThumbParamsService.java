@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaThumbParamsService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaThumbParamsService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaThumbParams add(KalturaThumbParams thumbParams) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (thumbParams != null) kparams.add("thumbParams", thumbParams.toParams());
-        this.kalturaClient.queueServiceCall("thumbparams", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (thumbParams != null) kparams.add("thumbParams", thumbParams);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbparams", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaThumbParams)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaThumbParams get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("thumbparams", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbparams", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaThumbParams)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaThumbParams update(int id, KalturaThumbParams thumbParams) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (thumbParams != null) kparams.add("thumbParams", thumbParams.toParams());
-        this.kalturaClient.queueServiceCall("thumbparams", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (thumbParams != null) kparams.add("thumbParams", thumbParams);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbparams", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaThumbParams)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("thumbparams", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbparams", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaThumbParamsListResponse list() throws KalturaApiException {
@@ -76,23 +82,27 @@ public class KalturaThumbParamsService extends KalturaServiceBase {
     }
 
     public KalturaThumbParamsListResponse list(KalturaThumbParamsFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaThumbParamsListResponse list(KalturaThumbParamsFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaThumbParams> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("thumbparams", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbparams", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaThumbParamsListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public List<KalturaThumbParams> getByConversionProfileId(int conversionProfileId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("conversionProfileId", conversionProfileId);
-        this.kalturaClient.queueServiceCall("thumbparams", "getByConversionProfileId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "thumbparams", "getByConversionProfileId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaThumbParams> list = new ArrayList<KalturaThumbParams>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaUiConfAdminService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaUiConfAdminService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaUiConfAdmin add(KalturaUiConfAdmin uiConf) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (uiConf != null) kparams.add("uiConf", uiConf.toParams());
-        this.kalturaClient.queueServiceCall("adminconsole_uiconfadmin", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (uiConf != null) kparams.add("uiConf", uiConf);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminconsole_uiconfadmin", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUiConfAdmin)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUiConfAdmin update(int id, KalturaUiConfAdmin uiConf) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (uiConf != null) kparams.add("uiConf", uiConf.toParams());
-        this.kalturaClient.queueServiceCall("adminconsole_uiconfadmin", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (uiConf != null) kparams.add("uiConf", uiConf);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminconsole_uiconfadmin", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUiConfAdmin)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUiConfAdmin get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("adminconsole_uiconfadmin", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminconsole_uiconfadmin", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUiConfAdmin)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("adminconsole_uiconfadmin", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminconsole_uiconfadmin", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaUiConfAdminListResponse list() throws KalturaApiException {
@@ -76,13 +82,17 @@ public class KalturaUiConfAdminService extends KalturaServiceBase {
     }
 
     public KalturaUiConfAdminListResponse list(KalturaUiConfFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaUiConfAdminListResponse list(KalturaUiConfFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaUiConfAdmin> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("adminconsole_uiconfadmin", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "adminconsole_uiconfadmin", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaUiConfAdminListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
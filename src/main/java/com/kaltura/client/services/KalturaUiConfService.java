@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,53 +29,57 @@ public class KalturaUiConfService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaUiConfService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaUiConf add(KalturaUiConf uiConf) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (uiConf != null) kparams.add("uiConf", uiConf.toParams());
-        this.kalturaClient.queueServiceCall("uiconf", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (uiConf != null) kparams.add("uiConf", uiConf);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uiconf", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUiConf)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUiConf update(int id, KalturaUiConf uiConf) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        if (uiConf != null) kparams.add("uiConf", uiConf.toParams());
-        this.kalturaClient.queueServiceCall("uiconf", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (uiConf != null) kparams.add("uiConf", uiConf);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uiconf", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUiConf)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUiConf get(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("uiconf", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uiconf", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUiConf)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("uiconf", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uiconf", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaUiConf clone(int id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("uiconf", "clone", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uiconf", "clone", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUiConf)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -86,13 +92,17 @@ public class KalturaUiConfService extends KalturaServiceBase {
     }
 
     public KalturaUiConfListResponse listTemplates(KalturaUiConfFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.listTemplates(filter, pager, null);
+    }
+
+    public KalturaUiConfListResponse listTemplates(KalturaUiConfFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaUiConf> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("uiconf", "listTemplates", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uiconf", "listTemplates", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaUiConfListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -105,22 +115,26 @@ public class KalturaUiConfService extends KalturaServiceBase {
     }
 
     public KalturaUiConfListResponse list(KalturaUiConfFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaUiConfListResponse list(KalturaUiConfFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaUiConf> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("uiconf", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uiconf", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaUiConfListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public List<KalturaUiConfTypeInfo> getAvailableTypes() throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        this.kalturaClient.queueServiceCall("uiconf", "getAvailableTypes", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uiconf", "getAvailableTypes", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         List<KalturaUiConfTypeInfo> list = new ArrayList<KalturaUiConfTypeInfo>();
         for(int i = 0; i < resultXmlElement.getChildNodes().getLength(); i++) {
             Element node = (Element)resultXmlElement.getChildNodes().item(i);
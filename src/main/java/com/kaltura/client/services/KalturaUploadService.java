@@ -6,6 +6,7 @@ import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -28,14 +29,18 @@ public class KalturaUploadService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaUploadService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public String upload(File fileData) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         KalturaFiles kfiles = new KalturaFiles();
         kfiles.put("fileData", new KalturaFile(fileData));
-        this.kalturaClient.queueServiceCall("upload", "upload", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "upload", "upload", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -43,10 +48,10 @@ public class KalturaUploadService extends KalturaServiceBase {
     public KalturaUploadResponse getUploadedFileTokenByFileName(String fileName) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("fileName", fileName);
-        this.kalturaClient.queueServiceCall("upload", "getUploadedFileTokenByFileName", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "upload", "getUploadedFileTokenByFileName", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUploadResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
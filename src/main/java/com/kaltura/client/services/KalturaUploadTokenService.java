@@ -5,7 +5,9 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaFile;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -28,27 +30,31 @@ public class KalturaUploadTokenService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaUploadTokenService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaUploadToken add() throws KalturaApiException {
         return this.add(null);
     }
 
     public KalturaUploadToken add(KalturaUploadToken uploadToken) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (uploadToken != null) kparams.add("uploadToken", uploadToken.toParams());
-        this.kalturaClient.queueServiceCall("uploadtoken", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (uploadToken != null) kparams.add("uploadToken", uploadToken);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uploadtoken", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUploadToken)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUploadToken get(String uploadTokenId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("uploadTokenId", uploadTokenId);
-        this.kalturaClient.queueServiceCall("uploadtoken", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uploadtoken", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUploadToken)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -72,20 +78,20 @@ public class KalturaUploadTokenService extends KalturaServiceBase {
         kparams.addBoolIfNotNull("resume", resume);
         kparams.addBoolIfNotNull("finalChunk", finalChunk);
         kparams.addIntIfNotNull("resumeAt", resumeAt);
-        this.kalturaClient.queueServiceCall("uploadtoken", "upload", kparams, kfiles);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uploadtoken", "upload", kparams, kfiles);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUploadToken)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void delete(String uploadTokenId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("uploadTokenId", uploadTokenId);
-        this.kalturaClient.queueServiceCall("uploadtoken", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uploadtoken", "delete", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaUploadTokenListResponse list() throws KalturaApiException {
@@ -97,13 +103,17 @@ public class KalturaUploadTokenService extends KalturaServiceBase {
     }
 
     public KalturaUploadTokenListResponse list(KalturaUploadTokenFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaUploadTokenListResponse list(KalturaUploadTokenFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaUploadToken> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("uploadtoken", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "uploadtoken", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaUploadTokenListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaUserRoleService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaUserRoleService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaUserRole add(KalturaUserRole userRole) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (userRole != null) kparams.add("userRole", userRole.toParams());
-        this.kalturaClient.queueServiceCall("userrole", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (userRole != null) kparams.add("userRole", userRole);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "userrole", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUserRole)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUserRole get(int userRoleId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("userRoleId", userRoleId);
-        this.kalturaClient.queueServiceCall("userrole", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "userrole", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUserRole)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUserRole update(int userRoleId, KalturaUserRole userRole) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("userRoleId", userRoleId);
-        if (userRole != null) kparams.add("userRole", userRole.toParams());
-        this.kalturaClient.queueServiceCall("userrole", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (userRole != null) kparams.add("userRole", userRole);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "userrole", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUserRole)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUserRole delete(int userRoleId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("userRoleId", userRoleId);
-        this.kalturaClient.queueServiceCall("userrole", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "userrole", "delete", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUserRole)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -77,23 +83,27 @@ public class KalturaUserRoleService extends KalturaServiceBase {
     }
 
     public KalturaUserRoleListResponse list(KalturaUserRoleFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaUserRoleListResponse list(KalturaUserRoleFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaUserRole> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("userrole", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "userrole", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaUserRoleListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUserRole clone(int userRoleId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("userRoleId", userRoleId);
-        this.kalturaClient.queueServiceCall("userrole", "clone", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "userrole", "clone", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUserRole)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,54 +29,58 @@ public class KalturaUserService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaUserService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaUser add(KalturaUser user) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (user != null) kparams.add("user", user.toParams());
-        this.kalturaClient.queueServiceCall("user", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (user != null) kparams.add("user", user);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUser)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUser update(String userId, KalturaUser user) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("userId", userId);
-        if (user != null) kparams.add("user", user.toParams());
-        this.kalturaClient.queueServiceCall("user", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (user != null) kparams.add("user", user);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUser)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUser get(String userId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("userId", userId);
-        this.kalturaClient.queueServiceCall("user", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUser)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUser getByLoginId(String loginId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("loginId", loginId);
-        this.kalturaClient.queueServiceCall("user", "getByLoginId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "getByLoginId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUser)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaUser delete(String userId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("userId", userId);
-        this.kalturaClient.queueServiceCall("user", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "delete", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUser)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -87,23 +93,27 @@ public class KalturaUserService extends KalturaServiceBase {
     }
 
     public KalturaUserListResponse list(KalturaUserFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaUserListResponse list(KalturaUserFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaUser> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("user", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaUserListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public void notifyBan(String userId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("userId", userId);
-        this.kalturaClient.queueServiceCall("user", "notifyBan", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "notifyBan", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public String login(int partnerId, String userId, String password) throws KalturaApiException {
@@ -121,10 +131,10 @@ public class KalturaUserService extends KalturaServiceBase {
         kparams.addStringIfNotNull("password", password);
         kparams.addIntIfNotNull("expiry", expiry);
         kparams.addStringIfNotNull("privileges", privileges);
-        this.kalturaClient.queueServiceCall("user", "login", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "login", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -148,10 +158,10 @@ public class KalturaUserService extends KalturaServiceBase {
         kparams.addIntIfNotNull("partnerId", partnerId);
         kparams.addIntIfNotNull("expiry", expiry);
         kparams.addStringIfNotNull("privileges", privileges);
-        this.kalturaClient.queueServiceCall("user", "loginByLoginId", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "loginByLoginId", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
@@ -180,29 +190,29 @@ public class KalturaUserService extends KalturaServiceBase {
         kparams.addStringIfNotNull("newPassword", newPassword);
         kparams.addStringIfNotNull("newFirstName", newFirstName);
         kparams.addStringIfNotNull("newLastName", newLastName);
-        this.kalturaClient.queueServiceCall("user", "updateLoginData", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "updateLoginData", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void resetPassword(String email) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("email", email);
-        this.kalturaClient.queueServiceCall("user", "resetPassword", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "resetPassword", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public void setInitialPassword(String hashKey, String newPassword) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("hashKey", hashKey);
         kparams.addStringIfNotNull("newPassword", newPassword);
-        this.kalturaClient.queueServiceCall("user", "setInitialPassword", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "setInitialPassword", kparams);
+        if (request.isMultiRequest())
             return;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
     }
 
     public KalturaUser enableLogin(String userId, String loginId) throws KalturaApiException {
@@ -214,10 +224,10 @@ public class KalturaUserService extends KalturaServiceBase {
         kparams.addStringIfNotNull("userId", userId);
         kparams.addStringIfNotNull("loginId", loginId);
         kparams.addStringIfNotNull("password", password);
-        this.kalturaClient.queueServiceCall("user", "enableLogin", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "enableLogin", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUser)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -233,10 +243,10 @@ public class KalturaUserService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("userId", userId);
         kparams.addStringIfNotNull("loginId", loginId);
-        this.kalturaClient.queueServiceCall("user", "disableLogin", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "user", "disableLogin", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaUser)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +29,10 @@ public class KalturaVirusScanProfileService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaVirusScanProfileService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaVirusScanProfileListResponse list() throws KalturaApiException {
         return this.list(null);
     }
@@ -36,54 +42,58 @@ public class KalturaVirusScanProfileService extends KalturaServiceBase {
     }
 
     public KalturaVirusScanProfileListResponse list(KalturaVirusScanProfileFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaVirusScanProfileListResponse list(KalturaVirusScanProfileFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaVirusScanProfile> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("virusscan_virusscanprofile", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "virusscan_virusscanprofile", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaVirusScanProfileListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaVirusScanProfile add(KalturaVirusScanProfile virusScanProfile) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (virusScanProfile != null) kparams.add("virusScanProfile", virusScanProfile.toParams());
-        this.kalturaClient.queueServiceCall("virusscan_virusscanprofile", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (virusScanProfile != null) kparams.add("virusScanProfile", virusScanProfile);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "virusscan_virusscanprofile", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaVirusScanProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaVirusScanProfile get(int virusScanProfileId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("virusScanProfileId", virusScanProfileId);
-        this.kalturaClient.queueServiceCall("virusscan_virusscanprofile", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "virusscan_virusscanprofile", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaVirusScanProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaVirusScanProfile update(int virusScanProfileId, KalturaVirusScanProfile virusScanProfile) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("virusScanProfileId", virusScanProfileId);
-        if (virusScanProfile != null) kparams.add("virusScanProfile", virusScanProfile.toParams());
-        this.kalturaClient.queueServiceCall("virusscan_virusscanprofile", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (virusScanProfile != null) kparams.add("virusScanProfile", virusScanProfile);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "virusscan_virusscanprofile", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaVirusScanProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaVirusScanProfile delete(int virusScanProfileId) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addIntIfNotNull("virusScanProfileId", virusScanProfileId);
-        this.kalturaClient.queueServiceCall("virusscan_virusscanprofile", "delete", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "virusscan_virusscanprofile", "delete", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaVirusScanProfile)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -95,10 +105,10 @@ public class KalturaVirusScanProfileService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("flavorAssetId", flavorAssetId);
         kparams.addIntIfNotNull("virusScanProfileId", virusScanProfileId);
-        this.kalturaClient.queueServiceCall("virusscan_virusscanprofile", "scan", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "virusscan_virusscanprofile", "scan", kparams);
+        if (request.isMultiRequest())
             return 0;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return Integer.parseInt(resultText);
     }
@@ -4,7 +4,9 @@ import org.w3c.dom.Element;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaObjectVisitor;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,44 +29,48 @@ public class KalturaWidgetService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaWidgetService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public KalturaWidget add(KalturaWidget widget) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (widget != null) kparams.add("widget", widget.toParams());
-        this.kalturaClient.queueServiceCall("widget", "add", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (widget != null) kparams.add("widget", widget);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "widget", "add", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaWidget)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaWidget update(String id, KalturaWidget widget) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        if (widget != null) kparams.add("widget", widget.toParams());
-        this.kalturaClient.queueServiceCall("widget", "update", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (widget != null) kparams.add("widget", widget);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "widget", "update", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaWidget)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaWidget get(String id) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("id", id);
-        this.kalturaClient.queueServiceCall("widget", "get", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "widget", "get", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaWidget)KalturaObjectFactory.create(resultXmlElement);
     }
 
     public KalturaWidget clone(KalturaWidget widget) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (widget != null) kparams.add("widget", widget.toParams());
-        this.kalturaClient.queueServiceCall("widget", "clone", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (widget != null) kparams.add("widget", widget);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "widget", "clone", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         return (KalturaWidget)KalturaObjectFactory.create(resultXmlElement);
     }
 
@@ -77,13 +83,17 @@ public class KalturaWidgetService extends KalturaServiceBase {
     }
 
     public KalturaWidgetListResponse list(KalturaWidgetFilter filter, KalturaFilterPager pager) throws KalturaApiException {
+        return this.list(filter, pager, null);
+    }
+
+    public KalturaWidgetListResponse list(KalturaWidgetFilter filter, KalturaFilterPager pager, KalturaObjectVisitor<? super KalturaWidget> visitor) throws KalturaApiException {
         KalturaParams kparams = new KalturaParams();
-        if (filter != null) kparams.add("filter", filter.toParams());
-        if (pager != null) kparams.add("pager", pager.toParams());
-        this.kalturaClient.queueServiceCall("widget", "list", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        if (filter != null) kparams.add("filter", filter);
+        if (pager != null) kparams.add("pager", pager);
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "widget", "list", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request, visitor);
         return (KalturaWidgetListResponse)KalturaObjectFactory.create(resultXmlElement);
     }
 }
@@ -5,6 +5,7 @@ import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaObjectFactory;
 import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.KalturaServiceBase;
 import com.kaltura.client.utils.XmlUtils;
 import com.kaltura.client.enums.*;
@@ -27,6 +28,10 @@ public class KalturaXInternalService extends KalturaServiceBase {
         this.kalturaClient = client;
     }
 
+    public KalturaXInternalService(KalturaClient client, KalturaRequestBuilder request) {
+        super(client, request);
+    }
+
     public String xAddBulkDownload(String entryIds) throws KalturaApiException {
         return this.xAddBulkDownload(entryIds, "");
     }
@@ -35,10 +40,10 @@ public class KalturaXInternalService extends KalturaServiceBase {
         KalturaParams kparams = new KalturaParams();
         kparams.addStringIfNotNull("entryIds", entryIds);
         kparams.addStringIfNotNull("flavorParamsId", flavorParamsId);
-        this.kalturaClient.queueServiceCall("xinternal", "xAddBulkDownload", kparams);
-        if (this.kalturaClient.isMultiRequest())
+        KalturaRequestBuilder request = this.kalturaClient.queueServiceCall(this.request, "xinternal", "xAddBulkDownload", kparams);
+        if (request.isMultiRequest())
             return null;
-        Element resultXmlElement = this.kalturaClient.doQueue();
+        Element resultXmlElement = this.kalturaClient.doQueue(request);
         String resultText = XmlUtils.getTextValue(resultXmlElement, "result");
         return resultText;
     }
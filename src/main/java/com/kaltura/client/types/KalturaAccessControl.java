@@ -2,15 +2,12 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaNullableBoolean;
-import java.util.ArrayList;
-import com.kaltura.client.KalturaObjectFactory;
+import java.util.List;
 
 
 /**
@@ -28,66 +25,21 @@ public class KalturaAccessControl extends KalturaObjectBase {
     public String description;
     public int createdAt = Integer.MIN_VALUE;
     public KalturaNullableBoolean isDefault;
-    public ArrayList<KalturaBaseRestriction> restrictions;
+    public List<KalturaBaseRestriction> restrictions;
 
     public KalturaAccessControl() {
     }
 
     public KalturaAccessControl(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                try {
-                    if (!txt.equals("")) this.id = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("name")) {
-                this.name = txt;
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } else if (nodeName.equals("createdAt")) {
-                try {
-                    if (!txt.equals("")) this.createdAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("isDefault")) {
-                try {
-                    if (!txt.equals("")) this.isDefault = KalturaNullableBoolean.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("restrictions")) {
-                this.restrictions = new ArrayList<KalturaBaseRestriction>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.restrictions.add((KalturaBaseRestriction)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaAccessControl.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAccessControl");
-        kparams.addStringIfNotNull("name", this.name);
-        kparams.addStringIfNotNull("description", this.description);
-        if (isDefault != null) kparams.addIntIfNotNull("isDefault", this.isDefault.getHashCode());
-        kparams.addObjectIfNotNull("restrictions", this.restrictions);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "name", this.name);
+        kparams.addStringIfNotNull(prefix, "description", this.description);
+        if (isDefault != null) kparams.addIntIfNotNull(prefix, "isDefault", this.isDefault.getHashCode());
+        kparams.addObjectIfNotNull(prefix, "restrictions", this.restrictions);
     }
 }
 
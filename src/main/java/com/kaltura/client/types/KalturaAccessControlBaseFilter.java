@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -28,45 +26,16 @@ public abstract class KalturaAccessControlBaseFilter extends KalturaFilter {
     }
 
     public KalturaAccessControlBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("idEqual")) {
-                try {
-                    if (!txt.equals("")) this.idEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("idIn")) {
-                this.idIn = txt;
-                continue;
-            } else if (nodeName.equals("createdAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaAccessControlBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAccessControlBaseFilter");
-        kparams.addIntIfNotNull("idEqual", this.idEqual);
-        kparams.addStringIfNotNull("idIn", this.idIn);
-        kparams.addIntIfNotNull("createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "idEqual", this.idEqual);
+        kparams.addStringIfNotNull(prefix, "idIn", this.idIn);
+        kparams.addIntIfNotNull(prefix, "createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
     }
 }
 
@@ -2,12 +2,9 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -24,13 +21,8 @@ public class KalturaAdminUserFilter extends KalturaAdminUserBaseFilter {
     }
 
     public KalturaAdminUserFilter(Element node) throws KalturaApiException {
-        super(node);
-    }
-
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAdminUserFilter");
-        return kparams;
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaAdminUserFilter.class, node);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -34,71 +32,22 @@ public abstract class KalturaAnnotationBaseFilter extends KalturaFilter {
     }
 
     public KalturaAnnotationBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("idEqual")) {
-                this.idEqual = txt;
-                continue;
-            } else if (nodeName.equals("entryIdEqual")) {
-                this.entryIdEqual = txt;
-                continue;
-            } else if (nodeName.equals("parentIdEqual")) {
-                this.parentIdEqual = txt;
-                continue;
-            } else if (nodeName.equals("parentIdIn")) {
-                this.parentIdIn = txt;
-                continue;
-            } else if (nodeName.equals("createdAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("userIdEqual")) {
-                this.userIdEqual = txt;
-                continue;
-            } else if (nodeName.equals("userIdIn")) {
-                this.userIdIn = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaAnnotationBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAnnotationBaseFilter");
-        kparams.addStringIfNotNull("idEqual", this.idEqual);
-        kparams.addStringIfNotNull("entryIdEqual", this.entryIdEqual);
-        kparams.addStringIfNotNull("parentIdEqual", this.parentIdEqual);
-        kparams.addStringIfNotNull("parentIdIn", this.parentIdIn);
-        kparams.addIntIfNotNull("createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
-        kparams.addStringIfNotNull("userIdEqual", this.userIdEqual);
-        kparams.addStringIfNotNull("userIdIn", this.userIdIn);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "idEqual", this.idEqual);
+        kparams.addStringIfNotNull(prefix, "entryIdEqual", this.entryIdEqual);
+        kparams.addStringIfNotNull(prefix, "parentIdEqual", this.parentIdEqual);
+        kparams.addStringIfNotNull(prefix, "parentIdIn", this.parentIdIn);
+        kparams.addIntIfNotNull(prefix, "createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
+        kparams.addStringIfNotNull(prefix, "userIdEqual", this.userIdEqual);
+        kparams.addStringIfNotNull(prefix, "userIdIn", this.userIdIn);
     }
 }
 
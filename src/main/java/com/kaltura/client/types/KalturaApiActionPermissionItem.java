@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -26,31 +24,14 @@ public class KalturaApiActionPermissionItem extends KalturaPermissionItem {
     }
 
     public KalturaApiActionPermissionItem(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("service")) {
-                this.service = txt;
-                continue;
-            } else if (nodeName.equals("action")) {
-                this.action = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaApiActionPermissionItem.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaApiActionPermissionItem");
-        kparams.addStringIfNotNull("service", this.service);
-        kparams.addStringIfNotNull("action", this.action);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "service", this.service);
+        kparams.addStringIfNotNull(prefix, "action", this.action);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaFlavorAssetStatus;
 
 
@@ -37,74 +35,13 @@ public class KalturaAsset extends KalturaObjectBase {
     }
 
     public KalturaAsset(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                this.id = txt;
-                continue;
-            } else if (nodeName.equals("entryId")) {
-                this.entryId = txt;
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("status")) {
-                try {
-                    if (!txt.equals("")) this.status = KalturaFlavorAssetStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("version")) {
-                try {
-                    if (!txt.equals("")) this.version = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("size")) {
-                try {
-                    if (!txt.equals("")) this.size = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("tags")) {
-                this.tags = txt;
-                continue;
-            } else if (nodeName.equals("fileExt")) {
-                this.fileExt = txt;
-                continue;
-            } else if (nodeName.equals("createdAt")) {
-                try {
-                    if (!txt.equals("")) this.createdAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAt")) {
-                try {
-                    if (!txt.equals("")) this.updatedAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("deletedAt")) {
-                try {
-                    if (!txt.equals("")) this.deletedAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaAsset.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAsset");
-        kparams.addStringIfNotNull("tags", this.tags);
-        kparams.addStringIfNotNull("fileExt", this.fileExt);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "tags", this.tags);
+        kparams.addStringIfNotNull(prefix, "fileExt", this.fileExt);
     }
 }
 
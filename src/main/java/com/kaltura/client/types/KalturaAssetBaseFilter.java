@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaFlavorAssetStatus;
 
 
@@ -42,111 +40,29 @@ public abstract class KalturaAssetBaseFilter extends KalturaFilter {
     }
 
     public KalturaAssetBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("idEqual")) {
-                this.idEqual = txt;
-                continue;
-            } else if (nodeName.equals("idIn")) {
-                this.idIn = txt;
-                continue;
-            } else if (nodeName.equals("entryIdEqual")) {
-                this.entryIdEqual = txt;
-                continue;
-            } else if (nodeName.equals("entryIdIn")) {
-                this.entryIdIn = txt;
-                continue;
-            } else if (nodeName.equals("partnerIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.partnerIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerIdIn")) {
-                this.partnerIdIn = txt;
-                continue;
-            } else if (nodeName.equals("statusEqual")) {
-                try {
-                    if (!txt.equals("")) this.statusEqual = KalturaFlavorAssetStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("statusIn")) {
-                this.statusIn = txt;
-                continue;
-            } else if (nodeName.equals("statusNotIn")) {
-                this.statusNotIn = txt;
-                continue;
-            } else if (nodeName.equals("sizeGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.sizeGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("sizeLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.sizeLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("deletedAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.deletedAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("deletedAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.deletedAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaAssetBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAssetBaseFilter");
-        kparams.addStringIfNotNull("idEqual", this.idEqual);
-        kparams.addStringIfNotNull("idIn", this.idIn);
-        kparams.addStringIfNotNull("entryIdEqual", this.entryIdEqual);
-        kparams.addStringIfNotNull("entryIdIn", this.entryIdIn);
-        kparams.addIntIfNotNull("partnerIdEqual", this.partnerIdEqual);
-        kparams.addStringIfNotNull("partnerIdIn", this.partnerIdIn);
-        if (statusEqual != null) kparams.addIntIfNotNull("statusEqual", this.statusEqual.getHashCode());
-        kparams.addStringIfNotNull("statusIn", this.statusIn);
-        kparams.addStringIfNotNull("statusNotIn", this.statusNotIn);
-        kparams.addIntIfNotNull("sizeGreaterThanOrEqual", this.sizeGreaterThanOrEqual);
-        kparams.addIntIfNotNull("sizeLessThanOrEqual", this.sizeLessThanOrEqual);
-        kparams.addIntIfNotNull("createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
-        kparams.addIntIfNotNull("deletedAtGreaterThanOrEqual", this.deletedAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("deletedAtLessThanOrEqual", this.deletedAtLessThanOrEqual);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "idEqual", this.idEqual);
+        kparams.addStringIfNotNull(prefix, "idIn", this.idIn);
+        kparams.addStringIfNotNull(prefix, "entryIdEqual", this.entryIdEqual);
+        kparams.addStringIfNotNull(prefix, "entryIdIn", this.entryIdIn);
+        kparams.addIntIfNotNull(prefix, "partnerIdEqual", this.partnerIdEqual);
+        kparams.addStringIfNotNull(prefix, "partnerIdIn", this.partnerIdIn);
+        if (statusEqual != null) kparams.addIntIfNotNull(prefix, "statusEqual", this.statusEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "statusIn", this.statusIn);
+        kparams.addStringIfNotNull(prefix, "statusNotIn", this.statusNotIn);
+        kparams.addIntIfNotNull(prefix, "sizeGreaterThanOrEqual", this.sizeGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "sizeLessThanOrEqual", this.sizeLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "deletedAtGreaterThanOrEqual", this.deletedAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "deletedAtLessThanOrEqual", this.deletedAtLessThanOrEqual);
     }
 }
 
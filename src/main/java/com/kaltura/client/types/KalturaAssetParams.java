@@ -2,16 +2,13 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaNullableBoolean;
 import com.kaltura.client.enums.KalturaContainerFormat;
-import java.util.ArrayList;
-import com.kaltura.client.KalturaObjectFactory;
+import java.util.List;
 
 
 /**
@@ -31,75 +28,22 @@ public class KalturaAssetParams extends KalturaObjectBase {
     public KalturaNullableBoolean isSystemDefault;
     public String tags;
     public KalturaContainerFormat format;
-    public ArrayList<KalturaString> requiredPermissions;
+    public List<KalturaString> requiredPermissions;
 
     public KalturaAssetParams() {
     }
 
     public KalturaAssetParams(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                try {
-                    if (!txt.equals("")) this.id = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("name")) {
-                this.name = txt;
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } else if (nodeName.equals("createdAt")) {
-                try {
-                    if (!txt.equals("")) this.createdAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("isSystemDefault")) {
-                try {
-                    if (!txt.equals("")) this.isSystemDefault = KalturaNullableBoolean.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("tags")) {
-                this.tags = txt;
-                continue;
-            } else if (nodeName.equals("format")) {
-                try {
-                    if (!txt.equals("")) this.format = KalturaContainerFormat.get(txt);
-                } catch (IllegalFormatException ife) {}
-                continue;
-            } else if (nodeName.equals("requiredPermissions")) {
-                this.requiredPermissions = new ArrayList<KalturaString>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.requiredPermissions.add((KalturaString)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaAssetParams.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAssetParams");
-        kparams.addStringIfNotNull("name", this.name);
-        kparams.addStringIfNotNull("description", this.description);
-        kparams.addStringIfNotNull("tags", this.tags);
-        if (format != null) kparams.addStringIfNotNull("format", this.format.getHashCode());
-        kparams.addObjectIfNotNull("requiredPermissions", this.requiredPermissions);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "name", this.name);
+        kparams.addStringIfNotNull(prefix, "description", this.description);
+        kparams.addStringIfNotNull(prefix, "tags", this.tags);
+        if (format != null) kparams.addStringIfNotNull(prefix, "format", this.format.getHashCode());
+        kparams.addObjectIfNotNull(prefix, "requiredPermissions", this.requiredPermissions);
     }
 }
 
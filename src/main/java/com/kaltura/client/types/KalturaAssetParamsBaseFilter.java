@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaNullableBoolean;
 import com.kaltura.client.enums.KalturaContainerFormat;
 
@@ -29,39 +27,15 @@ public abstract class KalturaAssetParamsBaseFilter extends KalturaFilter {
     }
 
     public KalturaAssetParamsBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("isSystemDefaultEqual")) {
-                try {
-                    if (!txt.equals("")) this.isSystemDefaultEqual = KalturaNullableBoolean.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("tagsEqual")) {
-                this.tagsEqual = txt;
-                continue;
-            } else if (nodeName.equals("formatEqual")) {
-                try {
-                    if (!txt.equals("")) this.formatEqual = KalturaContainerFormat.get(txt);
-                } catch (IllegalFormatException ife) {}
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaAssetParamsBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAssetParamsBaseFilter");
-        if (isSystemDefaultEqual != null) kparams.addIntIfNotNull("isSystemDefaultEqual", this.isSystemDefaultEqual.getHashCode());
-        kparams.addStringIfNotNull("tagsEqual", this.tagsEqual);
-        if (formatEqual != null) kparams.addStringIfNotNull("formatEqual", this.formatEqual.getHashCode());
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        if (isSystemDefaultEqual != null) kparams.addIntIfNotNull(prefix, "isSystemDefaultEqual", this.isSystemDefaultEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "tagsEqual", this.tagsEqual);
+        if (formatEqual != null) kparams.addStringIfNotNull(prefix, "formatEqual", this.formatEqual.getHashCode());
     }
 }
 
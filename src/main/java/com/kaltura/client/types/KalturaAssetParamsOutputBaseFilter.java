@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -28,41 +26,16 @@ public abstract class KalturaAssetParamsOutputBaseFilter extends KalturaAssetPar
     }
 
     public KalturaAssetParamsOutputBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("assetParamsIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.assetParamsIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("assetParamsVersionEqual")) {
-                this.assetParamsVersionEqual = txt;
-                continue;
-            } else if (nodeName.equals("assetIdEqual")) {
-                this.assetIdEqual = txt;
-                continue;
-            } else if (nodeName.equals("assetVersionEqual")) {
-                this.assetVersionEqual = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaAssetParamsOutputBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAssetParamsOutputBaseFilter");
-        kparams.addIntIfNotNull("assetParamsIdEqual", this.assetParamsIdEqual);
-        kparams.addStringIfNotNull("assetParamsVersionEqual", this.assetParamsVersionEqual);
-        kparams.addStringIfNotNull("assetIdEqual", this.assetIdEqual);
-        kparams.addStringIfNotNull("assetVersionEqual", this.assetVersionEqual);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "assetParamsIdEqual", this.assetParamsIdEqual);
+        kparams.addStringIfNotNull(prefix, "assetParamsVersionEqual", this.assetParamsVersionEqual);
+        kparams.addStringIfNotNull(prefix, "assetIdEqual", this.assetIdEqual);
+        kparams.addStringIfNotNull(prefix, "assetVersionEqual", this.assetVersionEqual);
     }
 }
 
@@ -5,7 +5,6 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaObjectFactory;
 
@@ -25,11 +24,5 @@ public abstract class KalturaAuditTrailInfo extends KalturaObjectBase {
 
     public KalturaAuditTrailInfo(Element node) throws KalturaApiException {
     }
-
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAuditTrailInfo");
-        return kparams;
-    }
 }
 
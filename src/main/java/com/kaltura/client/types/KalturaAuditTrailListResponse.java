@@ -2,14 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
-import java.util.ArrayList;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
+import java.util.List;
 
 
 /**
@@ -21,42 +17,14 @@ import com.kaltura.client.KalturaObjectFactory;
  */
 
 public class KalturaAuditTrailListResponse extends KalturaObjectBase {
-    public ArrayList<KalturaAuditTrail> objects;
+    public List<KalturaAuditTrail> objects;
     public int totalCount = Integer.MIN_VALUE;
 
     public KalturaAuditTrailListResponse() {
     }
 
     public KalturaAuditTrailListResponse(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("objects")) {
-                this.objects = new ArrayList<KalturaAuditTrail>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.objects.add((KalturaAuditTrail)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } else if (nodeName.equals("totalCount")) {
-                try {
-                    if (!txt.equals("")) this.totalCount = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
-    }
-
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaAuditTrailListResponse");
-        return kparams;
+        KalturaDomBinder.DEFAULT.fill(this, KalturaAuditTrailListResponse.class, node);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaEntryStatus;
 import com.kaltura.client.enums.KalturaEntryModerationStatus;
 import com.kaltura.client.enums.KalturaEntryType;
@@ -56,153 +54,26 @@ public class KalturaBaseEntry extends KalturaObjectBase {
     }
 
     public KalturaBaseEntry(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                this.id = txt;
-                continue;
-            } else if (nodeName.equals("name")) {
-                this.name = txt;
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("userId")) {
-                this.userId = txt;
-                continue;
-            } else if (nodeName.equals("tags")) {
-                this.tags = txt;
-                continue;
-            } else if (nodeName.equals("adminTags")) {
-                this.adminTags = txt;
-                continue;
-            } else if (nodeName.equals("categories")) {
-                this.categories = txt;
-                continue;
-            } else if (nodeName.equals("categoriesIds")) {
-                this.categoriesIds = txt;
-                continue;
-            } else if (nodeName.equals("status")) {
-                try {
-                    if (!txt.equals("")) this.status = KalturaEntryStatus.get(txt);
-                } catch (IllegalFormatException ife) {}
-                continue;
-            } else if (nodeName.equals("moderationStatus")) {
-                try {
-                    if (!txt.equals("")) this.moderationStatus = KalturaEntryModerationStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("moderationCount")) {
-                try {
-                    if (!txt.equals("")) this.moderationCount = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("type")) {
-                try {
-                    if (!txt.equals("")) this.type = KalturaEntryType.get(txt);
-                } catch (IllegalFormatException ife) {}
-                continue;
-            } else if (nodeName.equals("createdAt")) {
-                try {
-                    if (!txt.equals("")) this.createdAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAt")) {
-                try {
-                    if (!txt.equals("")) this.updatedAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("rank")) {
-                try {
-                    if (!txt.equals("")) this.rank = Float.parseFloat(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("totalRank")) {
-                try {
-                    if (!txt.equals("")) this.totalRank = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("votes")) {
-                try {
-                    if (!txt.equals("")) this.votes = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("groupId")) {
-                try {
-                    if (!txt.equals("")) this.groupId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerData")) {
-                this.partnerData = txt;
-                continue;
-            } else if (nodeName.equals("downloadUrl")) {
-                this.downloadUrl = txt;
-                continue;
-            } else if (nodeName.equals("searchText")) {
-                this.searchText = txt;
-                continue;
-            } else if (nodeName.equals("licenseType")) {
-                try {
-                    if (!txt.equals("")) this.licenseType = KalturaLicenseType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("version")) {
-                try {
-                    if (!txt.equals("")) this.version = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("thumbnailUrl")) {
-                this.thumbnailUrl = txt;
-                continue;
-            } else if (nodeName.equals("accessControlId")) {
-                try {
-                    if (!txt.equals("")) this.accessControlId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("startDate")) {
-                try {
-                    if (!txt.equals("")) this.startDate = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("endDate")) {
-                try {
-                    if (!txt.equals("")) this.endDate = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaBaseEntry.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaBaseEntry");
-        kparams.addStringIfNotNull("name", this.name);
-        kparams.addStringIfNotNull("description", this.description);
-        kparams.addStringIfNotNull("userId", this.userId);
-        kparams.addStringIfNotNull("tags", this.tags);
-        kparams.addStringIfNotNull("adminTags", this.adminTags);
-        kparams.addStringIfNotNull("categories", this.categories);
-        kparams.addStringIfNotNull("categoriesIds", this.categoriesIds);
-        if (type != null) kparams.addStringIfNotNull("type", this.type.getHashCode());
-        kparams.addIntIfNotNull("groupId", this.groupId);
-        kparams.addStringIfNotNull("partnerData", this.partnerData);
-        if (licenseType != null) kparams.addIntIfNotNull("licenseType", this.licenseType.getHashCode());
-        kparams.addStringIfNotNull("thumbnailUrl", this.thumbnailUrl);
-        kparams.addIntIfNotNull("accessControlId", this.accessControlId);
-        kparams.addIntIfNotNull("startDate", this.startDate);
-        kparams.addIntIfNotNull("endDate", this.endDate);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "name", this.name);
+        kparams.addStringIfNotNull(prefix, "description", this.description);
+        kparams.addStringIfNotNull(prefix, "userId", this.userId);
+        kparams.addStringIfNotNull(prefix, "tags", this.tags);
+        kparams.addStringIfNotNull(prefix, "adminTags", this.adminTags);
+        kparams.addStringIfNotNull(prefix, "categories", this.categories);
+        kparams.addStringIfNotNull(prefix, "categoriesIds", this.categoriesIds);
+        if (type != null) kparams.addStringIfNotNull(prefix, "type", this.type.getHashCode());
+        kparams.addIntIfNotNull(prefix, "groupId", this.groupId);
+        kparams.addStringIfNotNull(prefix, "partnerData", this.partnerData);
+        if (licenseType != null) kparams.addIntIfNotNull(prefix, "licenseType", this.licenseType.getHashCode());
+        kparams.addStringIfNotNull(prefix, "thumbnailUrl", this.thumbnailUrl);
+        kparams.addIntIfNotNull(prefix, "accessControlId", this.accessControlId);
+        kparams.addIntIfNotNull(prefix, "startDate", this.startDate);
+        kparams.addIntIfNotNull(prefix, "endDate", this.endDate);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaEntryStatus;
 import com.kaltura.client.enums.KalturaEntryStatus;
 import com.kaltura.client.enums.KalturaEntryModerationStatus;
@@ -82,275 +80,65 @@ public abstract class KalturaBaseEntryBaseFilter extends KalturaFilter {
     }
 
     public KalturaBaseEntryBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("idEqual")) {
-                this.idEqual = txt;
-                continue;
-            } else if (nodeName.equals("idIn")) {
-                this.idIn = txt;
-                continue;
-            } else if (nodeName.equals("idNotIn")) {
-                this.idNotIn = txt;
-                continue;
-            } else if (nodeName.equals("nameLike")) {
-                this.nameLike = txt;
-                continue;
-            } else if (nodeName.equals("nameMultiLikeOr")) {
-                this.nameMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("nameMultiLikeAnd")) {
-                this.nameMultiLikeAnd = txt;
-                continue;
-            } else if (nodeName.equals("nameEqual")) {
-                this.nameEqual = txt;
-                continue;
-            } else if (nodeName.equals("partnerIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.partnerIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerIdIn")) {
-                this.partnerIdIn = txt;
-                continue;
-            } else if (nodeName.equals("userIdEqual")) {
-                this.userIdEqual = txt;
-                continue;
-            } else if (nodeName.equals("tagsLike")) {
-                this.tagsLike = txt;
-                continue;
-            } else if (nodeName.equals("tagsMultiLikeOr")) {
-                this.tagsMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("tagsMultiLikeAnd")) {
-                this.tagsMultiLikeAnd = txt;
-                continue;
-            } else if (nodeName.equals("adminTagsLike")) {
-                this.adminTagsLike = txt;
-                continue;
-            } else if (nodeName.equals("adminTagsMultiLikeOr")) {
-                this.adminTagsMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("adminTagsMultiLikeAnd")) {
-                this.adminTagsMultiLikeAnd = txt;
-                continue;
-            } else if (nodeName.equals("categoriesMatchAnd")) {
-                this.categoriesMatchAnd = txt;
-                continue;
-            } else if (nodeName.equals("categoriesMatchOr")) {
-                this.categoriesMatchOr = txt;
-                continue;
-            } else if (nodeName.equals("categoriesIdsMatchAnd")) {
-                this.categoriesIdsMatchAnd = txt;
-                continue;
-            } else if (nodeName.equals("categoriesIdsMatchOr")) {
-                this.categoriesIdsMatchOr = txt;
-                continue;
-            } else if (nodeName.equals("statusEqual")) {
-                try {
-                    if (!txt.equals("")) this.statusEqual = KalturaEntryStatus.get(txt);
-                } catch (IllegalFormatException ife) {}
-                continue;
-            } else if (nodeName.equals("statusNotEqual")) {
-                try {
-                    if (!txt.equals("")) this.statusNotEqual = KalturaEntryStatus.get(txt);
-                } catch (IllegalFormatException ife) {}
-                continue;
-            } else if (nodeName.equals("statusIn")) {
-                this.statusIn = txt;
-                continue;
-            } else if (nodeName.equals("statusNotIn")) {
-                this.statusNotIn = txt;
-                continue;
-            } else if (nodeName.equals("moderationStatusEqual")) {
-                try {
-                    if (!txt.equals("")) this.moderationStatusEqual = KalturaEntryModerationStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("moderationStatusNotEqual")) {
-                try {
-                    if (!txt.equals("")) this.moderationStatusNotEqual = KalturaEntryModerationStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("moderationStatusIn")) {
-                this.moderationStatusIn = txt;
-                continue;
-            } else if (nodeName.equals("moderationStatusNotIn")) {
-                this.moderationStatusNotIn = txt;
-                continue;
-            } else if (nodeName.equals("typeEqual")) {
-                try {
-                    if (!txt.equals("")) this.typeEqual = KalturaEntryType.get(txt);
-                } catch (IllegalFormatException ife) {}
-                continue;
-            } else if (nodeName.equals("typeIn")) {
-                this.typeIn = txt;
-                continue;
-            } else if (nodeName.equals("createdAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("groupIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.groupIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("searchTextMatchAnd")) {
-                this.searchTextMatchAnd = txt;
-                continue;
-            } else if (nodeName.equals("searchTextMatchOr")) {
-                this.searchTextMatchOr = txt;
-                continue;
-            } else if (nodeName.equals("accessControlIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.accessControlIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("accessControlIdIn")) {
-                this.accessControlIdIn = txt;
-                continue;
-            } else if (nodeName.equals("startDateGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.startDateGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("startDateLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.startDateLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("startDateGreaterThanOrEqualOrNull")) {
-                try {
-                    if (!txt.equals("")) this.startDateGreaterThanOrEqualOrNull = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("startDateLessThanOrEqualOrNull")) {
-                try {
-                    if (!txt.equals("")) this.startDateLessThanOrEqualOrNull = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("endDateGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.endDateGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("endDateLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.endDateLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("endDateGreaterThanOrEqualOrNull")) {
-                try {
-                    if (!txt.equals("")) this.endDateGreaterThanOrEqualOrNull = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("endDateLessThanOrEqualOrNull")) {
-                try {
-                    if (!txt.equals("")) this.endDateLessThanOrEqualOrNull = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("tagsNameMultiLikeOr")) {
-                this.tagsNameMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("tagsAdminTagsMultiLikeOr")) {
-                this.tagsAdminTagsMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("tagsAdminTagsNameMultiLikeOr")) {
-                this.tagsAdminTagsNameMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("tagsNameMultiLikeAnd")) {
-                this.tagsNameMultiLikeAnd = txt;
-                continue;
-            } else if (nodeName.equals("tagsAdminTagsMultiLikeAnd")) {
-                this.tagsAdminTagsMultiLikeAnd = txt;
-                continue;
-            } else if (nodeName.equals("tagsAdminTagsNameMultiLikeAnd")) {
-                this.tagsAdminTagsNameMultiLikeAnd = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaBaseEntryBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaBaseEntryBaseFilter");
-        kparams.addStringIfNotNull("idEqual", this.idEqual);
-        kparams.addStringIfNotNull("idIn", this.idIn);
-        kparams.addStringIfNotNull("idNotIn", this.idNotIn);
-        kparams.addStringIfNotNull("nameLike", this.nameLike);
-        kparams.addStringIfNotNull("nameMultiLikeOr", this.nameMultiLikeOr);
-        kparams.addStringIfNotNull("nameMultiLikeAnd", this.nameMultiLikeAnd);
-        kparams.addStringIfNotNull("nameEqual", this.nameEqual);
-        kparams.addIntIfNotNull("partnerIdEqual", this.partnerIdEqual);
-        kparams.addStringIfNotNull("partnerIdIn", this.partnerIdIn);
-        kparams.addStringIfNotNull("userIdEqual", this.userIdEqual);
-        kparams.addStringIfNotNull("tagsLike", this.tagsLike);
-        kparams.addStringIfNotNull("tagsMultiLikeOr", this.tagsMultiLikeOr);
-        kparams.addStringIfNotNull("tagsMultiLikeAnd", this.tagsMultiLikeAnd);
-        kparams.addStringIfNotNull("adminTagsLike", this.adminTagsLike);
-        kparams.addStringIfNotNull("adminTagsMultiLikeOr", this.adminTagsMultiLikeOr);
-        kparams.addStringIfNotNull("adminTagsMultiLikeAnd", this.adminTagsMultiLikeAnd);
-        kparams.addStringIfNotNull("categoriesMatchAnd", this.categoriesMatchAnd);
-        kparams.addStringIfNotNull("categoriesMatchOr", this.categoriesMatchOr);
-        kparams.addStringIfNotNull("categoriesIdsMatchAnd", this.categoriesIdsMatchAnd);
-        kparams.addStringIfNotNull("categoriesIdsMatchOr", this.categoriesIdsMatchOr);
-        if (statusEqual != null) kparams.addStringIfNotNull("statusEqual", this.statusEqual.getHashCode());
-        if (statusNotEqual != null) kparams.addStringIfNotNull("statusNotEqual", this.statusNotEqual.getHashCode());
-        kparams.addStringIfNotNull("statusIn", this.statusIn);
-        kparams.addStringIfNotNull("statusNotIn", this.statusNotIn);
-        if (moderationStatusEqual != null) kparams.addIntIfNotNull("moderationStatusEqual", this.moderationStatusEqual.getHashCode());
-        if (moderationStatusNotEqual != null) kparams.addIntIfNotNull("moderationStatusNotEqual", this.moderationStatusNotEqual.getHashCode());
-        kparams.addStringIfNotNull("moderationStatusIn", this.moderationStatusIn);
-        kparams.addStringIfNotNull("moderationStatusNotIn", this.moderationStatusNotIn);
-        if (typeEqual != null) kparams.addStringIfNotNull("typeEqual", this.typeEqual.getHashCode());
-        kparams.addStringIfNotNull("typeIn", this.typeIn);
-        kparams.addIntIfNotNull("createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
-        kparams.addIntIfNotNull("groupIdEqual", this.groupIdEqual);
-        kparams.addStringIfNotNull("searchTextMatchAnd", this.searchTextMatchAnd);
-        kparams.addStringIfNotNull("searchTextMatchOr", this.searchTextMatchOr);
-        kparams.addIntIfNotNull("accessControlIdEqual", this.accessControlIdEqual);
-        kparams.addStringIfNotNull("accessControlIdIn", this.accessControlIdIn);
-        kparams.addIntIfNotNull("startDateGreaterThanOrEqual", this.startDateGreaterThanOrEqual);
-        kparams.addIntIfNotNull("startDateLessThanOrEqual", this.startDateLessThanOrEqual);
-        kparams.addIntIfNotNull("startDateGreaterThanOrEqualOrNull", this.startDateGreaterThanOrEqualOrNull);
-        kparams.addIntIfNotNull("startDateLessThanOrEqualOrNull", this.startDateLessThanOrEqualOrNull);
-        kparams.addIntIfNotNull("endDateGreaterThanOrEqual", this.endDateGreaterThanOrEqual);
-        kparams.addIntIfNotNull("endDateLessThanOrEqual", this.endDateLessThanOrEqual);
-        kparams.addIntIfNotNull("endDateGreaterThanOrEqualOrNull", this.endDateGreaterThanOrEqualOrNull);
-        kparams.addIntIfNotNull("endDateLessThanOrEqualOrNull", this.endDateLessThanOrEqualOrNull);
-        kparams.addStringIfNotNull("tagsNameMultiLikeOr", this.tagsNameMultiLikeOr);
-        kparams.addStringIfNotNull("tagsAdminTagsMultiLikeOr", this.tagsAdminTagsMultiLikeOr);
-        kparams.addStringIfNotNull("tagsAdminTagsNameMultiLikeOr", this.tagsAdminTagsNameMultiLikeOr);
-        kparams.addStringIfNotNull("tagsNameMultiLikeAnd", this.tagsNameMultiLikeAnd);
-        kparams.addStringIfNotNull("tagsAdminTagsMultiLikeAnd", this.tagsAdminTagsMultiLikeAnd);
-        kparams.addStringIfNotNull("tagsAdminTagsNameMultiLikeAnd", this.tagsAdminTagsNameMultiLikeAnd);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "idEqual", this.idEqual);
+        kparams.addStringIfNotNull(prefix, "idIn", this.idIn);
+        kparams.addStringIfNotNull(prefix, "idNotIn", this.idNotIn);
+        kparams.addStringIfNotNull(prefix, "nameLike", this.nameLike);
+        kparams.addStringIfNotNull(prefix, "nameMultiLikeOr", this.nameMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "nameMultiLikeAnd", this.nameMultiLikeAnd);
+        kparams.addStringIfNotNull(prefix, "nameEqual", this.nameEqual);
+        kparams.addIntIfNotNull(prefix, "partnerIdEqual", this.partnerIdEqual);
+        kparams.addStringIfNotNull(prefix, "partnerIdIn", this.partnerIdIn);
+        kparams.addStringIfNotNull(prefix, "userIdEqual", this.userIdEqual);
+        kparams.addStringIfNotNull(prefix, "tagsLike", this.tagsLike);
+        kparams.addStringIfNotNull(prefix, "tagsMultiLikeOr", this.tagsMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "tagsMultiLikeAnd", this.tagsMultiLikeAnd);
+        kparams.addStringIfNotNull(prefix, "adminTagsLike", this.adminTagsLike);
+        kparams.addStringIfNotNull(prefix, "adminTagsMultiLikeOr", this.adminTagsMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "adminTagsMultiLikeAnd", this.adminTagsMultiLikeAnd);
+        kparams.addStringIfNotNull(prefix, "categoriesMatchAnd", this.categoriesMatchAnd);
+        kparams.addStringIfNotNull(prefix, "categoriesMatchOr", this.categoriesMatchOr);
+        kparams.addStringIfNotNull(prefix, "categoriesIdsMatchAnd", this.categoriesIdsMatchAnd);
+        kparams.addStringIfNotNull(prefix, "categoriesIdsMatchOr", this.categoriesIdsMatchOr);
+        if (statusEqual != null) kparams.addStringIfNotNull(prefix, "statusEqual", this.statusEqual.getHashCode());
+        if (statusNotEqual != null) kparams.addStringIfNotNull(prefix, "statusNotEqual", this.statusNotEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "statusIn", this.statusIn);
+        kparams.addStringIfNotNull(prefix, "statusNotIn", this.statusNotIn);
+        if (moderationStatusEqual != null) kparams.addIntIfNotNull(prefix, "moderationStatusEqual", this.moderationStatusEqual.getHashCode());
+        if (moderationStatusNotEqual != null) kparams.addIntIfNotNull(prefix, "moderationStatusNotEqual", this.moderationStatusNotEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "moderationStatusIn", this.moderationStatusIn);
+        kparams.addStringIfNotNull(prefix, "moderationStatusNotIn", this.moderationStatusNotIn);
+        if (typeEqual != null) kparams.addStringIfNotNull(prefix, "typeEqual", this.typeEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "typeIn", this.typeIn);
+        kparams.addIntIfNotNull(prefix, "createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "groupIdEqual", this.groupIdEqual);
+        kparams.addStringIfNotNull(prefix, "searchTextMatchAnd", this.searchTextMatchAnd);
+        kparams.addStringIfNotNull(prefix, "searchTextMatchOr", this.searchTextMatchOr);
+        kparams.addIntIfNotNull(prefix, "accessControlIdEqual", this.accessControlIdEqual);
+        kparams.addStringIfNotNull(prefix, "accessControlIdIn", this.accessControlIdIn);
+        kparams.addIntIfNotNull(prefix, "startDateGreaterThanOrEqual", this.startDateGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "startDateLessThanOrEqual", this.startDateLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "startDateGreaterThanOrEqualOrNull", this.startDateGreaterThanOrEqualOrNull);
+        kparams.addIntIfNotNull(prefix, "startDateLessThanOrEqualOrNull", this.startDateLessThanOrEqualOrNull);
+        kparams.addIntIfNotNull(prefix, "endDateGreaterThanOrEqual", this.endDateGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "endDateLessThanOrEqual", this.endDateLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "endDateGreaterThanOrEqualOrNull", this.endDateGreaterThanOrEqualOrNull);
+        kparams.addIntIfNotNull(prefix, "endDateLessThanOrEqualOrNull", this.endDateLessThanOrEqualOrNull);
+        kparams.addStringIfNotNull(prefix, "tagsNameMultiLikeOr", this.tagsNameMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "tagsAdminTagsMultiLikeOr", this.tagsAdminTagsMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "tagsAdminTagsNameMultiLikeOr", this.tagsAdminTagsNameMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "tagsNameMultiLikeAnd", this.tagsNameMultiLikeAnd);
+        kparams.addStringIfNotNull(prefix, "tagsAdminTagsMultiLikeAnd", this.tagsAdminTagsMultiLikeAnd);
+        kparams.addStringIfNotNull(prefix, "tagsAdminTagsNameMultiLikeAnd", this.tagsAdminTagsNameMultiLikeAnd);
     }
 }
 
@@ -2,14 +2,11 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
-import java.util.ArrayList;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
+import java.util.List;
 
 
 /**
@@ -42,138 +39,38 @@ public class KalturaBulkUploadResult extends KalturaObjectBase {
     public boolean thumbnailSaved;
     public String partnerData;
     public String errorDescription;
-    public ArrayList<KalturaBulkUploadPluginData> pluginsData;
+    public List<KalturaBulkUploadPluginData> pluginsData;
 
     public KalturaBulkUploadResult() {
     }
 
     public KalturaBulkUploadResult(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                try {
-                    if (!txt.equals("")) this.id = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("bulkUploadJobId")) {
-                try {
-                    if (!txt.equals("")) this.bulkUploadJobId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("lineIndex")) {
-                try {
-                    if (!txt.equals("")) this.lineIndex = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("entryId")) {
-                this.entryId = txt;
-                continue;
-            } else if (nodeName.equals("entryStatus")) {
-                try {
-                    if (!txt.equals("")) this.entryStatus = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("rowData")) {
-                this.rowData = txt;
-                continue;
-            } else if (nodeName.equals("title")) {
-                this.title = txt;
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } else if (nodeName.equals("tags")) {
-                this.tags = txt;
-                continue;
-            } else if (nodeName.equals("url")) {
-                this.url = txt;
-                continue;
-            } else if (nodeName.equals("contentType")) {
-                this.contentType = txt;
-                continue;
-            } else if (nodeName.equals("conversionProfileId")) {
-                try {
-                    if (!txt.equals("")) this.conversionProfileId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("accessControlProfileId")) {
-                try {
-                    if (!txt.equals("")) this.accessControlProfileId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("category")) {
-                this.category = txt;
-                continue;
-            } else if (nodeName.equals("scheduleStartDate")) {
-                try {
-                    if (!txt.equals("")) this.scheduleStartDate = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("scheduleEndDate")) {
-                try {
-                    if (!txt.equals("")) this.scheduleEndDate = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("thumbnailUrl")) {
-                this.thumbnailUrl = txt;
-                continue;
-            } else if (nodeName.equals("thumbnailSaved")) {
-                if (!txt.equals("")) this.thumbnailSaved = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("partnerData")) {
-                this.partnerData = txt;
-                continue;
-            } else if (nodeName.equals("errorDescription")) {
-                this.errorDescription = txt;
-                continue;
-            } else if (nodeName.equals("pluginsData")) {
-                this.pluginsData = new ArrayList<KalturaBulkUploadPluginData>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.pluginsData.add((KalturaBulkUploadPluginData)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaBulkUploadResult.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaBulkUploadResult");
-        kparams.addIntIfNotNull("bulkUploadJobId", this.bulkUploadJobId);
-        kparams.addIntIfNotNull("lineIndex", this.lineIndex);
-        kparams.addIntIfNotNull("partnerId", this.partnerId);
-        kparams.addStringIfNotNull("entryId", this.entryId);
-        kparams.addIntIfNotNull("entryStatus", this.entryStatus);
-        kparams.addStringIfNotNull("rowData", this.rowData);
-        kparams.addStringIfNotNull("title", this.title);
-        kparams.addStringIfNotNull("description", this.description);
-        kparams.addStringIfNotNull("tags", this.tags);
-        kparams.addStringIfNotNull("url", this.url);
-        kparams.addStringIfNotNull("contentType", this.contentType);
-        kparams.addIntIfNotNull("conversionProfileId", this.conversionProfileId);
-        kparams.addIntIfNotNull("accessControlProfileId", this.accessControlProfileId);
-        kparams.addStringIfNotNull("category", this.category);
-        kparams.addIntIfNotNull("scheduleStartDate", this.scheduleStartDate);
-        kparams.addIntIfNotNull("scheduleEndDate", this.scheduleEndDate);
-        kparams.addStringIfNotNull("thumbnailUrl", this.thumbnailUrl);
-        kparams.addBoolIfNotNull("thumbnailSaved", this.thumbnailSaved);
-        kparams.addStringIfNotNull("partnerData", this.partnerData);
-        kparams.addStringIfNotNull("errorDescription", this.errorDescription);
-        kparams.addObjectIfNotNull("pluginsData", this.pluginsData);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "bulkUploadJobId", this.bulkUploadJobId);
+        kparams.addIntIfNotNull(prefix, "lineIndex", this.lineIndex);
+        kparams.addIntIfNotNull(prefix, "partnerId", this.partnerId);
+        kparams.addStringIfNotNull(prefix, "entryId", this.entryId);
+        kparams.addIntIfNotNull(prefix, "entryStatus", this.entryStatus);
+        kparams.addStringIfNotNull(prefix, "rowData", this.rowData);
+        kparams.addStringIfNotNull(prefix, "title", this.title);
+        kparams.addStringIfNotNull(prefix, "description", this.description);
+        kparams.addStringIfNotNull(prefix, "tags", this.tags);
+        kparams.addStringIfNotNull(prefix, "url", this.url);
+        kparams.addStringIfNotNull(prefix, "contentType", this.contentType);
+        kparams.addIntIfNotNull(prefix, "conversionProfileId", this.conversionProfileId);
+        kparams.addIntIfNotNull(prefix, "accessControlProfileId", this.accessControlProfileId);
+        kparams.addStringIfNotNull(prefix, "category", this.category);
+        kparams.addIntIfNotNull(prefix, "scheduleStartDate", this.scheduleStartDate);
+        kparams.addIntIfNotNull(prefix, "scheduleEndDate", this.scheduleEndDate);
+        kparams.addStringIfNotNull(prefix, "thumbnailUrl", this.thumbnailUrl);
+        kparams.addBoolIfNotNull(prefix, "thumbnailSaved", this.thumbnailSaved);
+        kparams.addStringIfNotNull(prefix, "partnerData", this.partnerData);
+        kparams.addStringIfNotNull(prefix, "errorDescription", this.errorDescription);
+        kparams.addObjectIfNotNull(prefix, "pluginsData", this.pluginsData);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -34,63 +32,20 @@ public class KalturaCEError extends KalturaObjectBase {
     }
 
     public KalturaCEError(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                this.id = txt;
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("browser")) {
-                this.browser = txt;
-                continue;
-            } else if (nodeName.equals("serverIp")) {
-                this.serverIp = txt;
-                continue;
-            } else if (nodeName.equals("serverOs")) {
-                this.serverOs = txt;
-                continue;
-            } else if (nodeName.equals("phpVersion")) {
-                this.phpVersion = txt;
-                continue;
-            } else if (nodeName.equals("ceAdminEmail")) {
-                this.ceAdminEmail = txt;
-                continue;
-            } else if (nodeName.equals("type")) {
-                this.type = txt;
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } else if (nodeName.equals("data")) {
-                this.data = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaCEError.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaCEError");
-        kparams.addIntIfNotNull("partnerId", this.partnerId);
-        kparams.addStringIfNotNull("browser", this.browser);
-        kparams.addStringIfNotNull("serverIp", this.serverIp);
-        kparams.addStringIfNotNull("serverOs", this.serverOs);
-        kparams.addStringIfNotNull("phpVersion", this.phpVersion);
-        kparams.addStringIfNotNull("ceAdminEmail", this.ceAdminEmail);
-        kparams.addStringIfNotNull("type", this.type);
-        kparams.addStringIfNotNull("description", this.description);
-        kparams.addStringIfNotNull("data", this.data);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "partnerId", this.partnerId);
+        kparams.addStringIfNotNull(prefix, "browser", this.browser);
+        kparams.addStringIfNotNull(prefix, "serverIp", this.serverIp);
+        kparams.addStringIfNotNull(prefix, "serverOs", this.serverOs);
+        kparams.addStringIfNotNull(prefix, "phpVersion", this.phpVersion);
+        kparams.addStringIfNotNull(prefix, "ceAdminEmail", this.ceAdminEmail);
+        kparams.addStringIfNotNull(prefix, "type", this.type);
+        kparams.addStringIfNotNull(prefix, "description", this.description);
+        kparams.addStringIfNotNull(prefix, "data", this.data);
     }
 }
 
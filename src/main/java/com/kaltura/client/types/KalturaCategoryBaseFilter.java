@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -31,57 +29,19 @@ public abstract class KalturaCategoryBaseFilter extends KalturaFilter {
     }
 
     public KalturaCategoryBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("idEqual")) {
-                try {
-                    if (!txt.equals("")) this.idEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("idIn")) {
-                this.idIn = txt;
-                continue;
-            } else if (nodeName.equals("parentIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.parentIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("parentIdIn")) {
-                this.parentIdIn = txt;
-                continue;
-            } else if (nodeName.equals("depthEqual")) {
-                try {
-                    if (!txt.equals("")) this.depthEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("fullNameEqual")) {
-                this.fullNameEqual = txt;
-                continue;
-            } else if (nodeName.equals("fullNameStartsWith")) {
-                this.fullNameStartsWith = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaCategoryBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaCategoryBaseFilter");
-        kparams.addIntIfNotNull("idEqual", this.idEqual);
-        kparams.addStringIfNotNull("idIn", this.idIn);
-        kparams.addIntIfNotNull("parentIdEqual", this.parentIdEqual);
-        kparams.addStringIfNotNull("parentIdIn", this.parentIdIn);
-        kparams.addIntIfNotNull("depthEqual", this.depthEqual);
-        kparams.addStringIfNotNull("fullNameEqual", this.fullNameEqual);
-        kparams.addStringIfNotNull("fullNameStartsWith", this.fullNameStartsWith);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "idEqual", this.idEqual);
+        kparams.addStringIfNotNull(prefix, "idIn", this.idIn);
+        kparams.addIntIfNotNull(prefix, "parentIdEqual", this.parentIdEqual);
+        kparams.addStringIfNotNull(prefix, "parentIdIn", this.parentIdIn);
+        kparams.addIntIfNotNull(prefix, "depthEqual", this.depthEqual);
+        kparams.addStringIfNotNull(prefix, "fullNameEqual", this.fullNameEqual);
+        kparams.addStringIfNotNull(prefix, "fullNameStartsWith", this.fullNameStartsWith);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaNullableBoolean;
 
 
@@ -35,71 +33,18 @@ public class KalturaConversionProfile extends KalturaObjectBase {
     }
 
     public KalturaConversionProfile(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                try {
-                    if (!txt.equals("")) this.id = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("name")) {
-                this.name = txt;
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } else if (nodeName.equals("createdAt")) {
-                try {
-                    if (!txt.equals("")) this.createdAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("flavorParamsIds")) {
-                this.flavorParamsIds = txt;
-                continue;
-            } else if (nodeName.equals("isDefault")) {
-                try {
-                    if (!txt.equals("")) this.isDefault = KalturaNullableBoolean.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("cropDimensions")) {
-                this.cropDimensions = (KalturaCropDimensions)KalturaObjectFactory.create((Element)aNode);
-                continue;
-            } else if (nodeName.equals("clipStart")) {
-                try {
-                    if (!txt.equals("")) this.clipStart = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("clipDuration")) {
-                try {
-                    if (!txt.equals("")) this.clipDuration = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaConversionProfile.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaConversionProfile");
-        kparams.addStringIfNotNull("name", this.name);
-        kparams.addStringIfNotNull("description", this.description);
-        kparams.addStringIfNotNull("flavorParamsIds", this.flavorParamsIds);
-        if (isDefault != null) kparams.addIntIfNotNull("isDefault", this.isDefault.getHashCode());
-        kparams.addObjectIfNotNull("cropDimensions", this.cropDimensions);
-        kparams.addIntIfNotNull("clipStart", this.clipStart);
-        kparams.addIntIfNotNull("clipDuration", this.clipDuration);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "name", this.name);
+        kparams.addStringIfNotNull(prefix, "description", this.description);
+        kparams.addStringIfNotNull(prefix, "flavorParamsIds", this.flavorParamsIds);
+        if (isDefault != null) kparams.addIntIfNotNull(prefix, "isDefault", this.isDefault.getHashCode());
+        kparams.addObjectIfNotNull(prefix, "cropDimensions", this.cropDimensions);
+        kparams.addIntIfNotNull(prefix, "clipStart", this.clipStart);
+        kparams.addIntIfNotNull(prefix, "clipDuration", this.clipDuration);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -28,46 +26,15 @@ public class KalturaCropDimensions extends KalturaObjectBase {
     }
 
     public KalturaCropDimensions(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("left")) {
-                try {
-                    if (!txt.equals("")) this.left = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("top")) {
-                try {
-                    if (!txt.equals("")) this.top = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("width")) {
-                try {
-                    if (!txt.equals("")) this.width = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("height")) {
-                try {
-                    if (!txt.equals("")) this.height = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaCropDimensions.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaCropDimensions");
-        kparams.addIntIfNotNull("left", this.left);
-        kparams.addIntIfNotNull("top", this.top);
-        kparams.addIntIfNotNull("width", this.width);
-        kparams.addIntIfNotNull("height", this.height);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "left", this.left);
+        kparams.addIntIfNotNull(prefix, "top", this.top);
+        kparams.addIntIfNotNull(prefix, "width", this.width);
+        kparams.addIntIfNotNull(prefix, "height", this.height);
     }
 }
 
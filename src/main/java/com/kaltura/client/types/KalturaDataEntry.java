@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -26,31 +24,14 @@ public class KalturaDataEntry extends KalturaBaseEntry {
     }
 
     public KalturaDataEntry(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("dataContent")) {
-                this.dataContent = txt;
-                continue;
-            } else if (nodeName.equals("retrieveDataContentByGet")) {
-                if (!txt.equals("")) this.retrieveDataContentByGet = ((txt.equals("0")) ? false : true);
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaDataEntry.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaDataEntry");
-        kparams.addStringIfNotNull("dataContent", this.dataContent);
-        kparams.addBoolIfNotNull("retrieveDataContentByGet", this.retrieveDataContentByGet);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "dataContent", this.dataContent);
+        kparams.addBoolIfNotNull(prefix, "retrieveDataContentByGet", this.retrieveDataContentByGet);
     }
 }
 
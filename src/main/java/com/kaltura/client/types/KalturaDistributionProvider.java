@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaDistributionProviderType;
 
 
@@ -34,63 +32,19 @@ public abstract class KalturaDistributionProvider extends KalturaObjectBase {
     }
 
     public KalturaDistributionProvider(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("type")) {
-                try {
-                    if (!txt.equals("")) this.type = KalturaDistributionProviderType.get(txt);
-                } catch (IllegalFormatException ife) {}
-                continue;
-            } else if (nodeName.equals("name")) {
-                this.name = txt;
-                continue;
-            } else if (nodeName.equals("scheduleUpdateEnabled")) {
-                if (!txt.equals("")) this.scheduleUpdateEnabled = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("availabilityUpdateEnabled")) {
-                if (!txt.equals("")) this.availabilityUpdateEnabled = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("deleteInsteadUpdate")) {
-                if (!txt.equals("")) this.deleteInsteadUpdate = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("intervalBeforeSunrise")) {
-                try {
-                    if (!txt.equals("")) this.intervalBeforeSunrise = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("intervalBeforeSunset")) {
-                try {
-                    if (!txt.equals("")) this.intervalBeforeSunset = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updateRequiredEntryFields")) {
-                this.updateRequiredEntryFields = txt;
-                continue;
-            } else if (nodeName.equals("updateRequiredMetadataXPaths")) {
-                this.updateRequiredMetadataXPaths = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaDistributionProvider.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaDistributionProvider");
-        kparams.addStringIfNotNull("name", this.name);
-        kparams.addBoolIfNotNull("scheduleUpdateEnabled", this.scheduleUpdateEnabled);
-        kparams.addBoolIfNotNull("availabilityUpdateEnabled", this.availabilityUpdateEnabled);
-        kparams.addBoolIfNotNull("deleteInsteadUpdate", this.deleteInsteadUpdate);
-        kparams.addIntIfNotNull("intervalBeforeSunrise", this.intervalBeforeSunrise);
-        kparams.addIntIfNotNull("intervalBeforeSunset", this.intervalBeforeSunset);
-        kparams.addStringIfNotNull("updateRequiredEntryFields", this.updateRequiredEntryFields);
-        kparams.addStringIfNotNull("updateRequiredMetadataXPaths", this.updateRequiredMetadataXPaths);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "name", this.name);
+        kparams.addBoolIfNotNull(prefix, "scheduleUpdateEnabled", this.scheduleUpdateEnabled);
+        kparams.addBoolIfNotNull(prefix, "availabilityUpdateEnabled", this.availabilityUpdateEnabled);
+        kparams.addBoolIfNotNull(prefix, "deleteInsteadUpdate", this.deleteInsteadUpdate);
+        kparams.addIntIfNotNull(prefix, "intervalBeforeSunrise", this.intervalBeforeSunrise);
+        kparams.addIntIfNotNull(prefix, "intervalBeforeSunset", this.intervalBeforeSunset);
+        kparams.addStringIfNotNull(prefix, "updateRequiredEntryFields", this.updateRequiredEntryFields);
+        kparams.addStringIfNotNull(prefix, "updateRequiredMetadataXPaths", this.updateRequiredMetadataXPaths);
     }
 }
 
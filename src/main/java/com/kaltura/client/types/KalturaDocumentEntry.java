@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaDocumentType;
 
 
@@ -27,33 +25,14 @@ public class KalturaDocumentEntry extends KalturaBaseEntry {
     }
 
     public KalturaDocumentEntry(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("documentType")) {
-                try {
-                    if (!txt.equals("")) this.documentType = KalturaDocumentType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("conversionProfileId")) {
-                this.conversionProfileId = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaDocumentEntry.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaDocumentEntry");
-        if (documentType != null) kparams.addIntIfNotNull("documentType", this.documentType.getHashCode());
-        kparams.addStringIfNotNull("conversionProfileId", this.conversionProfileId);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        if (documentType != null) kparams.addIntIfNotNull(prefix, "documentType", this.documentType.getHashCode());
+        kparams.addStringIfNotNull(prefix, "conversionProfileId", this.conversionProfileId);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaDocumentType;
 
 
@@ -27,33 +25,14 @@ public abstract class KalturaDocumentEntryBaseFilter extends KalturaBaseEntryFil
     }
 
     public KalturaDocumentEntryBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("documentTypeEqual")) {
-                try {
-                    if (!txt.equals("")) this.documentTypeEqual = KalturaDocumentType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("documentTypeIn")) {
-                this.documentTypeIn = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaDocumentEntryBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaDocumentEntryBaseFilter");
-        if (documentTypeEqual != null) kparams.addIntIfNotNull("documentTypeEqual", this.documentTypeEqual.getHashCode());
-        kparams.addStringIfNotNull("documentTypeIn", this.documentTypeIn);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        if (documentTypeEqual != null) kparams.addIntIfNotNull(prefix, "documentTypeEqual", this.documentTypeEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "documentTypeIn", this.documentTypeIn);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -31,52 +29,18 @@ public class KalturaEntryContextDataResult extends KalturaObjectBase {
     }
 
     public KalturaEntryContextDataResult(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("isSiteRestricted")) {
-                if (!txt.equals("")) this.isSiteRestricted = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("isCountryRestricted")) {
-                if (!txt.equals("")) this.isCountryRestricted = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("isSessionRestricted")) {
-                if (!txt.equals("")) this.isSessionRestricted = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("isIpAddressRestricted")) {
-                if (!txt.equals("")) this.isIpAddressRestricted = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("previewLength")) {
-                try {
-                    if (!txt.equals("")) this.previewLength = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("isScheduledNow")) {
-                if (!txt.equals("")) this.isScheduledNow = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("isAdmin")) {
-                if (!txt.equals("")) this.isAdmin = ((txt.equals("0")) ? false : true);
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaEntryContextDataResult.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaEntryContextDataResult");
-        kparams.addBoolIfNotNull("isSiteRestricted", this.isSiteRestricted);
-        kparams.addBoolIfNotNull("isCountryRestricted", this.isCountryRestricted);
-        kparams.addBoolIfNotNull("isSessionRestricted", this.isSessionRestricted);
-        kparams.addBoolIfNotNull("isIpAddressRestricted", this.isIpAddressRestricted);
-        kparams.addIntIfNotNull("previewLength", this.previewLength);
-        kparams.addBoolIfNotNull("isScheduledNow", this.isScheduledNow);
-        kparams.addBoolIfNotNull("isAdmin", this.isAdmin);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addBoolIfNotNull(prefix, "isSiteRestricted", this.isSiteRestricted);
+        kparams.addBoolIfNotNull(prefix, "isCountryRestricted", this.isCountryRestricted);
+        kparams.addBoolIfNotNull(prefix, "isSessionRestricted", this.isSessionRestricted);
+        kparams.addBoolIfNotNull(prefix, "isIpAddressRestricted", this.isIpAddressRestricted);
+        kparams.addIntIfNotNull(prefix, "previewLength", this.previewLength);
+        kparams.addBoolIfNotNull(prefix, "isScheduledNow", this.isScheduledNow);
+        kparams.addBoolIfNotNull(prefix, "isAdmin", this.isAdmin);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaEntryDistributionStatus;
 import com.kaltura.client.enums.KalturaEntryDistributionFlag;
 
@@ -46,131 +44,32 @@ public abstract class KalturaEntryDistributionBaseFilter extends KalturaFilter {
     }
 
     public KalturaEntryDistributionBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("idEqual")) {
-                try {
-                    if (!txt.equals("")) this.idEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("idIn")) {
-                this.idIn = txt;
-                continue;
-            } else if (nodeName.equals("createdAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("submittedAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.submittedAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("submittedAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.submittedAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("entryIdEqual")) {
-                this.entryIdEqual = txt;
-                continue;
-            } else if (nodeName.equals("entryIdIn")) {
-                this.entryIdIn = txt;
-                continue;
-            } else if (nodeName.equals("distributionProfileIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.distributionProfileIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("distributionProfileIdIn")) {
-                this.distributionProfileIdIn = txt;
-                continue;
-            } else if (nodeName.equals("statusEqual")) {
-                try {
-                    if (!txt.equals("")) this.statusEqual = KalturaEntryDistributionStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("statusIn")) {
-                this.statusIn = txt;
-                continue;
-            } else if (nodeName.equals("dirtyStatusEqual")) {
-                try {
-                    if (!txt.equals("")) this.dirtyStatusEqual = KalturaEntryDistributionFlag.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("dirtyStatusIn")) {
-                this.dirtyStatusIn = txt;
-                continue;
-            } else if (nodeName.equals("sunriseGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.sunriseGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("sunriseLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.sunriseLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("sunsetGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.sunsetGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("sunsetLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.sunsetLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaEntryDistributionBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaEntryDistributionBaseFilter");
-        kparams.addIntIfNotNull("idEqual", this.idEqual);
-        kparams.addStringIfNotNull("idIn", this.idIn);
-        kparams.addIntIfNotNull("createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
-        kparams.addIntIfNotNull("submittedAtGreaterThanOrEqual", this.submittedAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("submittedAtLessThanOrEqual", this.submittedAtLessThanOrEqual);
-        kparams.addStringIfNotNull("entryIdEqual", this.entryIdEqual);
-        kparams.addStringIfNotNull("entryIdIn", this.entryIdIn);
-        kparams.addIntIfNotNull("distributionProfileIdEqual", this.distributionProfileIdEqual);
-        kparams.addStringIfNotNull("distributionProfileIdIn", this.distributionProfileIdIn);
-        if (statusEqual != null) kparams.addIntIfNotNull("statusEqual", this.statusEqual.getHashCode());
-        kparams.addStringIfNotNull("statusIn", this.statusIn);
-        if (dirtyStatusEqual != null) kparams.addIntIfNotNull("dirtyStatusEqual", this.dirtyStatusEqual.getHashCode());
-        kparams.addStringIfNotNull("dirtyStatusIn", this.dirtyStatusIn);
-        kparams.addIntIfNotNull("sunriseGreaterThanOrEqual", this.sunriseGreaterThanOrEqual);
-        kparams.addIntIfNotNull("sunriseLessThanOrEqual", this.sunriseLessThanOrEqual);
-        kparams.addIntIfNotNull("sunsetGreaterThanOrEqual", this.sunsetGreaterThanOrEqual);
-        kparams.addIntIfNotNull("sunsetLessThanOrEqual", this.sunsetLessThanOrEqual);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "idEqual", this.idEqual);
+        kparams.addStringIfNotNull(prefix, "idIn", this.idIn);
+        kparams.addIntIfNotNull(prefix, "createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "submittedAtGreaterThanOrEqual", this.submittedAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "submittedAtLessThanOrEqual", this.submittedAtLessThanOrEqual);
+        kparams.addStringIfNotNull(prefix, "entryIdEqual", this.entryIdEqual);
+        kparams.addStringIfNotNull(prefix, "entryIdIn", this.entryIdIn);
+        kparams.addIntIfNotNull(prefix, "distributionProfileIdEqual", this.distributionProfileIdEqual);
+        kparams.addStringIfNotNull(prefix, "distributionProfileIdIn", this.distributionProfileIdIn);
+        if (statusEqual != null) kparams.addIntIfNotNull(prefix, "statusEqual", this.statusEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "statusIn", this.statusIn);
+        if (dirtyStatusEqual != null) kparams.addIntIfNotNull(prefix, "dirtyStatusEqual", this.dirtyStatusEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "dirtyStatusIn", this.dirtyStatusIn);
+        kparams.addIntIfNotNull(prefix, "sunriseGreaterThanOrEqual", this.sunriseGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "sunriseLessThanOrEqual", this.sunriseLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "sunsetGreaterThanOrEqual", this.sunsetGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "sunsetLessThanOrEqual", this.sunsetLessThanOrEqual);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -26,30 +24,13 @@ public class KalturaFilter extends KalturaObjectBase {
     }
 
     public KalturaFilter(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("orderBy")) {
-                this.orderBy = txt;
-                continue;
-            } else if (nodeName.equals("advancedSearch")) {
-                this.advancedSearch = (KalturaSearchItem)KalturaObjectFactory.create((Element)aNode);
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaFilter");
-        kparams.addStringIfNotNull("orderBy", this.orderBy);
-        kparams.addObjectIfNotNull("advancedSearch", this.advancedSearch);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "orderBy", this.orderBy);
+        kparams.addObjectIfNotNull(prefix, "advancedSearch", this.advancedSearch);
     }
 }
 
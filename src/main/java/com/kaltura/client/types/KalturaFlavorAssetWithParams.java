@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -27,34 +25,14 @@ public class KalturaFlavorAssetWithParams extends KalturaObjectBase {
     }
 
     public KalturaFlavorAssetWithParams(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("flavorAsset")) {
-                this.flavorAsset = (KalturaFlavorAsset)KalturaObjectFactory.create((Element)aNode);
-                continue;
-            } else if (nodeName.equals("flavorParams")) {
-                this.flavorParams = (KalturaFlavorParams)KalturaObjectFactory.create((Element)aNode);
-                continue;
-            } else if (nodeName.equals("entryId")) {
-                this.entryId = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaFlavorAssetWithParams.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaFlavorAssetWithParams");
-        kparams.addObjectIfNotNull("flavorAsset", this.flavorAsset);
-        kparams.addObjectIfNotNull("flavorParams", this.flavorParams);
-        kparams.addStringIfNotNull("entryId", this.entryId);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addObjectIfNotNull(prefix, "flavorAsset", this.flavorAsset);
+        kparams.addObjectIfNotNull(prefix, "flavorParams", this.flavorParams);
+        kparams.addStringIfNotNull(prefix, "entryId", this.entryId);
     }
 }
 
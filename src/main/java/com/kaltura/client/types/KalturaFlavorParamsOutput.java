@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -30,51 +28,18 @@ public class KalturaFlavorParamsOutput extends KalturaFlavorParams {
     }
 
     public KalturaFlavorParamsOutput(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("flavorParamsId")) {
-                try {
-                    if (!txt.equals("")) this.flavorParamsId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("commandLinesStr")) {
-                this.commandLinesStr = txt;
-                continue;
-            } else if (nodeName.equals("flavorParamsVersion")) {
-                this.flavorParamsVersion = txt;
-                continue;
-            } else if (nodeName.equals("flavorAssetId")) {
-                this.flavorAssetId = txt;
-                continue;
-            } else if (nodeName.equals("flavorAssetVersion")) {
-                this.flavorAssetVersion = txt;
-                continue;
-            } else if (nodeName.equals("readyBehavior")) {
-                try {
-                    if (!txt.equals("")) this.readyBehavior = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaFlavorParamsOutput.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaFlavorParamsOutput");
-        kparams.addIntIfNotNull("flavorParamsId", this.flavorParamsId);
-        kparams.addStringIfNotNull("commandLinesStr", this.commandLinesStr);
-        kparams.addStringIfNotNull("flavorParamsVersion", this.flavorParamsVersion);
-        kparams.addStringIfNotNull("flavorAssetId", this.flavorAssetId);
-        kparams.addStringIfNotNull("flavorAssetVersion", this.flavorAssetVersion);
-        kparams.addIntIfNotNull("readyBehavior", this.readyBehavior);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "flavorParamsId", this.flavorParamsId);
+        kparams.addStringIfNotNull(prefix, "commandLinesStr", this.commandLinesStr);
+        kparams.addStringIfNotNull(prefix, "flavorParamsVersion", this.flavorParamsVersion);
+        kparams.addStringIfNotNull(prefix, "flavorAssetId", this.flavorAssetId);
+        kparams.addStringIfNotNull(prefix, "flavorAssetVersion", this.flavorAssetVersion);
+        kparams.addIntIfNotNull(prefix, "readyBehavior", this.readyBehavior);
     }
 }
 
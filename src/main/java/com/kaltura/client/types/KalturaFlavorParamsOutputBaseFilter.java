@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -28,41 +26,16 @@ public abstract class KalturaFlavorParamsOutputBaseFilter extends KalturaFlavorP
     }
 
     public KalturaFlavorParamsOutputBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("flavorParamsIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.flavorParamsIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("flavorParamsVersionEqual")) {
-                this.flavorParamsVersionEqual = txt;
-                continue;
-            } else if (nodeName.equals("flavorAssetIdEqual")) {
-                this.flavorAssetIdEqual = txt;
-                continue;
-            } else if (nodeName.equals("flavorAssetVersionEqual")) {
-                this.flavorAssetVersionEqual = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaFlavorParamsOutputBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaFlavorParamsOutputBaseFilter");
-        kparams.addIntIfNotNull("flavorParamsIdEqual", this.flavorParamsIdEqual);
-        kparams.addStringIfNotNull("flavorParamsVersionEqual", this.flavorParamsVersionEqual);
-        kparams.addStringIfNotNull("flavorAssetIdEqual", this.flavorAssetIdEqual);
-        kparams.addStringIfNotNull("flavorAssetVersionEqual", this.flavorAssetVersionEqual);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "flavorParamsIdEqual", this.flavorParamsIdEqual);
+        kparams.addStringIfNotNull(prefix, "flavorParamsVersionEqual", this.flavorParamsVersionEqual);
+        kparams.addStringIfNotNull(prefix, "flavorAssetIdEqual", this.flavorAssetIdEqual);
+        kparams.addStringIfNotNull(prefix, "flavorAssetVersionEqual", this.flavorAssetVersionEqual);
     }
 }
 
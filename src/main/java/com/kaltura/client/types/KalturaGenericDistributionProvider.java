@@ -2,15 +2,12 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaGenericDistributionProviderStatus;
-import java.util.ArrayList;
-import com.kaltura.client.KalturaObjectFactory;
+import java.util.List;
 
 
 /**
@@ -30,8 +27,8 @@ public class KalturaGenericDistributionProvider extends KalturaDistributionProvi
     public KalturaGenericDistributionProviderStatus status;
     public String optionalFlavorParamsIds;
     public String requiredFlavorParamsIds;
-    public ArrayList<KalturaDistributionThumbDimensions> optionalThumbDimensions;
-    public ArrayList<KalturaDistributionThumbDimensions> requiredThumbDimensions;
+    public List<KalturaDistributionThumbDimensions> optionalThumbDimensions;
+    public List<KalturaDistributionThumbDimensions> requiredThumbDimensions;
     public String editableFields;
     public String mandatoryFields;
 
@@ -39,86 +36,19 @@ public class KalturaGenericDistributionProvider extends KalturaDistributionProvi
     }
 
     public KalturaGenericDistributionProvider(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                try {
-                    if (!txt.equals("")) this.id = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAt")) {
-                try {
-                    if (!txt.equals("")) this.createdAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAt")) {
-                try {
-                    if (!txt.equals("")) this.updatedAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("isDefault")) {
-                if (!txt.equals("")) this.isDefault = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("status")) {
-                try {
-                    if (!txt.equals("")) this.status = KalturaGenericDistributionProviderStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("optionalFlavorParamsIds")) {
-                this.optionalFlavorParamsIds = txt;
-                continue;
-            } else if (nodeName.equals("requiredFlavorParamsIds")) {
-                this.requiredFlavorParamsIds = txt;
-                continue;
-            } else if (nodeName.equals("optionalThumbDimensions")) {
-                this.optionalThumbDimensions = new ArrayList<KalturaDistributionThumbDimensions>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.optionalThumbDimensions.add((KalturaDistributionThumbDimensions)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } else if (nodeName.equals("requiredThumbDimensions")) {
-                this.requiredThumbDimensions = new ArrayList<KalturaDistributionThumbDimensions>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.requiredThumbDimensions.add((KalturaDistributionThumbDimensions)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } else if (nodeName.equals("editableFields")) {
-                this.editableFields = txt;
-                continue;
-            } else if (nodeName.equals("mandatoryFields")) {
-                this.mandatoryFields = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaGenericDistributionProvider.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaGenericDistributionProvider");
-        kparams.addBoolIfNotNull("isDefault", this.isDefault);
-        kparams.addStringIfNotNull("optionalFlavorParamsIds", this.optionalFlavorParamsIds);
-        kparams.addStringIfNotNull("requiredFlavorParamsIds", this.requiredFlavorParamsIds);
-        kparams.addObjectIfNotNull("optionalThumbDimensions", this.optionalThumbDimensions);
-        kparams.addObjectIfNotNull("requiredThumbDimensions", this.requiredThumbDimensions);
-        kparams.addStringIfNotNull("editableFields", this.editableFields);
-        kparams.addStringIfNotNull("mandatoryFields", this.mandatoryFields);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addBoolIfNotNull(prefix, "isDefault", this.isDefault);
+        kparams.addStringIfNotNull(prefix, "optionalFlavorParamsIds", this.optionalFlavorParamsIds);
+        kparams.addStringIfNotNull(prefix, "requiredFlavorParamsIds", this.requiredFlavorParamsIds);
+        kparams.addObjectIfNotNull(prefix, "optionalThumbDimensions", this.optionalThumbDimensions);
+        kparams.addObjectIfNotNull(prefix, "requiredThumbDimensions", this.requiredThumbDimensions);
+        kparams.addStringIfNotNull(prefix, "editableFields", this.editableFields);
+        kparams.addStringIfNotNull(prefix, "mandatoryFields", this.mandatoryFields);
     }
 }
 
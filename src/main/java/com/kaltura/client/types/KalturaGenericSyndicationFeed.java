@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -26,31 +24,14 @@ public class KalturaGenericSyndicationFeed extends KalturaBaseSyndicationFeed {
     }
 
     public KalturaGenericSyndicationFeed(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("feedDescription")) {
-                this.feedDescription = txt;
-                continue;
-            } else if (nodeName.equals("feedLandingPage")) {
-                this.feedLandingPage = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaGenericSyndicationFeed.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaGenericSyndicationFeed");
-        kparams.addStringIfNotNull("feedDescription", this.feedDescription);
-        kparams.addStringIfNotNull("feedLandingPage", this.feedLandingPage);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "feedDescription", this.feedDescription);
+        kparams.addStringIfNotNull(prefix, "feedLandingPage", this.feedLandingPage);
     }
 }
 
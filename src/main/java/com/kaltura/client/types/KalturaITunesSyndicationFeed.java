@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaITunesSyndicationFeedCategories;
 import com.kaltura.client.enums.KalturaITunesSyndicationFeedAdultValues;
 
@@ -35,62 +33,20 @@ public class KalturaITunesSyndicationFeed extends KalturaBaseSyndicationFeed {
     }
 
     public KalturaITunesSyndicationFeed(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("feedDescription")) {
-                this.feedDescription = txt;
-                continue;
-            } else if (nodeName.equals("language")) {
-                this.language = txt;
-                continue;
-            } else if (nodeName.equals("feedLandingPage")) {
-                this.feedLandingPage = txt;
-                continue;
-            } else if (nodeName.equals("ownerName")) {
-                this.ownerName = txt;
-                continue;
-            } else if (nodeName.equals("ownerEmail")) {
-                this.ownerEmail = txt;
-                continue;
-            } else if (nodeName.equals("feedImageUrl")) {
-                this.feedImageUrl = txt;
-                continue;
-            } else if (nodeName.equals("category")) {
-                try {
-                    if (!txt.equals("")) this.category = KalturaITunesSyndicationFeedCategories.get(txt);
-                } catch (IllegalFormatException ife) {}
-                continue;
-            } else if (nodeName.equals("adultContent")) {
-                try {
-                    if (!txt.equals("")) this.adultContent = KalturaITunesSyndicationFeedAdultValues.get(txt);
-                } catch (IllegalFormatException ife) {}
-                continue;
-            } else if (nodeName.equals("feedAuthor")) {
-                this.feedAuthor = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaITunesSyndicationFeed.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaITunesSyndicationFeed");
-        kparams.addStringIfNotNull("feedDescription", this.feedDescription);
-        kparams.addStringIfNotNull("language", this.language);
-        kparams.addStringIfNotNull("feedLandingPage", this.feedLandingPage);
-        kparams.addStringIfNotNull("ownerName", this.ownerName);
-        kparams.addStringIfNotNull("ownerEmail", this.ownerEmail);
-        kparams.addStringIfNotNull("feedImageUrl", this.feedImageUrl);
-        if (adultContent != null) kparams.addStringIfNotNull("adultContent", this.adultContent.getHashCode());
-        kparams.addStringIfNotNull("feedAuthor", this.feedAuthor);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "feedDescription", this.feedDescription);
+        kparams.addStringIfNotNull(prefix, "language", this.language);
+        kparams.addStringIfNotNull(prefix, "feedLandingPage", this.feedLandingPage);
+        kparams.addStringIfNotNull(prefix, "ownerName", this.ownerName);
+        kparams.addStringIfNotNull(prefix, "ownerEmail", this.ownerEmail);
+        kparams.addStringIfNotNull(prefix, "feedImageUrl", this.feedImageUrl);
+        if (adultContent != null) kparams.addStringIfNotNull(prefix, "adultContent", this.adultContent.getHashCode());
+        kparams.addStringIfNotNull(prefix, "feedAuthor", this.feedAuthor);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -28,38 +26,15 @@ public class KalturaLiveStreamAdminEntry extends KalturaLiveStreamEntry {
     }
 
     public KalturaLiveStreamAdminEntry(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("encodingIP1")) {
-                this.encodingIP1 = txt;
-                continue;
-            } else if (nodeName.equals("encodingIP2")) {
-                this.encodingIP2 = txt;
-                continue;
-            } else if (nodeName.equals("streamPassword")) {
-                this.streamPassword = txt;
-                continue;
-            } else if (nodeName.equals("streamUsername")) {
-                this.streamUsername = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaLiveStreamAdminEntry.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaLiveStreamAdminEntry");
-        kparams.addStringIfNotNull("encodingIP1", this.encodingIP1);
-        kparams.addStringIfNotNull("encodingIP2", this.encodingIP2);
-        kparams.addStringIfNotNull("streamPassword", this.streamPassword);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "encodingIP1", this.encodingIP1);
+        kparams.addStringIfNotNull(prefix, "encodingIP2", this.encodingIP2);
+        kparams.addStringIfNotNull(prefix, "streamPassword", this.streamPassword);
     }
 }
 
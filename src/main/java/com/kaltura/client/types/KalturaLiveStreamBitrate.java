@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -27,40 +25,14 @@ public class KalturaLiveStreamBitrate extends KalturaObjectBase {
     }
 
     public KalturaLiveStreamBitrate(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("bitrate")) {
-                try {
-                    if (!txt.equals("")) this.bitrate = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("width")) {
-                try {
-                    if (!txt.equals("")) this.width = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("height")) {
-                try {
-                    if (!txt.equals("")) this.height = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaLiveStreamBitrate.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaLiveStreamBitrate");
-        kparams.addIntIfNotNull("bitrate", this.bitrate);
-        kparams.addIntIfNotNull("width", this.width);
-        kparams.addIntIfNotNull("height", this.height);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "bitrate", this.bitrate);
+        kparams.addIntIfNotNull(prefix, "width", this.width);
+        kparams.addIntIfNotNull(prefix, "height", this.height);
     }
 }
 
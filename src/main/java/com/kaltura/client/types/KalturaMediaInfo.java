@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaBitRateMode;
 import com.kaltura.client.enums.KalturaBitRateMode;
 
@@ -57,183 +55,41 @@ public class KalturaMediaInfo extends KalturaObjectBase {
     }
 
     public KalturaMediaInfo(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                try {
-                    if (!txt.equals("")) this.id = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("flavorAssetId")) {
-                this.flavorAssetId = txt;
-                continue;
-            } else if (nodeName.equals("fileSize")) {
-                try {
-                    if (!txt.equals("")) this.fileSize = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("containerFormat")) {
-                this.containerFormat = txt;
-                continue;
-            } else if (nodeName.equals("containerId")) {
-                this.containerId = txt;
-                continue;
-            } else if (nodeName.equals("containerProfile")) {
-                this.containerProfile = txt;
-                continue;
-            } else if (nodeName.equals("containerDuration")) {
-                try {
-                    if (!txt.equals("")) this.containerDuration = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("containerBitRate")) {
-                try {
-                    if (!txt.equals("")) this.containerBitRate = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("videoFormat")) {
-                this.videoFormat = txt;
-                continue;
-            } else if (nodeName.equals("videoCodecId")) {
-                this.videoCodecId = txt;
-                continue;
-            } else if (nodeName.equals("videoDuration")) {
-                try {
-                    if (!txt.equals("")) this.videoDuration = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("videoBitRate")) {
-                try {
-                    if (!txt.equals("")) this.videoBitRate = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("videoBitRateMode")) {
-                try {
-                    if (!txt.equals("")) this.videoBitRateMode = KalturaBitRateMode.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("videoWidth")) {
-                try {
-                    if (!txt.equals("")) this.videoWidth = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("videoHeight")) {
-                try {
-                    if (!txt.equals("")) this.videoHeight = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("videoFrameRate")) {
-                try {
-                    if (!txt.equals("")) this.videoFrameRate = Float.parseFloat(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("videoDar")) {
-                try {
-                    if (!txt.equals("")) this.videoDar = Float.parseFloat(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("videoRotation")) {
-                try {
-                    if (!txt.equals("")) this.videoRotation = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("audioFormat")) {
-                this.audioFormat = txt;
-                continue;
-            } else if (nodeName.equals("audioCodecId")) {
-                this.audioCodecId = txt;
-                continue;
-            } else if (nodeName.equals("audioDuration")) {
-                try {
-                    if (!txt.equals("")) this.audioDuration = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("audioBitRate")) {
-                try {
-                    if (!txt.equals("")) this.audioBitRate = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("audioBitRateMode")) {
-                try {
-                    if (!txt.equals("")) this.audioBitRateMode = KalturaBitRateMode.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("audioChannels")) {
-                try {
-                    if (!txt.equals("")) this.audioChannels = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("audioSamplingRate")) {
-                try {
-                    if (!txt.equals("")) this.audioSamplingRate = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("audioResolution")) {
-                try {
-                    if (!txt.equals("")) this.audioResolution = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("writingLib")) {
-                this.writingLib = txt;
-                continue;
-            } else if (nodeName.equals("rawData")) {
-                this.rawData = txt;
-                continue;
-            } else if (nodeName.equals("multiStreamInfo")) {
-                this.multiStreamInfo = txt;
-                continue;
-            } else if (nodeName.equals("scanType")) {
-                try {
-                    if (!txt.equals("")) this.scanType = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("multiStream")) {
-                this.multiStream = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaMediaInfo.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaMediaInfo");
-        kparams.addStringIfNotNull("flavorAssetId", this.flavorAssetId);
-        kparams.addIntIfNotNull("fileSize", this.fileSize);
-        kparams.addStringIfNotNull("containerFormat", this.containerFormat);
-        kparams.addStringIfNotNull("containerId", this.containerId);
-        kparams.addStringIfNotNull("containerProfile", this.containerProfile);
-        kparams.addIntIfNotNull("containerDuration", this.containerDuration);
-        kparams.addIntIfNotNull("containerBitRate", this.containerBitRate);
-        kparams.addStringIfNotNull("videoFormat", this.videoFormat);
-        kparams.addStringIfNotNull("videoCodecId", this.videoCodecId);
-        kparams.addIntIfNotNull("videoDuration", this.videoDuration);
-        kparams.addIntIfNotNull("videoBitRate", this.videoBitRate);
-        if (videoBitRateMode != null) kparams.addIntIfNotNull("videoBitRateMode", this.videoBitRateMode.getHashCode());
-        kparams.addIntIfNotNull("videoWidth", this.videoWidth);
-        kparams.addIntIfNotNull("videoHeight", this.videoHeight);
-        kparams.addFloatIfNotNull("videoFrameRate", this.videoFrameRate);
-        kparams.addFloatIfNotNull("videoDar", this.videoDar);
-        kparams.addIntIfNotNull("videoRotation", this.videoRotation);
-        kparams.addStringIfNotNull("audioFormat", this.audioFormat);
-        kparams.addStringIfNotNull("audioCodecId", this.audioCodecId);
-        kparams.addIntIfNotNull("audioDuration", this.audioDuration);
-        kparams.addIntIfNotNull("audioBitRate", this.audioBitRate);
-        if (audioBitRateMode != null) kparams.addIntIfNotNull("audioBitRateMode", this.audioBitRateMode.getHashCode());
-        kparams.addIntIfNotNull("audioChannels", this.audioChannels);
-        kparams.addIntIfNotNull("audioSamplingRate", this.audioSamplingRate);
-        kparams.addIntIfNotNull("audioResolution", this.audioResolution);
-        kparams.addStringIfNotNull("writingLib", this.writingLib);
-        kparams.addStringIfNotNull("rawData", this.rawData);
-        kparams.addStringIfNotNull("multiStreamInfo", this.multiStreamInfo);
-        kparams.addIntIfNotNull("scanType", this.scanType);
-        kparams.addStringIfNotNull("multiStream", this.multiStream);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "flavorAssetId", this.flavorAssetId);
+        kparams.addIntIfNotNull(prefix, "fileSize", this.fileSize);
+        kparams.addStringIfNotNull(prefix, "containerFormat", this.containerFormat);
+        kparams.addStringIfNotNull(prefix, "containerId", this.containerId);
+        kparams.addStringIfNotNull(prefix, "containerProfile", this.containerProfile);
+        kparams.addIntIfNotNull(prefix, "containerDuration", this.containerDuration);
+        kparams.addIntIfNotNull(prefix, "containerBitRate", this.containerBitRate);
+        kparams.addStringIfNotNull(prefix, "videoFormat", this.videoFormat);
+        kparams.addStringIfNotNull(prefix, "videoCodecId", this.videoCodecId);
+        kparams.addIntIfNotNull(prefix, "videoDuration", this.videoDuration);
+        kparams.addIntIfNotNull(prefix, "videoBitRate", this.videoBitRate);
+        if (videoBitRateMode != null) kparams.addIntIfNotNull(prefix, "videoBitRateMode", this.videoBitRateMode.getHashCode());
+        kparams.addIntIfNotNull(prefix, "videoWidth", this.videoWidth);
+        kparams.addIntIfNotNull(prefix, "videoHeight", this.videoHeight);
+        kparams.addFloatIfNotNull(prefix, "videoFrameRate", this.videoFrameRate);
+        kparams.addFloatIfNotNull(prefix, "videoDar", this.videoDar);
+        kparams.addIntIfNotNull(prefix, "videoRotation", this.videoRotation);
+        kparams.addStringIfNotNull(prefix, "audioFormat", this.audioFormat);
+        kparams.addStringIfNotNull(prefix, "audioCodecId", this.audioCodecId);
+        kparams.addIntIfNotNull(prefix, "audioDuration", this.audioDuration);
+        kparams.addIntIfNotNull(prefix, "audioBitRate", this.audioBitRate);
+        if (audioBitRateMode != null) kparams.addIntIfNotNull(prefix, "audioBitRateMode", this.audioBitRateMode.getHashCode());
+        kparams.addIntIfNotNull(prefix, "audioChannels", this.audioChannels);
+        kparams.addIntIfNotNull(prefix, "audioSamplingRate", this.audioSamplingRate);
+        kparams.addIntIfNotNull(prefix, "audioResolution", this.audioResolution);
+        kparams.addStringIfNotNull(prefix, "writingLib", this.writingLib);
+        kparams.addStringIfNotNull(prefix, "rawData", this.rawData);
+        kparams.addStringIfNotNull(prefix, "multiStreamInfo", this.multiStreamInfo);
+        kparams.addIntIfNotNull(prefix, "scanType", this.scanType);
+        kparams.addStringIfNotNull(prefix, "multiStream", this.multiStream);
     }
 }
 
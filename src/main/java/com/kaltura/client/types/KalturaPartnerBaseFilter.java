@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -33,63 +31,21 @@ public abstract class KalturaPartnerBaseFilter extends KalturaFilter {
     }
 
     public KalturaPartnerBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("idEqual")) {
-                try {
-                    if (!txt.equals("")) this.idEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("idIn")) {
-                this.idIn = txt;
-                continue;
-            } else if (nodeName.equals("nameLike")) {
-                this.nameLike = txt;
-                continue;
-            } else if (nodeName.equals("nameMultiLikeOr")) {
-                this.nameMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("nameMultiLikeAnd")) {
-                this.nameMultiLikeAnd = txt;
-                continue;
-            } else if (nodeName.equals("nameEqual")) {
-                this.nameEqual = txt;
-                continue;
-            } else if (nodeName.equals("statusEqual")) {
-                try {
-                    if (!txt.equals("")) this.statusEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("statusIn")) {
-                this.statusIn = txt;
-                continue;
-            } else if (nodeName.equals("partnerNameDescriptionWebsiteAdminNameAdminEmailLike")) {
-                this.partnerNameDescriptionWebsiteAdminNameAdminEmailLike = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaPartnerBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaPartnerBaseFilter");
-        kparams.addIntIfNotNull("idEqual", this.idEqual);
-        kparams.addStringIfNotNull("idIn", this.idIn);
-        kparams.addStringIfNotNull("nameLike", this.nameLike);
-        kparams.addStringIfNotNull("nameMultiLikeOr", this.nameMultiLikeOr);
-        kparams.addStringIfNotNull("nameMultiLikeAnd", this.nameMultiLikeAnd);
-        kparams.addStringIfNotNull("nameEqual", this.nameEqual);
-        kparams.addIntIfNotNull("statusEqual", this.statusEqual);
-        kparams.addStringIfNotNull("statusIn", this.statusIn);
-        kparams.addStringIfNotNull("partnerNameDescriptionWebsiteAdminNameAdminEmailLike", this.partnerNameDescriptionWebsiteAdminNameAdminEmailLike);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "idEqual", this.idEqual);
+        kparams.addStringIfNotNull(prefix, "idIn", this.idIn);
+        kparams.addStringIfNotNull(prefix, "nameLike", this.nameLike);
+        kparams.addStringIfNotNull(prefix, "nameMultiLikeOr", this.nameMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "nameMultiLikeAnd", this.nameMultiLikeAnd);
+        kparams.addStringIfNotNull(prefix, "nameEqual", this.nameEqual);
+        kparams.addIntIfNotNull(prefix, "statusEqual", this.statusEqual);
+        kparams.addStringIfNotNull(prefix, "statusIn", this.statusIn);
+        kparams.addStringIfNotNull(prefix, "partnerNameDescriptionWebsiteAdminNameAdminEmailLike", this.partnerNameDescriptionWebsiteAdminNameAdminEmailLike);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaPermissionType;
 import com.kaltura.client.enums.KalturaPermissionStatus;
 
@@ -39,81 +37,19 @@ public class KalturaPermission extends KalturaObjectBase {
     }
 
     public KalturaPermission(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                try {
-                    if (!txt.equals("")) this.id = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("type")) {
-                try {
-                    if (!txt.equals("")) this.type = KalturaPermissionType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("name")) {
-                this.name = txt;
-                continue;
-            } else if (nodeName.equals("friendlyName")) {
-                this.friendlyName = txt;
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } else if (nodeName.equals("status")) {
-                try {
-                    if (!txt.equals("")) this.status = KalturaPermissionStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("dependsOnPermissionNames")) {
-                this.dependsOnPermissionNames = txt;
-                continue;
-            } else if (nodeName.equals("tags")) {
-                this.tags = txt;
-                continue;
-            } else if (nodeName.equals("permissionItemsIds")) {
-                this.permissionItemsIds = txt;
-                continue;
-            } else if (nodeName.equals("createdAt")) {
-                try {
-                    if (!txt.equals("")) this.createdAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAt")) {
-                try {
-                    if (!txt.equals("")) this.updatedAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerGroup")) {
-                this.partnerGroup = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaPermission.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaPermission");
-        kparams.addStringIfNotNull("name", this.name);
-        kparams.addStringIfNotNull("friendlyName", this.friendlyName);
-        kparams.addStringIfNotNull("description", this.description);
-        if (status != null) kparams.addIntIfNotNull("status", this.status.getHashCode());
-        kparams.addStringIfNotNull("dependsOnPermissionNames", this.dependsOnPermissionNames);
-        kparams.addStringIfNotNull("tags", this.tags);
-        kparams.addStringIfNotNull("permissionItemsIds", this.permissionItemsIds);
-        kparams.addStringIfNotNull("partnerGroup", this.partnerGroup);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "name", this.name);
+        kparams.addStringIfNotNull(prefix, "friendlyName", this.friendlyName);
+        kparams.addStringIfNotNull(prefix, "description", this.description);
+        if (status != null) kparams.addIntIfNotNull(prefix, "status", this.status.getHashCode());
+        kparams.addStringIfNotNull(prefix, "dependsOnPermissionNames", this.dependsOnPermissionNames);
+        kparams.addStringIfNotNull(prefix, "tags", this.tags);
+        kparams.addStringIfNotNull(prefix, "permissionItemsIds", this.permissionItemsIds);
+        kparams.addStringIfNotNull(prefix, "partnerGroup", this.partnerGroup);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaPermissionType;
 import com.kaltura.client.enums.KalturaPermissionStatus;
 
@@ -46,119 +44,32 @@ public abstract class KalturaPermissionBaseFilter extends KalturaFilter {
     }
 
     public KalturaPermissionBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("idEqual")) {
-                try {
-                    if (!txt.equals("")) this.idEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("idIn")) {
-                this.idIn = txt;
-                continue;
-            } else if (nodeName.equals("typeEqual")) {
-                try {
-                    if (!txt.equals("")) this.typeEqual = KalturaPermissionType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("typeIn")) {
-                this.typeIn = txt;
-                continue;
-            } else if (nodeName.equals("nameEqual")) {
-                this.nameEqual = txt;
-                continue;
-            } else if (nodeName.equals("nameIn")) {
-                this.nameIn = txt;
-                continue;
-            } else if (nodeName.equals("friendlyNameLike")) {
-                this.friendlyNameLike = txt;
-                continue;
-            } else if (nodeName.equals("descriptionLike")) {
-                this.descriptionLike = txt;
-                continue;
-            } else if (nodeName.equals("statusEqual")) {
-                try {
-                    if (!txt.equals("")) this.statusEqual = KalturaPermissionStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("statusIn")) {
-                this.statusIn = txt;
-                continue;
-            } else if (nodeName.equals("partnerIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.partnerIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerIdIn")) {
-                this.partnerIdIn = txt;
-                continue;
-            } else if (nodeName.equals("dependsOnPermissionNamesMultiLikeOr")) {
-                this.dependsOnPermissionNamesMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("dependsOnPermissionNamesMultiLikeAnd")) {
-                this.dependsOnPermissionNamesMultiLikeAnd = txt;
-                continue;
-            } else if (nodeName.equals("tagsMultiLikeOr")) {
-                this.tagsMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("tagsMultiLikeAnd")) {
-                this.tagsMultiLikeAnd = txt;
-                continue;
-            } else if (nodeName.equals("createdAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaPermissionBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaPermissionBaseFilter");
-        kparams.addIntIfNotNull("idEqual", this.idEqual);
-        kparams.addStringIfNotNull("idIn", this.idIn);
-        if (typeEqual != null) kparams.addIntIfNotNull("typeEqual", this.typeEqual.getHashCode());
-        kparams.addStringIfNotNull("typeIn", this.typeIn);
-        kparams.addStringIfNotNull("nameEqual", this.nameEqual);
-        kparams.addStringIfNotNull("nameIn", this.nameIn);
-        kparams.addStringIfNotNull("friendlyNameLike", this.friendlyNameLike);
-        kparams.addStringIfNotNull("descriptionLike", this.descriptionLike);
-        if (statusEqual != null) kparams.addIntIfNotNull("statusEqual", this.statusEqual.getHashCode());
-        kparams.addStringIfNotNull("statusIn", this.statusIn);
-        kparams.addIntIfNotNull("partnerIdEqual", this.partnerIdEqual);
-        kparams.addStringIfNotNull("partnerIdIn", this.partnerIdIn);
-        kparams.addStringIfNotNull("dependsOnPermissionNamesMultiLikeOr", this.dependsOnPermissionNamesMultiLikeOr);
-        kparams.addStringIfNotNull("dependsOnPermissionNamesMultiLikeAnd", this.dependsOnPermissionNamesMultiLikeAnd);
-        kparams.addStringIfNotNull("tagsMultiLikeOr", this.tagsMultiLikeOr);
-        kparams.addStringIfNotNull("tagsMultiLikeAnd", this.tagsMultiLikeAnd);
-        kparams.addIntIfNotNull("createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "idEqual", this.idEqual);
+        kparams.addStringIfNotNull(prefix, "idIn", this.idIn);
+        if (typeEqual != null) kparams.addIntIfNotNull(prefix, "typeEqual", this.typeEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "typeIn", this.typeIn);
+        kparams.addStringIfNotNull(prefix, "nameEqual", this.nameEqual);
+        kparams.addStringIfNotNull(prefix, "nameIn", this.nameIn);
+        kparams.addStringIfNotNull(prefix, "friendlyNameLike", this.friendlyNameLike);
+        kparams.addStringIfNotNull(prefix, "descriptionLike", this.descriptionLike);
+        if (statusEqual != null) kparams.addIntIfNotNull(prefix, "statusEqual", this.statusEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "statusIn", this.statusIn);
+        kparams.addIntIfNotNull(prefix, "partnerIdEqual", this.partnerIdEqual);
+        kparams.addStringIfNotNull(prefix, "partnerIdIn", this.partnerIdIn);
+        kparams.addStringIfNotNull(prefix, "dependsOnPermissionNamesMultiLikeOr", this.dependsOnPermissionNamesMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "dependsOnPermissionNamesMultiLikeAnd", this.dependsOnPermissionNamesMultiLikeAnd);
+        kparams.addStringIfNotNull(prefix, "tagsMultiLikeOr", this.tagsMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "tagsMultiLikeAnd", this.tagsMultiLikeAnd);
+        kparams.addIntIfNotNull(prefix, "createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
     }
 }
 
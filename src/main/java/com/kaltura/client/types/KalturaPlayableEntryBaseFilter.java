@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -33,75 +31,21 @@ public abstract class KalturaPlayableEntryBaseFilter extends KalturaBaseEntryFil
     }
 
     public KalturaPlayableEntryBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("durationLessThan")) {
-                try {
-                    if (!txt.equals("")) this.durationLessThan = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("durationGreaterThan")) {
-                try {
-                    if (!txt.equals("")) this.durationGreaterThan = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("durationLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.durationLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("durationGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.durationGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("msDurationLessThan")) {
-                try {
-                    if (!txt.equals("")) this.msDurationLessThan = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("msDurationGreaterThan")) {
-                try {
-                    if (!txt.equals("")) this.msDurationGreaterThan = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("msDurationLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.msDurationLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("msDurationGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.msDurationGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("durationTypeMatchOr")) {
-                this.durationTypeMatchOr = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaPlayableEntryBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaPlayableEntryBaseFilter");
-        kparams.addIntIfNotNull("durationLessThan", this.durationLessThan);
-        kparams.addIntIfNotNull("durationGreaterThan", this.durationGreaterThan);
-        kparams.addIntIfNotNull("durationLessThanOrEqual", this.durationLessThanOrEqual);
-        kparams.addIntIfNotNull("durationGreaterThanOrEqual", this.durationGreaterThanOrEqual);
-        kparams.addIntIfNotNull("msDurationLessThan", this.msDurationLessThan);
-        kparams.addIntIfNotNull("msDurationGreaterThan", this.msDurationGreaterThan);
-        kparams.addIntIfNotNull("msDurationLessThanOrEqual", this.msDurationLessThanOrEqual);
-        kparams.addIntIfNotNull("msDurationGreaterThanOrEqual", this.msDurationGreaterThanOrEqual);
-        kparams.addStringIfNotNull("durationTypeMatchOr", this.durationTypeMatchOr);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "durationLessThan", this.durationLessThan);
+        kparams.addIntIfNotNull(prefix, "durationGreaterThan", this.durationGreaterThan);
+        kparams.addIntIfNotNull(prefix, "durationLessThanOrEqual", this.durationLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "durationGreaterThanOrEqual", this.durationGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "msDurationLessThan", this.msDurationLessThan);
+        kparams.addIntIfNotNull(prefix, "msDurationGreaterThan", this.msDurationGreaterThan);
+        kparams.addIntIfNotNull(prefix, "msDurationLessThanOrEqual", this.msDurationLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "msDurationGreaterThanOrEqual", this.msDurationGreaterThanOrEqual);
+        kparams.addStringIfNotNull(prefix, "durationTypeMatchOr", this.durationTypeMatchOr);
     }
 }
 
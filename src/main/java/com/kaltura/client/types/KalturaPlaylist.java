@@ -2,15 +2,12 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaPlaylistType;
-import java.util.ArrayList;
-import com.kaltura.client.KalturaObjectFactory;
+import java.util.List;
 
 
 /**
@@ -23,7 +20,7 @@ import com.kaltura.client.KalturaObjectFactory;
 
 public class KalturaPlaylist extends KalturaBaseEntry {
     public String playlistContent;
-    public ArrayList<KalturaMediaEntryFilterForPlaylist> filters;
+    public List<KalturaMediaEntryFilterForPlaylist> filters;
     public int totalResults = Integer.MIN_VALUE;
     public KalturaPlaylistType playlistType;
     public int plays = Integer.MIN_VALUE;
@@ -34,63 +31,16 @@ public class KalturaPlaylist extends KalturaBaseEntry {
     }
 
     public KalturaPlaylist(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("playlistContent")) {
-                this.playlistContent = txt;
-                continue;
-            } else if (nodeName.equals("filters")) {
-                this.filters = new ArrayList<KalturaMediaEntryFilterForPlaylist>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.filters.add((KalturaMediaEntryFilterForPlaylist)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } else if (nodeName.equals("totalResults")) {
-                try {
-                    if (!txt.equals("")) this.totalResults = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("playlistType")) {
-                try {
-                    if (!txt.equals("")) this.playlistType = KalturaPlaylistType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("plays")) {
-                try {
-                    if (!txt.equals("")) this.plays = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("views")) {
-                try {
-                    if (!txt.equals("")) this.views = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("duration")) {
-                try {
-                    if (!txt.equals("")) this.duration = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaPlaylist.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaPlaylist");
-        kparams.addStringIfNotNull("playlistContent", this.playlistContent);
-        kparams.addObjectIfNotNull("filters", this.filters);
-        kparams.addIntIfNotNull("totalResults", this.totalResults);
-        if (playlistType != null) kparams.addIntIfNotNull("playlistType", this.playlistType.getHashCode());
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "playlistContent", this.playlistContent);
+        kparams.addObjectIfNotNull(prefix, "filters", this.filters);
+        kparams.addIntIfNotNull(prefix, "totalResults", this.totalResults);
+        if (playlistType != null) kparams.addIntIfNotNull(prefix, "playlistType", this.playlistType.getHashCode());
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaSearchProviderType;
 import com.kaltura.client.enums.KalturaMediaType;
 
@@ -31,46 +29,16 @@ public class KalturaSearch extends KalturaObjectBase {
     }
 
     public KalturaSearch(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("keyWords")) {
-                this.keyWords = txt;
-                continue;
-            } else if (nodeName.equals("searchSource")) {
-                try {
-                    if (!txt.equals("")) this.searchSource = KalturaSearchProviderType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("mediaType")) {
-                try {
-                    if (!txt.equals("")) this.mediaType = KalturaMediaType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("extraData")) {
-                this.extraData = txt;
-                continue;
-            } else if (nodeName.equals("authData")) {
-                this.authData = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaSearch.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaSearch");
-        kparams.addStringIfNotNull("keyWords", this.keyWords);
-        if (searchSource != null) kparams.addIntIfNotNull("searchSource", this.searchSource.getHashCode());
-        if (mediaType != null) kparams.addIntIfNotNull("mediaType", this.mediaType.getHashCode());
-        kparams.addStringIfNotNull("extraData", this.extraData);
-        kparams.addStringIfNotNull("authData", this.authData);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "keyWords", this.keyWords);
+        if (searchSource != null) kparams.addIntIfNotNull(prefix, "searchSource", this.searchSource.getHashCode());
+        if (mediaType != null) kparams.addIntIfNotNull(prefix, "mediaType", this.mediaType.getHashCode());
+        kparams.addStringIfNotNull(prefix, "extraData", this.extraData);
+        kparams.addStringIfNotNull(prefix, "authData", this.authData);
     }
 }
 
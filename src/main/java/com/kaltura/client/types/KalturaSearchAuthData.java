@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -27,34 +25,14 @@ public class KalturaSearchAuthData extends KalturaObjectBase {
     }
 
     public KalturaSearchAuthData(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("authData")) {
-                this.authData = txt;
-                continue;
-            } else if (nodeName.equals("loginUrl")) {
-                this.loginUrl = txt;
-                continue;
-            } else if (nodeName.equals("message")) {
-                this.message = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaSearchAuthData.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaSearchAuthData");
-        kparams.addStringIfNotNull("authData", this.authData);
-        kparams.addStringIfNotNull("loginUrl", this.loginUrl);
-        kparams.addStringIfNotNull("message", this.message);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "authData", this.authData);
+        kparams.addStringIfNotNull(prefix, "loginUrl", this.loginUrl);
+        kparams.addStringIfNotNull(prefix, "message", this.message);
     }
 }
 
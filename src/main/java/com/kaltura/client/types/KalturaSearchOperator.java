@@ -2,15 +2,12 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaSearchOperatorType;
-import java.util.ArrayList;
-import com.kaltura.client.KalturaObjectFactory;
+import java.util.List;
 
 
 /**
@@ -23,44 +20,20 @@ import com.kaltura.client.KalturaObjectFactory;
 
 public class KalturaSearchOperator extends KalturaSearchItem {
     public KalturaSearchOperatorType type;
-    public ArrayList<KalturaSearchItem> items;
+    public List<KalturaSearchItem> items;
 
     public KalturaSearchOperator() {
     }
 
     public KalturaSearchOperator(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("type")) {
-                try {
-                    if (!txt.equals("")) this.type = KalturaSearchOperatorType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("items")) {
-                this.items = new ArrayList<KalturaSearchItem>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.items.add((KalturaSearchItem)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaSearchOperator.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaSearchOperator");
-        if (type != null) kparams.addIntIfNotNull("type", this.type.getHashCode());
-        kparams.addObjectIfNotNull("items", this.items);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        if (type != null) kparams.addIntIfNotNull(prefix, "type", this.type.getHashCode());
+        kparams.addObjectIfNotNull(prefix, "items", this.items);
     }
 }
 
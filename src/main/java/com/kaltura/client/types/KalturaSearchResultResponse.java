@@ -2,14 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
-import java.util.ArrayList;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
+import java.util.List;
 
 
 /**
@@ -21,40 +17,14 @@ import com.kaltura.client.KalturaObjectFactory;
  */
 
 public class KalturaSearchResultResponse extends KalturaObjectBase {
-    public ArrayList<KalturaSearchResult> objects;
+    public List<KalturaSearchResult> objects;
     public boolean needMediaInfo;
 
     public KalturaSearchResultResponse() {
     }
 
     public KalturaSearchResultResponse(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("objects")) {
-                this.objects = new ArrayList<KalturaSearchResult>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.objects.add((KalturaSearchResult)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } else if (nodeName.equals("needMediaInfo")) {
-                if (!txt.equals("")) this.needMediaInfo = ((txt.equals("0")) ? false : true);
-                continue;
-            } 
-
-        }
-    }
-
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaSearchResultResponse");
-        return kparams;
+        KalturaDomBinder.DEFAULT.fill(this, KalturaSearchResultResponse.class, node);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaSiteRestrictionType;
 
 
@@ -27,33 +25,14 @@ public class KalturaSiteRestriction extends KalturaBaseRestriction {
     }
 
     public KalturaSiteRestriction(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("siteRestrictionType")) {
-                try {
-                    if (!txt.equals("")) this.siteRestrictionType = KalturaSiteRestrictionType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("siteList")) {
-                this.siteList = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaSiteRestriction.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaSiteRestriction");
-        if (siteRestrictionType != null) kparams.addIntIfNotNull("siteRestrictionType", this.siteRestrictionType.getHashCode());
-        kparams.addStringIfNotNull("siteList", this.siteList);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        if (siteRestrictionType != null) kparams.addIntIfNotNull(prefix, "siteRestrictionType", this.siteRestrictionType.getHashCode());
+        kparams.addStringIfNotNull(prefix, "siteList", this.siteList);
     }
 }
 
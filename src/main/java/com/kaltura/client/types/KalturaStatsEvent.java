@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaStatsEventType;
 
 
@@ -44,113 +42,29 @@ public class KalturaStatsEvent extends KalturaObjectBase {
     }
 
     public KalturaStatsEvent(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("clientVer")) {
-                this.clientVer = txt;
-                continue;
-            } else if (nodeName.equals("eventType")) {
-                try {
-                    if (!txt.equals("")) this.eventType = KalturaStatsEventType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("eventTimestamp")) {
-                try {
-                    if (!txt.equals("")) this.eventTimestamp = Float.parseFloat(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("sessionId")) {
-                this.sessionId = txt;
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("entryId")) {
-                this.entryId = txt;
-                continue;
-            } else if (nodeName.equals("uniqueViewer")) {
-                this.uniqueViewer = txt;
-                continue;
-            } else if (nodeName.equals("widgetId")) {
-                this.widgetId = txt;
-                continue;
-            } else if (nodeName.equals("uiconfId")) {
-                try {
-                    if (!txt.equals("")) this.uiconfId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("userId")) {
-                this.userId = txt;
-                continue;
-            } else if (nodeName.equals("currentPoint")) {
-                try {
-                    if (!txt.equals("")) this.currentPoint = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("duration")) {
-                try {
-                    if (!txt.equals("")) this.duration = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("userIp")) {
-                this.userIp = txt;
-                continue;
-            } else if (nodeName.equals("processDuration")) {
-                try {
-                    if (!txt.equals("")) this.processDuration = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("controlId")) {
-                this.controlId = txt;
-                continue;
-            } else if (nodeName.equals("seek")) {
-                if (!txt.equals("")) this.seek = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("newPoint")) {
-                try {
-                    if (!txt.equals("")) this.newPoint = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("referrer")) {
-                this.referrer = txt;
-                continue;
-            } else if (nodeName.equals("isFirstInSession")) {
-                if (!txt.equals("")) this.isFirstInSession = ((txt.equals("0")) ? false : true);
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaStatsEvent.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaStatsEvent");
-        kparams.addStringIfNotNull("clientVer", this.clientVer);
-        if (eventType != null) kparams.addIntIfNotNull("eventType", this.eventType.getHashCode());
-        kparams.addFloatIfNotNull("eventTimestamp", this.eventTimestamp);
-        kparams.addStringIfNotNull("sessionId", this.sessionId);
-        kparams.addIntIfNotNull("partnerId", this.partnerId);
-        kparams.addStringIfNotNull("entryId", this.entryId);
-        kparams.addStringIfNotNull("uniqueViewer", this.uniqueViewer);
-        kparams.addStringIfNotNull("widgetId", this.widgetId);
-        kparams.addIntIfNotNull("uiconfId", this.uiconfId);
-        kparams.addStringIfNotNull("userId", this.userId);
-        kparams.addIntIfNotNull("currentPoint", this.currentPoint);
-        kparams.addIntIfNotNull("duration", this.duration);
-        kparams.addIntIfNotNull("processDuration", this.processDuration);
-        kparams.addStringIfNotNull("controlId", this.controlId);
-        kparams.addBoolIfNotNull("seek", this.seek);
-        kparams.addIntIfNotNull("newPoint", this.newPoint);
-        kparams.addStringIfNotNull("referrer", this.referrer);
-        kparams.addBoolIfNotNull("isFirstInSession", this.isFirstInSession);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "clientVer", this.clientVer);
+        if (eventType != null) kparams.addIntIfNotNull(prefix, "eventType", this.eventType.getHashCode());
+        kparams.addFloatIfNotNull(prefix, "eventTimestamp", this.eventTimestamp);
+        kparams.addStringIfNotNull(prefix, "sessionId", this.sessionId);
+        kparams.addIntIfNotNull(prefix, "partnerId", this.partnerId);
+        kparams.addStringIfNotNull(prefix, "entryId", this.entryId);
+        kparams.addStringIfNotNull(prefix, "uniqueViewer", this.uniqueViewer);
+        kparams.addStringIfNotNull(prefix, "widgetId", this.widgetId);
+        kparams.addIntIfNotNull(prefix, "uiconfId", this.uiconfId);
+        kparams.addStringIfNotNull(prefix, "userId", this.userId);
+        kparams.addIntIfNotNull(prefix, "currentPoint", this.currentPoint);
+        kparams.addIntIfNotNull(prefix, "duration", this.duration);
+        kparams.addIntIfNotNull(prefix, "processDuration", this.processDuration);
+        kparams.addStringIfNotNull(prefix, "controlId", this.controlId);
+        kparams.addBoolIfNotNull(prefix, "seek", this.seek);
+        kparams.addIntIfNotNull(prefix, "newPoint", this.newPoint);
+        kparams.addStringIfNotNull(prefix, "referrer", this.referrer);
+        kparams.addBoolIfNotNull(prefix, "isFirstInSession", this.isFirstInSession);
     }
 }
 
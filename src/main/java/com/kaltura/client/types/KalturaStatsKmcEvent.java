@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaStatsKmcEventType;
 
 
@@ -36,73 +34,21 @@ public class KalturaStatsKmcEvent extends KalturaObjectBase {
     }
 
     public KalturaStatsKmcEvent(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("clientVer")) {
-                this.clientVer = txt;
-                continue;
-            } else if (nodeName.equals("kmcEventActionPath")) {
-                this.kmcEventActionPath = txt;
-                continue;
-            } else if (nodeName.equals("kmcEventType")) {
-                try {
-                    if (!txt.equals("")) this.kmcEventType = KalturaStatsKmcEventType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("eventTimestamp")) {
-                try {
-                    if (!txt.equals("")) this.eventTimestamp = Float.parseFloat(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("sessionId")) {
-                this.sessionId = txt;
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("entryId")) {
-                this.entryId = txt;
-                continue;
-            } else if (nodeName.equals("widgetId")) {
-                this.widgetId = txt;
-                continue;
-            } else if (nodeName.equals("uiconfId")) {
-                try {
-                    if (!txt.equals("")) this.uiconfId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("userId")) {
-                this.userId = txt;
-                continue;
-            } else if (nodeName.equals("userIp")) {
-                this.userIp = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaStatsKmcEvent.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaStatsKmcEvent");
-        kparams.addStringIfNotNull("clientVer", this.clientVer);
-        kparams.addStringIfNotNull("kmcEventActionPath", this.kmcEventActionPath);
-        if (kmcEventType != null) kparams.addIntIfNotNull("kmcEventType", this.kmcEventType.getHashCode());
-        kparams.addFloatIfNotNull("eventTimestamp", this.eventTimestamp);
-        kparams.addStringIfNotNull("sessionId", this.sessionId);
-        kparams.addIntIfNotNull("partnerId", this.partnerId);
-        kparams.addStringIfNotNull("entryId", this.entryId);
-        kparams.addStringIfNotNull("widgetId", this.widgetId);
-        kparams.addIntIfNotNull("uiconfId", this.uiconfId);
-        kparams.addStringIfNotNull("userId", this.userId);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "clientVer", this.clientVer);
+        kparams.addStringIfNotNull(prefix, "kmcEventActionPath", this.kmcEventActionPath);
+        if (kmcEventType != null) kparams.addIntIfNotNull(prefix, "kmcEventType", this.kmcEventType.getHashCode());
+        kparams.addFloatIfNotNull(prefix, "eventTimestamp", this.eventTimestamp);
+        kparams.addStringIfNotNull(prefix, "sessionId", this.sessionId);
+        kparams.addIntIfNotNull(prefix, "partnerId", this.partnerId);
+        kparams.addStringIfNotNull(prefix, "entryId", this.entryId);
+        kparams.addStringIfNotNull(prefix, "widgetId", this.widgetId);
+        kparams.addIntIfNotNull(prefix, "uiconfId", this.uiconfId);
+        kparams.addStringIfNotNull(prefix, "userId", this.userId);
     }
 }
 
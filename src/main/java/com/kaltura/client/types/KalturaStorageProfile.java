@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaStorageProfileStatus;
 import com.kaltura.client.enums.KalturaStorageProfileProtocol;
 
@@ -49,130 +47,30 @@ public class KalturaStorageProfile extends KalturaObjectBase {
     }
 
     public KalturaStorageProfile(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                try {
-                    if (!txt.equals("")) this.id = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAt")) {
-                try {
-                    if (!txt.equals("")) this.createdAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAt")) {
-                try {
-                    if (!txt.equals("")) this.updatedAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("name")) {
-                this.name = txt;
-                continue;
-            } else if (nodeName.equals("desciption")) {
-                this.desciption = txt;
-                continue;
-            } else if (nodeName.equals("status")) {
-                try {
-                    if (!txt.equals("")) this.status = KalturaStorageProfileStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("protocol")) {
-                try {
-                    if (!txt.equals("")) this.protocol = KalturaStorageProfileProtocol.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("storageUrl")) {
-                this.storageUrl = txt;
-                continue;
-            } else if (nodeName.equals("storageBaseDir")) {
-                this.storageBaseDir = txt;
-                continue;
-            } else if (nodeName.equals("storageUsername")) {
-                this.storageUsername = txt;
-                continue;
-            } else if (nodeName.equals("storagePassword")) {
-                this.storagePassword = txt;
-                continue;
-            } else if (nodeName.equals("storageFtpPassiveMode")) {
-                if (!txt.equals("")) this.storageFtpPassiveMode = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("deliveryHttpBaseUrl")) {
-                this.deliveryHttpBaseUrl = txt;
-                continue;
-            } else if (nodeName.equals("deliveryRmpBaseUrl")) {
-                this.deliveryRmpBaseUrl = txt;
-                continue;
-            } else if (nodeName.equals("deliveryIisBaseUrl")) {
-                this.deliveryIisBaseUrl = txt;
-                continue;
-            } else if (nodeName.equals("minFileSize")) {
-                try {
-                    if (!txt.equals("")) this.minFileSize = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("maxFileSize")) {
-                try {
-                    if (!txt.equals("")) this.maxFileSize = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("flavorParamsIds")) {
-                this.flavorParamsIds = txt;
-                continue;
-            } else if (nodeName.equals("maxConcurrentConnections")) {
-                try {
-                    if (!txt.equals("")) this.maxConcurrentConnections = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("pathManagerClass")) {
-                this.pathManagerClass = txt;
-                continue;
-            } else if (nodeName.equals("urlManagerClass")) {
-                this.urlManagerClass = txt;
-                continue;
-            } else if (nodeName.equals("trigger")) {
-                try {
-                    if (!txt.equals("")) this.trigger = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaStorageProfile.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaStorageProfile");
-        kparams.addStringIfNotNull("name", this.name);
-        kparams.addStringIfNotNull("desciption", this.desciption);
-        if (status != null) kparams.addIntIfNotNull("status", this.status.getHashCode());
-        if (protocol != null) kparams.addIntIfNotNull("protocol", this.protocol.getHashCode());
-        kparams.addStringIfNotNull("storageUrl", this.storageUrl);
-        kparams.addStringIfNotNull("storageBaseDir", this.storageBaseDir);
-        kparams.addStringIfNotNull("storageUsername", this.storageUsername);
-        kparams.addStringIfNotNull("storagePassword", this.storagePassword);
-        kparams.addBoolIfNotNull("storageFtpPassiveMode", this.storageFtpPassiveMode);
-        kparams.addStringIfNotNull("deliveryHttpBaseUrl", this.deliveryHttpBaseUrl);
-        kparams.addStringIfNotNull("deliveryRmpBaseUrl", this.deliveryRmpBaseUrl);
-        kparams.addStringIfNotNull("deliveryIisBaseUrl", this.deliveryIisBaseUrl);
-        kparams.addIntIfNotNull("minFileSize", this.minFileSize);
-        kparams.addIntIfNotNull("maxFileSize", this.maxFileSize);
-        kparams.addStringIfNotNull("flavorParamsIds", this.flavorParamsIds);
-        kparams.addIntIfNotNull("maxConcurrentConnections", this.maxConcurrentConnections);
-        kparams.addStringIfNotNull("pathManagerClass", this.pathManagerClass);
-        kparams.addStringIfNotNull("urlManagerClass", this.urlManagerClass);
-        kparams.addIntIfNotNull("trigger", this.trigger);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "name", this.name);
+        kparams.addStringIfNotNull(prefix, "desciption", this.desciption);
+        if (status != null) kparams.addIntIfNotNull(prefix, "status", this.status.getHashCode());
+        if (protocol != null) kparams.addIntIfNotNull(prefix, "protocol", this.protocol.getHashCode());
+        kparams.addStringIfNotNull(prefix, "storageUrl", this.storageUrl);
+        kparams.addStringIfNotNull(prefix, "storageBaseDir", this.storageBaseDir);
+        kparams.addStringIfNotNull(prefix, "storageUsername", this.storageUsername);
+        kparams.addStringIfNotNull(prefix, "storagePassword", this.storagePassword);
+        kparams.addBoolIfNotNull(prefix, "storageFtpPassiveMode", this.storageFtpPassiveMode);
+        kparams.addStringIfNotNull(prefix, "deliveryHttpBaseUrl", this.deliveryHttpBaseUrl);
+        kparams.addStringIfNotNull(prefix, "deliveryRmpBaseUrl", this.deliveryRmpBaseUrl);
+        kparams.addStringIfNotNull(prefix, "deliveryIisBaseUrl", this.deliveryIisBaseUrl);
+        kparams.addIntIfNotNull(prefix, "minFileSize", this.minFileSize);
+        kparams.addIntIfNotNull(prefix, "maxFileSize", this.maxFileSize);
+        kparams.addStringIfNotNull(prefix, "flavorParamsIds", this.flavorParamsIds);
+        kparams.addIntIfNotNull(prefix, "maxConcurrentConnections", this.maxConcurrentConnections);
+        kparams.addStringIfNotNull(prefix, "pathManagerClass", this.pathManagerClass);
+        kparams.addStringIfNotNull(prefix, "urlManagerClass", this.urlManagerClass);
+        kparams.addIntIfNotNull(prefix, "trigger", this.trigger);
     }
 }
 
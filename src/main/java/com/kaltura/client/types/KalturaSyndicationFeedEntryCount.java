@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -27,40 +25,14 @@ public class KalturaSyndicationFeedEntryCount extends KalturaObjectBase {
     }
 
     public KalturaSyndicationFeedEntryCount(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("totalEntryCount")) {
-                try {
-                    if (!txt.equals("")) this.totalEntryCount = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("actualEntryCount")) {
-                try {
-                    if (!txt.equals("")) this.actualEntryCount = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("requireTranscodingCount")) {
-                try {
-                    if (!txt.equals("")) this.requireTranscodingCount = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaSyndicationFeedEntryCount.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaSyndicationFeedEntryCount");
-        kparams.addIntIfNotNull("totalEntryCount", this.totalEntryCount);
-        kparams.addIntIfNotNull("actualEntryCount", this.actualEntryCount);
-        kparams.addIntIfNotNull("requireTranscodingCount", this.requireTranscodingCount);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "totalEntryCount", this.totalEntryCount);
+        kparams.addIntIfNotNull(prefix, "actualEntryCount", this.actualEntryCount);
+        kparams.addIntIfNotNull(prefix, "requireTranscodingCount", this.requireTranscodingCount);
     }
 }
 
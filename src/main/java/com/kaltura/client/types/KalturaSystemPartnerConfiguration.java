@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaStorageServePriority;
 
 
@@ -55,160 +53,41 @@ public class KalturaSystemPartnerConfiguration extends KalturaObjectBase {
     }
 
     public KalturaSystemPartnerConfiguration(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("partnerName")) {
-                this.partnerName = txt;
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } else if (nodeName.equals("adminName")) {
-                this.adminName = txt;
-                continue;
-            } else if (nodeName.equals("adminEmail")) {
-                this.adminEmail = txt;
-                continue;
-            } else if (nodeName.equals("host")) {
-                this.host = txt;
-                continue;
-            } else if (nodeName.equals("cdnHost")) {
-                this.cdnHost = txt;
-                continue;
-            } else if (nodeName.equals("maxBulkSize")) {
-                try {
-                    if (!txt.equals("")) this.maxBulkSize = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerPackage")) {
-                try {
-                    if (!txt.equals("")) this.partnerPackage = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("monitorUsage")) {
-                try {
-                    if (!txt.equals("")) this.monitorUsage = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("liveStreamEnabled")) {
-                if (!txt.equals("")) this.liveStreamEnabled = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("moderateContent")) {
-                if (!txt.equals("")) this.moderateContent = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("rtmpUrl")) {
-                this.rtmpUrl = txt;
-                continue;
-            } else if (nodeName.equals("storageDeleteFromKaltura")) {
-                if (!txt.equals("")) this.storageDeleteFromKaltura = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("storageServePriority")) {
-                try {
-                    if (!txt.equals("")) this.storageServePriority = KalturaStorageServePriority.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("kmcVersion")) {
-                try {
-                    if (!txt.equals("")) this.kmcVersion = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("enableAnalyticsTab")) {
-                if (!txt.equals("")) this.enableAnalyticsTab = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("enableSilverLight")) {
-                if (!txt.equals("")) this.enableSilverLight = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("enableVast")) {
-                if (!txt.equals("")) this.enableVast = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("enable508Players")) {
-                if (!txt.equals("")) this.enable508Players = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("enableMetadata")) {
-                if (!txt.equals("")) this.enableMetadata = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("enableContentDistribution")) {
-                if (!txt.equals("")) this.enableContentDistribution = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("enableAuditTrail")) {
-                if (!txt.equals("")) this.enableAuditTrail = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("enableAnnotation")) {
-                if (!txt.equals("")) this.enableAnnotation = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("enableMobileFlavors")) {
-                if (!txt.equals("")) this.enableMobileFlavors = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("enablePs2PermissionValidation")) {
-                if (!txt.equals("")) this.enablePs2PermissionValidation = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("defThumbOffset")) {
-                try {
-                    if (!txt.equals("")) this.defThumbOffset = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("adminLoginUsersQuota")) {
-                try {
-                    if (!txt.equals("")) this.adminLoginUsersQuota = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("userSessionRoleId")) {
-                try {
-                    if (!txt.equals("")) this.userSessionRoleId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("adminSessionRoleId")) {
-                try {
-                    if (!txt.equals("")) this.adminSessionRoleId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("alwaysAllowedPermissionNames")) {
-                this.alwaysAllowedPermissionNames = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaSystemPartnerConfiguration.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaSystemPartnerConfiguration");
-        kparams.addStringIfNotNull("partnerName", this.partnerName);
-        kparams.addStringIfNotNull("description", this.description);
-        kparams.addStringIfNotNull("adminName", this.adminName);
-        kparams.addStringIfNotNull("adminEmail", this.adminEmail);
-        kparams.addStringIfNotNull("host", this.host);
-        kparams.addStringIfNotNull("cdnHost", this.cdnHost);
-        kparams.addIntIfNotNull("maxBulkSize", this.maxBulkSize);
-        kparams.addIntIfNotNull("partnerPackage", this.partnerPackage);
-        kparams.addIntIfNotNull("monitorUsage", this.monitorUsage);
-        kparams.addBoolIfNotNull("liveStreamEnabled", this.liveStreamEnabled);
-        kparams.addBoolIfNotNull("moderateContent", this.moderateContent);
-        kparams.addStringIfNotNull("rtmpUrl", this.rtmpUrl);
-        kparams.addBoolIfNotNull("storageDeleteFromKaltura", this.storageDeleteFromKaltura);
-        if (storageServePriority != null) kparams.addIntIfNotNull("storageServePriority", this.storageServePriority.getHashCode());
-        kparams.addIntIfNotNull("kmcVersion", this.kmcVersion);
-        kparams.addBoolIfNotNull("enableAnalyticsTab", this.enableAnalyticsTab);
-        kparams.addBoolIfNotNull("enableSilverLight", this.enableSilverLight);
-        kparams.addBoolIfNotNull("enableVast", this.enableVast);
-        kparams.addBoolIfNotNull("enable508Players", this.enable508Players);
-        kparams.addBoolIfNotNull("enableMetadata", this.enableMetadata);
-        kparams.addBoolIfNotNull("enableContentDistribution", this.enableContentDistribution);
-        kparams.addBoolIfNotNull("enableAuditTrail", this.enableAuditTrail);
-        kparams.addBoolIfNotNull("enableAnnotation", this.enableAnnotation);
-        kparams.addBoolIfNotNull("enableMobileFlavors", this.enableMobileFlavors);
-        kparams.addBoolIfNotNull("enablePs2PermissionValidation", this.enablePs2PermissionValidation);
-        kparams.addIntIfNotNull("defThumbOffset", this.defThumbOffset);
-        kparams.addIntIfNotNull("adminLoginUsersQuota", this.adminLoginUsersQuota);
-        kparams.addIntIfNotNull("userSessionRoleId", this.userSessionRoleId);
-        kparams.addIntIfNotNull("adminSessionRoleId", this.adminSessionRoleId);
-        kparams.addStringIfNotNull("alwaysAllowedPermissionNames", this.alwaysAllowedPermissionNames);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "partnerName", this.partnerName);
+        kparams.addStringIfNotNull(prefix, "description", this.description);
+        kparams.addStringIfNotNull(prefix, "adminName", this.adminName);
+        kparams.addStringIfNotNull(prefix, "adminEmail", this.adminEmail);
+        kparams.addStringIfNotNull(prefix, "host", this.host);
+        kparams.addStringIfNotNull(prefix, "cdnHost", this.cdnHost);
+        kparams.addIntIfNotNull(prefix, "maxBulkSize", this.maxBulkSize);
+        kparams.addIntIfNotNull(prefix, "partnerPackage", this.partnerPackage);
+        kparams.addIntIfNotNull(prefix, "monitorUsage", this.monitorUsage);
+        kparams.addBoolIfNotNull(prefix, "liveStreamEnabled", this.liveStreamEnabled);
+        kparams.addBoolIfNotNull(prefix, "moderateContent", this.moderateContent);
+        kparams.addStringIfNotNull(prefix, "rtmpUrl", this.rtmpUrl);
+        kparams.addBoolIfNotNull(prefix, "storageDeleteFromKaltura", this.storageDeleteFromKaltura);
+        if (storageServePriority != null) kparams.addIntIfNotNull(prefix, "storageServePriority", this.storageServePriority.getHashCode());
+        kparams.addIntIfNotNull(prefix, "kmcVersion", this.kmcVersion);
+        kparams.addBoolIfNotNull(prefix, "enableAnalyticsTab", this.enableAnalyticsTab);
+        kparams.addBoolIfNotNull(prefix, "enableSilverLight", this.enableSilverLight);
+        kparams.addBoolIfNotNull(prefix, "enableVast", this.enableVast);
+        kparams.addBoolIfNotNull(prefix, "enable508Players", this.enable508Players);
+        kparams.addBoolIfNotNull(prefix, "enableMetadata", this.enableMetadata);
+        kparams.addBoolIfNotNull(prefix, "enableContentDistribution", this.enableContentDistribution);
+        kparams.addBoolIfNotNull(prefix, "enableAuditTrail", this.enableAuditTrail);
+        kparams.addBoolIfNotNull(prefix, "enableAnnotation", this.enableAnnotation);
+        kparams.addBoolIfNotNull(prefix, "enableMobileFlavors", this.enableMobileFlavors);
+        kparams.addBoolIfNotNull(prefix, "enablePs2PermissionValidation", this.enablePs2PermissionValidation);
+        kparams.addIntIfNotNull(prefix, "defThumbOffset", this.defThumbOffset);
+        kparams.addIntIfNotNull(prefix, "adminLoginUsersQuota", this.adminLoginUsersQuota);
+        kparams.addIntIfNotNull(prefix, "userSessionRoleId", this.userSessionRoleId);
+        kparams.addIntIfNotNull(prefix, "adminSessionRoleId", this.adminSessionRoleId);
+        kparams.addStringIfNotNull(prefix, "alwaysAllowedPermissionNames", this.alwaysAllowedPermissionNames);
     }
 }
 
@@ -2,14 +2,11 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
-import java.util.ArrayList;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
+import java.util.List;
 
 
 /**
@@ -21,44 +18,20 @@ import com.kaltura.client.KalturaObjectFactory;
  */
 
 public class KalturaSystemPartnerUsageListResponse extends KalturaObjectBase {
-    public ArrayList<KalturaSystemPartnerUsageItem> objects;
+    public List<KalturaSystemPartnerUsageItem> objects;
     public int totalCount = Integer.MIN_VALUE;
 
     public KalturaSystemPartnerUsageListResponse() {
     }
 
     public KalturaSystemPartnerUsageListResponse(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("objects")) {
-                this.objects = new ArrayList<KalturaSystemPartnerUsageItem>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.objects.add((KalturaSystemPartnerUsageItem)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } else if (nodeName.equals("totalCount")) {
-                try {
-                    if (!txt.equals("")) this.totalCount = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaSystemPartnerUsageListResponse.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaSystemPartnerUsageListResponse");
-        kparams.addObjectIfNotNull("objects", this.objects);
-        kparams.addIntIfNotNull("totalCount", this.totalCount);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addObjectIfNotNull(prefix, "objects", this.objects);
+        kparams.addIntIfNotNull(prefix, "totalCount", this.totalCount);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaThumbCropType;
 
 
@@ -38,99 +36,25 @@ public class KalturaThumbParams extends KalturaAssetParams {
     }
 
     public KalturaThumbParams(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("cropType")) {
-                try {
-                    if (!txt.equals("")) this.cropType = KalturaThumbCropType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("quality")) {
-                try {
-                    if (!txt.equals("")) this.quality = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("cropX")) {
-                try {
-                    if (!txt.equals("")) this.cropX = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("cropY")) {
-                try {
-                    if (!txt.equals("")) this.cropY = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("cropWidth")) {
-                try {
-                    if (!txt.equals("")) this.cropWidth = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("cropHeight")) {
-                try {
-                    if (!txt.equals("")) this.cropHeight = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("videoOffset")) {
-                try {
-                    if (!txt.equals("")) this.videoOffset = Float.parseFloat(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("width")) {
-                try {
-                    if (!txt.equals("")) this.width = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("height")) {
-                try {
-                    if (!txt.equals("")) this.height = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("scaleWidth")) {
-                try {
-                    if (!txt.equals("")) this.scaleWidth = Float.parseFloat(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("scaleHeight")) {
-                try {
-                    if (!txt.equals("")) this.scaleHeight = Float.parseFloat(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("backgroundColor")) {
-                this.backgroundColor = txt;
-                continue;
-            } else if (nodeName.equals("sourceParamsId")) {
-                try {
-                    if (!txt.equals("")) this.sourceParamsId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaThumbParams.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaThumbParams");
-        if (cropType != null) kparams.addIntIfNotNull("cropType", this.cropType.getHashCode());
-        kparams.addIntIfNotNull("quality", this.quality);
-        kparams.addIntIfNotNull("cropX", this.cropX);
-        kparams.addIntIfNotNull("cropY", this.cropY);
-        kparams.addIntIfNotNull("cropWidth", this.cropWidth);
-        kparams.addIntIfNotNull("cropHeight", this.cropHeight);
-        kparams.addFloatIfNotNull("videoOffset", this.videoOffset);
-        kparams.addIntIfNotNull("width", this.width);
-        kparams.addIntIfNotNull("height", this.height);
-        kparams.addFloatIfNotNull("scaleWidth", this.scaleWidth);
-        kparams.addFloatIfNotNull("scaleHeight", this.scaleHeight);
-        kparams.addStringIfNotNull("backgroundColor", this.backgroundColor);
-        kparams.addIntIfNotNull("sourceParamsId", this.sourceParamsId);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        if (cropType != null) kparams.addIntIfNotNull(prefix, "cropType", this.cropType.getHashCode());
+        kparams.addIntIfNotNull(prefix, "quality", this.quality);
+        kparams.addIntIfNotNull(prefix, "cropX", this.cropX);
+        kparams.addIntIfNotNull(prefix, "cropY", this.cropY);
+        kparams.addIntIfNotNull(prefix, "cropWidth", this.cropWidth);
+        kparams.addIntIfNotNull(prefix, "cropHeight", this.cropHeight);
+        kparams.addFloatIfNotNull(prefix, "videoOffset", this.videoOffset);
+        kparams.addIntIfNotNull(prefix, "width", this.width);
+        kparams.addIntIfNotNull(prefix, "height", this.height);
+        kparams.addFloatIfNotNull(prefix, "scaleWidth", this.scaleWidth);
+        kparams.addFloatIfNotNull(prefix, "scaleHeight", this.scaleHeight);
+        kparams.addStringIfNotNull(prefix, "backgroundColor", this.backgroundColor);
+        kparams.addIntIfNotNull(prefix, "sourceParamsId", this.sourceParamsId);
     }
 }
 
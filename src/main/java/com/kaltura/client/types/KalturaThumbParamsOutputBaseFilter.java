@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 
 
 /**
@@ -28,41 +26,16 @@ public abstract class KalturaThumbParamsOutputBaseFilter extends KalturaThumbPar
     }
 
     public KalturaThumbParamsOutputBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("thumbParamsIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.thumbParamsIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("thumbParamsVersionEqual")) {
-                this.thumbParamsVersionEqual = txt;
-                continue;
-            } else if (nodeName.equals("thumbAssetIdEqual")) {
-                this.thumbAssetIdEqual = txt;
-                continue;
-            } else if (nodeName.equals("thumbAssetVersionEqual")) {
-                this.thumbAssetVersionEqual = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaThumbParamsOutputBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaThumbParamsOutputBaseFilter");
-        kparams.addIntIfNotNull("thumbParamsIdEqual", this.thumbParamsIdEqual);
-        kparams.addStringIfNotNull("thumbParamsVersionEqual", this.thumbParamsVersionEqual);
-        kparams.addStringIfNotNull("thumbAssetIdEqual", this.thumbAssetIdEqual);
-        kparams.addStringIfNotNull("thumbAssetVersionEqual", this.thumbAssetVersionEqual);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "thumbParamsIdEqual", this.thumbParamsIdEqual);
+        kparams.addStringIfNotNull(prefix, "thumbParamsVersionEqual", this.thumbParamsVersionEqual);
+        kparams.addStringIfNotNull(prefix, "thumbAssetIdEqual", this.thumbAssetIdEqual);
+        kparams.addStringIfNotNull(prefix, "thumbAssetVersionEqual", this.thumbAssetVersionEqual);
     }
 }
 
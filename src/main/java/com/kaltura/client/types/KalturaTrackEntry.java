@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaTrackEntryEventType;
 
 
@@ -42,100 +40,28 @@ public class KalturaTrackEntry extends KalturaObjectBase {
     }
 
     public KalturaTrackEntry(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                try {
-                    if (!txt.equals("")) this.id = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("trackEventType")) {
-                try {
-                    if (!txt.equals("")) this.trackEventType = KalturaTrackEntryEventType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("psVersion")) {
-                this.psVersion = txt;
-                continue;
-            } else if (nodeName.equals("context")) {
-                this.context = txt;
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("entryId")) {
-                this.entryId = txt;
-                continue;
-            } else if (nodeName.equals("hostName")) {
-                this.hostName = txt;
-                continue;
-            } else if (nodeName.equals("userId")) {
-                this.userId = txt;
-                continue;
-            } else if (nodeName.equals("changedProperties")) {
-                this.changedProperties = txt;
-                continue;
-            } else if (nodeName.equals("paramStr1")) {
-                this.paramStr1 = txt;
-                continue;
-            } else if (nodeName.equals("paramStr2")) {
-                this.paramStr2 = txt;
-                continue;
-            } else if (nodeName.equals("paramStr3")) {
-                this.paramStr3 = txt;
-                continue;
-            } else if (nodeName.equals("ks")) {
-                this.ks = txt;
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } else if (nodeName.equals("createdAt")) {
-                try {
-                    if (!txt.equals("")) this.createdAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAt")) {
-                try {
-                    if (!txt.equals("")) this.updatedAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("userIp")) {
-                this.userIp = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaTrackEntry.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaTrackEntry");
-        kparams.addIntIfNotNull("id", this.id);
-        if (trackEventType != null) kparams.addIntIfNotNull("trackEventType", this.trackEventType.getHashCode());
-        kparams.addStringIfNotNull("psVersion", this.psVersion);
-        kparams.addStringIfNotNull("context", this.context);
-        kparams.addIntIfNotNull("partnerId", this.partnerId);
-        kparams.addStringIfNotNull("entryId", this.entryId);
-        kparams.addStringIfNotNull("hostName", this.hostName);
-        kparams.addStringIfNotNull("userId", this.userId);
-        kparams.addStringIfNotNull("changedProperties", this.changedProperties);
-        kparams.addStringIfNotNull("paramStr1", this.paramStr1);
-        kparams.addStringIfNotNull("paramStr2", this.paramStr2);
-        kparams.addStringIfNotNull("paramStr3", this.paramStr3);
-        kparams.addStringIfNotNull("ks", this.ks);
-        kparams.addStringIfNotNull("description", this.description);
-        kparams.addIntIfNotNull("createdAt", this.createdAt);
-        kparams.addIntIfNotNull("updatedAt", this.updatedAt);
-        kparams.addStringIfNotNull("userIp", this.userIp);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "id", this.id);
+        if (trackEventType != null) kparams.addIntIfNotNull(prefix, "trackEventType", this.trackEventType.getHashCode());
+        kparams.addStringIfNotNull(prefix, "psVersion", this.psVersion);
+        kparams.addStringIfNotNull(prefix, "context", this.context);
+        kparams.addIntIfNotNull(prefix, "partnerId", this.partnerId);
+        kparams.addStringIfNotNull(prefix, "entryId", this.entryId);
+        kparams.addStringIfNotNull(prefix, "hostName", this.hostName);
+        kparams.addStringIfNotNull(prefix, "userId", this.userId);
+        kparams.addStringIfNotNull(prefix, "changedProperties", this.changedProperties);
+        kparams.addStringIfNotNull(prefix, "paramStr1", this.paramStr1);
+        kparams.addStringIfNotNull(prefix, "paramStr2", this.paramStr2);
+        kparams.addStringIfNotNull(prefix, "paramStr3", this.paramStr3);
+        kparams.addStringIfNotNull(prefix, "ks", this.ks);
+        kparams.addStringIfNotNull(prefix, "description", this.description);
+        kparams.addIntIfNotNull(prefix, "createdAt", this.createdAt);
+        kparams.addIntIfNotNull(prefix, "updatedAt", this.updatedAt);
+        kparams.addStringIfNotNull(prefix, "userIp", this.userIp);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaUiConfObjType;
 import com.kaltura.client.enums.KalturaUiConfCreationMode;
 
@@ -46,112 +44,25 @@ public class KalturaUiConf extends KalturaObjectBase {
     }
 
     public KalturaUiConf(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("id")) {
-                try {
-                    if (!txt.equals("")) this.id = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("name")) {
-                this.name = txt;
-                continue;
-            } else if (nodeName.equals("description")) {
-                this.description = txt;
-                continue;
-            } else if (nodeName.equals("partnerId")) {
-                try {
-                    if (!txt.equals("")) this.partnerId = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("objType")) {
-                try {
-                    if (!txt.equals("")) this.objType = KalturaUiConfObjType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("objTypeAsString")) {
-                this.objTypeAsString = txt;
-                continue;
-            } else if (nodeName.equals("width")) {
-                try {
-                    if (!txt.equals("")) this.width = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("height")) {
-                try {
-                    if (!txt.equals("")) this.height = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("htmlParams")) {
-                this.htmlParams = txt;
-                continue;
-            } else if (nodeName.equals("swfUrl")) {
-                this.swfUrl = txt;
-                continue;
-            } else if (nodeName.equals("confFilePath")) {
-                this.confFilePath = txt;
-                continue;
-            } else if (nodeName.equals("confFile")) {
-                this.confFile = txt;
-                continue;
-            } else if (nodeName.equals("confFileFeatures")) {
-                this.confFileFeatures = txt;
-                continue;
-            } else if (nodeName.equals("confVars")) {
-                this.confVars = txt;
-                continue;
-            } else if (nodeName.equals("useCdn")) {
-                if (!txt.equals("")) this.useCdn = ((txt.equals("0")) ? false : true);
-                continue;
-            } else if (nodeName.equals("tags")) {
-                this.tags = txt;
-                continue;
-            } else if (nodeName.equals("swfUrlVersion")) {
-                this.swfUrlVersion = txt;
-                continue;
-            } else if (nodeName.equals("createdAt")) {
-                try {
-                    if (!txt.equals("")) this.createdAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAt")) {
-                try {
-                    if (!txt.equals("")) this.updatedAt = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("creationMode")) {
-                try {
-                    if (!txt.equals("")) this.creationMode = KalturaUiConfCreationMode.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaUiConf.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaUiConf");
-        kparams.addStringIfNotNull("name", this.name);
-        kparams.addStringIfNotNull("description", this.description);
-        if (objType != null) kparams.addIntIfNotNull("objType", this.objType.getHashCode());
-        kparams.addIntIfNotNull("width", this.width);
-        kparams.addIntIfNotNull("height", this.height);
-        kparams.addStringIfNotNull("htmlParams", this.htmlParams);
-        kparams.addStringIfNotNull("swfUrl", this.swfUrl);
-        kparams.addStringIfNotNull("confFile", this.confFile);
-        kparams.addStringIfNotNull("confFileFeatures", this.confFileFeatures);
-        kparams.addStringIfNotNull("confVars", this.confVars);
-        kparams.addBoolIfNotNull("useCdn", this.useCdn);
-        kparams.addStringIfNotNull("tags", this.tags);
-        kparams.addStringIfNotNull("swfUrlVersion", this.swfUrlVersion);
-        if (creationMode != null) kparams.addIntIfNotNull("creationMode", this.creationMode.getHashCode());
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "name", this.name);
+        kparams.addStringIfNotNull(prefix, "description", this.description);
+        if (objType != null) kparams.addIntIfNotNull(prefix, "objType", this.objType.getHashCode());
+        kparams.addIntIfNotNull(prefix, "width", this.width);
+        kparams.addIntIfNotNull(prefix, "height", this.height);
+        kparams.addStringIfNotNull(prefix, "htmlParams", this.htmlParams);
+        kparams.addStringIfNotNull(prefix, "swfUrl", this.swfUrl);
+        kparams.addStringIfNotNull(prefix, "confFile", this.confFile);
+        kparams.addStringIfNotNull(prefix, "confFileFeatures", this.confFileFeatures);
+        kparams.addStringIfNotNull(prefix, "confVars", this.confVars);
+        kparams.addBoolIfNotNull(prefix, "useCdn", this.useCdn);
+        kparams.addStringIfNotNull(prefix, "tags", this.tags);
+        kparams.addStringIfNotNull(prefix, "swfUrlVersion", this.swfUrlVersion);
+        if (creationMode != null) kparams.addIntIfNotNull(prefix, "creationMode", this.creationMode.getHashCode());
     }
 }
 
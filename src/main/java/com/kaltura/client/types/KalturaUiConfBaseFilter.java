@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaUiConfObjType;
 import com.kaltura.client.enums.KalturaUiConfCreationMode;
 
@@ -41,99 +39,27 @@ public abstract class KalturaUiConfBaseFilter extends KalturaFilter {
     }
 
     public KalturaUiConfBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("idEqual")) {
-                try {
-                    if (!txt.equals("")) this.idEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("idIn")) {
-                this.idIn = txt;
-                continue;
-            } else if (nodeName.equals("nameLike")) {
-                this.nameLike = txt;
-                continue;
-            } else if (nodeName.equals("partnerIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.partnerIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("partnerIdIn")) {
-                this.partnerIdIn = txt;
-                continue;
-            } else if (nodeName.equals("objTypeEqual")) {
-                try {
-                    if (!txt.equals("")) this.objTypeEqual = KalturaUiConfObjType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("objTypeIn")) {
-                this.objTypeIn = txt;
-                continue;
-            } else if (nodeName.equals("tagsMultiLikeOr")) {
-                this.tagsMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("tagsMultiLikeAnd")) {
-                this.tagsMultiLikeAnd = txt;
-                continue;
-            } else if (nodeName.equals("createdAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("updatedAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.updatedAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("creationModeEqual")) {
-                try {
-                    if (!txt.equals("")) this.creationModeEqual = KalturaUiConfCreationMode.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("creationModeIn")) {
-                this.creationModeIn = txt;
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaUiConfBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaUiConfBaseFilter");
-        kparams.addIntIfNotNull("idEqual", this.idEqual);
-        kparams.addStringIfNotNull("idIn", this.idIn);
-        kparams.addStringIfNotNull("nameLike", this.nameLike);
-        kparams.addIntIfNotNull("partnerIdEqual", this.partnerIdEqual);
-        kparams.addStringIfNotNull("partnerIdIn", this.partnerIdIn);
-        if (objTypeEqual != null) kparams.addIntIfNotNull("objTypeEqual", this.objTypeEqual.getHashCode());
-        kparams.addStringIfNotNull("objTypeIn", this.objTypeIn);
-        kparams.addStringIfNotNull("tagsMultiLikeOr", this.tagsMultiLikeOr);
-        kparams.addStringIfNotNull("tagsMultiLikeAnd", this.tagsMultiLikeAnd);
-        kparams.addIntIfNotNull("createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
-        if (creationModeEqual != null) kparams.addIntIfNotNull("creationModeEqual", this.creationModeEqual.getHashCode());
-        kparams.addStringIfNotNull("creationModeIn", this.creationModeIn);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "idEqual", this.idEqual);
+        kparams.addStringIfNotNull(prefix, "idIn", this.idIn);
+        kparams.addStringIfNotNull(prefix, "nameLike", this.nameLike);
+        kparams.addIntIfNotNull(prefix, "partnerIdEqual", this.partnerIdEqual);
+        kparams.addStringIfNotNull(prefix, "partnerIdIn", this.partnerIdIn);
+        if (objTypeEqual != null) kparams.addIntIfNotNull(prefix, "objTypeEqual", this.objTypeEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "objTypeIn", this.objTypeIn);
+        kparams.addStringIfNotNull(prefix, "tagsMultiLikeOr", this.tagsMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "tagsMultiLikeAnd", this.tagsMultiLikeAnd);
+        kparams.addIntIfNotNull(prefix, "createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtGreaterThanOrEqual", this.updatedAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "updatedAtLessThanOrEqual", this.updatedAtLessThanOrEqual);
+        if (creationModeEqual != null) kparams.addIntIfNotNull(prefix, "creationModeEqual", this.creationModeEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "creationModeIn", this.creationModeIn);
     }
 }
 
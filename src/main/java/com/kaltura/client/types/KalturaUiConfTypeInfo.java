@@ -2,15 +2,12 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaUiConfObjType;
-import java.util.ArrayList;
-import com.kaltura.client.KalturaObjectFactory;
+import java.util.List;
 
 
 /**
@@ -23,7 +20,7 @@ import com.kaltura.client.KalturaObjectFactory;
 
 public class KalturaUiConfTypeInfo extends KalturaObjectBase {
     public KalturaUiConfObjType type;
-    public ArrayList<KalturaString> versions;
+    public List<KalturaString> versions;
     public String directory;
     public String filename;
 
@@ -31,45 +28,15 @@ public class KalturaUiConfTypeInfo extends KalturaObjectBase {
     }
 
     public KalturaUiConfTypeInfo(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("type")) {
-                try {
-                    if (!txt.equals("")) this.type = KalturaUiConfObjType.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("versions")) {
-                this.versions = new ArrayList<KalturaString>();
-                NodeList subNodeList = aNode.getChildNodes();
-                for (int j = 0; j < subNodeList.getLength(); j++) {
-                    Node arrayNode = subNodeList.item(j);
-                    this.versions.add((KalturaString)KalturaObjectFactory.create((Element)arrayNode));
-                }
-                continue;
-            } else if (nodeName.equals("directory")) {
-                this.directory = txt;
-                continue;
-            } else if (nodeName.equals("filename")) {
-                this.filename = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaUiConfTypeInfo.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaUiConfTypeInfo");
-        if (type != null) kparams.addIntIfNotNull("type", this.type.getHashCode());
-        kparams.addObjectIfNotNull("versions", this.versions);
-        kparams.addStringIfNotNull("directory", this.directory);
-        kparams.addStringIfNotNull("filename", this.filename);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        if (type != null) kparams.addIntIfNotNull(prefix, "type", this.type.getHashCode());
+        kparams.addObjectIfNotNull(prefix, "versions", this.versions);
+        kparams.addStringIfNotNull(prefix, "directory", this.directory);
+        kparams.addStringIfNotNull(prefix, "filename", this.filename);
     }
 }
 
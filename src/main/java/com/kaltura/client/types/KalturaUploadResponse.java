@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaUploadErrorCode;
 
 
@@ -29,42 +27,15 @@ public class KalturaUploadResponse extends KalturaObjectBase {
     }
 
     public KalturaUploadResponse(Element node) throws KalturaApiException {
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("uploadTokenId")) {
-                this.uploadTokenId = txt;
-                continue;
-            } else if (nodeName.equals("fileSize")) {
-                try {
-                    if (!txt.equals("")) this.fileSize = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("errorCode")) {
-                try {
-                    if (!txt.equals("")) this.errorCode = KalturaUploadErrorCode.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("errorDescription")) {
-                this.errorDescription = txt;
-                continue;
-            } 
-
-        }
+        KalturaDomBinder.DEFAULT.fill(this, KalturaUploadResponse.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaUploadResponse");
-        kparams.addStringIfNotNull("uploadTokenId", this.uploadTokenId);
-        kparams.addIntIfNotNull("fileSize", this.fileSize);
-        if (errorCode != null) kparams.addIntIfNotNull("errorCode", this.errorCode.getHashCode());
-        kparams.addStringIfNotNull("errorDescription", this.errorDescription);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addStringIfNotNull(prefix, "uploadTokenId", this.uploadTokenId);
+        kparams.addIntIfNotNull(prefix, "fileSize", this.fileSize);
+        if (errorCode != null) kparams.addIntIfNotNull(prefix, "errorCode", this.errorCode.getHashCode());
+        kparams.addStringIfNotNull(prefix, "errorDescription", this.errorDescription);
     }
 }
 
@@ -2,12 +2,10 @@ package com.kaltura.client.types;
 
 import java.util.IllegalFormatException;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import com.kaltura.client.KalturaObjectBase;
-import com.kaltura.client.KalturaParams;
+import com.kaltura.client.KalturaParamsEncoder;
 import com.kaltura.client.KalturaApiException;
-import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.KalturaDomBinder;
 import com.kaltura.client.enums.KalturaUserStatus;
 
 
@@ -37,79 +35,24 @@ public abstract class KalturaUserBaseFilter extends KalturaFilter {
     }
 
     public KalturaUserBaseFilter(Element node) throws KalturaApiException {
-        super(node);
-        NodeList childNodes = node.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node aNode = childNodes.item(i);
-            String txt = aNode.getTextContent();
-            String nodeName = aNode.getNodeName();
-            if (false) {
-                // noop
-            } else if (nodeName.equals("partnerIdEqual")) {
-                try {
-                    if (!txt.equals("")) this.partnerIdEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("screenNameLike")) {
-                this.screenNameLike = txt;
-                continue;
-            } else if (nodeName.equals("screenNameStartsWith")) {
-                this.screenNameStartsWith = txt;
-                continue;
-            } else if (nodeName.equals("emailLike")) {
-                this.emailLike = txt;
-                continue;
-            } else if (nodeName.equals("emailStartsWith")) {
-                this.emailStartsWith = txt;
-                continue;
-            } else if (nodeName.equals("tagsMultiLikeOr")) {
-                this.tagsMultiLikeOr = txt;
-                continue;
-            } else if (nodeName.equals("tagsMultiLikeAnd")) {
-                this.tagsMultiLikeAnd = txt;
-                continue;
-            } else if (nodeName.equals("statusEqual")) {
-                try {
-                    if (!txt.equals("")) this.statusEqual = KalturaUserStatus.get(Integer.parseInt(txt));
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("statusIn")) {
-                this.statusIn = txt;
-                continue;
-            } else if (nodeName.equals("createdAtGreaterThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtGreaterThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("createdAtLessThanOrEqual")) {
-                try {
-                    if (!txt.equals("")) this.createdAtLessThanOrEqual = Integer.parseInt(txt);
-                } catch (NumberFormatException nfe) {}
-                continue;
-            } else if (nodeName.equals("isAdminEqual")) {
-                if (!txt.equals("")) this.isAdminEqual = ((txt.equals("0")) ? false : true);
-                continue;
-            } 
-
-        }
+        super();
+        KalturaDomBinder.DEFAULT.fill(this, KalturaUserBaseFilter.class, node);
     }
 
-    public KalturaParams toParams() {
-        KalturaParams kparams = super.toParams();
-        kparams.setString("objectType", "KalturaUserBaseFilter");
-        kparams.addIntIfNotNull("partnerIdEqual", this.partnerIdEqual);
-        kparams.addStringIfNotNull("screenNameLike", this.screenNameLike);
-        kparams.addStringIfNotNull("screenNameStartsWith", this.screenNameStartsWith);
-        kparams.addStringIfNotNull("emailLike", this.emailLike);
-        kparams.addStringIfNotNull("emailStartsWith", this.emailStartsWith);
-        kparams.addStringIfNotNull("tagsMultiLikeOr", this.tagsMultiLikeOr);
-        kparams.addStringIfNotNull("tagsMultiLikeAnd", this.tagsMultiLikeAnd);
-        if (statusEqual != null) kparams.addIntIfNotNull("statusEqual", this.statusEqual.getHashCode());
-        kparams.addStringIfNotNull("statusIn", this.statusIn);
-        kparams.addIntIfNotNull("createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
-        kparams.addIntIfNotNull("createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
-        kparams.addBoolIfNotNull("isAdminEqual", this.isAdminEqual);
-        return kparams;
+    protected void writeParams(KalturaParamsEncoder kparams, String prefix) {
+        super.writeParams(kparams, prefix);
+        kparams.addIntIfNotNull(prefix, "partnerIdEqual", this.partnerIdEqual);
+        kparams.addStringIfNotNull(prefix, "screenNameLike", this.screenNameLike);
+        kparams.addStringIfNotNull(prefix, "screenNameStartsWith", this.screenNameStartsWith);
+        kparams.addStringIfNotNull(prefix, "emailLike", this.emailLike);
+        kparams.addStringIfNotNull(prefix, "emailStartsWith", this.emailStartsWith);
+        kparams.addStringIfNotNull(prefix, "tagsMultiLikeOr", this.tagsMultiLikeOr);
+        kparams.addStringIfNotNull(prefix, "tagsMultiLikeAnd", this.tagsMultiLikeAnd);
+        if (statusEqual != null) kparams.addIntIfNotNull(prefix, "statusEqual", this.statusEqual.getHashCode());
+        kparams.addStringIfNotNull(prefix, "statusIn", this.statusIn);
+        kparams.addIntIfNotNull(prefix, "createdAtGreaterThanOrEqual", this.createdAtGreaterThanOrEqual);
+        kparams.addIntIfNotNull(prefix, "createdAtLessThanOrEqual", this.createdAtLessThanOrEqual);
+        kparams.addBoolIfNotNull(prefix, "isAdminEqual", this.isAdminEqual);
     }
 }
 
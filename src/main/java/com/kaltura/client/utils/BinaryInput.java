@@ -0,0 +1,114 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client.utils;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the values written by {@link BinaryOutput} directly from a ByteBuffer (heap, direct or memory mapped),
+ * the values are decoded in place so nothing is copied except the bytes of the strings into the strings themselves.
+ * Reading starts at the current position of the buffer and moves it forward.
+ */
+public class BinaryInput {
+
+    private final ByteBuffer buffer;
+
+    /**
+     * @param buffer the buffer to read from (its position is moved as values are read)
+     */
+    public BinaryInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    public int readByte() {
+        return buffer.get() & 0xFF;
+    }
+
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed variable length int");
+    }
+
+    public int readSignedVarInt() {
+        int v = readVarInt();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    public long readSignedVarLong() {
+        long v = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = buffer.get();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (v >>> 1) ^ -(v & 1);
+            }
+        }
+        throw new IllegalStateException("Malformed variable length long");
+    }
+
+    public float readFloat() {
+        // big endian regardless of the byte order set on the buffer
+        int bits = (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+        return Float.intBitsToFloat(bits);
+    }
+
+    public String readString() {
+        int length = readVarInt();
+        if (length == 0) {
+            return "";
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, BinaryOutput.UTF8);
+            buffer.position(buffer.position() + length);
+        } else {
+            ByteBuffer bytes = buffer.slice();
+            bytes.limit(length);
+            value = BinaryOutput.UTF8.decode(bytes).toString();
+            buffer.position(buffer.position() + length);
+        }
+        return value;
+    }
+
+    /**
+     * @param length the number of bytes
+     * @return a view (not a copy) of the next bytes, the position is moved past them
+     */
+    public ByteBuffer readSlice(int length) {
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer slice = buffer.slice();
+        slice.limit(length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Growable byte buffer for writing the compact binary formats (see {@link BinaryInput} for the reading side),
+ * numbers are written as variable length (LEB128) values and strings as their length followed by the UTF-8 bytes
+ */
+public class BinaryOutput {
+
+    static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private byte[] buffer;
+    private int size = 0;
+
+    public BinaryOutput() {
+        this(256);
+    }
+
+    /**
+     * @param initialCapacity the initial size of the buffer in bytes
+     */
+    public BinaryOutput(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buffer.length) {
+            byte[] bigger = new byte[Math.max(buffer.length * 2, size + extra)];
+            System.arraycopy(buffer, 0, bigger, 0, size);
+            buffer = bigger;
+        }
+    }
+
+    public void writeByte(int value) {
+        ensure(1);
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensure(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * @param value an unsigned (non negative) value, small values take fewer bytes
+     */
+    public void writeVarInt(int value) {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * @param value any value, values close to 0 (positive or negative) take fewer bytes
+     */
+    public void writeSignedVarInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * @param value any value, values close to 0 (positive or negative) take fewer bytes
+     */
+    public void writeSignedVarLong(long value) {
+        ensure(10);
+        long v = (value << 1) ^ (value >> 63);
+        while ((v & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buffer[size++] = (byte) v;
+    }
+
+    public void writeFloat(float value) {
+        int bits = Float.floatToIntBits(value);
+        ensure(4);
+        buffer[size++] = (byte) (bits >>> 24);
+        buffer[size++] = (byte) (bits >>> 16);
+        buffer[size++] = (byte) (bits >>> 8);
+        buffer[size++] = (byte) bits;
+    }
+
+    /**
+     * @param value the string to write, must not be null
+     */
+    public void writeString(String value) {
+        byte[] bytes = value.getBytes(UTF8);
+        writeVarInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Overwrites a byte which was already written (e.g. a bit set which is only known once the values are written)
+     */
+    public void setByte(int position, int value) {
+        if (position >= size) {
+            throw new IndexOutOfBoundsException("position " + position + " is not written yet");
+        }
+        buffer[position] = (byte) value;
+    }
+
+    /**
+     * @return the number of bytes written
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a copy of the bytes written
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[size];
+        System.arraycopy(buffer, 0, bytes, 0, size);
+        return bytes;
+    }
+
+    /**
+     * @return a read only view of the bytes written (not a copy so do not write more while it is used)
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buffer, 0, size).asReadOnlyBuffer();
+    }
+
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream which fails once more than a maximum number of bytes have been read from it,
+ * this protects the client from huge (or endless) responses when decoding directly from the socket
+ */
+public class BoundedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long count = 0;
+
+    /**
+     * @param in the stream to wrap
+     * @param maxBytes the max number of bytes which can be read, 0 or less for no limit
+     */
+    public BoundedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return the number of bytes read so far
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            checkLimit(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            checkLimit(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        if (skipped > 0) {
+            checkLimit(skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void checkLimit(long n) throws IOException {
+        count += n;
+        if (maxBytes > 0 && count > maxBytes) {
+            throw new ResponseTooLargeException(maxBytes);
+        }
+    }
+
+    /**
+     * Indicates the stream went past the max number of bytes allowed
+     */
+    public static class ResponseTooLargeException extends IOException {
+        private static final long serialVersionUID = 1L;
+        public ResponseTooLargeException(long maxBytes) {
+            super("Response exceeded the max allowed size of " + maxBytes + " bytes");
+        }
+    }
+
+}
@@ -0,0 +1,329 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+/**
+ * Minimal streaming (pull) JSON tokenizer, the caller asks for one token at a time with {@link #next()}
+ * and nothing is kept in memory except the text of the current token.
+ * The separators (commas and colons) are validated and consumed internally.
+ */
+public class JsonPullParser {
+
+    public static final int BEGIN_OBJECT = 1;
+    public static final int END_OBJECT = 2;
+    public static final int BEGIN_ARRAY = 3;
+    public static final int END_ARRAY = 4;
+    public static final int NAME = 5;
+    public static final int STRING = 6;
+    public static final int NUMBER = 7;
+    public static final int BOOLEAN = 8;
+    public static final int NULL = 9;
+    public static final int END_DOCUMENT = 10;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int pos = 0;
+    private int limit = 0;
+
+    private int[] stack = new int[32];
+    private int stackSize = 1;
+
+    private final StringBuilder textBuilder = new StringBuilder();
+    private String text;
+
+    /**
+     * @param in the UTF-8 encoded JSON stream
+     */
+    public JsonPullParser(InputStream in) {
+        this(new InputStreamReader(in, Charset.forName("UTF-8")));
+    }
+
+    /**
+     * @param reader the JSON source
+     */
+    public JsonPullParser(Reader reader) {
+        this.reader = reader;
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * @return the text of the current NAME, STRING, NUMBER or BOOLEAN ("true" / "false") token, null for other tokens
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Reads the next token
+     * @return the token type (one of the constants in this class)
+     * @throws IOException if the stream cannot be read
+     * @throws MalformedJsonException if the stream is not valid JSON
+     */
+    public int next() throws IOException {
+        text = null;
+        int c = nextNonWhitespace();
+        int state = stack[stackSize - 1];
+        switch (state) {
+        case EMPTY_ARRAY:
+        case NONEMPTY_ARRAY:
+            if (c == ']') {
+                stackSize--;
+                return END_ARRAY;
+            }
+            if (state == NONEMPTY_ARRAY) {
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+                c = nextNonWhitespace();
+            }
+            stack[stackSize - 1] = NONEMPTY_ARRAY;
+            return readValue(c);
+        case EMPTY_OBJECT:
+        case NONEMPTY_OBJECT:
+            if (c == '}') {
+                stackSize--;
+                return END_OBJECT;
+            }
+            if (state == NONEMPTY_OBJECT) {
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or '}'");
+                }
+                c = nextNonWhitespace();
+            }
+            if (c != '"') {
+                throw syntaxError("Expected a name");
+            }
+            text = readString();
+            if (nextNonWhitespace() != ':') {
+                throw syntaxError("Expected ':'");
+            }
+            stack[stackSize - 1] = DANGLING_NAME;
+            return NAME;
+        case DANGLING_NAME:
+            stack[stackSize - 1] = NONEMPTY_OBJECT;
+            return readValue(c);
+        case EMPTY_DOCUMENT:
+            stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+            return readValue(c);
+        default:
+            if (c != -1) {
+                throw syntaxError("Unexpected data after the end of the document");
+            }
+            return END_DOCUMENT;
+        }
+    }
+
+    /**
+     * Skips the rest of a value, call this after reading the first token of the value
+     * (for objects and arrays this skips everything up to the matching end token)
+     * @param token the first token of the value
+     * @throws IOException if the stream cannot be read or is not valid JSON
+     */
+    public void skip(int token) throws IOException {
+        if (token != BEGIN_OBJECT && token != BEGIN_ARRAY) {
+            return;
+        }
+        int depth = 1;
+        while (depth > 0) {
+            int t = next();
+            if (t == BEGIN_OBJECT || t == BEGIN_ARRAY) {
+                depth++;
+            } else if (t == END_OBJECT || t == END_ARRAY) {
+                depth--;
+            } else if (t == END_DOCUMENT) {
+                throw syntaxError("Unexpected end of document");
+            }
+        }
+    }
+
+    private int readValue(int c) throws IOException {
+        switch (c) {
+        case '{':
+            push(EMPTY_OBJECT);
+            return BEGIN_OBJECT;
+        case '[':
+            push(EMPTY_ARRAY);
+            return BEGIN_ARRAY;
+        case '"':
+            text = readString();
+            return STRING;
+        case 't':
+            readLiteral("rue");
+            text = "true";
+            return BOOLEAN;
+        case 'f':
+            readLiteral("alse");
+            text = "false";
+            return BOOLEAN;
+        case 'n':
+            readLiteral("ull");
+            return NULL;
+        case -1:
+            throw syntaxError("Unexpected end of document");
+        default:
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                text = readNumber((char) c);
+                return NUMBER;
+            }
+            throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private void push(int state) {
+        if (stackSize == stack.length) {
+            int[] newStack = new int[stackSize * 2];
+            System.arraycopy(stack, 0, newStack, 0, stackSize);
+            stack = newStack;
+        }
+        stack[stackSize++] = state;
+    }
+
+    private String readString() throws IOException {
+        textBuilder.setLength(0);
+        while (true) {
+            int start = pos;
+            while (pos < limit) {
+                char c = buffer[pos++];
+                if (c == '"') {
+                    textBuilder.append(buffer, start, pos - start - 1);
+                    return textBuilder.toString();
+                } else if (c == '\\') {
+                    textBuilder.append(buffer, start, pos - start - 1);
+                    textBuilder.append(readEscape());
+                    start = pos;
+                }
+            }
+            textBuilder.append(buffer, start, pos - start);
+            if (! fill()) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        int c = read();
+        switch (c) {
+        case 'u':
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int h = read();
+                int digit = Character.digit(h, 16);
+                if (h == -1 || digit == -1) {
+                    throw syntaxError("Invalid unicode escape");
+                }
+                value = (value << 4) + digit;
+            }
+            return (char) value;
+        case 'b':
+            return '\b';
+        case 'f':
+            return '\f';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 't':
+            return '\t';
+        case '"':
+        case '\\':
+        case '/':
+            return (char) c;
+        default:
+            throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    private String readNumber(char first) throws IOException {
+        textBuilder.setLength(0);
+        textBuilder.append(first);
+        while (true) {
+            if (pos == limit && ! fill()) {
+                break;
+            }
+            char c = buffer[pos];
+            if ((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                textBuilder.append(c);
+                pos++;
+            } else {
+                break;
+            }
+        }
+        return textBuilder.toString();
+    }
+
+    private void readLiteral(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (read() != rest.charAt(i)) {
+                throw syntaxError("Invalid literal");
+            }
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            int c = read();
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r' && c != 0xFEFF) {
+                return c;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pos == limit && ! fill()) {
+            return -1;
+        }
+        return buffer[pos++];
+    }
+
+    private boolean fill() throws IOException {
+        pos = 0;
+        limit = 0;
+        int n = reader.read(buffer, 0, buffer.length);
+        if (n > 0) {
+            limit = n;
+            return true;
+        }
+        return false;
+    }
+
+    private MalformedJsonException syntaxError(String message) {
+        return new MalformedJsonException(message);
+    }
+
+    /**
+     * Indicates the stream is not valid JSON
+     */
+    public static class MalformedJsonException extends IOException {
+        private static final long serialVersionUID = 1L;
+        public MalformedJsonException(String message) {
+            super("Invalid JSON: " + message);
+        }
+    }
+
+}
@@ -1,13 +1,18 @@
 package com.kaltura.client.utils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
@@ -15,8 +20,10 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
 
 /**
  * XML parsing utilities for the Kaltura Java Client
@@ -26,24 +33,135 @@ import org.xml.sax.SAXException;
  * @author Aaron Zeckoski (azeckoski @ vt.edu) (azeckoski @ unicon.net)
  */
 public class XmlUtils {
-    public static Element parseXml(String xml) {
-        Element root = null;
-        //get the factory
+
+    /**
+     * XPath objects are not threadsafe so each thread gets its own XPath and compiled expressions
+     */
+    private static final ThreadLocal<XPathCache> xPathCache = new ThreadLocal<XPathCache>() {
+        @Override
+        protected XPathCache initialValue() {
+            return new XPathCache();
+        }
+    };
+
+    /**
+     * The factory is looked up (and configured) once, looking it up is expensive (especially on OSGi classloaders)
+     */
+    private static final DocumentBuilderFactory documentBuilderFactory = createDocumentBuilderFactory();
+
+    /**
+     * DocumentBuilders are not threadsafe so each thread reuses its own (reset before each parse)
+     */
+    private static final ThreadLocal<DocumentBuilder> documentBuilder = new ThreadLocal<DocumentBuilder>() {
+        @Override
+        protected DocumentBuilder initialValue() {
+            try {
+                synchronized (documentBuilderFactory) {
+                    return documentBuilderFactory.newDocumentBuilder();
+                }
+            } catch (ParserConfigurationException e) {
+                throw new IllegalStateException("Unable to create an XML document builder: " + e, e);
+            }
+        }
+    };
+
+    private static DocumentBuilderFactory createDocumentBuilderFactory() {
         DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setExpandEntityReferences(false);
+        dbf.setXIncludeAware(false);
+        setFeature(dbf, XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        // kaltura responses never have a DTD so do not allow any (this blocks XXE)
+        setFeature(dbf, "http://apache.org/xml/features/disallow-doctype-decl", true);
+        setFeature(dbf, "http://xml.org/sax/features/external-general-entities", false);
+        setFeature(dbf, "http://xml.org/sax/features/external-parameter-entities", false);
+        setFeature(dbf, "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        // every node of a response is read so build the DOM fully up front (deferred nodes are built on 
+        // first access which modifies the document, fully built ones can be read from several threads)
+        setFeature(dbf, "http://apache.org/xml/features/dom/defer-node-expansion", false);
+        return dbf;
+    }
+
+    private static void setFeature(DocumentBuilderFactory dbf, String feature, boolean value) {
+        try {
+            dbf.setFeature(feature, value);
+        } catch (ParserConfigurationException e) {
+            // not supported by this parser implementation
+        }
+    }
+
+    /**
+     * @return the document builder for the current thread, reset and ready to use
+     * (do not share it with other threads)
+     */
+    public static DocumentBuilder getDocumentBuilder() {
+        DocumentBuilder db = documentBuilder.get();
+        db.reset();
+        db.setErrorHandler(THROWING_ERROR_HANDLER);
+        return db;
+    }
+
+    /**
+     * @param xml the XML string
+     * @return the root element
+     * @throws XmlParseException if the XML cannot be parsed
+     */
+    public static Element parseXml(String xml) throws XmlParseException {
+        try {
+            return parseXml(new InputSource(new StringReader(xml)));
+        } catch (IOException e) {
+            // cannot happen when reading from a string
+            throw new XmlParseException("Unable to read the XML: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses the XML directly from a stream (without buffering the whole document as a string first),
+     * the character encoding is taken from the XML declaration (defaults to UTF-8)
+     * 
+     * @param xmlStream the stream of XML data (this is not closed)
+     * @return the root element
+     * @throws IOException if the stream fails while reading
+     * @throws XmlParseException if the XML cannot be parsed
+     */
+    public static Element parseXml(InputStream xmlStream) throws IOException, XmlParseException {
+        return parseXml(new InputSource(xmlStream));
+    }
 
+    private static Element parseXml(InputSource source) throws IOException, XmlParseException {
         try {
-            //Using factory get an instance of document builder
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            Document doc = db.parse( new InputSource(new StringReader(xml)) );
-            root = doc.getDocumentElement();
-        } catch(ParserConfigurationException pce) {
-            //pce.printStackTrace();
-        } catch(SAXException se) {
-            //se.printStackTrace();
-        } catch(IOException ioe) {
-            //ioe.printStackTrace();
+            Document doc = getDocumentBuilder().parse(source);
+            return doc.getDocumentElement();
+        } catch (SAXException se) {
+            if (se.getException() instanceof IOException) {
+                throw (IOException) se.getException();
+            }
+            throw new XmlParseException("Invalid XML: " + se.getMessage(), se);
+        }
+    }
+
+    /**
+     * Fail on the first error instead of printing it to stderr (which the default handler does)
+     */
+    private static final ErrorHandler THROWING_ERROR_HANDLER = new ErrorHandler() {
+        public void warning(SAXParseException exception) throws SAXException {
+            // ignore
+        }
+        public void error(SAXParseException exception) throws SAXException {
+            throw exception;
+        }
+        public void fatalError(SAXParseException exception) throws SAXException {
+            throw exception;
+        }
+    };
+
+    /**
+     * Indicates some XML could not be parsed
+     */
+    public static class XmlParseException extends Exception {
+        private static final long serialVersionUID = 1L;
+        public XmlParseException(String message, Throwable cause) {
+            super(message, cause);
         }
-        return root;
     }
 
     /**
@@ -112,9 +230,30 @@ public class XmlUtils {
         return e.getFirstChild() != null;
     }
 
+    /**
+     * Finds the first direct child element with a given tag name,
+     * this is much cheaper than xpath or getElementsByTagName (which searches the whole subtree)
+     * 
+     * @param element the parent element
+     * @param tagName the tag name of the child
+     * @return the first child element with this name OR null if there is none
+     */
+    public static Element getChildElement(Element element, String tagName) {
+        if (element == null) {
+            return null;
+        }
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE && tagName.equals(child.getNodeName())) {
+                return (Element) child;
+            }
+        }
+        return null;
+    }
+
     /**
      * Finds an element within and element based on an xpath expression
      * NOTE: this will fail if more than one element is matched by the xPathExpression
+     * NOTE: the compiled expressions are cached (per thread)
      * 
      * @param element the XML element to search for elements within
      * @param xPathExpression string representing an xpath filter (e.g. /xml/result)
@@ -122,8 +261,32 @@ public class XmlUtils {
      * @throws XPathExpressionException if more than one element is found or the expression is invalid or other xpath failure occurs
      */
     public static Element getElementByXPath(Element element, String xPathExpression) throws XPathExpressionException {
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        Element foundElement = (Element)xPath.evaluate(xPathExpression, element, XPathConstants.NODE);
+        XPathExpression expression = xPathCache.get().compile(xPathExpression);
+        Element foundElement = (Element)expression.evaluate(element, XPathConstants.NODE);
         return foundElement;
     }
+
+    /**
+     * Holds the xpath and the compiled expressions for a single thread
+     */
+    private static class XPathCache {
+        private static final int MAX_EXPRESSIONS = 100;
+        private final XPath xPath = XPathFactory.newInstance().newXPath();
+        private final Map<String, XPathExpression> expressions = new LinkedHashMap<String, XPathExpression>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+                return size() > MAX_EXPRESSIONS;
+            }
+        };
+
+        XPathExpression compile(String xPathExpression) throws XPathExpressionException {
+            XPathExpression expression = expressions.get(xPathExpression);
+            if (expression == null) {
+                expression = xPath.compile(xPathExpression);
+                expressions.put(xPathExpression, expression);
+            }
+            return expression;
+        }
+    }
 }
@@ -0,0 +1,142 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package net.unicon.kaltura;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Date;
+
+import com.kaltura.client.KalturaApiException;
+import com.kaltura.client.KalturaBinaryCodec;
+import com.kaltura.client.types.KalturaBaseEntry;
+import com.kaltura.client.utils.BinaryInput;
+import com.kaltura.client.utils.BinaryOutput;
+
+/**
+ * Compact, versioned binary form of a {@link MediaItem} including its kaltura entry
+ * (which java serialization drops since it is transient), the entry is written with the {@link KalturaBinaryCodec}.
+ * Use this to cache the items on disk or share them between the cluster nodes.
+ */
+public class MediaItemCodec {
+
+    /**
+     * The version of the binary format, written as the first byte
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int ID = 1;
+    private static final int LOCATION_ID = 1 << 1;
+    private static final int KALTURA_ID = 1 << 2;
+    private static final int OWNER_ID = 1 << 3;
+    private static final int CREATOR_ID = 1 << 4;
+    private static final int DATE_CREATED = 1 << 5;
+    private static final int DATE_MODIFIED = 1 << 6;
+    private static final int TYPE = 1 << 7;
+    private static final int KALTURA_ITEM = 1 << 8;
+
+    /**
+     * @param item the item to encode
+     * @return the binary form of the item
+     */
+    public static byte[] encode(MediaItem item) {
+        BinaryOutput out = new BinaryOutput(1024);
+        encode(item, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * @param item the item to encode
+     * @param out the output to write the binary form to
+     */
+    public static void encode(MediaItem item, BinaryOutput out) {
+        int present = (item.getId() != null ? ID : 0)
+            | (item.getLocationId() != null ? LOCATION_ID : 0)
+            | (item.getKalturaId() != null ? KALTURA_ID : 0)
+            | (item.getOwnerId() != null ? OWNER_ID : 0)
+            | (item.getCreatorId() != null ? CREATOR_ID : 0)
+            | (item.getDateCreated() != null ? DATE_CREATED : 0)
+            | (item.getDateModified() != null ? DATE_MODIFIED : 0)
+            | (item.getType() != null ? TYPE : 0)
+            | (item.getKalturaItem() != null ? KALTURA_ITEM : 0);
+        out.writeByte(FORMAT_VERSION);
+        out.writeVarInt(present);
+        if (item.getId() != null) out.writeSignedVarLong(item.getId().longValue());
+        if (item.getLocationId() != null) out.writeString(item.getLocationId());
+        if (item.getKalturaId() != null) out.writeString(item.getKalturaId());
+        if (item.getOwnerId() != null) out.writeString(item.getOwnerId());
+        if (item.getCreatorId() != null) out.writeString(item.getCreatorId());
+        if (item.getDateCreated() != null) out.writeSignedVarLong(item.getDateCreated().getTime());
+        if (item.getDateModified() != null) out.writeSignedVarLong(item.getDateModified().getTime());
+        if (item.getType() != null) out.writeString(item.getType());
+        if (item.getKalturaItem() != null) {
+            try {
+                KalturaBinaryCodec.encode(item.getKalturaItem(), out);
+            } catch (KalturaApiException e) {
+                throw new IllegalArgumentException("Unable to encode the kaltura item of " + item + ": " + e, e);
+            }
+        }
+    }
+
+    /**
+     * @param bytes the binary form of an item
+     * @return the item
+     * @throws IllegalArgumentException if the bytes are not a valid (or compatible) encoded item
+     */
+    public static MediaItem decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes an item starting at the current position of the buffer (read in place, nothing is copied),
+     * the position is left after the item
+     *
+     * @param buffer the buffer holding the binary form of an item
+     * @return the item
+     * @throws IllegalArgumentException if the buffer does not hold a valid (or compatible) encoded item
+     */
+    public static MediaItem decode(ByteBuffer buffer) {
+        BinaryInput in = new BinaryInput(buffer);
+        try {
+            int version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Invalid binary media item: unsupported format version " + version);
+            }
+            int present = in.readVarInt();
+            MediaItem item = new MediaItem();
+            item.setId((present & ID) != 0 ? Long.valueOf(in.readSignedVarLong()) : null);
+            item.setLocationId((present & LOCATION_ID) != 0 ? in.readString() : null);
+            String kalturaId = (present & KALTURA_ID) != 0 ? in.readString() : null;
+            item.setOwnerId((present & OWNER_ID) != 0 ? in.readString() : null);
+            item.setCreatorId((present & CREATOR_ID) != 0 ? in.readString() : null);
+            item.setDateCreated((present & DATE_CREATED) != 0 ? new Date(in.readSignedVarLong()) : null);
+            item.setDateModified((present & DATE_MODIFIED) != 0 ? new Date(in.readSignedVarLong()) : null);
+            String type = (present & TYPE) != 0 ? in.readString() : null;
+            if ((present & KALTURA_ITEM) != 0) {
+                item.setKalturaItem(KalturaBinaryCodec.decode(buffer, KalturaBaseEntry.class));
+            }
+            // the stored values win over the ones derived from the kaltura item
+            item.setKalturaId(kalturaId);
+            item.setType(type);
+            return item;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Invalid binary media item: data is truncated");
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("Invalid binary media item: " + e.getMessage());
+        } catch (KalturaApiException e) {
+            throw new IllegalArgumentException("Invalid binary media item: " + e.getMessage(), e);
+        }
+    }
+
+}
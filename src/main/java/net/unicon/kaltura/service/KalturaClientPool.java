@@ -0,0 +1,279 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package net.unicon.kaltura.service;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kaltura.client.KalturaApiException;
+import com.kaltura.client.KalturaClient;
+import com.kaltura.client.KalturaConfiguration;
+import com.kaltura.client.enums.KalturaSessionType;
+
+/**
+ * A bounded pool of kaltura clients, each holding a valid session from the {@link KalturaSessionCache}.
+ * A borrowed client is only used by the borrowing thread until it is released (on the same thread)
+ * and at most maxClients clients exist at once (borrowers wait for a free one).
+ * On borrow an idle client is checked against the current cached session (it is replaced once that
+ * session is refreshed) and pinged (system.ping) if it has not been checked for the validation interval.
+ * Idle clients are evicted after the idle timeout.
+ * This is threadsafe.
+ */
+public class KalturaClientPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KalturaClientPool.class);
+
+    private final KalturaConfiguration kalturaConfig;
+    private final KalturaSessionCache sessionCache;
+    private final int maxClients;
+    private final long idleTimeoutMs;
+    private final long validateIntervalMs;
+    private final long borrowTimeoutMs;
+    private final Semaphore available;
+    // both guarded by the idle lock
+    private final LinkedList<PooledClient> idle = new LinkedList<PooledClient>();
+    private final Map<KalturaClient, PooledClient> borrowed = new IdentityHashMap<KalturaClient, PooledClient>();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger evicted = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    /**
+     * @param kalturaConfig the kaltura config the clients use
+     * @param sessionCache the sessions for the clients
+     * @param maxClients the max number of clients (borrowed and idle)
+     * @param idleTimeoutMs idle clients are evicted after this many milliseconds, 0 or less to keep them
+     * @param validateIntervalMs clients are pinged on borrow if they have not been checked for this many milliseconds, 
+     * 0 or less to never ping
+     * @param borrowTimeoutMs the max milliseconds to wait for a client when they are all borrowed
+     */
+    public KalturaClientPool(KalturaConfiguration kalturaConfig, KalturaSessionCache sessionCache, int maxClients, 
+            long idleTimeoutMs, long validateIntervalMs, long borrowTimeoutMs) {
+        if (maxClients <= 0) {
+            throw new IllegalArgumentException("maxClients must be greater than 0: " + maxClients);
+        }
+        this.kalturaConfig = kalturaConfig;
+        this.sessionCache = sessionCache;
+        this.maxClients = maxClients;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.validateIntervalMs = validateIntervalMs;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.available = new Semaphore(maxClients, true);
+    }
+
+    /**
+     * Borrows a client, this MUST be followed by {@link #release(KalturaClient)} (in a finally block)
+     * 
+     * @param userKey the user the session is for
+     * @param sessionType the session type
+     * @param privileges the session privileges, may be null
+     * @return a client with a valid session for this user
+     * @throws KalturaApiException if no client is free within the borrow timeout or there is no valid session
+     */
+    public KalturaClient borrow(String userKey, KalturaSessionType sessionType, String privileges) throws KalturaApiException {
+        if (closed) {
+            throw new KalturaApiException("The kaltura client pool is closed");
+        }
+        try {
+            if (! available.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new KalturaApiException("No kaltura client was free within " + borrowTimeoutMs + " ms (" + this + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KalturaApiException("Interrupted while waiting for a kaltura client");
+        }
+        try {
+            String ks = sessionCache.getSession(userKey, sessionType, privileges);
+            String key = KalturaSessionCache.sessionKey(userKey, sessionType, privileges);
+            long now = System.currentTimeMillis();
+            PooledClient pooled;
+            while ((pooled = takeIdle(key)) != null) {
+                if (! ks.equals(pooled.client.getSessionId())) {
+                    // the session was refreshed
+                    evicted.incrementAndGet();
+                } else if (validateIntervalMs > 0 && now - pooled.lastValidated >= validateIntervalMs) {
+                    if (ping(pooled.client)) {
+                        pooled.lastValidated = now;
+                        break;
+                    }
+                    evicted.incrementAndGet();
+                } else {
+                    break;
+                }
+            }
+            if (pooled == null) {
+                pooled = new PooledClient(key, new KalturaClient(kalturaConfig, ks), now);
+                created.incrementAndGet();
+            }
+            synchronized (idle) {
+                borrowed.put(pooled.client, pooled);
+            }
+            return pooled.client;
+        } catch (KalturaApiException e) {
+            available.release();
+            throw e;
+        } catch (RuntimeException e) {
+            available.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a borrowed client to the pool
+     * 
+     * @param client the client (from {@link #borrow(String, KalturaSessionType, String)}), nothing happens if null
+     */
+    public void release(KalturaClient client) {
+        if (client == null) {
+            return;
+        }
+        PooledClient pooled;
+        synchronized (idle) {
+            pooled = borrowed.remove(client);
+            if (pooled == null) {
+                LOG.warn("Ignoring release of a kaltura client which was not borrowed from this pool: " + client);
+                return;
+            }
+            if (! closed) {
+                pooled.lastUsed = System.currentTimeMillis();
+                idle.addFirst(pooled);
+            }
+        }
+        evictIdle();
+        available.release();
+    }
+
+    /**
+     * Removes the clients which have been idle for longer than the idle timeout
+     * @return the number of clients removed
+     */
+    public int evictIdle() {
+        int count = 0;
+        long now = System.currentTimeMillis();
+        synchronized (idle) {
+            for (Iterator<PooledClient> it = idle.iterator(); it.hasNext();) {
+                PooledClient pooled = it.next();
+                if (closed || (idleTimeoutMs > 0 && now - pooled.lastUsed >= idleTimeoutMs) || idle.size() > maxClients) {
+                    it.remove();
+                    count++;
+                }
+            }
+        }
+        evicted.addAndGet(count);
+        return count;
+    }
+
+    /**
+     * Closes the pool, the idle clients are dropped and no more clients can be borrowed
+     */
+    public void close() {
+        closed = true;
+        evictIdle();
+    }
+
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    /**
+     * @return the number of clients currently borrowed
+     */
+    public int getBorrowedCount() {
+        synchronized (idle) {
+            return borrowed.size();
+        }
+    }
+
+    /**
+     * @return the number of idle clients
+     */
+    public int getIdleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    /**
+     * @return the number of clients created since the pool was started
+     */
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * @return the number of clients removed because they were idle, had an old session or failed validation
+     */
+    public int getEvictedCount() {
+        return evicted.get();
+    }
+
+    @Override
+    public String toString() {
+        return "KalturaClientPool[max=" + maxClients + ", borrowed=" + getBorrowedCount() + ", idle=" + getIdleCount() 
+                + ", created=" + getCreatedCount() + ", evicted=" + getEvictedCount() + "]";
+    }
+
+    /**
+     * Takes the most recently used idle client for the key, when the pool is full and there is none
+     * the least recently used idle client for another key is dropped to make room
+     */
+    private PooledClient takeIdle(String key) {
+        synchronized (idle) {
+            for (Iterator<PooledClient> it = idle.iterator(); it.hasNext();) {
+                PooledClient pooled = it.next();
+                if (key.equals(pooled.key)) {
+                    it.remove();
+                    return pooled;
+                }
+            }
+            if (! idle.isEmpty() && idle.size() + borrowed.size() >= maxClients) {
+                idle.removeLast();
+                evicted.incrementAndGet();
+            }
+        }
+        return null;
+    }
+
+    private boolean ping(KalturaClient client) {
+        try {
+            return client.getSystemService().ping();
+        } catch (KalturaApiException e) {
+            LOG.warn("Dropping pooled kaltura client which failed validation: " + e);
+            return false;
+        }
+    }
+
+    private static class PooledClient {
+        final String key;
+        final KalturaClient client;
+        long lastUsed;
+        long lastValidated;
+
+        PooledClient(String key, KalturaClient client, long now) {
+            this.key = key;
+            this.client = client;
+            this.lastUsed = now;
+            this.lastValidated = now;
+        }
+    }
+
+}
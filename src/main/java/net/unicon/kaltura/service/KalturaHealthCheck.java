@@ -0,0 +1,218 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package net.unicon.kaltura.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kaltura.client.KalturaClient;
+import com.kaltura.client.KalturaConfiguration;
+import com.kaltura.client.enums.KalturaSessionType;
+
+/**
+ * Checks that the kaltura endpoint can be reached (and the secrets work) in the background
+ * so the service can be activated without waiting on kaltura.
+ * The check starts a short ADMIN and USER session on the server (or pings it when the sessions are signed locally) 
+ * and is retried (with backoff) until it succeeds, a real call succeeds or the check is stopped.
+ * This is threadsafe.
+ */
+public class KalturaHealthCheck {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KalturaHealthCheck.class);
+
+    public static enum State {
+        /** the first check has not finished yet */
+        CHECKING,
+        /** the endpoint was reached and the sessions were started (or a real call succeeded) */
+        AVAILABLE,
+        /** the last check failed, it is being retried */
+        UNAVAILABLE
+    }
+
+    private static final int PROBE_SESSION_SECS = 10;
+
+    private final KalturaConfiguration kalturaConfig;
+    private final KalturaSessionCache sessionCache;
+    private final long retryMinMs;
+    private final long retryMaxMs;
+    private final ScheduledExecutorService scheduler;
+    private final CountDownLatch firstCheck = new CountDownLatch(1);
+    private volatile State state = State.CHECKING;
+    private volatile String message = "Not checked yet";
+    private volatile boolean stopped = false;
+    private long retryDelayMs;
+    private long lastTrialCall = 0;
+
+    /**
+     * @param kalturaConfig the kaltura config to check
+     * @param sessionCache used to start the sessions on the server
+     * @param retryMinMs the delay before the first retry, doubled on each failure
+     * @param retryMaxMs the max delay between the retries
+     */
+    public KalturaHealthCheck(KalturaConfiguration kalturaConfig, KalturaSessionCache sessionCache, long retryMinMs, long retryMaxMs) {
+        this.kalturaConfig = kalturaConfig;
+        this.sessionCache = sessionCache;
+        this.retryMinMs = Math.max(1, retryMinMs);
+        this.retryMaxMs = Math.max(this.retryMinMs, retryMaxMs);
+        this.retryDelayMs = this.retryMinMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "KalturaHealthCheck");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Starts checking in the background, this returns right away
+     */
+    public void start() {
+        scheduler.execute(new Runnable() {
+            public void run() {
+                check();
+            }
+        });
+    }
+
+    /**
+     * Stops any further checks (e.g. when the config changes)
+     */
+    public void stop() {
+        stopped = true;
+        scheduler.shutdownNow();
+        firstCheck.countDown();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * @return a description of the last check result
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Waits for the first check to finish (only while it is still running), 
+     * this does not wait for retries so calls fail fast while the endpoint is unavailable
+     * 
+     * @param timeoutMs the max milliseconds to wait for the first check
+     * @return true if the endpoint is available
+     */
+    public boolean awaitAvailable(long timeoutMs) {
+        if (state == State.CHECKING && timeoutMs > 0) {
+            try {
+                firstCheck.await(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return state == State.AVAILABLE;
+    }
+
+    /**
+     * Waits for the first check like {@link #awaitAvailable(long)} and while kaltura is not available 
+     * lets a real call through now and then (at most one for each retry min delay) so it is found as soon as it is back
+     * 
+     * @param timeoutMs the max milliseconds to wait for the first check
+     * @return true if the call can be made, false if it should fail fast
+     */
+    public boolean allowCall(long timeoutMs) {
+        if (awaitAvailable(timeoutMs)) {
+            return true;
+        }
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (now - lastTrialCall >= retryMinMs) {
+                lastTrialCall = now;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A real call to kaltura succeeded so it is available, the checks are stopped
+     */
+    public void onCallSucceeded() {
+        if (state != State.AVAILABLE && ! stopped) {
+            message = "API version: " + new KalturaClient(kalturaConfig).getApiVersion() + ", Connected to endpoint: " 
+                + kalturaConfig.getEndpoint() + " (call succeeded)";
+            state = State.AVAILABLE;
+            LOG.info("Kaltura: " + message);
+            scheduler.shutdownNow();
+            firstCheck.countDown();
+        }
+    }
+
+    private void check() {
+        if (stopped) {
+            return;
+        }
+        String endpoint = kalturaConfig.getEndpoint();
+        try {
+            if (sessionCache.isLocalSigning()) {
+                // the sessions never go to the server so only check that it answers
+                if (! new KalturaClient(kalturaConfig).getSystemService().ping()) {
+                    throw new IllegalStateException("ping failed");
+                }
+            } else {
+                if (sessionCache.startRemoteSession("admin", KalturaSessionType.ADMIN, null, PROBE_SESSION_SECS) == null) {
+                    throw new IllegalStateException("no session returned for admin");
+                }
+                if (sessionCache.startRemoteSession("admin", KalturaSessionType.USER, null, PROBE_SESSION_SECS) == null) {
+                    throw new IllegalStateException("no session returned for user");
+                }
+            }
+            message = "API version: " + new KalturaClient(kalturaConfig).getApiVersion() + ", Connected to endpoint: " + endpoint;
+            state = State.AVAILABLE;
+            LOG.info("Kaltura: " + message);
+            scheduler.shutdown();
+        } catch (Exception e) {
+            if (scheduler.isShutdown()) {
+                // stopped or a real call succeeded while checking
+                return;
+            }
+            message = "Failed to connect to kaltura server endpoint (" + endpoint + "): " + e;
+            state = State.UNAVAILABLE;
+            if (! stopped) {
+                LOG.warn("Kaltura: " + message + ", retrying in " + retryDelayMs + " ms");
+                try {
+                    scheduler.schedule(new Runnable() {
+                        public void run() {
+                            check();
+                        }
+                    }, retryDelayMs, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException re) {
+                    // stopped while checking
+                }
+                retryDelayMs = Math.min(retryMaxMs, retryDelayMs * 2);
+            }
+        } finally {
+            firstCheck.countDown();
+        }
+    }
+
+}
@@ -16,9 +16,15 @@ package net.unicon.kaltura.service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -54,14 +60,19 @@ import org.sakaiproject.nakamura.lite.content.InternalContent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.kaltura.client.EKalturaBalancingStrategy;
+import com.kaltura.client.EKalturaTimeoutClass;
 import com.kaltura.client.KalturaApiException;
+import com.kaltura.client.KalturaCircuitBreaker;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaConfiguration;
+import com.kaltura.client.KalturaEndpoint;
+import com.kaltura.client.KalturaHedgeBudget;
+import com.kaltura.client.KalturaLatencyTracker;
 import com.kaltura.client.enums.KalturaEditorType;
 import com.kaltura.client.enums.KalturaMediaType;
 import com.kaltura.client.enums.KalturaSessionType;
 import com.kaltura.client.services.KalturaBaseEntryService;
-import com.kaltura.client.services.KalturaSessionService;
 import com.kaltura.client.types.KalturaBaseEntry;
 import com.kaltura.client.types.KalturaBaseEntryFilter;
 import com.kaltura.client.types.KalturaBaseEntryListResponse;
@@ -108,8 +119,66 @@ public class KalturaService implements FileUploadHandler, EventHandler {
     private static final String KALTURA_ADMIN_SECRET = "kaltura.adminsecret";
     @Property(value="http://www.kaltura.com", label="Endpoint")
     private static final String KALTURA_ENDPOINT = "kaltura.endpoint";
+    @Property(value={""}, cardinality=Integer.MAX_VALUE, label="Endpoint - More Endpoints To Spread Calls Across (url or url and weight)")
+    private static final String KALTURA_ENDPOINTS = "kaltura.endpoints";
+    @Property(value="POWER_OF_TWO_CHOICES", label="Endpoint - Spread Calls By (POWER_OF_TWO_CHOICES or LEAST_OUTSTANDING)")
+    private static final String KALTURA_ENDPOINTS_STRATEGY = "kaltura.endpoints.strategy";
     @Property(value="http://cdn.kaltura.com", label="CDN")
     private static final String KALTURA_CDN = "kaltura.cdn";
+    @Property(intValue=20, label="HTTP - Max Connections")
+    private static final String KALTURA_HTTP_MAX_CONNECTIONS = "kaltura.http.maxconnections";
+    @Property(intValue=60, label="HTTP - Idle Connection Timeout")
+    private static final String KALTURA_HTTP_IDLE_TIMEOUT = "kaltura.http.idletimeout";
+    @Property(intValue=30, label="HTTP - Timeout Seconds For Get Calls")
+    private static final String KALTURA_HTTP_TIMEOUT_FAST = "kaltura.http.timeout.fast";
+    @Property(intValue=100, label="HTTP - Timeout Seconds")
+    private static final String KALTURA_HTTP_TIMEOUT = "kaltura.http.timeout";
+    @Property(intValue=600, label="HTTP - Timeout Seconds For Uploads")
+    private static final String KALTURA_HTTP_TIMEOUT_UPLOAD = "kaltura.http.timeout.upload";
+    @Property(boolValue=false, label="HTTP - Adapt Timeouts To The Observed Latency")
+    private static final String KALTURA_HTTP_TIMEOUT_ADAPTIVE = "kaltura.http.timeout.adaptive";
+    @Property(intValue=3, label="HTTP - Max Retries For Failed Calls")
+    private static final String KALTURA_HTTP_RETRIES = "kaltura.http.retries";
+    @Property(intValue=200, label="HTTP - First Retry Delay Milliseconds")
+    private static final String KALTURA_HTTP_RETRY_DELAY = "kaltura.http.retry.delay";
+    @Property(intValue=2048, label="HTTP - Max Upload Megabytes Buffered For Retries")
+    private static final String KALTURA_HTTP_RETRY_SPOOL = "kaltura.http.retry.spool";
+    @Property(boolValue=false, label="Hedging - Duplicate Slow Entry Reads")
+    private static final String KALTURA_HEDGE = "kaltura.hedge.enabled";
+    @Property(intValue=95, label="Hedging - Latency Percentile Before Duplicating")
+    private static final String KALTURA_HEDGE_PERCENTILE = "kaltura.hedge.percentile";
+    @Property(intValue=5, label="Hedging - Max Percent Of Reads Duplicated")
+    private static final String KALTURA_HEDGE_BUDGET = "kaltura.hedge.budget";
+    @Property(boolValue=true, label="Circuit Breaker - Fail Fast While The Endpoint Is Failing")
+    private static final String KALTURA_CIRCUIT_BREAKER = "kaltura.circuitbreaker.enabled";
+    @Property(intValue=50, label="Circuit Breaker - Failure Rate Percent")
+    private static final String KALTURA_CIRCUIT_BREAKER_FAILURE_RATE = "kaltura.circuitbreaker.failurerate";
+    @Property(intValue=30, label="Circuit Breaker - Slow Call Seconds")
+    private static final String KALTURA_CIRCUIT_BREAKER_SLOW_CALL = "kaltura.circuitbreaker.slowcall";
+    @Property(intValue=30, label="Circuit Breaker - Open Seconds")
+    private static final String KALTURA_CIRCUIT_BREAKER_OPEN = "kaltura.circuitbreaker.open";
+    @Property(boolValue=true, label="Session - Sign Locally")
+    private static final String KALTURA_SESSION_LOCAL = "kaltura.session.local";
+    @Property(intValue=86400, label="Session - Expiry Seconds")
+    private static final String KALTURA_SESSION_EXPIRY = "kaltura.session.expiry";
+    @Property(intValue=3600, label="Session - Refresh Before Expiry Seconds")
+    private static final String KALTURA_SESSION_REFRESH = "kaltura.session.refresh";
+
+    @Property(intValue=0, label="Client Pool - Max Clients (0 to share one client per session)")
+    private static final String KALTURA_CLIENT_POOL_SIZE = "kaltura.client.pool.size";
+    @Property(intValue=300, label="Client Pool - Idle Timeout Seconds")
+    private static final String KALTURA_CLIENT_POOL_IDLE_TIMEOUT = "kaltura.client.pool.idletimeout";
+    @Property(intValue=300, label="Client Pool - Ping Interval Seconds (0 to never ping)")
+    private static final String KALTURA_CLIENT_POOL_PING_INTERVAL = "kaltura.client.pool.pinginterval";
+    @Property(intValue=30, label="Client Pool - Max Wait Seconds")
+    private static final String KALTURA_CLIENT_POOL_MAX_WAIT = "kaltura.client.pool.maxwait";
+
+    @Property(intValue=10, label="Startup - Max Seconds Calls Wait For The Connection Check")
+    private static final String KALTURA_STARTUP_WAIT = "kaltura.startup.wait";
+
+    // the edit is needed to fix an issue with kaltura servers
+    private static final String SESSION_PRIVILEGES = "edit:*";
+    private static final String ANONYMOUS_USER_KEY = "anonymous";
 
     /* DEFAULT set as confirmed by Kaltura (Nir) on 21 Sept 2010 @ 2300
     kaltura.player.image  - 2162571
@@ -144,6 +213,10 @@ public class KalturaService implements FileUploadHandler, EventHandler {
     private static final String KALTURA_PLAYER_VIDEO_HEIGHT = "kaltura.player.video.height";
 
     KalturaConfiguration kalturaConfig;
+    KalturaSessionCache sessionCache;
+    KalturaClientPool clientPool;
+    KalturaHealthCheck healthCheck;
+    long startupWaitMs = 10000;
     String kalturaCDN = null;
     /*
      * The kaltura widget ids from config
@@ -179,6 +252,15 @@ public class KalturaService implements FileUploadHandler, EventHandler {
     @Deactivate
     protected void deactivate(Map<?, ?> properties) {
         LOG.info("Kaltura: stop");
+        if (this.healthCheck != null) {
+            this.healthCheck.stop();
+        }
+        if (this.clientPool != null) {
+            this.clientPool.close();
+        }
+        if (this.kalturaConfig != null) {
+            this.kalturaConfig.shutdown();
+        }
     }
 
     @Modified
@@ -197,6 +279,32 @@ public class KalturaService implements FileUploadHandler, EventHandler {
         String kalturaSecret = getConfigurationSetting(KALTURA_SECRET, null, properties);
         String kalturaAdminSecret = getConfigurationSetting(KALTURA_ADMIN_SECRET, null, properties);
         String kalturaEndpoint = getConfigurationSetting(KALTURA_ENDPOINT, null, properties);
+        String[] kalturaEndpoints = OsgiUtil.toStringArray(properties.get(KALTURA_ENDPOINTS), new String[0]);
+        String kalturaEndpointsStrategy = getConfigurationSetting(KALTURA_ENDPOINTS_STRATEGY, "POWER_OF_TWO_CHOICES", properties);
+        int httpMaxConnections = getConfigurationSetting(KALTURA_HTTP_MAX_CONNECTIONS, 20, properties);
+        int httpIdleTimeoutSecs = getConfigurationSetting(KALTURA_HTTP_IDLE_TIMEOUT, 60, properties);
+        int httpTimeoutFastSecs = getConfigurationSetting(KALTURA_HTTP_TIMEOUT_FAST, 30, properties);
+        int httpTimeoutSecs = getConfigurationSetting(KALTURA_HTTP_TIMEOUT, 100, properties);
+        int httpTimeoutUploadSecs = getConfigurationSetting(KALTURA_HTTP_TIMEOUT_UPLOAD, 600, properties);
+        boolean httpTimeoutAdaptive = getConfigurationSetting(KALTURA_HTTP_TIMEOUT_ADAPTIVE, false, properties);
+        int httpRetries = getConfigurationSetting(KALTURA_HTTP_RETRIES, 3, properties);
+        int httpRetryDelayMs = getConfigurationSetting(KALTURA_HTTP_RETRY_DELAY, 200, properties);
+        int httpRetrySpoolMB = getConfigurationSetting(KALTURA_HTTP_RETRY_SPOOL, 2048, properties);
+        boolean hedge = getConfigurationSetting(KALTURA_HEDGE, false, properties);
+        int hedgePercentile = getConfigurationSetting(KALTURA_HEDGE_PERCENTILE, 95, properties);
+        int hedgeBudget = getConfigurationSetting(KALTURA_HEDGE_BUDGET, 5, properties);
+        boolean circuitBreaker = getConfigurationSetting(KALTURA_CIRCUIT_BREAKER, true, properties);
+        int circuitBreakerFailureRate = getConfigurationSetting(KALTURA_CIRCUIT_BREAKER_FAILURE_RATE, 50, properties);
+        int circuitBreakerSlowCallSecs = getConfigurationSetting(KALTURA_CIRCUIT_BREAKER_SLOW_CALL, 30, properties);
+        int circuitBreakerOpenSecs = getConfigurationSetting(KALTURA_CIRCUIT_BREAKER_OPEN, 30, properties);
+        boolean sessionLocal = getConfigurationSetting(KALTURA_SESSION_LOCAL, true, properties);
+        int sessionExpirySecs = getConfigurationSetting(KALTURA_SESSION_EXPIRY, 86400, properties);
+        int sessionRefreshSecs = getConfigurationSetting(KALTURA_SESSION_REFRESH, 3600, properties);
+        int clientPoolSize = getConfigurationSetting(KALTURA_CLIENT_POOL_SIZE, 0, properties);
+        int clientPoolIdleSecs = getConfigurationSetting(KALTURA_CLIENT_POOL_IDLE_TIMEOUT, 300, properties);
+        int clientPoolPingSecs = getConfigurationSetting(KALTURA_CLIENT_POOL_PING_INTERVAL, 300, properties);
+        int clientPoolWaitSecs = getConfigurationSetting(KALTURA_CLIENT_POOL_MAX_WAIT, 30, properties);
+        int startupWaitSecs = getConfigurationSetting(KALTURA_STARTUP_WAIT, 10, properties);
         this.kalturaCDN = getConfigurationSetting(KALTURA_CDN, null, properties);
 
         // supports customizing the look and feel AND functionality of the kaltura widgets
@@ -220,26 +328,169 @@ public class KalturaService implements FileUploadHandler, EventHandler {
                 this.kalturaPlayerVideoWidth, this.kalturaPlayerVideoHeight
         );
 
+        // only the config is checked here, the connection is checked in the background
+        if (kalturaPartnerId <= 0) {
+            throw new IllegalArgumentException("Invalid kaltura config: "+KALTURA_PARTNER_ID+" must be set");
+        }
+        if (StringUtils.isBlank(kalturaSecret) || StringUtils.isBlank(kalturaAdminSecret)) {
+            throw new IllegalArgumentException("Invalid kaltura config: "+KALTURA_SECRET+" and "+KALTURA_ADMIN_SECRET+" must be set");
+        }
+        try {
+            new URL(kalturaEndpoint);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid kaltura config: "+KALTURA_ENDPOINT+" ("+kalturaEndpoint+") must be a valid url: " + e);
+        }
+        // the other endpoints are listed as "url" or "url weight"
+        Map<String, Integer> endpointWeights = new LinkedHashMap<String, Integer>();
+        for (String kalturaEndpointEntry : kalturaEndpoints) {
+            if (StringUtils.isBlank(kalturaEndpointEntry)) {
+                continue;
+            }
+            String[] parts = StringUtils.split(kalturaEndpointEntry.trim());
+            try {
+                new URL(parts[0]);
+                endpointWeights.put(parts[0], parts.length > 1 ? Integer.valueOf(parts[1]) : 1);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException("Invalid kaltura config: "+KALTURA_ENDPOINTS+" ("+kalturaEndpointEntry+") must be a valid url: " + e);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid kaltura config: "+KALTURA_ENDPOINTS+" ("+kalturaEndpointEntry+") weight must be a number: " + e);
+            }
+        }
+        EKalturaBalancingStrategy balancingStrategy;
+        try {
+            balancingStrategy = EKalturaBalancingStrategy.valueOf(kalturaEndpointsStrategy.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid kaltura config: "+KALTURA_ENDPOINTS_STRATEGY+" ("+kalturaEndpointsStrategy+") must be one of "
+                    + Arrays.toString(EKalturaBalancingStrategy.values()));
+        }
+
         // create the shared kaltura config
         KalturaConfiguration kc = new KalturaConfiguration();
         kc.setPartnerId(kalturaPartnerId);
         kc.setSecret(kalturaSecret);
         kc.setAdminSecret(kalturaAdminSecret);
         kc.setEndpoint(kalturaEndpoint);
+        for (Map.Entry<String, Integer> endpointWeight : endpointWeights.entrySet()) {
+            kc.addEndpoint(endpointWeight.getKey(), endpointWeight.getValue());
+        }
+        kc.setBalancingStrategy(balancingStrategy);
+        kc.setMaxConnectionsPerHost(httpMaxConnections);
+        kc.setMaxTotalConnections(Math.max(httpMaxConnections * kc.getEndpoints().size(), kc.getMaxTotalConnections()));
+        kc.setIdleConnectionTimeout(httpIdleTimeoutSecs * 1000);
+        kc.setTimeout(httpTimeoutSecs * 1000);
+        kc.setTimeout(EKalturaTimeoutClass.FAST, httpTimeoutFastSecs * 1000);
+        kc.setTimeout(EKalturaTimeoutClass.UPLOAD, httpTimeoutUploadSecs * 1000);
+        // the player pages wait on this one
+        kc.setTimeoutClass("flavorasset", "getWebPlayableByEntryId", EKalturaTimeoutClass.FAST);
+        kc.setAdaptiveTimeouts(httpTimeoutAdaptive);
+        kc.setMaxRetries(httpRetries);
+        kc.setRetryBaseDelay(httpRetryDelayMs);
+        kc.setRetrySpoolMaxSize(httpRetrySpoolMB * 1024L * 1024);
+        // the player pages read the entries synchronously
+        kc.setHedging(hedge);
+        kc.setHedgePercentile(hedgePercentile);
+        kc.setHedgeBudgetPercent(hedgeBudget);
+        kc.setCircuitBreakerEnabled(circuitBreaker);
+        kc.setCircuitBreakerFailureRate(circuitBreakerFailureRate);
+        kc.setCircuitBreakerSlowCallTime(circuitBreakerSlowCallSecs * 1000L);
+        kc.setCircuitBreakerOpenDuration(circuitBreakerOpenSecs * 1000L);
+        KalturaConfiguration oldConfig = this.kalturaConfig;
+        KalturaClientPool oldClientPool = this.clientPool;
+        KalturaHealthCheck oldHealthCheck = this.healthCheck;
+        KalturaSessionCache newSessionCache = new KalturaSessionCache(kc, sessionLocal, sessionExpirySecs, sessionRefreshSecs);
+        KalturaClientPool newClientPool = null;
+        if (clientPoolSize > 0) {
+            newClientPool = new KalturaClientPool(kc, newSessionCache, clientPoolSize, 
+                    clientPoolIdleSecs * 1000L, clientPoolPingSecs * 1000L, clientPoolWaitSecs * 1000L);
+        }
+        // swap in the new config before the old one is shut down so no new call can pick up the old one
         this.kalturaConfig = kc;
+        this.sessionCache = newSessionCache;
+        this.clientPool = newClientPool;
         // dump the config
         dumpServiceConfigToLog(properties);
 
-        // test out that the kc can initialize a session
-        KalturaClient kalturaClient = makeKalturaClient("admin", KalturaSessionType.ADMIN, 10);
-        if (kalturaClient == null || kalturaClient.getSessionId() == null) {
-            throw new RuntimeException("Failed to connect to kaltura server endpoint ("+kc.getEndpoint()+") as admin");
+        // test out that the kc can initialize a session (in the background so activation does not wait on kaltura)
+        this.startupWaitMs = startupWaitSecs * 1000L;
+        this.healthCheck = new KalturaHealthCheck(kc, newSessionCache, 1000, 60000);
+        this.healthCheck.start();
+
+        if (oldHealthCheck != null) {
+            oldHealthCheck.stop();
+        }
+        if (oldClientPool != null) {
+            oldClientPool.close();
         }
-        kalturaClient = makeKalturaClient("admin", KalturaSessionType.USER, 10);
-        if (kalturaClient == null || kalturaClient.getSessionId() == null) {
-            throw new RuntimeException("Failed to connect to kaltura server endpoint ("+kc.getEndpoint()+") as user");
+        if (oldConfig != null) {
+            // release the pooled connections from the previous config once the calls still using it are done
+            drainConfig(oldConfig);
         }
-        LOG.info("Kaltura: Init complete: API version: "+kalturaClient.getApiVersion()+", Connected to endpoint: "+kc.getEndpoint());
+        LOG.info("Kaltura: Init complete, checking the connection to endpoint: "+kc.getEndpoint());
+    }
+
+    /**
+     * Shuts down a replaced config in the background once the calls which were started with it are complete
+     * (uploads included), they are cut off if they take longer than an upload with all its retries could
+     * @param oldConfig the config which is no longer used for new calls
+     */
+    private void drainConfig(final KalturaConfiguration oldConfig) {
+        final long drainTimeout = oldConfig.getTimeout(EKalturaTimeoutClass.UPLOAD) * (oldConfig.getMaxRetries() + 1L);
+        Thread drain = new Thread("KalturaConfigDrain") {
+            public void run() {
+                try {
+                    if (!oldConfig.shutdown(drainTimeout)) {
+                        LOG.warn("Kaltura: calls using the previous config were still running after " + drainTimeout 
+                                + " ms, their connections were closed");
+                    }
+                } catch (InterruptedException e) {
+                    oldConfig.shutdown();
+                }
+            }
+        };
+        drain.setDaemon(true);
+        drain.start();
+    }
+
+    /**
+     * @return the state of the connection to the kaltura endpoint
+     */
+    public KalturaHealthCheck.State getHealthState() {
+        return this.healthCheck == null ? KalturaHealthCheck.State.CHECKING : this.healthCheck.getState();
+    }
+
+    /**
+     * @return a description of the last connection check
+     */
+    public String getHealthMessage() {
+        return this.healthCheck == null ? "Not started" : this.healthCheck.getMessage();
+    }
+
+    /**
+     * @return the circuit breakers of the kaltura endpoints (state and transition counts), empty if none were used yet
+     */
+    public Collection<KalturaCircuitBreaker> getCircuitBreakers() {
+        return this.kalturaConfig == null ? Collections.<KalturaCircuitBreaker>emptyList() : this.kalturaConfig.getCircuitBreakers();
+    }
+
+    /**
+     * @return the kaltura endpoints the calls are spread across (with their request and ejection counts)
+     */
+    public List<KalturaEndpoint> getEndpoints() {
+        return this.kalturaConfig == null ? Collections.<KalturaEndpoint>emptyList() : this.kalturaConfig.getEndpoints();
+    }
+
+    /**
+     * @return the counts of the hedged kaltura reads
+     */
+    public KalturaHedgeBudget getHedgeBudget() {
+        return this.kalturaConfig == null ? null : this.kalturaConfig.getHedgeBudget();
+    }
+
+    /**
+     * @return the recent latencies of the kaltura calls
+     */
+    public KalturaLatencyTracker getLatencyTracker() {
+        return this.kalturaConfig == null ? null : this.kalturaConfig.getLatencyTracker();
     }
 
     /**
@@ -263,7 +514,16 @@ public class KalturaService implements FileUploadHandler, EventHandler {
         LOG.info("\nKalturaService Configuration: START ---------\n"
                 +" partnerId="+this.kalturaConfig.getPartnerId()+"\n"
                 +" endPoint="+this.kalturaConfig.getEndpoint()+"\n"
+                +" endPoints="+this.kalturaConfig.getEndpointBalancer()+"\n"
                 +" timeout="+this.kalturaConfig.getTimeout()+"\n"
+                +" adaptiveTimeouts="+this.kalturaConfig.isAdaptiveTimeouts()+"\n"
+                +" maxRetries="+this.kalturaConfig.getMaxRetries()+"\n"
+                +" hedging="+this.kalturaConfig.isHedging()+"\n"
+                +" circuitBreaker="+this.kalturaConfig.isCircuitBreakerEnabled()+"\n"
+                +" maxConnectionsPerHost="+this.kalturaConfig.getMaxConnectionsPerHost()+"\n"
+                +" idleConnectionTimeout="+this.kalturaConfig.getIdleConnectionTimeout()+"\n"
+                +" sessionLocalSigning="+this.sessionCache.isLocalSigning()+"\n"
+                +" clientPool="+this.clientPool+"\n"
                 +" kalturaCDN="+this.kalturaCDN+"\n"
                 +" kalturaEditorId="+this.kalturaEditorId+"\n"
                 +" kalturaPlayerIdView="+this.kalturaPlayerIdView+"\n"
@@ -765,81 +1025,98 @@ public class KalturaService implements FileUploadHandler, EventHandler {
     // KALTURA CLIENT
 
     /*
-     * NOTE: the KalturaClient is not even close to being threadsafe -AZ
+     * NOTE: the clients are shared by all threads, each one is bound to a cached session (see KalturaSessionCache)
+     * and the calls are queued in requests owned by the callers so the session and config are the only state in a client
      */
-    ThreadLocal<KalturaClient> kctl = new ThreadLocal<KalturaClient>() {
-        @Override
-        protected KalturaClient initialValue() {
-            return makeKalturaClient();
-        };
-    };
+
     /**
      * threadsafe method to get a kaltura client
-     * @return the current kaltura client for this thread
+     * @return the shared kaltura client for the anonymous user session
      */
     public KalturaClient getKalturaClient() {
-        return kctl.get();
+        // NOTE: there is no way to get the user outside of a request in OAE
+        return getKalturaClient(ANONYMOUS_USER_KEY, KalturaSessionType.USER);
     }
     /**
      * threadsafe method to get a kaltura client
      * @param userKey the user key (normally should be the username)
-     * @return the current kaltura client for this thread
+     * @return the shared kaltura client for the admin session of this user (or for the anonymous user if the key is not set)
      */
     public KalturaClient getKalturaClient(String userKey) {
         if (userKey != null && !"".equals(userKey)) {
-            KalturaClient kc = makeKalturaClient(userKey, KalturaSessionType.ADMIN, 0);
-            kctl.set(kc);
+            return getKalturaClient(userKey, KalturaSessionType.ADMIN);
         }
-        return kctl.get();
+        return getKalturaClient();
     }
     /**
-     * destroys the current kaltura client
+     * @deprecated the clients are shared and no longer held per thread so there is nothing to clear
      */
+    @Deprecated
     public void clearKalturaClient() {
-        kctl.remove();
+        // nothing to do
     }
 
     /**
-     * NOTE: this method will generate a new kaltura client using all defaults and sakai user, 
-     * make sure you store this into the {@link #kctl} threadlocal if you are generating it using this method
+     * Gets a client for the calls of a single method, this MUST be followed by 
+     * {@link #releaseKalturaClient(KalturaClientPool, KalturaClient)} with the same pool (in a finally block).
+     * This borrows from the client pool if one is configured, otherwise it is the shared client for the session.
+     * Until the connection check has passed this waits for the first check to finish (up to the startup wait)
+     * and then fails fast while kaltura is unavailable (except for an occasional trial call)
+     * @param pool the client pool, read once by the caller so the client is released to the pool it came from 
+     * even if the config is replaced meanwhile, null if there is none
+     * @return the client
+     * @throws KalturaApiException if kaltura is not available or no client could be had
      */
-    private KalturaClient makeKalturaClient() {
-        // defaults
-        String userKey = "anonymous";
-        KalturaSessionType sessionType = KalturaSessionType.USER;
-        // NOTE: there is no way to get the user outside of a request in OAE
-        KalturaClient kc = makeKalturaClient(userKey, sessionType, 0);
-        return kc;
+    private KalturaClient borrowKalturaClient(KalturaClientPool pool, String userKey, KalturaSessionType sessionType) 
+            throws KalturaApiException {
+        KalturaHealthCheck check = this.healthCheck;
+        if (check != null && ! check.allowCall(this.startupWaitMs)) {
+            // fail fast until the endpoint is confirmed
+            throw new KalturaApiException("Kaltura is not available ("+check.getMessage()+"), not calling it for user "+userKey);
+        }
+        if (pool == null) {
+            return getKalturaClient(userKey, sessionType);
+        }
+        return pool.borrow(userKey, sessionType, SESSION_PRIVILEGES);
     }
 
     /**
-     * NOTE: this method will generate a new kaltura client, 
-     * make sure you store this into the {@link #kctl} threadlocal if you are generating it using this method
+     * Tells the connection check that a call to kaltura worked (so calls stop failing fast right away)
      */
-    private KalturaClient makeKalturaClient(String userKey, KalturaSessionType sessionType, int timeoutSecs) {
-        // client is not threadsafe
-        if (timeoutSecs <= 0) {
-            timeoutSecs = 86400; // NOTE set to 24 hours by request of kaltura   60; // default to 60 seconds
+    private void kalturaCallSucceeded() {
+        KalturaHealthCheck check = this.healthCheck;
+        if (check != null) {
+            check.onCallSucceeded();
         }
-        KalturaClient kalturaClient = new KalturaClient(this.kalturaConfig);
-        String secret = this.kalturaConfig.getSecret();
-        if (KalturaSessionType.ADMIN.equals(sessionType)) {
-            secret = this.kalturaConfig.getAdminSecret();
+    }
+
+    /**
+     * @return a description of the client session for the logs
+     */
+    private static String describeSession(KalturaClient kc) {
+        return "oid="+kc+", tid="+Thread.currentThread().getId()+", ks="+(kc == null ? null : kc.getSessionId());
+    }
+
+    /**
+     * Returns a client from {@link #borrowKalturaClient(KalturaClientPool, String, KalturaSessionType)}
+     * @param pool the pool the client was borrowed from, null if there was none
+     */
+    private void releaseKalturaClient(KalturaClientPool pool, KalturaClient kc) {
+        if (kc != null && pool != null) {
+            pool.release(kc);
         }
-        KalturaSessionService sessionService = kalturaClient.getSessionService();
+    }
+
+    private KalturaClient getKalturaClient(String userKey, KalturaSessionType sessionType) {
         try {
-            String sessionId = sessionService.start(secret, userKey, sessionType, 
-                    this.kalturaConfig.getPartnerId(), timeoutSecs, "edit:*"); // the edit is needed to fix an issue with kaltura servers
-            kalturaClient.setSessionId(sessionId);
-            LOG.debug("Created new kaltura client (oid="+kalturaClient.toString()+", tid="+Thread.currentThread().getId()+", ks="+kalturaClient.getSessionId()+")");
+            return this.sessionCache.getClient(userKey, sessionType, SESSION_PRIVILEGES);
         } catch (KalturaApiException e) {
-            //kalturaClient.setSessionId(null); // should we clear this?
-            LOG.error("Unable to establish a kaltura session ("+kalturaClient.toString()+", "+kalturaClient.getSessionId()+"):: " + e, e);
+            LOG.error("Unable to establish a kaltura session (user="+userKey+", type="+sessionType+"):: " + e, e);
+            // the calls will fail with a session error
+            return new KalturaClient(this.kalturaConfig);
         }
-        return kalturaClient;
     }
 
-
     // KALTURA METHODS
 
     public KalturaBaseEntry uploadItem(String userId, String fileName, long fileSize, InputStream inputStream, 
@@ -851,28 +1128,31 @@ public class KalturaService implements FileUploadHandler, EventHandler {
             mediaType = KalturaMediaType.VIDEO;
         }
         KalturaMediaEntry kme = null;
-        KalturaClient kc = getKalturaClient(userId); // force this to be an admin key
-        if (kc != null) {
-            try {
-                String uploadTokenId = kc.getMediaService().upload(inputStream, fileName, fileSize);
-                //LOG.info("upload token result: "+uploadTokenId);
-                KalturaMediaEntry mediaEntry = new KalturaMediaEntry();
-                mediaEntry.mediaType = KalturaMediaType.VIDEO;
-                mediaEntry.userId = userId;
-                mediaEntry.name = title;
-                if (description != null) {
-                    mediaEntry.description = description;
-                }
-                if (tags != null) {
-                    mediaEntry.tags = tags;
-                }
-                mediaEntry.adminTags = "OAE"; // Should we handle with custom meta fields instead (for 9 July 2011, we will not)?
-                kme = kc.getMediaService().addFromUploadedFile(mediaEntry, uploadTokenId);
-                //kme = kc.getBaseEntryService().update(entryId, mediaEntry); // NOTE: updateKalturaItem()
-            } catch (Exception e) {
-                LOG.error("Failure uploading item ("+fileName+"): "+e, e);
-                throw new RuntimeException(e);
+        KalturaClientPool pool = this.clientPool;
+        KalturaClient kc = null;
+        try {
+            kc = borrowKalturaClient(pool, userId, KalturaSessionType.ADMIN); // force this to be an admin key
+            String uploadTokenId = kc.getMediaService().upload(inputStream, fileName, fileSize);
+            //LOG.info("upload token result: "+uploadTokenId);
+            KalturaMediaEntry mediaEntry = new KalturaMediaEntry();
+            mediaEntry.mediaType = KalturaMediaType.VIDEO;
+            mediaEntry.userId = userId;
+            mediaEntry.name = title;
+            if (description != null) {
+                mediaEntry.description = description;
+            }
+            if (tags != null) {
+                mediaEntry.tags = tags;
             }
+            mediaEntry.adminTags = "OAE"; // Should we handle with custom meta fields instead (for 9 July 2011, we will not)?
+            kme = kc.getMediaService().addFromUploadedFile(mediaEntry, uploadTokenId);
+            //kme = kc.getBaseEntryService().update(entryId, mediaEntry); // NOTE: updateKalturaItem()
+            kalturaCallSucceeded();
+        } catch (Exception e) {
+            LOG.error("Failure uploading item ("+fileName+"): "+e, e);
+            throw new RuntimeException(e);
+        } finally {
+            releaseKalturaClient(pool, kc);
         }
         return kme;
     }
@@ -895,35 +1175,38 @@ public class KalturaService implements FileUploadHandler, EventHandler {
         if (textFilter == null) {
             textFilter = "";
         }
-        KalturaClient kc = getKalturaClient();
-        if (kc != null) {
-            try {
-                // use base entry service instead to get all -AZ
-                //KalturaBaseEntry kbe = entryService.get("qqqq");
-                KalturaBaseEntryService entryService = kc.getBaseEntryService();
-                KalturaBaseEntryFilter filter = new KalturaBaseEntryFilter();
-                filter.partnerIdEqual = this.kalturaConfig.getPartnerId();
-                filter.userIdEqual = userKey;
-                if (StringUtils.isNotBlank(textFilter)) {
-                    filter.searchTextMatchOr = textFilter; // I think this is what I need but it does not seem to prioritize results?
-                    //filter.nameLike = textFilter;
-                }
-                filter.statusIn = "0,1,2"; // KalturaEntryStatus.IMPORT+","+KalturaEntryStatus.PRECONVERT+","+KalturaEntryStatus.READY;
-                // limit to a set of items as needed
-                if (keids != null) {
-                    filter.idIn = StringUtils.join(keids, ',');
-                }
-                //kmef.orderBy = "title";
-                KalturaFilterPager pager = new KalturaFilterPager();
-                pager.pageSize = max;
-                pager.pageIndex = 0; // NOTE - kaltura does not support a start item in the paging API, only a start page
-                KalturaBaseEntryListResponse listResponse = entryService.list(filter, pager);
-                for (KalturaBaseEntry entry : listResponse.objects) {
-                    items.add(entry); // KalturaMediaEntry KalturaMixEntry
-                }
-            } catch (KalturaApiException e) {
-                LOG.error("Unable to get kaltura media items listing using session (oid="+kc.toString()+", tid="+Thread.currentThread().getId()+", ks="+kc.getSessionId()+"):: " + e, e);
+        KalturaClientPool pool = this.clientPool;
+        KalturaClient kc = null;
+        try {
+            kc = borrowKalturaClient(pool, ANONYMOUS_USER_KEY, KalturaSessionType.USER);
+            // use base entry service instead to get all -AZ
+            //KalturaBaseEntry kbe = entryService.get("qqqq");
+            KalturaBaseEntryService entryService = kc.getBaseEntryService();
+            KalturaBaseEntryFilter filter = new KalturaBaseEntryFilter();
+            filter.partnerIdEqual = this.kalturaConfig.getPartnerId();
+            filter.userIdEqual = userKey;
+            if (StringUtils.isNotBlank(textFilter)) {
+                filter.searchTextMatchOr = textFilter; // I think this is what I need but it does not seem to prioritize results?
+                //filter.nameLike = textFilter;
             }
+            filter.statusIn = "0,1,2"; // KalturaEntryStatus.IMPORT+","+KalturaEntryStatus.PRECONVERT+","+KalturaEntryStatus.READY;
+            // limit to a set of items as needed
+            if (keids != null) {
+                filter.idIn = StringUtils.join(keids, ',');
+            }
+            //kmef.orderBy = "title";
+            KalturaFilterPager pager = new KalturaFilterPager();
+            pager.pageSize = max;
+            pager.pageIndex = 0; // NOTE - kaltura does not support a start item in the paging API, only a start page
+            KalturaBaseEntryListResponse listResponse = entryService.list(filter, pager);
+            for (KalturaBaseEntry entry : listResponse.objects) {
+                items.add(entry); // KalturaMediaEntry KalturaMixEntry
+            }
+            kalturaCallSucceeded();
+        } catch (KalturaApiException e) {
+            LOG.error("Unable to get kaltura media items listing using session ("+describeSession(kc)+"):: " + e, e);
+        } finally {
+            releaseKalturaClient(pool, kc);
         }
         return items;
     }
@@ -938,15 +1221,18 @@ public class KalturaService implements FileUploadHandler, EventHandler {
             throw new IllegalArgumentException("keid must not be null");
         }
         KalturaBaseEntry kme = null;
-        KalturaClient kc = getKalturaClient();
-        if (kc != null) {
-            try {
-                //KalturaMediaService mediaService = kc.getMediaService();
-                KalturaBaseEntryService entryService = kc.getBaseEntryService();
-                kme = getKalturaEntry(userKey, keid, entryService);
-            } catch (KalturaApiException e) {
-                LOG.error("Unable to get kaltura media item ("+keid+") using session (oid="+kc.toString()+", tid="+Thread.currentThread().getId()+", ks="+kc.getSessionId()+"):: " + e, e);
-            }
+        KalturaClientPool pool = this.clientPool;
+        KalturaClient kc = null;
+        try {
+            kc = borrowKalturaClient(pool, ANONYMOUS_USER_KEY, KalturaSessionType.USER);
+            //KalturaMediaService mediaService = kc.getMediaService();
+            KalturaBaseEntryService entryService = kc.getBaseEntryService();
+            kme = getKalturaEntry(userKey, keid, entryService);
+            kalturaCallSucceeded();
+        } catch (KalturaApiException e) {
+            LOG.error("Unable to get kaltura media item ("+keid+") using session ("+describeSession(kc)+"):: " + e, e);
+        } finally {
+            releaseKalturaClient(pool, kc);
         }
         return kme;
     }
@@ -956,17 +1242,20 @@ public class KalturaService implements FileUploadHandler, EventHandler {
             throw new IllegalArgumentException("keid must not be null");
         }
         boolean removed = false;
-        KalturaClient kc = getKalturaClient();
-        if (kc != null) {
-            try {
-                KalturaBaseEntryService entryService = kc.getBaseEntryService();
-                KalturaBaseEntry entry = getKalturaEntry(userKey, keid, entryService);
-                entryService.delete(entry.id);
-                removed = true;
-            } catch (KalturaApiException e) {
-                LOG.error("Unable to remove kaltura item ("+keid+") using session (oid="+kc.toString()+", tid="+Thread.currentThread().getId()+", ks="+kc.getSessionId()+"):: " + e, e);
-                removed = false;
-            }
+        KalturaClientPool pool = this.clientPool;
+        KalturaClient kc = null;
+        try {
+            kc = borrowKalturaClient(pool, ANONYMOUS_USER_KEY, KalturaSessionType.USER);
+            KalturaBaseEntryService entryService = kc.getBaseEntryService();
+            KalturaBaseEntry entry = getKalturaEntry(userKey, keid, entryService);
+            entryService.delete(entry.id);
+            removed = true;
+            kalturaCallSucceeded();
+        } catch (KalturaApiException e) {
+            LOG.error("Unable to remove kaltura item ("+keid+") using session ("+describeSession(kc)+"):: " + e, e);
+            removed = false;
+        } finally {
+            releaseKalturaClient(pool, kc);
         }
         return removed;
     }
@@ -983,24 +1272,27 @@ public class KalturaService implements FileUploadHandler, EventHandler {
             throw new IllegalArgumentException("keid must not be null");
         }
         KalturaMixEntry kmix = null;
-        KalturaClient kc = getKalturaClient();
-        if (kc != null) {
-            try {
-                KalturaBaseEntry kme = getKalturaItem(userKey, keid);
-                if (kme == null) {
-                    throw new IllegalArgumentException("Invalid keid ("+keid+"), cannot find entry");
-                }
-                KalturaMixEntry mix = new KalturaMixEntry();
-                mix.name = name != null ? name : kme.name;
-                mix.editorType = KalturaEditorType.ADVANCED;
-                kmix = kc.getMixingService().add(mix);
-                // append existing entry to this mix
-                kc.getMixingService().appendMediaEntry(kmix.id, kme.id);
-                // flattening is async, no way to tell if a mix has been flattened?
-                //kc.getMixingService().requestFlattening(entryId, fileFormat);s
-            } catch (KalturaApiException e) {
-                throw new IllegalStateException("Unable to create new mix ("+name+") using session (oid="+kc.toString()+", tid="+Thread.currentThread().getId()+", ks="+kc.getSessionId()+"):: " + e, e);
-            }
+        KalturaBaseEntry kme = getKalturaItem(userKey, keid);
+        if (kme == null) {
+            throw new IllegalArgumentException("Invalid keid ("+keid+"), cannot find entry");
+        }
+        KalturaClientPool pool = this.clientPool;
+        KalturaClient kc = null;
+        try {
+            kc = borrowKalturaClient(pool, ANONYMOUS_USER_KEY, KalturaSessionType.USER);
+            KalturaMixEntry mix = new KalturaMixEntry();
+            mix.name = name != null ? name : kme.name;
+            mix.editorType = KalturaEditorType.ADVANCED;
+            kmix = kc.getMixingService().add(mix);
+            // append existing entry to this mix
+            kc.getMixingService().appendMediaEntry(kmix.id, kme.id);
+            // flattening is async, no way to tell if a mix has been flattened?
+            //kc.getMixingService().requestFlattening(entryId, fileFormat);s
+            kalturaCallSucceeded();
+        } catch (KalturaApiException e) {
+            throw new IllegalStateException("Unable to create new mix ("+name+") using session ("+describeSession(kc)+"):: " + e, e);
+        } finally {
+            releaseKalturaClient(pool, kc);
         }
         return kmix;
     }
@@ -1014,28 +1306,31 @@ public class KalturaService implements FileUploadHandler, EventHandler {
             throw new IllegalArgumentException("entry keid must not be null");
         }
         KalturaBaseEntry kbe = null;
-        KalturaClient kc = getKalturaClient();
-        if (kc != null) {
-            try {
-                KalturaBaseEntryService entryService = kc.getBaseEntryService();
-                kbe = getKalturaEntry(userKey, keid, entryService);
-                if (kbe == null) {
-                    throw new IllegalArgumentException("Cannot find KME to update using id ("+keid+")");
-                }
-                // integrate the fields we allow to be changed
-                KalturaBaseEntry fields = new KalturaBaseEntry();
-                //fields.creditUrl = entry.creditUrl;
-                //fields.creditUserName = entry.creditUserName;
-                fields.description = kalturaEntry.description;
-                fields.name = kalturaEntry.name;
-                fields.tags = kalturaEntry.tags;
-                // now update the KME
-                kbe = entryService.update(keid, fields);
-            } catch (KalturaApiException e) {
-                String msg = "Unable to update kaltura media item ("+keid+") using session (oid="+kc.toString()+", tid="+Thread.currentThread().getId()+", ks="+kc.getSessionId()+"):: " + e;
-                LOG.error(msg, e);
-                throw new RuntimeException(msg, e);
+        KalturaClientPool pool = this.clientPool;
+        KalturaClient kc = null;
+        try {
+            kc = borrowKalturaClient(pool, ANONYMOUS_USER_KEY, KalturaSessionType.USER);
+            KalturaBaseEntryService entryService = kc.getBaseEntryService();
+            kbe = getKalturaEntry(userKey, keid, entryService);
+            if (kbe == null) {
+                throw new IllegalArgumentException("Cannot find KME to update using id ("+keid+")");
             }
+            // integrate the fields we allow to be changed
+            KalturaBaseEntry fields = new KalturaBaseEntry();
+            //fields.creditUrl = entry.creditUrl;
+            //fields.creditUserName = entry.creditUserName;
+            fields.description = kalturaEntry.description;
+            fields.name = kalturaEntry.name;
+            fields.tags = kalturaEntry.tags;
+            // now update the KME
+            kbe = entryService.update(keid, fields);
+            kalturaCallSucceeded();
+        } catch (KalturaApiException e) {
+            String msg = "Unable to update kaltura media item ("+keid+") using session ("+describeSession(kc)+"):: " + e;
+            LOG.error(msg, e);
+            throw new RuntimeException(msg, e);
+        } finally {
+            releaseKalturaClient(pool, kc);
         }
         return kbe;
     }
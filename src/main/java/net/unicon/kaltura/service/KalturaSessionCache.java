@@ -0,0 +1,246 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package net.unicon.kaltura.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kaltura.client.KalturaApiException;
+import com.kaltura.client.KalturaClient;
+import com.kaltura.client.KalturaConfiguration;
+import com.kaltura.client.enums.KalturaSessionType;
+
+/**
+ * Cache of kaltura sessions (KS) by user, session type and privileges.
+ * The sessions are signed locally with the configured secrets by default (no call to the server),
+ * or started with the session.start call if local signing is disabled.
+ * A session is replaced once it is within the refresh period of its expiry, the thread that
+ * notices does the refresh and all others keep using the current session until it is done.
+ * Each cached session also has a shared client which uses it (the clients are threadsafe so the number of clients
+ * depends on the number of sessions in use and not on the number of threads).
+ * This is threadsafe.
+ */
+public class KalturaSessionCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KalturaSessionCache.class);
+
+    public static final int DEFAULT_MAX_SESSIONS = 10000;
+
+    private final KalturaConfiguration kalturaConfig;
+    private final boolean localSigning;
+    private final int expirySecs;
+    private final int refreshSecs;
+    private final int maxSessions;
+    private final KalturaClient sessionClient;
+    private final Map<String, CachedSession> sessions = new ConcurrentHashMap<String, CachedSession>();
+
+    /**
+     * @param kalturaConfig the kaltura config (partner and secrets)
+     * @param localSigning true to sign the sessions locally, false to start them on the server
+     * @param expirySecs the number of seconds the sessions are valid for
+     * @param refreshSecs the number of seconds before expiry at which a session is replaced
+     */
+    public KalturaSessionCache(KalturaConfiguration kalturaConfig, boolean localSigning, int expirySecs, int refreshSecs) {
+        this(kalturaConfig, localSigning, expirySecs, refreshSecs, DEFAULT_MAX_SESSIONS);
+    }
+
+    /**
+     * @param maxSessions the max number of sessions cached, the expired ones are removed when this is reached
+     */
+    public KalturaSessionCache(KalturaConfiguration kalturaConfig, boolean localSigning, int expirySecs, int refreshSecs, int maxSessions) {
+        if (kalturaConfig == null) {
+            throw new IllegalArgumentException("kalturaConfig must be set");
+        }
+        if (expirySecs <= 0) {
+            throw new IllegalArgumentException("expirySecs must be greater than 0: " + expirySecs);
+        }
+        this.kalturaConfig = kalturaConfig;
+        this.localSigning = localSigning;
+        this.expirySecs = expirySecs;
+        // always leave some of the session life before the refresh
+        this.refreshSecs = (refreshSecs < 0 || refreshSecs >= expirySecs) ? expirySecs / 2 : refreshSecs;
+        this.maxSessions = maxSessions;
+        this.sessionClient = new KalturaClient(kalturaConfig);
+    }
+
+    /**
+     * Gets a cached session OR creates a new one if there is none or it needs refreshing
+     * 
+     * @param userKey the user the session is for
+     * @param sessionType the session type (ADMIN sessions are signed with the admin secret)
+     * @param privileges the session privileges (e.g. edit:*), may be null
+     * @return the session key (KS)
+     * @throws KalturaApiException if there is no valid session and a new one cannot be created
+     */
+    public String getSession(String userKey, KalturaSessionType sessionType, String privileges) throws KalturaApiException {
+        return getCachedSession(userKey, sessionType, privileges).ks;
+    }
+
+    /**
+     * Gets the shared client for a cached session (see {@link #getSession(String, KalturaSessionType, String)}),
+     * a new client is used once the session is refreshed
+     * 
+     * @param userKey the user the session is for
+     * @param sessionType the session type
+     * @param privileges the session privileges (e.g. edit:*), may be null
+     * @return the client using the session
+     * @throws KalturaApiException if there is no valid session and a new one cannot be created
+     */
+    public KalturaClient getClient(String userKey, KalturaSessionType sessionType, String privileges) throws KalturaApiException {
+        return getCachedSession(userKey, sessionType, privileges).client;
+    }
+
+    private CachedSession getCachedSession(String userKey, KalturaSessionType sessionType, String privileges) throws KalturaApiException {
+        String key = sessionKey(userKey, sessionType, privileges);
+        long now = System.currentTimeMillis();
+        CachedSession session = sessions.get(key);
+        if (session != null) {
+            if (now < session.refreshAt) {
+                return session;
+            }
+            if (now < session.expiresAt && ! session.refreshing.compareAndSet(false, true)) {
+                // another thread is already refreshing this one
+                return session;
+            }
+        }
+        try {
+            String ks = startSession(userKey, sessionType, privileges, expirySecs);
+            if (sessions.size() >= maxSessions) {
+                removeExpired(now);
+            }
+            CachedSession fresh = new CachedSession(new KalturaClient(kalturaConfig, ks), now, expirySecs, refreshSecs);
+            sessions.put(key, fresh);
+            return fresh;
+        } catch (KalturaApiException e) {
+            if (session != null && now < session.expiresAt) {
+                // keep using the current one until it expires
+                session.refreshing.set(false);
+                LOG.warn("Unable to refresh kaltura session for " + userKey + ", using the current one: " + e);
+                return session;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a new session (not cached), signed locally or started on the server depending on the cache mode
+     * 
+     * @param userKey the user the session is for
+     * @param sessionType the session type
+     * @param privileges the session privileges, may be null
+     * @param expirySecs the number of seconds the session is valid for
+     * @return the session key (KS)
+     * @throws KalturaApiException if the session cannot be created
+     */
+    public String startSession(String userKey, KalturaSessionType sessionType, String privileges, int expirySecs) throws KalturaApiException {
+        if (! localSigning) {
+            return startRemoteSession(userKey, sessionType, privileges, expirySecs);
+        }
+        try {
+            return sessionClient.generateSession(getSecret(sessionType), userKey, sessionType, 
+                    kalturaConfig.getPartnerId(), expirySecs, privileges);
+        } catch (Exception e) {
+            throw new KalturaApiException("Unable to sign a kaltura session for " + userKey + ": " + e);
+        }
+    }
+
+    /**
+     * Starts a new session on the server (session.start), this is always a call to the server
+     * 
+     * @param userKey the user the session is for
+     * @param sessionType the session type
+     * @param privileges the session privileges, may be null
+     * @param expirySecs the number of seconds the session is valid for
+     * @return the session key (KS)
+     * @throws KalturaApiException if the server call fails
+     */
+    public String startRemoteSession(String userKey, KalturaSessionType sessionType, String privileges, int expirySecs) throws KalturaApiException {
+        // the clients are threadsafe and this one has no session so it is shared by all the calls
+        return sessionClient.getSessionService().start(getSecret(sessionType), userKey, sessionType, 
+                kalturaConfig.getPartnerId(), expirySecs, privileges);
+    }
+
+    /**
+     * @return true if the sessions are signed locally
+     */
+    public boolean isLocalSigning() {
+        return localSigning;
+    }
+
+    /**
+     * @return the number of cached sessions
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Removes all the cached sessions
+     */
+    public void clear() {
+        sessions.clear();
+    }
+
+    /**
+     * @return the key of the session for the user, session type and privileges (null privileges are the same as none),
+     * the user key is prefixed with its length so a ; in the user key or the privileges cannot make two keys the same
+     */
+    static String sessionKey(String userKey, KalturaSessionType sessionType, String privileges) {
+        String user = String.valueOf(userKey);
+        return sessionType.getHashCode() + ";" + user.length() + ";" + user + ";" + (privileges == null ? "" : privileges);
+    }
+
+    private String getSecret(KalturaSessionType sessionType) {
+        if (KalturaSessionType.ADMIN.equals(sessionType)) {
+            return kalturaConfig.getAdminSecret();
+        }
+        return kalturaConfig.getSecret();
+    }
+
+    private void removeExpired(long now) {
+        for (Iterator<CachedSession> it = sessions.values().iterator(); it.hasNext();) {
+            if (now >= it.next().expiresAt) {
+                it.remove();
+            }
+        }
+        if (sessions.size() >= maxSessions) {
+            // all still valid, start over rather than grow past the limit
+            sessions.clear();
+        }
+    }
+
+    private static class CachedSession {
+        final String ks;
+        final KalturaClient client;
+        final long expiresAt;
+        final long refreshAt;
+        final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        CachedSession(KalturaClient client, long created, int expirySecs, int refreshSecs) {
+            this.ks = client.getSessionId();
+            this.client = client;
+            // a little margin for the clock difference with the server
+            this.expiresAt = created + (expirySecs * 1000L) - Math.min(30000L, expirySecs * 100L);
+            // never used past the margin when the refresh period is shorter than it
+            this.refreshAt = Math.min(expiresAt, created + ((expirySecs - refreshSecs) * 1000L));
+        }
+    }
+
+}
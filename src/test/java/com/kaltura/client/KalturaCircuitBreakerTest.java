@@ -0,0 +1,144 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Testing the state transitions of the circuit breaker
+ */
+public class KalturaCircuitBreakerTest {
+
+    private final List<String> transitions = new ArrayList<String>();
+
+    private KalturaCircuitBreaker breaker(int windowSize, int minCalls, int failureRate, int slowCallRate, long openDuration) {
+        KalturaCircuitBreaker breaker = new KalturaCircuitBreaker("http://kaltura", windowSize, minCalls, failureRate, 
+                slowCallRate, 100, openDuration);
+        breaker.addListener(new KalturaCircuitBreaker.Listener() {
+            public void stateChanged(KalturaCircuitBreaker breaker, EKalturaCircuitState from, EKalturaCircuitState to) {
+                transitions.add(from + ">" + to);
+            }
+        });
+        return breaker;
+    }
+
+    @Test
+    public void testOpensOnFailureRate() {
+        KalturaCircuitBreaker breaker = breaker(10, 4, 50, 0, 60000);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.allowRequest());
+            breaker.recordFailure(10);
+        }
+        // not enough calls yet
+        assertEquals(EKalturaCircuitState.CLOSED, breaker.getState());
+        assertEquals(100, breaker.getFailureRate());
+
+        assertTrue(breaker.allowRequest());
+        breaker.recordSuccess(10);
+        assertEquals(EKalturaCircuitState.OPEN, breaker.getState());
+        assertEquals(1, breaker.getOpenedCount());
+        assertEquals("[CLOSED>OPEN]", transitions.toString());
+
+        assertFalse(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+        assertEquals(2, breaker.getRejectedCount());
+        // calls which were allowed before it opened are ignored
+        breaker.recordSuccess(10);
+        assertEquals(EKalturaCircuitState.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testOpensOnSlowCallRate() {
+        KalturaCircuitBreaker breaker = breaker(10, 4, 50, 50, 60000);
+        breaker.recordSuccess(500);
+        breaker.recordSuccess(10);
+        breaker.recordSuccess(10);
+        assertEquals(EKalturaCircuitState.CLOSED, breaker.getState());
+        assertEquals(33, breaker.getSlowCallRate());
+        breaker.recordSuccess(500);
+        assertEquals(EKalturaCircuitState.OPEN, breaker.getState());
+
+        // latency is ignored without a slow call rate
+        breaker = breaker(10, 4, 50, 0, 60000);
+        for (int i = 0; i < 10; i++) {
+            breaker.recordSuccess(500);
+        }
+        assertEquals(EKalturaCircuitState.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getSlowCallRate());
+    }
+
+    @Test
+    public void testWindowRolls() {
+        KalturaCircuitBreaker breaker = breaker(4, 4, 50, 0, 60000);
+        breaker.recordFailure(10);
+        breaker.recordSuccess(10);
+        breaker.recordSuccess(10);
+        breaker.recordSuccess(10);
+        assertEquals(25, breaker.getFailureRate());
+        // pushes the failure out of the window
+        breaker.recordSuccess(10);
+        assertEquals(0, breaker.getFailureRate());
+        breaker.recordFailure(10);
+        assertEquals(EKalturaCircuitState.CLOSED, breaker.getState());
+        breaker.recordFailure(10);
+        assertEquals(EKalturaCircuitState.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenTrial() {
+        KalturaCircuitBreaker breaker = breaker(4, 1, 100, 0, 0);
+        breaker.recordFailure(10);
+        assertEquals(EKalturaCircuitState.OPEN, breaker.getState());
+
+        // the open duration has passed so a single trial call is allowed
+        assertTrue(breaker.allowRequest());
+        assertEquals(EKalturaCircuitState.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+        breaker.recordFailure(10);
+        assertEquals(EKalturaCircuitState.OPEN, breaker.getState());
+
+        // a cancelled trial lets another one through
+        assertTrue(breaker.allowRequest());
+        breaker.recordCancel();
+        assertEquals(EKalturaCircuitState.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.allowRequest());
+        breaker.recordSuccess(10);
+        assertEquals(EKalturaCircuitState.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getFailureRate());
+
+        assertEquals("[CLOSED>OPEN, OPEN>HALF_OPEN, HALF_OPEN>OPEN, OPEN>HALF_OPEN, HALF_OPEN>CLOSED]", transitions.toString());
+        assertEquals(2, breaker.getOpenedCount());
+        assertEquals(2, breaker.getHalfOpenedCount());
+        assertEquals(1, breaker.getClosedCount());
+        assertEquals(1, breaker.getRejectedCount());
+    }
+
+    @Test
+    public void testReset() {
+        KalturaCircuitBreaker breaker = breaker(4, 1, 100, 0, 60000);
+        breaker.recordFailure(10);
+        assertFalse(breaker.allowRequest());
+        breaker.reset();
+        assertEquals(EKalturaCircuitState.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest());
+        assertEquals("[CLOSED>OPEN, OPEN>CLOSED]", transitions.toString());
+    }
+
+}
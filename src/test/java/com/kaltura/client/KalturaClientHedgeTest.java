@@ -0,0 +1,154 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.kaltura.client.types.KalturaBaseEntry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Testing that slow reads are hedged within the budget against a local server which delays chosen requests,
+ * and that no thread is used for the reads which complete before the hedge delay
+ */
+public class KalturaClientHedgeTest {
+
+    private static final String ENTRY = "<xml><result><objectType>KalturaBaseEntry</objectType>"
+            + "<id>0_a</id><name>A</name></result></xml>";
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private final AtomicInteger requests = new AtomicInteger();
+    // the requests (by number) which are answered late
+    private final Set<Integer> slow = new CopyOnWriteArraySet<Integer>();
+    private KalturaConfiguration config;
+    private KalturaClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream in = exchange.getRequestBody();
+                while (in.read() >= 0) {
+                    // drain the request
+                }
+                if (slow.contains(requests.incrementAndGet())) {
+                    try {
+                        Thread.sleep(2000);
+                    } catch (InterruptedException e) {
+                        // answer now
+                    }
+                }
+                byte[] body = ENTRY.getBytes("UTF-8");
+                try {
+                    exchange.sendResponseHeaders(200, body.length);
+                    OutputStream out = exchange.getResponseBody();
+                    out.write(body);
+                    out.close();
+                } catch (IOException e) {
+                    // the hedged request was aborted
+                }
+            }
+        });
+        serverThreads = Executors.newCachedThreadPool();
+        server.setExecutor(serverThreads);
+        server.start();
+
+        config = new KalturaConfiguration();
+        config.setPartnerId(111);
+        config.setSecret("secret");
+        config.setEndpoint("http://127.0.0.1:" + server.getAddress().getPort());
+        config.setCircuitBreakerEnabled(false);
+        config.setMaxRetries(0);
+        config.setHedging(true);
+        config.setHedgeMinDelay(200);
+        config.setHedgeBudgetPercent(100);
+        // the latencies are known so the reads are hedged
+        EKalturaTimeoutClass timeoutClass = config.getTimeoutClass("baseentry", "get");
+        for (int i = 0; i < KalturaLatencyTracker.MIN_SAMPLES; i++) {
+            config.getLatencyTracker().record(timeoutClass, 10);
+        }
+        client = new KalturaClient(config);
+    }
+
+    @After
+    public void tearDown() {
+        config.shutdown();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    public void testSlowReadHedged() throws Exception {
+        slow.add(1);
+        long start = System.currentTimeMillis();
+        KalturaBaseEntry entry = client.getBaseEntryService().get("0_a");
+        assertEquals("0_a", entry.id);
+        assertTrue(System.currentTimeMillis() - start < 1500);
+        assertEquals(2, requests.get());
+        assertEquals(1, config.getHedgeBudget().getHedges());
+        assertEquals(1, config.getHedgeBudget().getHedgeWins());
+    }
+
+    @Test
+    public void testFastReadsUseNoThread() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            assertEquals("0_a", client.getBaseEntryService().get("0_a").id);
+        }
+        assertEquals(30, requests.get());
+        assertEquals(30, config.getHedgeBudget().getRequests());
+        assertEquals(0, config.getHedgeBudget().getHedges());
+        assertEquals(0, ((ThreadPoolExecutor) config.getHedgeExecutorService()).getLargestPoolSize());
+    }
+
+    @Test
+    public void testBudgetSpent() throws Exception {
+        config.setHedgeBudgetPercent(0);
+        slow.add(1);
+        assertEquals("0_a", client.getBaseEntryService().get("0_a").id);
+        assertEquals(1, requests.get());
+        assertEquals(1, config.getHedgeBudget().getDenied());
+    }
+
+    @Test
+    public void testNoFreeThread() throws Exception {
+        // a shut down executor rejects the duplicate
+        ExecutorService full = Executors.newSingleThreadExecutor();
+        full.shutdown();
+        config.setHedgeExecutorService(full);
+        slow.add(1);
+        assertEquals("0_a", client.getBaseEntryService().get("0_a").id);
+        assertEquals(1, requests.get());
+    }
+
+}
@@ -0,0 +1,220 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Testing which failed calls are retried (by retry class and failure) against a local server
+ * which sends scripted responses, and that spooled uploads are sent again in full
+ */
+public class KalturaClientRetryTest {
+
+    private static final String OK = "<xml><result>1</result></xml>";
+    private static final String RETRYABLE_ERROR = "<xml><result><error><code>INTERNAL_SERVERL_ERROR</code>"
+            + "<message>try again</message></error></result></xml>";
+
+    private HttpServer server;
+    private final LinkedList<Object[]> script = new LinkedList<Object[]>();
+    private final List<String> bodies = new CopyOnWriteArrayList<String>();
+    private KalturaConfiguration config;
+    private KalturaClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                bodies.add(new String(read(exchange.getRequestBody()), "ISO-8859-1"));
+                Object[] response;
+                synchronized (script) {
+                    response = script.isEmpty() ? new Object[] { 200, OK } : script.removeFirst();
+                }
+                byte[] body = ((String) response[1]).getBytes("UTF-8");
+                exchange.sendResponseHeaders((Integer) response[0], body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+
+        config = new KalturaConfiguration();
+        config.setPartnerId(111);
+        config.setSecret("secret");
+        config.setEndpoint("http://127.0.0.1:" + server.getAddress().getPort());
+        config.setCircuitBreakerEnabled(false);
+        config.setMaxRetries(2);
+        config.setRetryBaseDelay(1);
+        config.setRetryMaxDelay(1);
+        client = new KalturaClient(config);
+    }
+
+    @After
+    public void tearDown() {
+        config.shutdown();
+        server.stop(0);
+    }
+
+    private void respond(int status, String body) {
+        synchronized (script) {
+            script.add(new Object[] { status, body });
+        }
+    }
+
+    @Test
+    public void testRetryClasses() {
+        assertEquals(EKalturaRetryClass.READ, config.getRetryClass("baseentry", "list"));
+        assertEquals(EKalturaRetryClass.READ, config.getRetryClass("system", "ping"));
+        assertEquals(EKalturaRetryClass.IDEMPOTENT_WRITE, config.getRetryClass("media", "update"));
+        assertEquals(EKalturaRetryClass.IDEMPOTENT_WRITE, config.getRetryClass("media", "upload"));
+        assertEquals(EKalturaRetryClass.IDEMPOTENT_WRITE, config.getRetryClass("session", "start"));
+        assertEquals(EKalturaRetryClass.NON_IDEMPOTENT_WRITE, config.getRetryClass("media", "add"));
+        config.setRetryClass("media", "add", EKalturaRetryClass.IDEMPOTENT_WRITE);
+        assertEquals(EKalturaRetryClass.IDEMPOTENT_WRITE, config.getRetryClass("media", "add"));
+        config.setRetryClass("media", "add", null);
+        assertEquals(EKalturaRetryClass.NON_IDEMPOTENT_WRITE, config.getRetryClass("media", "add"));
+    }
+
+    @Test
+    public void testReadRetried() throws Exception {
+        respond(200, RETRYABLE_ERROR);
+        respond(500, "oops");
+        assertTrue(client.getSystemService().ping());
+        assertEquals(3, bodies.size());
+    }
+
+    @Test
+    public void testRetriesLimited() throws Exception {
+        respond(500, "oops");
+        respond(500, "oops");
+        respond(500, "oops");
+        try {
+            client.getSystemService().ping();
+            fail("should have failed");
+        } catch (KalturaTransportException e) {
+            assertTrue(e.isResponseReceived());
+        }
+        assertEquals(3, bodies.size());
+    }
+
+    @Test
+    public void testNonIdempotentWriteNotRetried() throws Exception {
+        respond(200, RETRYABLE_ERROR);
+        try {
+            client.doQueue(client.queueServiceCall(null, "media", "add", new KalturaParams()));
+            fail("should have failed");
+        } catch (KalturaApiException e) {
+            assertEquals("INTERNAL_SERVERL_ERROR", e.code);
+        }
+        respond(500, "oops");
+        try {
+            client.doQueue(client.queueServiceCall(null, "media", "add", new KalturaParams()));
+            fail("should have failed");
+        } catch (KalturaTransportException e) {
+            assertTrue(e.isRequestSent());
+        }
+        assertEquals(2, bodies.size());
+    }
+
+    @Test
+    public void testOtherErrorsNotRetried() throws Exception {
+        respond(200, "<xml><result><error><code>ENTRY_ID_NOT_FOUND</code><message>no entry</message></error></result></xml>");
+        try {
+            client.getBaseEntryService().get("missing");
+            fail("should have failed");
+        } catch (KalturaApiException e) {
+            assertEquals("ENTRY_ID_NOT_FOUND", e.code);
+        }
+        assertEquals(1, bodies.size());
+
+        // the same request would get the same response
+        respond(200, "<xml><result><objectType>Kaltura");
+        try {
+            client.getBaseEntryService().get("0_a");
+            fail("should have failed");
+        } catch (KalturaInvalidResponseException e) {
+            assertNotNull(e.getMessage());
+        }
+        assertEquals(2, bodies.size());
+    }
+
+    @Test
+    public void testUploadReplayed() throws Exception {
+        File directory = new File(System.getProperty("java.io.tmpdir"), "kaltura-spool-test-" + System.nanoTime());
+        assertTrue(directory.mkdir());
+        try {
+            config.setRetrySpoolDirectory(directory);
+            config.setRetrySpoolMemoryThreshold(16);
+            byte[] content = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes("US-ASCII");
+            respond(500, "oops");
+            respond(200, "<xml><result>0_token</result></xml>");
+            String token = client.getMediaService().upload(new ByteArrayInputStream(content), "video.flv", content.length);
+            assertEquals("0_token", token);
+            assertEquals(2, bodies.size());
+            for (String body : bodies) {
+                assertTrue(body, body.contains("0123456789abcdefghijklmnopqrstuvwxyz"));
+            }
+            // the spooled copy is deleted after the call
+            assertEquals(0, directory.list().length);
+
+            // a stream which is not spooled cannot be sent again
+            config.setRetrySpoolMaxSize(16);
+            respond(500, "oops");
+            try {
+                client.getMediaService().upload(new ByteArrayInputStream(content), "video.flv", content.length);
+                fail("should have failed");
+            } catch (KalturaTransportException e) {
+                assertTrue(e.isRequestSent());
+            }
+            assertEquals(3, bodies.size());
+        } finally {
+            for (File file : directory.listFiles()) {
+                file.delete();
+            }
+            directory.delete();
+        }
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[4096];
+        int n;
+        while ((n = in.read(chunk)) != -1) {
+            bytes.write(chunk, 0, n);
+        }
+        return bytes.toByteArray();
+    }
+
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Testing that a configuration lets the calls made with it complete before it is shut down,
+ * against a local server which answers slowly
+ */
+public class KalturaConfigurationTest {
+
+    private HttpServer server;
+    private ExecutorService callers;
+    private volatile long responseDelay = 500;
+    private KalturaConfiguration config;
+    private KalturaClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream in = exchange.getRequestBody();
+                while (in.read() >= 0) {
+                    // drain the request
+                }
+                try {
+                    Thread.sleep(responseDelay);
+                } catch (InterruptedException e) {
+                    // answer now
+                }
+                byte[] body = "<xml><result>1</result></xml>".getBytes("UTF-8");
+                try {
+                    exchange.sendResponseHeaders(200, body.length);
+                    OutputStream out = exchange.getResponseBody();
+                    out.write(body);
+                    out.close();
+                } catch (IOException e) {
+                    // the connection was closed
+                }
+            }
+        });
+        server.start();
+        callers = Executors.newSingleThreadExecutor();
+
+        config = new KalturaConfiguration();
+        config.setPartnerId(111);
+        config.setEndpoint("http://127.0.0.1:" + server.getAddress().getPort());
+        config.setCircuitBreakerEnabled(false);
+        config.setMaxRetries(0);
+        client = new KalturaClient(config);
+    }
+
+    @After
+    public void tearDown() {
+        config.shutdown();
+        server.stop(0);
+        callers.shutdownNow();
+    }
+
+    private Future<Boolean> ping() throws Exception {
+        Future<Boolean> ping = callers.submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return client.getSystemService().ping();
+            }
+        });
+        long deadline = System.currentTimeMillis() + 5000;
+        while (config.getActiveCalls() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, config.getActiveCalls());
+        return ping;
+    }
+
+    @Test
+    public void testShutdownWaitsForCalls() throws Exception {
+        Future<Boolean> ping = ping();
+        assertTrue(config.shutdown(5000));
+        assertTrue(ping.get());
+        assertEquals(0, config.getActiveCalls());
+        assertTrue(config.isShutdown());
+        try {
+            client.getSystemService().ping();
+            fail("the configuration is shut down");
+        } catch (KalturaApiException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testShutdownCutsOffSlowCalls() throws Exception {
+        responseDelay = 1000;
+        Future<Boolean> ping = ping();
+        assertFalse(config.shutdown(100));
+        assertTrue(config.isShutdown());
+        try {
+            ping.get();
+            fail("the connection was closed");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof KalturaApiException);
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static com.kaltura.client.KalturaStaxParserTest.*;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+import com.kaltura.client.types.KalturaBaseEntryListResponse;
+
+/**
+ * Testing that the parallel decoding of large arrays and multirequest results gives the same objects
+ * in the same order as the sequential decoding, and that failures and a busy executor are handled
+ */
+public class KalturaDomBinderTest {
+
+    private static final int ENTRIES = 500;
+
+    private ThreadPoolExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new ThreadPoolExecutor(3, 3, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static String entry(int i, String objectType) {
+        return "<objectType>" + objectType + "</objectType><id>0_" + i + "</id><name>entry " + i + "</name>"
+                + "<partnerId>" + i + "</partnerId>" + (i % 2 == 0 ? "<mediaType>" + (i % 3 + 1) + "</mediaType>" : "");
+    }
+
+    private static String listXml(String failingType) {
+        StringBuilder xml = new StringBuilder("<xml><result><objectType>KalturaBaseEntryListResponse</objectType><objects>");
+        for (int i = 0; i < ENTRIES; i++) {
+            String objectType = i % 2 == 0 ? "KalturaMediaEntry" : "KalturaBaseEntry";
+            if (failingType != null && i == ENTRIES - 10) {
+                objectType = failingType;
+            }
+            xml.append("<item>").append(entry(i, objectType)).append("</item>");
+        }
+        return xml.append("</objects><totalCount>").append(ENTRIES).append("</totalCount></result></xml>").toString();
+    }
+
+    private static String multiXml() {
+        StringBuilder xml = new StringBuilder("<xml><result>");
+        for (int i = 0; i < 100; i++) {
+            xml.append("<item>").append(i % 10 == 5 ? "12" : entry(i, "KalturaMediaEntry")).append("</item>");
+        }
+        return xml.append("</result></xml>").toString();
+    }
+
+    private String decode(String xml, ExecutorService executorService) throws Exception {
+        Element result = domResult(xml);
+        new KalturaDomBinder(false, null, executorService, 10, 4, null).bindResult(result);
+        if (KalturaObjectBinding.getBoundObject(result) != null) {
+            return dump(KalturaObjectFactory.create(result));
+        }
+        StringBuilder objects = new StringBuilder();
+        for (Element item : childElements(result)) {
+            Object object = KalturaObjectBinding.getBoundObject(item);
+            objects.append(object == null ? item.getTextContent() : dump(object)).append(';');
+        }
+        return objects.toString();
+    }
+
+    @Test
+    public void testSameAsSequential() throws Exception {
+        String xml = listXml(null);
+        String expected = dump(KalturaObjectFactory.create(domResult(xml)));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expected, decode(xml, executor));
+        }
+        assertTrue(executor.getTaskCount() > 0);
+        KalturaBaseEntryListResponse list = (KalturaBaseEntryListResponse) KalturaObjectFactory.create(domResult(xml));
+        assertEquals(ENTRIES, list.objects.size());
+
+        // the results of a multirequest
+        String multi = multiXml();
+        assertEquals(decode(multi, null), decode(multi, executor));
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        try {
+            decode(listXml("KalturaNoSuchEntry"), executor);
+            fail("an entry has an unknown type");
+        } catch (KalturaApiException e) {
+            // expected
+        }
+        // the executor is still usable
+        assertEquals(decode(listXml(null), null), decode(listXml(null), executor));
+    }
+
+    @Test
+    public void testRejected() throws Exception {
+        String xml = listXml(null);
+        String expected = decode(xml, null);
+
+        // the only thread is busy and there is no queue so the calling thread decodes it all
+        ThreadPoolExecutor busy = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>());
+        final CountDownLatch release = new CountDownLatch(1);
+        busy.execute(new Runnable() {
+            public void run() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    // done
+                }
+            }
+        });
+        try {
+            assertEquals(expected, decode(xml, busy));
+        } finally {
+            release.countDown();
+            busy.shutdown();
+        }
+
+        ExecutorService shutdown = Executors.newSingleThreadExecutor();
+        shutdown.shutdown();
+        assertEquals(expected, decode(xml, shutdown));
+    }
+
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Testing the ejection and readmission of the endpoints and how the balancer picks them
+ */
+public class KalturaEndpointBalancerTest {
+
+    private static final int EJECT_FAILURES = 3;
+    private static final long EJECT_TIME = 100;
+    private static final long MAX_EJECT_TIME = 300;
+    private static final long RAMP_TIME = 500;
+
+    private boolean complete(KalturaEndpoint endpoint, boolean failed, long now) {
+        endpoint.onStart();
+        return endpoint.onComplete(failed, now, EJECT_FAILURES, EJECT_TIME, MAX_EJECT_TIME, RAMP_TIME);
+    }
+
+    @Test
+    public void testEjectedAfterConsecutiveFailures() {
+        KalturaEndpoint endpoint = new KalturaEndpoint("http://kaltura1", 1);
+        assertFalse(complete(endpoint, true, 1000));
+        assertFalse(complete(endpoint, true, 1000));
+        assertFalse(complete(endpoint, false, 1000));
+        assertFalse(complete(endpoint, true, 1000));
+        assertFalse(complete(endpoint, true, 1000));
+        assertFalse(endpoint.isEjected(1000));
+        assertTrue(complete(endpoint, true, 1000));
+        assertTrue(endpoint.isEjected(1000));
+        assertTrue(endpoint.isEjected(1099));
+        assertFalse(endpoint.isEjected(1100));
+        // requests which were already sent do not eject it again
+        assertFalse(complete(endpoint, true, 1050));
+        assertEquals(7, endpoint.getRequests());
+        assertEquals(6, endpoint.getFailures());
+        assertEquals(1, endpoint.getEjections());
+        assertEquals(0, endpoint.getOutstanding());
+    }
+
+    @Test
+    public void testEjectTimeBackoff() {
+        KalturaEndpoint endpoint = new KalturaEndpoint("http://kaltura1", 1);
+        long now = 1000;
+        long[] expected = { 100, 200, 300, 300 };
+        for (long ejectTime : expected) {
+            for (int i = 0; i < EJECT_FAILURES; i++) {
+                complete(endpoint, true, now);
+            }
+            assertTrue(endpoint.isEjected(now + ejectTime - 1));
+            assertFalse(endpoint.isEjected(now + ejectTime));
+            // fails again while it is still ramping up
+            now += ejectTime + RAMP_TIME / 2;
+            assertFalse(complete(endpoint, false, now));
+        }
+
+        // once it was back to its full share for a ramp time the backoff starts over
+        now += RAMP_TIME;
+        complete(endpoint, false, now);
+        for (int i = 0; i < EJECT_FAILURES; i++) {
+            complete(endpoint, true, now);
+        }
+        assertTrue(endpoint.isEjected(now + 99));
+        assertFalse(endpoint.isEjected(now + 100));
+        assertEquals(5, endpoint.getEjections());
+    }
+
+    @Test
+    public void testRamp() {
+        KalturaEndpoint endpoint = new KalturaEndpoint("http://kaltura1", 4);
+        assertEquals(4.0, endpoint.getEffectiveWeight(1000, RAMP_TIME), 0.001);
+        endpoint.eject(1000, 100);
+        assertEquals(0.4, endpoint.getEffectiveWeight(1100, RAMP_TIME), 0.001);
+        assertEquals(2.0, endpoint.getEffectiveWeight(1350, RAMP_TIME), 0.001);
+        assertEquals(4.0, endpoint.getEffectiveWeight(1600, RAMP_TIME), 0.001);
+        assertEquals(4.0, endpoint.getEffectiveWeight(1100, 0), 0.001);
+    }
+
+    @Test
+    public void testChooseSkipsEjected() {
+        KalturaEndpoint a = new KalturaEndpoint("http://kaltura1", 1);
+        KalturaEndpoint b = new KalturaEndpoint("http://kaltura2", 1);
+        KalturaEndpointBalancer balancer = new KalturaEndpointBalancer(Arrays.asList(a, b),
+                EKalturaBalancingStrategy.POWER_OF_TWO_CHOICES, EJECT_FAILURES, EJECT_TIME, MAX_EJECT_TIME, RAMP_TIME);
+        assertSame(b, balancer.choose(a));
+        assertSame(a, balancer.choose(b));
+
+        balancer.eject("http://kaltura1", 60000);
+        for (int i = 0; i < 20; i++) {
+            assertSame(b, balancer.choose(null));
+        }
+        // a retry goes back to the failed endpoint rather than an ejected one
+        assertSame(b, balancer.choose(b));
+
+        // all ejected, the one readmitted first is used
+        balancer.eject("http://kaltura2", 30000);
+        assertSame(b, balancer.choose(null));
+        assertNull(balancer.getEndpoint("http://kaltura3"));
+    }
+
+    @Test
+    public void testChooseByLoad() {
+        KalturaEndpoint a = new KalturaEndpoint("http://kaltura1", 1);
+        KalturaEndpoint b = new KalturaEndpoint("http://kaltura2", 4);
+        KalturaEndpointBalancer balancer = new KalturaEndpointBalancer(Arrays.asList(a, b),
+                EKalturaBalancingStrategy.LEAST_OUTSTANDING, EJECT_FAILURES, EJECT_TIME, MAX_EJECT_TIME, RAMP_TIME);
+        // b has 4 times the weight so a only gets one once b has 4 outstanding
+        for (int i = 0; i < 3; i++) {
+            assertSame(b, balancer.choose(null));
+            b.onStart();
+        }
+        b.onStart();
+        assertSame(a, balancer.choose(null));
+
+        // the same with two random choices (there are only two endpoints so both are compared)
+        balancer = new KalturaEndpointBalancer(Arrays.asList(a, b),
+                EKalturaBalancingStrategy.POWER_OF_TWO_CHOICES, EJECT_FAILURES, EJECT_TIME, MAX_EJECT_TIME, RAMP_TIME);
+        assertSame(a, balancer.choose(null));
+        a.onStart();
+        a.onStart();
+        assertSame(b, balancer.choose(null));
+    }
+
+    @Test
+    public void testSingleEndpoint() {
+        KalturaEndpoint a = new KalturaEndpoint("http://kaltura1", 1);
+        KalturaEndpointBalancer balancer = new KalturaEndpointBalancer(Arrays.asList(a),
+                null, EJECT_FAILURES, EJECT_TIME, MAX_EJECT_TIME, RAMP_TIME);
+        balancer.eject("http://kaltura1", 60000);
+        assertFalse(a.isEjected(System.currentTimeMillis()));
+        assertSame(a, balancer.choose(a));
+    }
+
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Testing the token accounting of the hedge budget
+ */
+public class KalturaHedgeBudgetTest {
+
+    @Test
+    public void testPercentOfRequests() {
+        KalturaHedgeBudget budget = new KalturaHedgeBudget(10);
+        assertFalse(budget.tryAcquire());
+        for (int i = 0; i < 9; i++) {
+            budget.onRequest();
+        }
+        assertFalse(budget.tryAcquire());
+        // the 10th request earns a whole hedge (no rounding down)
+        budget.onRequest();
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+
+        for (int i = 0; i < 1000; i++) {
+            budget.onRequest();
+            if (budget.tryAcquire()) {
+                budget.onHedgeWon();
+            }
+        }
+        assertEquals(1010, budget.getRequests());
+        assertEquals(101, budget.getHedges());
+        assertEquals(100, budget.getHedgeWins());
+        assertEquals(3 + 900, budget.getDenied());
+    }
+
+    @Test
+    public void testSavedUpTokensCapped() {
+        KalturaHedgeBudget budget = new KalturaHedgeBudget(50);
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+        }
+        int hedges = 0;
+        while (budget.tryAcquire()) {
+            hedges++;
+        }
+        assertEquals(KalturaHedgeBudget.MAX_TOKENS, hedges);
+        assertEquals(1, budget.getDenied());
+    }
+
+    @Test
+    public void testLimits() {
+        KalturaHedgeBudget none = new KalturaHedgeBudget(0);
+        KalturaHedgeBudget all = new KalturaHedgeBudget(250);
+        for (int i = 0; i < 5; i++) {
+            none.onRequest();
+            all.onRequest();
+            assertFalse(none.tryAcquire());
+            assertTrue(all.tryAcquire());
+            assertFalse(all.tryAcquire());
+        }
+        assertEquals(0, none.getHedges());
+        assertEquals(5, all.getHedges());
+    }
+
+}
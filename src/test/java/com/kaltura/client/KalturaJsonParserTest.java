@@ -0,0 +1,133 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static com.kaltura.client.KalturaStaxParserTest.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+import com.kaltura.client.types.KalturaBaseEntryListResponse;
+import com.kaltura.client.types.KalturaConversionProfile;
+import com.kaltura.client.types.KalturaMediaEntry;
+import com.kaltura.client.utils.XmlUtils;
+
+/**
+ * Testing that the JSON engine decodes the same objects as the DOM parsing of the XML response
+ */
+public class KalturaJsonParserTest {
+
+    // the same responses as the XML ones in KalturaStaxParserTest, with the objectType last like the server sends it
+    private static final String LIST_JSON = "{\"objects\":["
+            + "{\"id\":\"0_a\",\"name\":\"A & B\",\"partnerId\":101,\"status\":\"2\",\"type\":1,\"rank\":2.5,"
+            + "\"tags\":\"one, two\",\"mediaType\":1,\"duration\":73,\"unknownField\":{\"a\":[1,2]},\"objectType\":\"KalturaMediaEntry\"},"
+            + "{\"id\":\"0_b\",\"name\":\"\",\"description\":\"\\u00e9t\\u00e9\",\"objectType\":\"KalturaBaseEntry\"}],"
+            + "\"totalCount\":2,\"objectType\":\"KalturaBaseEntryListResponse\"}";
+
+    private static final String PROFILE_JSON = "{\"id\":7,\"name\":\"Default\",\"isDefault\":1,"
+            + "\"cropDimensions\":{\"left\":1,\"top\":2,\"width\":640,\"height\":480,\"objectType\":\"KalturaCropDimensions\"},"
+            + "\"clipStart\":0,\"objectType\":\"KalturaConversionProfile\"}";
+
+    private static final String ERROR_JSON = "{\"code\":\"ENTRY_ID_NOT_FOUND\",\"message\":\"Entry id \\\"0_x\\\" not found\","
+            + "\"objectType\":\"KalturaAPIException\",\"args\":{\"ENTRY_ID\":\"0_x\"}}";
+
+    private static final String MULTI_JSON = "[{\"id\":\"0_a\",\"objectType\":\"KalturaMediaEntry\"},12,"
+            + "{\"code\":\"X\",\"message\":\"failed\",\"objectType\":\"KalturaAPIException\"}]";
+
+    private static Element parse(String json) throws Exception {
+        return KalturaJsonParser.parse(new ByteArrayInputStream(json.getBytes("UTF-8")));
+    }
+
+    @Test
+    public void testSameObjects() throws Exception {
+        assertEquals(dump(KalturaObjectFactory.create(domResult(LIST_XML))), 
+                dump(KalturaObjectFactory.create(result(parse(LIST_JSON)))));
+        assertEquals(dump(KalturaObjectFactory.create(domResult(PROFILE_XML))), 
+                dump(KalturaObjectFactory.create(result(parse(PROFILE_JSON)))));
+
+        // the objectType first is bound directly from the stream
+        String profile = "{\"objectType\":\"KalturaConversionProfile\",\"id\":7,\"name\":\"Default\",\"isDefault\":1,"
+                + "\"cropDimensions\":{\"objectType\":\"KalturaCropDimensions\",\"left\":1,\"top\":2,\"width\":640,\"height\":480},"
+                + "\"clipStart\":0}";
+        assertEquals(dump(KalturaObjectFactory.create(domResult(PROFILE_XML))), 
+                dump(KalturaObjectFactory.create(result(parse(profile)))));
+    }
+
+    @Test
+    public void testEmptyObjectAsArray() throws Exception {
+        KalturaConversionProfile profile = (KalturaConversionProfile) KalturaObjectFactory.create(
+                result(parse("{\"id\":7,\"cropDimensions\":[],\"objectType\":\"KalturaConversionProfile\"}")));
+        assertEquals(7, profile.id);
+        assertNull(profile.cropDimensions);
+    }
+
+    @Test
+    public void testProjection() throws Exception {
+        Element root = KalturaJsonParser.parse(new ByteArrayInputStream(LIST_JSON.getBytes("UTF-8")), 
+                new HashSet<String>(Arrays.asList("id", "mediaType")));
+        KalturaBaseEntryListResponse list = (KalturaBaseEntryListResponse) KalturaObjectFactory.create(result(root));
+        assertEquals(2, list.totalCount);
+        assertEquals("0_a", list.objects.get(0).id);
+        assertNull(list.objects.get(0).name);
+        assertNotNull(((KalturaMediaEntry) list.objects.get(0)).mediaType);
+    }
+
+    @Test
+    public void testErrorsAndMultiRequest() throws Exception {
+        Element error = (Element) result(parse(ERROR_JSON)).getElementsByTagName("error").item(0);
+        assertEquals("ENTRY_ID_NOT_FOUND", XmlUtils.getTextValue(error, "code"));
+        assertEquals("Entry id \"0_x\" not found", XmlUtils.getTextValue(error, "message"));
+
+        List<Element> items = childElements(result(parse(MULTI_JSON)));
+        List<Element> domItems = childElements(domResult(MULTI_XML));
+        assertEquals(domItems.size(), items.size());
+        assertEquals(dump(KalturaObjectFactory.create(domItems.get(0))), dump(KalturaObjectFactory.create(items.get(0))));
+        assertEquals("12", items.get(1).getTextContent());
+        assertEquals("failed", XmlUtils.getTextValue((Element) items.get(2).getElementsByTagName("error").item(0), "message"));
+    }
+
+    @Test
+    public void testVisitor() throws Exception {
+        final List<Object> visited = new ArrayList<Object>();
+        Element root = KalturaJsonParser.parse(new ByteArrayInputStream(LIST_JSON.getBytes("UTF-8")), null, new KalturaObjectVisitor<Object>() {
+            public void visit(Object object) {
+                visited.add(object);
+            }
+        });
+        KalturaBaseEntryListResponse list = (KalturaBaseEntryListResponse) KalturaObjectFactory.create(result(root));
+        assertEquals(2, list.totalCount);
+        assertNull(list.objects);
+        KalturaBaseEntryListResponse expected = (KalturaBaseEntryListResponse) KalturaObjectFactory.create(domResult(LIST_XML));
+        assertEquals(dump(expected.objects), dump(visited));
+    }
+
+    @Test(expected = KalturaInvalidResponseException.class)
+    public void testInvalidJson() throws Exception {
+        parse("{\"id\":\"0_a\",\"objectType\":\"KalturaMediaEntry\"");
+    }
+
+    @Test(expected = KalturaApiException.class)
+    public void testMissingObjectType() throws Exception {
+        parse("{\"id\":\"0_a\"}");
+    }
+
+}
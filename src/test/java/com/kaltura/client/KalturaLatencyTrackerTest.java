@@ -0,0 +1,74 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Testing the percentiles and the adaptive timeouts
+ */
+public class KalturaLatencyTrackerTest {
+
+    @Test
+    public void testPercentiles() {
+        KalturaLatencyTracker tracker = new KalturaLatencyTracker(100);
+        assertEquals(-1, tracker.getPercentile(EKalturaTimeoutClass.FAST, 50));
+        for (int i = 100; i >= 1; i--) {
+            tracker.record(EKalturaTimeoutClass.FAST, i);
+        }
+        assertEquals(100, tracker.getCount(EKalturaTimeoutClass.FAST));
+        assertEquals(50, tracker.getPercentile(EKalturaTimeoutClass.FAST, 50));
+        assertEquals(99, tracker.getPercentile(EKalturaTimeoutClass.FAST, 99));
+        assertEquals(0, tracker.getCount(EKalturaTimeoutClass.NORMAL));
+        // only the most recent are kept
+        for (int i = 0; i < 100; i++) {
+            tracker.record(EKalturaTimeoutClass.FAST, 1000);
+        }
+        assertEquals(1000, tracker.getPercentile(EKalturaTimeoutClass.FAST, 50));
+    }
+
+    @Test
+    public void testAdaptiveTimeout() {
+        KalturaLatencyTracker tracker = new KalturaLatencyTracker();
+        for (int i = 1; i < KalturaLatencyTracker.MIN_SAMPLES; i++) {
+            tracker.record(EKalturaTimeoutClass.FAST, 1000);
+        }
+        assertEquals(30000, tracker.getAdaptiveTimeout(EKalturaTimeoutClass.FAST, 30000));
+        tracker.record(EKalturaTimeoutClass.FAST, 1000);
+        assertEquals(4000, tracker.getAdaptiveTimeout(EKalturaTimeoutClass.FAST, 30000));
+        assertEquals(3000, tracker.getAdaptiveTimeout(EKalturaTimeoutClass.FAST, 3000));
+
+        // timed out calls are recorded with their timeout so it grows back
+        for (int i = 0; i < 3; i++) {
+            tracker.record(EKalturaTimeoutClass.FAST, 4000);
+        }
+        assertEquals(16000, tracker.getAdaptiveTimeout(EKalturaTimeoutClass.FAST, 30000));
+    }
+
+    @Test
+    public void testNotAdaptive() {
+        KalturaLatencyTracker tracker = new KalturaLatencyTracker();
+        for (int i = 0; i < 100; i++) {
+            tracker.record(EKalturaTimeoutClass.NORMAL, 10);
+            tracker.record(EKalturaTimeoutClass.UPLOAD, 10);
+        }
+        assertFalse(KalturaLatencyTracker.isAdaptive(EKalturaTimeoutClass.UPLOAD));
+        assertEquals(600000, tracker.getAdaptiveTimeout(EKalturaTimeoutClass.UPLOAD, 600000));
+        assertEquals(100000, tracker.getAdaptiveTimeout(EKalturaTimeoutClass.NORMAL, 100000));
+    }
+
+}
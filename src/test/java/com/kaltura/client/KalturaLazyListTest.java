@@ -0,0 +1,122 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static com.kaltura.client.KalturaStaxParserTest.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+import com.kaltura.client.types.KalturaBaseEntry;
+import com.kaltura.client.types.KalturaBaseEntryListResponse;
+import com.kaltura.client.types.KalturaMediaEntry;
+
+/**
+ * Testing the lazy decoding of the list entries
+ */
+public class KalturaLazyListTest {
+
+    private static final String LIST_XML = "<xml><result><objectType>KalturaBaseEntryListResponse</objectType><objects>"
+            + "<item><objectType>KalturaMediaEntry</objectType><id>0_a</id><mediaType>1</mediaType></item>"
+            + "<item><objectType>KalturaBaseEntry</objectType><id>0_b</id></item>"
+            + "<item><objectType>KalturaMediaEntry</objectType><id>0_c</id><mediaType>2</mediaType></item>"
+            + "</objects><totalCount>3</totalCount></result></xml>";
+
+    private static KalturaBaseEntryListResponse decode(String xml) throws Exception {
+        Element result = domResult(xml);
+        new KalturaDomBinder(true, null).bindResult(result);
+        return (KalturaBaseEntryListResponse) KalturaObjectFactory.create(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static KalturaLazyList<KalturaBaseEntry> lazy(KalturaBaseEntryListResponse response) {
+        assertTrue(response.objects instanceof KalturaLazyList<?>);
+        return (KalturaLazyList<KalturaBaseEntry>) response.objects;
+    }
+
+    @Test
+    public void testDecodedOnAccess() throws Exception {
+        KalturaLazyList<KalturaBaseEntry> list = lazy(decode(LIST_XML));
+        assertEquals(3, list.size());
+        assertEquals(3, list.getPendingCount());
+        assertEquals("0_b", list.get(1).id);
+        assertEquals(2, list.getPendingCount());
+        assertSame(list.get(1), list.get(1));
+        assertEquals(2, list.getPendingCount());
+
+        // reads all go through get so the other entries are decoded as they are iterated
+        List<String> ids = new ArrayList<String>();
+        for (KalturaBaseEntry entry : list) {
+            ids.add(entry.id);
+        }
+        assertEquals("[0_a, 0_b, 0_c]", ids.toString());
+        assertEquals(0, list.getPendingCount());
+        assertEquals(KalturaMediaEntry.class, list.get(2).getClass());
+        assertEquals(dump(KalturaObjectFactory.create(domResult(LIST_XML))), dump(decode(LIST_XML)));
+    }
+
+    @Test
+    public void testMaterializedOnWrite() throws Exception {
+        KalturaLazyList<KalturaBaseEntry> list = lazy(decode(LIST_XML));
+        KalturaBaseEntry entry = new KalturaBaseEntry();
+        entry.id = "0_d";
+        list.add(entry);
+        assertEquals(0, list.getPendingCount());
+        assertEquals(4, list.size());
+        assertEquals("0_a", list.get(0).id);
+        assertSame(entry, list.get(3));
+
+        assertEquals("0_a", list.remove(0).id);
+        assertEquals("0_b", list.set(0, entry).id);
+        assertEquals(3, list.size());
+        assertEquals("0_c", list.get(1).id);
+
+        list = lazy(decode(LIST_XML));
+        assertTrue(list.indexOf(null) < 0);
+        assertEquals(0, list.getPendingCount());
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.getPendingCount());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testModifiedWhileIterating() throws Exception {
+        KalturaLazyList<KalturaBaseEntry> list = lazy(decode(LIST_XML));
+        Iterator<KalturaBaseEntry> entries = list.iterator();
+        entries.next();
+        list.remove(2);
+        entries.next();
+    }
+
+    @Test
+    public void testInvalidEntry() throws Exception {
+        KalturaLazyList<KalturaBaseEntry> list = lazy(decode(LIST_XML.replace(
+                "<objectType>KalturaBaseEntry</objectType>", "<objectType>KalturaNoSuchEntry</objectType>")));
+        assertEquals("0_a", list.get(0).id);
+        try {
+            list.get(1);
+            fail("the entry has an unknown type");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof KalturaApiException);
+        }
+    }
+
+}
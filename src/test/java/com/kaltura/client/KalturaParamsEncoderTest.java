@@ -0,0 +1,181 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.httpclient.NameValuePair;
+import org.apache.commons.httpclient.util.EncodingUtil;
+import org.junit.Test;
+
+import com.kaltura.client.types.KalturaFilterPager;
+
+/**
+ * Testing the wire level encoder against what the map based params used to send
+ * (the form body of the post method and the signature over the joined keys and values)
+ */
+public class KalturaParamsEncoderTest {
+
+    @Test
+    public void testSameAsOldParams() throws Exception {
+        KalturaFilterPager pager = new KalturaFilterPager();
+        pager.pageSize = 30;
+        pager.pageIndex = 2;
+        ArrayList<KalturaFilterPager> pagers = new ArrayList<KalturaFilterPager>();
+        pagers.add(pager);
+        pagers.add(new KalturaFilterPager());
+
+        KalturaParams kparams = new KalturaParams();
+        kparams.addStringIfNotNull("entryId", "0_ab 12&cd");
+        kparams.addIntIfNotNull("version", -1);
+        kparams.addIntIfNotNull("unset", Integer.MIN_VALUE);
+        kparams.addBoolIfNotNull("flag", true);
+        kparams.add("pager", pager);
+        kparams.addObjectIfNotNull("pagers", pagers);
+        kparams.addObjectIfNotNull("none", new ArrayList<KalturaFilterPager>());
+        KalturaParamsEncoder encoder = new KalturaParamsEncoder(4);
+        kparams.writeTo(encoder, "1:");
+
+        // what the old params flattened the objects into
+        Map<String, String> expected = new LinkedHashMap<String, String>();
+        expected.put("1:entryId", "0_ab 12&cd");
+        expected.put("1:version", "-1");
+        expected.put("1:flag", "1");
+        expected.put("1:pager:objectType", "KalturaFilterPager");
+        expected.put("1:pager:pageSize", "30");
+        expected.put("1:pager:pageIndex", "2");
+        expected.put("1:pagers:0:objectType", "KalturaFilterPager");
+        expected.put("1:pagers:0:pageSize", "30");
+        expected.put("1:pagers:0:pageIndex", "2");
+        expected.put("1:pagers:1:objectType", "KalturaFilterPager");
+        expected.put("1:none:-", "");
+        assertEncoded(expected, encoder);
+    }
+
+    @Test
+    public void testUtf8() throws Exception {
+        Map<String, String> expected = new LinkedHashMap<String, String>();
+        expected.put("name", "café ✓ 𝄞");
+        expected.put("tags", "a,b;c/d?e=f+g%h*i.j-k_l~m");
+        expected.put("empty", "");
+        KalturaParamsEncoder encoder = new KalturaParamsEncoder(0);
+        for (Map.Entry<String, String> param : expected.entrySet()) {
+            encoder.add(param.getKey(), param.getValue());
+        }
+        assertEncoded(expected, encoder);
+        assertTrue(encoder.toQueryString().startsWith("name=caf%C3%A9+%E2%9C%93+%F0%9D%84%9E&"));
+    }
+
+    @Test
+    public void testPrefixes() {
+        KalturaParamsEncoder encoder = new KalturaParamsEncoder(2);
+        encoder.add("filter:", "orderBy", "+createdAt");
+        encoder.add(null, "orderBy", "name");
+        assertEquals("filter:orderBy", encoder.getKey(0));
+        assertEquals("orderBy", encoder.getKey(1));
+        assertTrue(encoder.containsKey(0, "filter:", "orderBy"));
+        assertTrue(encoder.containsKey(1, null, "orderBy"));
+        assertFalse(encoder.containsKey(1, "filter:", "orderBy"));
+        assertFalse(encoder.containsKey(0, "pager:", "orderBy"));
+        assertEquals("+createdAt", encoder.toParams().get("filter:orderBy"));
+    }
+
+    @Test
+    public void testSign() throws Exception {
+        KalturaParamsEncoder encoder = new KalturaParamsEncoder(2);
+        encoder.add("ks", "abc");
+        encoder.add("partnerId", "111");
+        String signature = encoder.sign();
+        assertEquals(32, signature.length());
+        assertEquals(signature, encoder.sign());
+        assertEquals(3, encoder.size());
+        assertEquals(KalturaParamsEncoder.SIGNATURE, encoder.getKey(2));
+        assertEquals(signature, encoder.getValue(2));
+        // same as the old signature (which dropped the leading zeros)
+        assertEquals(new BigInteger(1, md5("ksabcpartnerId111")).toString(16), new BigInteger(signature, 16).toString(16));
+        try {
+            encoder.add("late", "1");
+            fail("should have failed");
+        } catch (IllegalStateException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testRequestSignsParams() throws Exception {
+        KalturaFilterPager pager = new KalturaFilterPager();
+        pager.pageSize = 5;
+        KalturaParams kparams = new KalturaParams();
+        kparams.put("ks", "abc");
+        kparams.put(KalturaParamsEncoder.SIGNATURE, "stale");
+        kparams.add("pager", pager);
+        KalturaRequest request = new KalturaRequest("http://localhost/api_v3/index.php?service=media&action=list", kparams, 
+                new KalturaFiles(), false, EKalturaServiceFormat.RESPONSE_TYPE_XML);
+        KalturaParamsEncoder encoder = request.getEncodedParams();
+
+        Map<String, String> expected = new LinkedHashMap<String, String>();
+        expected.put("ks", "abc");
+        expected.put("pager:objectType", "KalturaFilterPager");
+        expected.put("pager:pageSize", "5");
+        assertEquals(expected.size() + 1, encoder.size());
+        assertEquals(KalturaParamsEncoder.SIGNATURE, encoder.getKey(expected.size()));
+        assertEquals(hex(md5(join(expected))), encoder.getValue(expected.size()));
+    }
+
+    /**
+     * Checks the params, the body (same as the post method made from the old params) and the signature
+     */
+    private void assertEncoded(Map<String, String> expected, KalturaParamsEncoder encoder) throws Exception {
+        assertEquals(expected.size(), encoder.size());
+        NameValuePair[] pairs = new NameValuePair[expected.size()];
+        int i = 0;
+        for (Map.Entry<String, String> param : expected.entrySet()) {
+            assertEquals(param.getKey(), encoder.getKey(i));
+            assertEquals(param.getKey(), param.getValue(), encoder.getValue(i));
+            pairs[i++] = new NameValuePair(param.getKey(), param.getValue());
+        }
+        String body = EncodingUtil.formUrlEncode(pairs, "UTF-8");
+        assertEquals(body, new String(encoder.toFormUrlEncoded(), "US-ASCII"));
+        assertEquals(body, encoder.toQueryString());
+        assertEquals(hex(md5(join(expected))), encoder.sign());
+    }
+
+    private static String join(Map<String, String> params) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            sb.append(param.getKey()).append(param.getValue());
+        }
+        return sb.toString();
+    }
+
+    private static byte[] md5(String s) throws Exception {
+        return MessageDigest.getInstance("MD5").digest(s.getBytes("UTF-8"));
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(Integer.toHexString((b >> 4) & 0x0F)).append(Integer.toHexString(b & 0x0F));
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import com.kaltura.client.types.KalturaBaseEntry;
+import com.kaltura.client.types.KalturaBaseEntryListResponse;
+import com.kaltura.client.types.KalturaConversionProfile;
+import com.kaltura.client.types.KalturaMediaEntry;
+import com.kaltura.client.utils.XmlUtils;
+
+/**
+ * Testing that the StAX engine decodes the same objects as the DOM parsing of the generated types
+ */
+public class KalturaStaxParserTest {
+
+    static final String LIST_XML = "<?xml version=\"1.0\" encoding=\"utf-8\"?><xml><result>"
+            + "<objectType>KalturaBaseEntryListResponse</objectType><objects>"
+            + "<item><objectType>KalturaMediaEntry</objectType><id>0_a</id><name>A &amp; B</name>"
+            + "<partnerId>101</partnerId><status>2</status><type>1</type><rank>2.5</rank>"
+            + "<tags>one, two</tags><mediaType>1</mediaType><duration>73</duration><unknownField>x</unknownField></item>"
+            + "<item><objectType>KalturaBaseEntry</objectType><id>0_b</id><name></name><description>\u00e9t\u00e9</description></item>"
+            + "</objects><totalCount>2</totalCount></result><executionTime>0.01</executionTime></xml>";
+
+    static final String PROFILE_XML = "<xml><result><objectType>KalturaConversionProfile</objectType>"
+            + "<id>7</id><name>Default</name><isDefault>1</isDefault><cropDimensions>"
+            + "<objectType>KalturaCropDimensions</objectType><left>1</left><top>2</top><width>640</width><height>480</height>"
+            + "</cropDimensions><clipStart>0</clipStart></result></xml>";
+
+    static final String ERROR_XML = "<xml><result><error><code>ENTRY_ID_NOT_FOUND</code>"
+            + "<message>Entry id \"0_x\" not found</message></error></result></xml>";
+
+    static final String MULTI_XML = "<xml><result><item><objectType>KalturaMediaEntry</objectType><id>0_a</id></item>"
+            + "<item>12</item><item><error><code>X</code><message>failed</message></error></item></result></xml>";
+
+    /**
+     * @return the decoded result the way the client always did it (full DOM and the generated constructors)
+     */
+    static Element domResult(String xml) throws Exception {
+        return (Element) XmlUtils.parseXml(xml).getElementsByTagName("result").item(0);
+    }
+
+    static Element result(Element root) {
+        return (Element) root.getElementsByTagName("result").item(0);
+    }
+
+    static List<Element> childElements(Element element) {
+        List<Element> children = new ArrayList<Element>();
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                children.add((Element) node);
+            }
+        }
+        return children;
+    }
+
+    private static Element parse(String xml) throws Exception {
+        return KalturaStaxParser.parse(new ByteArrayInputStream(xml.getBytes("UTF-8")));
+    }
+
+    /**
+     * @return all the public fields of the object (and of the objects in it) as text so objects can be compared
+     */
+    static String dump(Object value) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        dump(value, sb);
+        return sb.toString();
+    }
+
+    private static void dump(Object value, StringBuilder sb) throws Exception {
+        if (value instanceof KalturaObjectBase) {
+            sb.append(value.getClass().getSimpleName()).append('{');
+            for (Field field : value.getClass().getFields()) {
+                if (! Modifier.isStatic(field.getModifiers())) {
+                    sb.append(field.getName()).append('=');
+                    dump(field.get(value), sb);
+                    sb.append(',');
+                }
+            }
+            sb.append('}');
+        } else if (value instanceof List<?>) {
+            sb.append('[');
+            for (Object item : (List<?>) value) {
+                dump(item, sb);
+                sb.append(',');
+            }
+            sb.append(']');
+        } else {
+            sb.append(value);
+        }
+    }
+
+    @Test
+    public void testSameObjects() throws Exception {
+        for (String xml : new String[] { LIST_XML, PROFILE_XML }) {
+            Object expected = KalturaObjectFactory.create(domResult(xml));
+            Object actual = KalturaObjectFactory.create(result(parse(xml)));
+            assertEquals(dump(expected), dump(actual));
+        }
+        KalturaBaseEntryListResponse list = (KalturaBaseEntryListResponse) KalturaObjectFactory.create(result(parse(LIST_XML)));
+        assertEquals(2, list.totalCount);
+        assertEquals("A & B", list.objects.get(0).name);
+        assertEquals(1, ((KalturaMediaEntry) list.objects.get(0)).mediaType.getHashCode());
+        assertEquals(KalturaBaseEntry.class, list.objects.get(1).getClass());
+        assertEquals("\u00e9t\u00e9", list.objects.get(1).description);
+        KalturaConversionProfile profile = (KalturaConversionProfile) KalturaObjectFactory.create(result(parse(PROFILE_XML)));
+        assertEquals(480, profile.cropDimensions.height);
+    }
+
+    @Test
+    public void testProjection() throws Exception {
+        Element root = KalturaStaxParser.parse(new ByteArrayInputStream(LIST_XML.getBytes("UTF-8")), 
+                new HashSet<String>(Arrays.asList("id", "mediaType")));
+        KalturaBaseEntryListResponse list = (KalturaBaseEntryListResponse) KalturaObjectFactory.create(result(root));
+        assertEquals(2, list.totalCount);
+        assertEquals("0_a", list.objects.get(0).id);
+        assertNull(list.objects.get(0).name);
+        assertNotNull(((KalturaMediaEntry) list.objects.get(0)).mediaType);
+    }
+
+    @Test
+    public void testErrorsAndMultiRequest() throws Exception {
+        Element error = (Element) result(parse(ERROR_XML)).getElementsByTagName("error").item(0);
+        assertEquals("ENTRY_ID_NOT_FOUND", XmlUtils.getTextValue(error, "code"));
+        assertEquals("Entry id \"0_x\" not found", XmlUtils.getTextValue(error, "message"));
+
+        Element multi = result(parse(MULTI_XML));
+        Element dom = domResult(MULTI_XML);
+        List<Element> items = childElements(multi);
+        List<Element> domItems = childElements(dom);
+        assertEquals(domItems.size(), items.size());
+        assertEquals(dump(KalturaObjectFactory.create(domItems.get(0))), dump(KalturaObjectFactory.create(items.get(0))));
+        assertEquals("12", items.get(1).getTextContent());
+        assertEquals("failed", XmlUtils.getTextValue((Element) items.get(2).getElementsByTagName("error").item(0), "message"));
+    }
+
+    @Test
+    public void testLateObjectType() throws Exception {
+        // the objectType is not the first field so the object is buffered and decoded as its real type
+        String xml = "<xml><result><objectType>KalturaBaseEntryListResponse</objectType><objects>"
+                + "<item><id>0_a</id><mediaType>1</mediaType><objectType>KalturaMediaEntry</objectType></item>"
+                + "<item><id>0_b</id></item></objects><totalCount>2</totalCount></result></xml>";
+        Object expected = KalturaObjectFactory.create(domResult(xml));
+        KalturaBaseEntryListResponse actual = (KalturaBaseEntryListResponse) KalturaObjectFactory.create(result(parse(xml)));
+        assertEquals(dump(expected), dump(actual));
+        assertEquals(KalturaMediaEntry.class, actual.objects.get(0).getClass());
+        assertEquals(KalturaBaseEntry.class, actual.objects.get(1).getClass());
+
+        String top = "<xml><result><id>0_a</id><objectType>KalturaMediaEntry</objectType></result></xml>";
+        assertEquals(dump(KalturaObjectFactory.create(domResult(top))), dump(KalturaObjectFactory.create(result(parse(top)))));
+        try {
+            KalturaStaxParser.parse(new ByteArrayInputStream(top.getBytes("UTF-8")), null, new KalturaObjectVisitor<Object>() {
+                public void visit(Object object) {
+                }
+            });
+            fail("objects which cannot be streamed must fail with a visitor");
+        } catch (KalturaInvalidResponseException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testVisitor() throws Exception {
+        final List<Object> visited = new ArrayList<Object>();
+        Element root = KalturaStaxParser.parse(new ByteArrayInputStream(LIST_XML.getBytes("UTF-8")), null, new KalturaObjectVisitor<Object>() {
+            public void visit(Object object) {
+                visited.add(object);
+            }
+        });
+        KalturaBaseEntryListResponse list = (KalturaBaseEntryListResponse) KalturaObjectFactory.create(result(root));
+        assertEquals(2, list.totalCount);
+        assertNull(list.objects);
+        KalturaBaseEntryListResponse expected = (KalturaBaseEntryListResponse) KalturaObjectFactory.create(domResult(LIST_XML));
+        assertEquals(dump(expected.objects), dump(visited));
+    }
+
+    @Test(expected = KalturaApiException.class)
+    public void testInvalidXml() throws Exception {
+        parse("<xml><result><objectType>KalturaMediaEntry</objectType><id>0_a</result></xml>");
+    }
+
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.kaltura.client;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testing where the upload streams are spooled to, based on what is read from them rather than their declared size
+ */
+public class KalturaUploadSpoolTest {
+
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = File.createTempFile("kaltura-spool-test", "");
+        directory.delete();
+        directory.mkdir();
+    }
+
+    @After
+    public void tearDown() {
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
+    private static KalturaFiles files(byte[] content, long declaredSize) {
+        KalturaFiles files = new KalturaFiles();
+        files.put("fileData", new KalturaFile(new ByteArrayInputStream(content), "upload.bin", declaredSize));
+        return files;
+    }
+
+    private static byte[] read(KalturaFile file) throws IOException {
+        InputStream in = file.getInputStream();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[1024];
+        int n;
+        while ((n = in.read(chunk)) != -1) {
+            out.write(chunk, 0, n);
+        }
+        in.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testSmallInMemory() throws Exception {
+        KalturaUploadSpool spool = new KalturaUploadSpool(1000, 100000, directory);
+        byte[] content = content(1000);
+        KalturaFile spooled = spool.spool(files(content, 1000)).get("fileData");
+        assertTrue(spooled.isReplayable());
+        assertNull(spooled.getFile());
+        assertTrue(Arrays.equals(content, read(spooled)));
+        assertTrue(Arrays.equals(content, read(spooled)));
+        assertEquals(0, directory.listFiles().length);
+    }
+
+    @Test
+    public void testUnderstatedSizeToFile() throws Exception {
+        KalturaUploadSpool spool = new KalturaUploadSpool(1000, 100000, directory);
+        byte[] content = content(50000);
+        // declared small but much larger once read
+        KalturaFile spooled = spool.spool(files(content, 10)).get("fileData");
+        assertNotNull(spooled.getFile());
+        assertEquals(50000, spooled.getFile().length());
+        assertTrue(Arrays.equals(content, read(spooled)));
+        assertEquals(1, directory.listFiles().length);
+        spool.release();
+        assertEquals(0, directory.listFiles().length);
+    }
+
+    @Test
+    public void testDeclaredTooLarge() throws Exception {
+        KalturaUploadSpool spool = new KalturaUploadSpool(1000, 100000, directory);
+        KalturaFiles files = files(content(10), 200000);
+        assertNull(spool.spool(files));
+        // not read so it can still be sent once
+        assertEquals(10, read(files.get("fileData")).length);
+    }
+
+    @Test
+    public void testUnderstatedSizeTooLarge() throws Exception {
+        KalturaUploadSpool spool = new KalturaUploadSpool(1000, 100000, directory);
+        try {
+            spool.spool(files(content(200000), 1000));
+            fail("the upload is larger than the max spool size");
+        } catch (IOException e) {
+            // expected
+        }
+        spool.release();
+        assertEquals(0, directory.listFiles().length);
+    }
+
+}
@@ -120,7 +120,7 @@ kaltura.endpoint=http://www.kaltura.com/
                     ""
             );
             logger.debug("Session id:" + sessionId);
-            this.client.setSessionId(sessionId);
+            this.client = new KalturaClient(this.kalturaConfig, sessionId);
         } catch (Exception kae) {
             logger.error("Caught exception during setup", kae);
         }
@@ -144,7 +144,7 @@ kaltura.endpoint=http://www.kaltura.com/
                     ""
             );
             logger.debug("Session id:" + sessionId);
-            this.client.setSessionId(sessionId);
+            this.client = new KalturaClient(this.kalturaConfig, sessionId);
         } catch (Exception kae) {
             logger.error("Caught exception during setup", kae);
         }
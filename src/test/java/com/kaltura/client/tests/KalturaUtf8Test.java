@@ -6,7 +6,10 @@ import java.net.URL;
 import com.kaltura.client.KalturaApiException;
 import com.kaltura.client.KalturaClient;
 import com.kaltura.client.KalturaMultiResponse;
+import com.kaltura.client.KalturaRequestBuilder;
 import com.kaltura.client.enums.KalturaMediaType;
+import com.kaltura.client.services.KalturaBaseEntryService;
+import com.kaltura.client.services.KalturaPartnerService;
 import com.kaltura.client.types.KalturaMediaEntry;
 import com.kaltura.client.types.KalturaMediaListResponse;
 import com.kaltura.client.types.KalturaPartner;
@@ -102,11 +105,12 @@ public class KalturaUtf8Test extends KalturaTestBase {
     {
         try {
             KalturaClient client = this.client; //getKalturaClient(KalturaTestConfig.PARTNER_ID, KalturaTestConfig.ADMIN_SECRET, true);
-            client.setMultiRequest(true);
-            client.getBaseEntryService().count();
-            client.getPartnerService().getInfo();
-            client.getPartnerService().getUsage(2010);	
-            KalturaMultiResponse multi = client.doMultiRequest();
+            KalturaRequestBuilder multiRequest = client.startMultiRequest();
+            new KalturaBaseEntryService(client, multiRequest).count();
+            KalturaPartnerService partnerService = new KalturaPartnerService(client, multiRequest);
+            partnerService.getInfo();
+            partnerService.getUsage(2010);	
+            KalturaMultiResponse multi = client.doMultiRequest(multiRequest);
             KalturaPartner partner = (KalturaPartner)multi.get(1);
             System.out.print("\nGot Admin User email: " + partner.adminEmail);
         } catch (KalturaApiException e) {
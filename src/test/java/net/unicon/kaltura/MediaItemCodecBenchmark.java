@@ -0,0 +1,70 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package net.unicon.kaltura;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+
+import com.kaltura.client.KalturaBinaryCodec;
+import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.types.KalturaMediaEntry;
+import com.kaltura.client.utils.XmlUtils;
+
+/**
+ * Prints the size and speed of the binary codec against java serialization and the XML
+ * (java serialization cannot include the entry so that is only the item).
+ * This is not a unit test (the timings depend on the machine), run it with:
+ * mvn test-compile exec:java -Dexec.mainClass=net.unicon.kaltura.MediaItemCodecBenchmark -Dexec.classpathScope=test
+ */
+public class MediaItemCodecBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        KalturaMediaEntry entry = MediaItemCodecTest.makeEntry();
+        MediaItem item = new MediaItem(entry, "owner1");
+        item.setId(Long.valueOf(99));
+        item.setLocationId("/group/math");
+
+        byte[] entryBytes = KalturaBinaryCodec.encode(entry);
+        byte[] itemBytes = MediaItemCodec.encode(item);
+        byte[] serialized = MediaItemCodecTest.serialize(item);
+        byte[] xml = MediaItemCodecTest.ENTRY_XML.getBytes("UTF-8");
+
+        long codecNanos = 0, serialNanos = 0, xmlNanos = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            // first pass is the warm up
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                MediaItemCodec.decode(MediaItemCodec.encode(item));
+            }
+            codecNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                new ObjectInputStream(new ByteArrayInputStream(MediaItemCodecTest.serialize(item))).readObject();
+            }
+            serialNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                KalturaObjectFactory.create(XmlUtils.parseXml(new ByteArrayInputStream(xml)));
+            }
+            xmlNanos = System.nanoTime() - start;
+        }
+        System.out.println("MediaItemCodecBenchmark: bytes: entry codec=" + entryBytes.length + ", item codec (with entry)=" + itemBytes.length
+                + ", item java serialization (no entry)=" + serialized.length + ", entry XML=" + xml.length);
+        System.out.println("MediaItemCodecBenchmark: us per round trip: item codec=" + (codecNanos / rounds / 1000.0) 
+                + ", item java serialization=" + (serialNanos / rounds / 1000.0) + ", entry XML decode=" + (xmlNanos / rounds / 1000.0));
+    }
+
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package net.unicon.kaltura;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+import com.kaltura.client.KalturaBinaryCodec;
+import com.kaltura.client.KalturaObjectBase;
+import com.kaltura.client.KalturaObjectBinding;
+import com.kaltura.client.KalturaObjectBinding.FieldBinding;
+import com.kaltura.client.KalturaObjectFactory;
+import com.kaltura.client.enums.KalturaEntryStatus;
+import com.kaltura.client.enums.KalturaMediaType;
+import com.kaltura.client.types.KalturaBaseEntry;
+import com.kaltura.client.types.KalturaMediaEntry;
+import com.kaltura.client.types.KalturaMixEntry;
+import com.kaltura.client.utils.XmlUtils;
+
+/**
+ * Testing the binary codecs for the kaltura entries and media items (and comparing them 
+ * with java serialization and the XML responses)
+ */
+public class MediaItemCodecTest {
+
+    static final String ENTRY_XML = "<result><objectType>KalturaMediaEntry</objectType>"
+        + "<id>0_ab12cd34</id><name>Lecture 1: introduction &amp; overview</name>"
+        + "<description>Recorded in the main hall</description><partnerId>111111</partnerId>"
+        + "<userId>oae-user-1</userId><tags>lecture,intro</tags><adminTags>OAE</adminTags>"
+        + "<categories>courses</categories><status>2</status><moderationStatus>6</moderationStatus>"
+        + "<moderationCount>0</moderationCount><type>1</type><createdAt>1308456410</createdAt>"
+        + "<updatedAt>1308456999</updatedAt><rank>0</rank><totalRank>0</totalRank><votes>0</votes>"
+        + "<downloadUrl>http://cdnbakmi.kaltura.com/p/111111/sp/11111100/raw/entry_id/0_ab12cd34/version/0</downloadUrl>"
+        + "<searchText>_PAR_ONLY_ _111111_ _MEDIA_TYPE_1|  Lecture 1 lecture,intro</searchText>"
+        + "<licenseType>-1</licenseType><version>0</version>"
+        + "<thumbnailUrl>http://cdnbakmi.kaltura.com/p/111111/sp/11111100/thumbnail/entry_id/0_ab12cd34/version/100000</thumbnailUrl>"
+        + "<accessControlId>12345</accessControlId><replacementStatus>0</replacementStatus><partnerSortValue>0</partnerSortValue>"
+        + "<plays>42</plays><views>57</views><width>640</width><height>360</height><duration>1312</duration><msDuration>1312480</msDuration>"
+        + "<mediaType>1</mediaType><conversionQuality>1001</conversionQuality><sourceType>1</sourceType>"
+        + "<searchProviderType>99</searchProviderType>"
+        + "<dataUrl>http://cdnbakmi.kaltura.com/p/111111/sp/11111100/flvclipper/entry_id/0_ab12cd34/version/0</dataUrl>"
+        + "<flavorParamsIds>0,2,3</flavorParamsIds></result>";
+
+    static KalturaMediaEntry makeEntry() throws Exception {
+        Element result = XmlUtils.parseXml(ENTRY_XML);
+        return (KalturaMediaEntry) KalturaObjectFactory.create(result);
+    }
+
+    private void assertSameFields(KalturaObjectBase expected, KalturaObjectBase actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        for (FieldBinding field : KalturaObjectBinding.get(expected.getClass()).getFields()) {
+            assertEquals(field.getName(), field.get(expected), field.get(actual));
+        }
+        assertEquals(expected.getUnknownValues(), actual.getUnknownValues());
+    }
+
+    @Test
+    public void testEntryRoundTrip() throws Exception {
+        KalturaMediaEntry entry = makeEntry();
+        assertEquals(KalturaEntryStatus.READY, entry.status);
+        assertNull(entry.searchProviderType);
+        assertEquals("99", entry.getUnknownValue("searchProviderType"));
+
+        KalturaMediaEntry copy = KalturaBinaryCodec.decode(ByteBuffer.wrap(KalturaBinaryCodec.encode(entry)), KalturaMediaEntry.class);
+        assertSameFields(entry, copy);
+        assertEquals(Integer.MIN_VALUE, copy.mediaDate);
+        assertEquals(KalturaMediaType.VIDEO, copy.mediaType);
+
+        KalturaMixEntry mix = new KalturaMixEntry();
+        mix.id = "0_mix";
+        mix.hasRealThumbnail = true;
+        mix.rank = 2.5f;
+        assertSameFields(mix, KalturaBinaryCodec.decode(KalturaBinaryCodec.encode(mix)));
+        assertNull(KalturaBinaryCodec.decode(KalturaBinaryCodec.encode(null)));
+    }
+
+    @Test
+    public void testMediaItemRoundTrip() throws Exception {
+        MediaItem item = new MediaItem(makeEntry(), "owner1");
+        item.setId(Long.valueOf(99));
+        item.setLocationId("/group/math");
+        byte[] bytes = MediaItemCodec.encode(item);
+
+        // decode in place from a slice of a larger direct buffer
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 10);
+        buffer.position(5);
+        buffer.put(bytes);
+        buffer.position(5);
+        MediaItem copy = MediaItemCodec.decode(buffer);
+        assertEquals(5 + bytes.length, buffer.position());
+
+        assertEquals(item.getId(), copy.getId());
+        assertEquals(item.getLocationId(), copy.getLocationId());
+        assertEquals(item.getKalturaId(), copy.getKalturaId());
+        assertEquals(item.getOwnerId(), copy.getOwnerId());
+        assertEquals(item.getCreatorId(), copy.getCreatorId());
+        assertEquals(item.getDateCreated(), copy.getDateCreated());
+        assertEquals(item.getDateModified(), copy.getDateModified());
+        assertEquals(item.getType(), copy.getType());
+        assertTrue(copy.isPopulated());
+        assertTrue(copy.isMedia());
+        assertEquals(item.getDuration(), copy.getDuration());
+        assertSameFields(item.getKalturaItem(), copy.getKalturaItem());
+
+        MediaItem empty = MediaItemCodec.decode(MediaItemCodec.encode(new MediaItem()));
+        assertFalse(empty.isPopulated());
+
+        try {
+            MediaItemCodec.decode(ByteBuffer.wrap(bytes, 0, bytes.length / 2));
+            fail("should have failed");
+        } catch (IllegalArgumentException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    /**
+     * The codec should be much smaller than the XML (and than java serialization plus the XML for the item),
+     * see MediaItemCodecBenchmark for the speed
+     */
+    @Test
+    public void testEncodedSize() throws Exception {
+        KalturaMediaEntry entry = makeEntry();
+        MediaItem item = new MediaItem(entry, "owner1");
+        item.setId(Long.valueOf(99));
+        item.setLocationId("/group/math");
+
+        byte[] entryBytes = KalturaBinaryCodec.encode(entry);
+        byte[] itemBytes = MediaItemCodec.encode(item);
+        byte[] serialized = serialize(item);
+        byte[] xml = ENTRY_XML.getBytes("UTF-8");
+
+        assertTrue(entryBytes.length * 2 < xml.length);
+        assertTrue(itemBytes.length < serialized.length + xml.length);
+    }
+
+    static byte[] serialize(Object object) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(object);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+}
@@ -0,0 +1,218 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package net.unicon.kaltura.service;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.kaltura.client.KalturaApiException;
+import com.kaltura.client.KalturaClient;
+import com.kaltura.client.KalturaConfiguration;
+import com.kaltura.client.enums.KalturaSessionType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Testing the borrowing, eviction and validation of the pooled clients, the validation pings
+ * go to a local server
+ */
+public class KalturaClientPoolTest {
+
+    private static final String PING_OK = "<xml><result>1</result></xml>";
+    private static final String PING_FAILED = "<xml><result><error><code>INVALID_KS</code>"
+            + "<message>invalid session</message></error></result></xml>";
+
+    private HttpServer server;
+    private volatile String pingResponse = PING_OK;
+    private final AtomicInteger pings = new AtomicInteger();
+    private KalturaConfiguration config;
+    private KalturaSessionCache sessionCache;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream in = exchange.getRequestBody();
+                while (in.read() >= 0) {
+                    // drain the request
+                }
+                pings.incrementAndGet();
+                byte[] body = pingResponse.getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+
+        config = new KalturaConfiguration();
+        config.setPartnerId(111);
+        config.setSecret("secret");
+        config.setAdminSecret("adminsecret");
+        config.setEndpoint("http://127.0.0.1:" + server.getAddress().getPort());
+        config.setCircuitBreakerEnabled(false);
+        config.setMaxRetries(0);
+        sessionCache = new KalturaSessionCache(config, true, 3600, 600);
+    }
+
+    @After
+    public void tearDown() {
+        config.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    public void testBorrowAndRelease() throws Exception {
+        KalturaClientPool pool = new KalturaClientPool(config, sessionCache, 2, 0, 0, 100);
+        KalturaClient client = pool.borrow("user1", KalturaSessionType.USER, null);
+        assertEquals(sessionCache.getSession("user1", KalturaSessionType.USER, null), client.getSessionId());
+        assertEquals(1, pool.getBorrowedCount());
+        pool.release(client);
+        assertEquals(0, pool.getBorrowedCount());
+        assertEquals(1, pool.getIdleCount());
+
+        // null privileges are the same session as none so the idle client is reused
+        assertSame(client, pool.borrow("user1", KalturaSessionType.USER, ""));
+        KalturaClient other = pool.borrow("user2", KalturaSessionType.USER, null);
+        assertNotSame(client, other);
+        assertEquals(sessionCache.getSession("user2", KalturaSessionType.USER, null), other.getSessionId());
+        pool.release(client);
+        pool.release(other);
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(2, pool.getCreatedCount());
+
+        // not from this pool
+        pool.release(new KalturaClient(config));
+        pool.release(null);
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(0, pings.get());
+    }
+
+    @Test
+    public void testMaxClients() throws Exception {
+        KalturaClientPool pool = new KalturaClientPool(config, sessionCache, 1, 0, 0, 50);
+        KalturaClient client = pool.borrow("user1", KalturaSessionType.USER, null);
+        try {
+            pool.borrow("user1", KalturaSessionType.USER, null);
+            fail("all the clients are borrowed");
+        } catch (KalturaApiException e) {
+            // expected
+        }
+
+        final KalturaClientPool waiting = new KalturaClientPool(config, sessionCache, 1, 0, 0, 5000);
+        final KalturaClient borrowed = waiting.borrow("user1", KalturaSessionType.USER, null);
+        Thread releaser = new Thread() {
+            public void run() {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    // just release
+                }
+                waiting.release(borrowed);
+            }
+        };
+        releaser.start();
+        assertSame(borrowed, waiting.borrow("user1", KalturaSessionType.USER, null));
+        releaser.join();
+
+        // the pool is full so the idle client of another user makes room
+        pool.release(client);
+        KalturaClient other = pool.borrow("user2", KalturaSessionType.USER, null);
+        assertNotSame(client, other);
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(1, pool.getEvictedCount());
+    }
+
+    @Test
+    public void testIdleEviction() throws Exception {
+        KalturaClientPool pool = new KalturaClientPool(config, sessionCache, 2, 50, 0, 100);
+        KalturaClient client = pool.borrow("user1", KalturaSessionType.USER, null);
+        pool.release(client);
+        assertEquals(0, pool.evictIdle());
+        Thread.sleep(60);
+        assertEquals(1, pool.evictIdle());
+        assertEquals(0, pool.getIdleCount());
+        assertNotSame(client, pool.borrow("user1", KalturaSessionType.USER, null));
+        assertEquals(1, pool.getEvictedCount());
+    }
+
+    @Test
+    public void testSessionRefreshed() throws Exception {
+        KalturaClientPool pool = new KalturaClientPool(config, sessionCache, 2, 0, 0, 100);
+        KalturaClient client = pool.borrow("user1", KalturaSessionType.USER, null);
+        pool.release(client);
+        // a new session is signed, the client with the old one is dropped
+        sessionCache.clear();
+        KalturaClient fresh = pool.borrow("user1", KalturaSessionType.USER, null);
+        assertNotSame(client, fresh);
+        assertEquals(sessionCache.getSession("user1", KalturaSessionType.USER, null), fresh.getSessionId());
+        assertEquals(1, pool.getEvictedCount());
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        KalturaClientPool pool = new KalturaClientPool(config, sessionCache, 2, 0, 1, 100);
+        KalturaClient client = pool.borrow("user1", KalturaSessionType.USER, null);
+        pool.release(client);
+        Thread.sleep(5);
+        assertSame(client, pool.borrow("user1", KalturaSessionType.USER, null));
+        assertEquals(1, pings.get());
+        pool.release(client);
+
+        pingResponse = PING_FAILED;
+        Thread.sleep(5);
+        assertNotSame(client, pool.borrow("user1", KalturaSessionType.USER, null));
+        assertEquals(2, pings.get());
+        assertEquals(1, pool.getEvictedCount());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        KalturaClientPool pool = new KalturaClientPool(config, sessionCache, 2, 0, 0, 100);
+        KalturaClient idle = pool.borrow("user1", KalturaSessionType.USER, null);
+        KalturaClient client = pool.borrow("user2", KalturaSessionType.USER, null);
+        pool.release(idle);
+        pool.close();
+        assertEquals(0, pool.getIdleCount());
+        try {
+            pool.borrow("user1", KalturaSessionType.USER, null);
+            fail("the pool is closed");
+        } catch (KalturaApiException e) {
+            // expected
+        }
+        // released clients are dropped
+        pool.release(client);
+        assertEquals(0, pool.getBorrowedCount());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMax() {
+        new KalturaClientPool(config, sessionCache, 0, 0, 0, 100);
+    }
+
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package net.unicon.kaltura.service;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.kaltura.client.KalturaConfiguration;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Testing the connection check states against a local server which can be down (server errors) or slow
+ */
+public class KalturaHealthCheckTest {
+
+    private static final String PING_OK = "<xml><result>1</result></xml>";
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private volatile int status = 200;
+    private volatile CountDownLatch hold = null;
+    private final AtomicInteger checks = new AtomicInteger();
+    private KalturaConfiguration config;
+    private KalturaSessionCache sessionCache;
+    private KalturaHealthCheck healthCheck;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream in = exchange.getRequestBody();
+                while (in.read() >= 0) {
+                    // drain the request
+                }
+                checks.incrementAndGet();
+                CountDownLatch latch = hold;
+                if (latch != null) {
+                    try {
+                        latch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        // answer now
+                    }
+                }
+                byte[] body = (status == 200 ? PING_OK : "down").getBytes("UTF-8");
+                try {
+                    exchange.sendResponseHeaders(status, body.length);
+                    OutputStream out = exchange.getResponseBody();
+                    out.write(body);
+                    out.close();
+                } catch (IOException e) {
+                    // the client gave up
+                }
+            }
+        });
+        serverThreads = Executors.newCachedThreadPool();
+        server.setExecutor(serverThreads);
+        server.start();
+
+        config = new KalturaConfiguration();
+        config.setPartnerId(111);
+        config.setSecret("secret");
+        config.setAdminSecret("adminsecret");
+        config.setEndpoint("http://127.0.0.1:" + server.getAddress().getPort());
+        config.setCircuitBreakerEnabled(false);
+        config.setMaxRetries(0);
+        sessionCache = new KalturaSessionCache(config, true, 3600, 600);
+        healthCheck = new KalturaHealthCheck(config, sessionCache, 100, 400);
+    }
+
+    @After
+    public void tearDown() {
+        healthCheck.stop();
+        if (hold != null) {
+            hold.countDown();
+        }
+        config.shutdown();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    private void awaitState(KalturaHealthCheck.State state) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (healthCheck.getState() != state && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(state, healthCheck.getState());
+    }
+
+    /**
+     * @return the number of checks made, after making sure no more are made
+     */
+    private int checksStopped() throws InterruptedException {
+        int count = checks.get();
+        Thread.sleep(500);
+        assertEquals(count, checks.get());
+        return count;
+    }
+
+    @Test
+    public void testAvailable() throws Exception {
+        assertEquals(KalturaHealthCheck.State.CHECKING, healthCheck.getState());
+        healthCheck.start();
+        assertTrue(healthCheck.allowCall(5000));
+        assertEquals(KalturaHealthCheck.State.AVAILABLE, healthCheck.getState());
+        assertTrue(healthCheck.getMessage().contains(config.getEndpoint()));
+        assertEquals(1, checksStopped());
+    }
+
+    @Test
+    public void testStartupWait() throws Exception {
+        hold = new CountDownLatch(1);
+        healthCheck.start();
+        // still checking
+        assertFalse(healthCheck.awaitAvailable(100));
+        assertEquals(KalturaHealthCheck.State.CHECKING, healthCheck.getState());
+        hold.countDown();
+        assertTrue(healthCheck.awaitAvailable(5000));
+    }
+
+    @Test
+    public void testDownThenUp() throws Exception {
+        status = 503;
+        healthCheck.start();
+        awaitState(KalturaHealthCheck.State.UNAVAILABLE);
+        assertTrue(healthCheck.getMessage().startsWith("Failed to connect"));
+        // retried with backoff while down
+        Thread.sleep(400);
+        int count = checks.get();
+        assertTrue("checks: " + count, count >= 2 && count <= 5);
+
+        status = 200;
+        awaitState(KalturaHealthCheck.State.AVAILABLE);
+        assertTrue(healthCheck.allowCall(0));
+        checksStopped();
+    }
+
+    @Test
+    public void testTrialCalls() throws Exception {
+        status = 503;
+        healthCheck.start();
+        awaitState(KalturaHealthCheck.State.UNAVAILABLE);
+        // one real call is let through for each retry min delay, the others fail fast
+        assertTrue(healthCheck.allowCall(1000));
+        assertFalse(healthCheck.allowCall(1000));
+        assertFalse(healthCheck.allowCall(1000));
+        Thread.sleep(120);
+        assertTrue(healthCheck.allowCall(1000));
+        assertFalse(healthCheck.allowCall(1000));
+    }
+
+    @Test
+    public void testCallSucceeded() throws Exception {
+        status = 503;
+        healthCheck.start();
+        awaitState(KalturaHealthCheck.State.UNAVAILABLE);
+        healthCheck.onCallSucceeded();
+        assertEquals(KalturaHealthCheck.State.AVAILABLE, healthCheck.getState());
+        assertTrue(healthCheck.getMessage().endsWith("(call succeeded)"));
+        assertTrue(healthCheck.allowCall(0));
+        // the scheduler is stopped so there are no more checks
+        checksStopped();
+    }
+
+    @Test
+    public void testStopDuringCheck() throws Exception {
+        status = 503;
+        hold = new CountDownLatch(1);
+        healthCheck.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (checks.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        healthCheck.stop();
+        // the callers no longer wait for the first check
+        long start = System.currentTimeMillis();
+        assertFalse(healthCheck.awaitAvailable(5000));
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        // the check which was running does not schedule a retry
+        hold.countDown();
+        assertEquals(1, checksStopped());
+        assertFalse(KalturaHealthCheck.State.AVAILABLE == healthCheck.getState());
+    }
+
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright 2011 Unicon (R) Licensed under the
+ * Educational Community License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.osedu.org/licenses/ECL-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package net.unicon.kaltura.service;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.kaltura.client.KalturaApiException;
+import com.kaltura.client.KalturaClient;
+import com.kaltura.client.KalturaConfiguration;
+import com.kaltura.client.enums.KalturaSessionType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Testing the caching and refresh of the sessions, the remote sessions are started on a local server
+ * which sends scripted responses
+ */
+public class KalturaSessionCacheTest {
+
+    private static final String ERROR = "<xml><result><error><code>START_SESSION_ERROR</code>"
+            + "<message>no session</message></error></result></xml>";
+
+    private HttpServer server;
+    private final LinkedList<String> script = new LinkedList<String>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private KalturaConfiguration config;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream in = exchange.getRequestBody();
+                while (in.read() >= 0) {
+                    // drain the request
+                }
+                int call = calls.incrementAndGet();
+                String response;
+                synchronized (script) {
+                    response = script.isEmpty() ? "<xml><result>ks" + call + "</result></xml>" : script.removeFirst();
+                }
+                byte[] body = response.getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+
+        config = new KalturaConfiguration();
+        config.setPartnerId(111);
+        config.setSecret("secret");
+        config.setAdminSecret("adminsecret");
+        config.setEndpoint("http://127.0.0.1:" + server.getAddress().getPort());
+        config.setCircuitBreakerEnabled(false);
+        config.setMaxRetries(0);
+    }
+
+    @After
+    public void tearDown() {
+        config.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    public void testCached() throws Exception {
+        KalturaSessionCache cache = new KalturaSessionCache(config, true, 3600, 600);
+        assertTrue(cache.isLocalSigning());
+        String ks = cache.getSession("user1", KalturaSessionType.USER, null);
+        assertNotNull(ks);
+        assertSame(ks, cache.getSession("user1", KalturaSessionType.USER, null));
+        // null privileges are the same session as none
+        assertSame(ks, cache.getSession("user1", KalturaSessionType.USER, ""));
+        KalturaClient client = cache.getClient("user1", KalturaSessionType.USER, null);
+        assertEquals(ks, client.getSessionId());
+        assertSame(client, cache.getClient("user1", KalturaSessionType.USER, ""));
+        assertEquals(1, cache.size());
+
+        assertFalse(ks.equals(cache.getSession("user1", KalturaSessionType.ADMIN, null)));
+        assertFalse(ks.equals(cache.getSession("user1", KalturaSessionType.USER, "edit:*")));
+        assertFalse(ks.equals(cache.getSession("user2", KalturaSessionType.USER, null)));
+        assertEquals(4, cache.size());
+        // signed locally
+        assertEquals(0, calls.get());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertFalse(ks.equals(cache.getSession("user1", KalturaSessionType.USER, null)));
+    }
+
+    @Test
+    public void testSessionKey() {
+        assertEquals(KalturaSessionCache.sessionKey("user1", KalturaSessionType.USER, null), 
+                KalturaSessionCache.sessionKey("user1", KalturaSessionType.USER, ""));
+        assertFalse(KalturaSessionCache.sessionKey("user1", KalturaSessionType.USER, null).equals(
+                KalturaSessionCache.sessionKey("user1", KalturaSessionType.ADMIN, null)));
+        assertFalse(KalturaSessionCache.sessionKey("a;b", KalturaSessionType.USER, "c").equals(
+                KalturaSessionCache.sessionKey("a", KalturaSessionType.USER, "b;c")));
+    }
+
+    @Test
+    public void testRemote() throws Exception {
+        KalturaSessionCache cache = new KalturaSessionCache(config, false, 3600, 600);
+        assertFalse(cache.isLocalSigning());
+        assertEquals("ks1", cache.getSession("user1", KalturaSessionType.USER, null));
+        assertEquals("ks1", cache.getSession("user1", KalturaSessionType.USER, null));
+        assertEquals("ks2", cache.getSession("user2", KalturaSessionType.USER, null));
+        assertEquals(2, calls.get());
+        assertEquals("ks3", cache.startSession("user1", KalturaSessionType.USER, null, 60));
+        assertEquals("ks1", cache.getSession("user1", KalturaSessionType.USER, null));
+    }
+
+    @Test
+    public void testRefresh() throws Exception {
+        // refreshed after 1 second, expires after about 1.8
+        KalturaSessionCache cache = new KalturaSessionCache(config, false, 2, 1);
+        assertEquals("ks1", cache.getSession("user1", KalturaSessionType.USER, null));
+        Thread.sleep(1100);
+        assertEquals("ks2", cache.getSession("user1", KalturaSessionType.USER, null));
+        assertEquals("ks2", cache.getClient("user1", KalturaSessionType.USER, null).getSessionId());
+
+        // a failed refresh keeps the current session until it expires
+        Thread.sleep(1100);
+        synchronized (script) {
+            script.add(ERROR);
+        }
+        assertEquals("ks2", cache.getSession("user1", KalturaSessionType.USER, null));
+        // and the next call tries again
+        assertEquals("ks4", cache.getSession("user1", KalturaSessionType.USER, null));
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testExpiredNotUsed() throws Exception {
+        KalturaSessionCache cache = new KalturaSessionCache(config, false, 1, 0);
+        assertEquals("ks1", cache.getSession("user1", KalturaSessionType.USER, null));
+        Thread.sleep(1000);
+        synchronized (script) {
+            script.add(ERROR);
+        }
+        try {
+            cache.getSession("user1", KalturaSessionType.USER, null);
+            fail("the session expired and could not be replaced");
+        } catch (KalturaApiException e) {
+            assertEquals("START_SESSION_ERROR", e.code);
+        }
+    }
+
+    @Test
+    public void testRefreshedWithinMargin() throws Exception {
+        // a refresh period of 0 would only refresh at the real expiry, it is done at the margin (10% of 2 seconds)
+        KalturaSessionCache cache = new KalturaSessionCache(config, false, 2, 0);
+        assertEquals("ks1", cache.getSession("user1", KalturaSessionType.USER, null));
+        Thread.sleep(1850);
+        assertEquals("ks2", cache.getSession("user1", KalturaSessionType.USER, null));
+    }
+
+    @Test
+    public void testMaxSessions() throws Exception {
+        KalturaSessionCache cache = new KalturaSessionCache(config, true, 3600, 600, 2);
+        cache.getSession("user1", KalturaSessionType.USER, null);
+        cache.getSession("user2", KalturaSessionType.USER, null);
+        assertEquals(2, cache.size());
+        // all still valid so the cache starts over
+        cache.getSession("user3", KalturaSessionType.USER, null);
+        assertEquals(1, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidExpiry() {
+        new KalturaSessionCache(config, true, 0, 0);
+    }
+
+}